@@ -25,4 +25,4 @@
 #   </servers>
 # </settings>
 
-mvn clean deploy -pl 'mvvmfx,mvvmfx-cdi,mvvmfx-guice,mvvmfx-easydi,mvvmfx-spring-boot,mvvmfx-archetype,mvvmfx-utils,mvvmfx-testing-utils,mvvmfx-validation' -am -DskipTests=true -Pdeploy-release --settings ~/.m2/settings-mvvmfx.xml
+mvn clean deploy -pl 'mvvmfx,mvvmfx-cdi,mvvmfx-guice,mvvmfx-easydi,mvvmfx-spring-boot,mvvmfx-archetype,mvvmfx-utils,mvvmfx-testing-utils,mvvmfx-validation,mvvmfx-apt,mvvmfx-fxml-compiler-maven-plugin' -am -DskipTests=true -Pdeploy-release --settings ~/.m2/settings-mvvmfx.xml
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.apt;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that writes an index of all FxmlView classes and the classpath locations of their FXML files to
+ * <code>META-INF/mvvmfx/fxml-index.properties</code>. At runtime mvvmFX resolves the FXML files of indexed views
+ * relative to the index file instead of searching the whole classpath.
+ * <p>
+ * The location is determined like mvvmFX does at runtime: the value of {@code @FxmlPath} or the name of the view class
+ * with the ending ".fxml" in the package of the view. Only FXML files that are found in the class output (f.e.
+ * <code>target/classes</code>) are indexed because only these are packaged together with the index. For FXML files
+ * that can't be found at all, a warning is reported. With the option <code>-Amvvmfx.missingFxml=error</code> an error
+ * is reported instead.
+ */
+public class FxmlIndexProcessor extends AbstractProcessor {
+
+	static final String INDEX_FILE = "META-INF/mvvmfx/fxml-index.properties";
+
+	static final String MISSING_FXML_OPTION = "mvvmfx.missingFxml";
+
+	private static final String FXML_VIEW = "de.saxsys.mvvmfx.FxmlView";
+	private static final String FXML_PATH = "de.saxsys.mvvmfx.FxmlPath";
+
+	/**
+	 * The FXML files of all views of this compilation by the binary name of the view class.
+	 */
+	private final Map<String, String> index = new TreeMap<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		// views don't need to have an annotation.
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public Set<String> getSupportedOptions() {
+		return Collections.singleton(MISSING_FXML_OPTION);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeIndexFile();
+			return false;
+		}
+
+		final TypeElement fxmlView = processingEnv.getElementUtils().getTypeElement(FXML_VIEW);
+
+		if (fxmlView == null) {
+			// mvvmFX isn't on the classpath of this compilation.
+			return false;
+		}
+
+		final TypeMirror fxmlViewType = processingEnv.getTypeUtils().erasure(fxmlView.asType());
+
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			processType(type, fxmlViewType);
+		}
+
+		// other processors may be interested in the same types
+		return false;
+	}
+
+	private void processType(TypeElement type, TypeMirror fxmlViewType) {
+		if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)
+				&& processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type.asType()),
+						fxmlViewType)) {
+			indexView(type);
+		}
+
+		for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+			processType(nestedType, fxmlViewType);
+		}
+	}
+
+	private void indexView(TypeElement type) {
+		final String packageName = getPackage(type).getQualifiedName().toString();
+		final String resourcePath = getResourcePath(type, packageName);
+
+		final int nameStart = resourcePath.lastIndexOf('/');
+		final String resourcePackage = resourcePath.substring(1, Math.max(nameStart, 1)).replace('/', '.');
+		final String resourceName = resourcePath.substring(nameStart + 1);
+
+		if (exists(StandardLocation.CLASS_OUTPUT, resourcePackage, resourceName)) {
+			index.put(processingEnv.getElementUtils().getBinaryName(type).toString(), resourcePath);
+		} else if (!exists(StandardLocation.SOURCE_PATH, resourcePackage, resourceName)
+				&& !exists(StandardLocation.CLASS_PATH, resourcePackage, resourceName)) {
+			final Diagnostic.Kind kind = "error".equalsIgnoreCase(processingEnv.getOptions().get(MISSING_FXML_OPTION))
+					? Diagnostic.Kind.ERROR
+					: Diagnostic.Kind.WARNING;
+
+			processingEnv.getMessager().printMessage(kind,
+					String.format("The FXML file '%s' of the view '%s' can't be found.", resourcePath,
+							type.getQualifiedName()),
+					type);
+		}
+	}
+
+	/**
+	 * @return the absolute classpath location of the FXML file of the given view like it is resolved at runtime.
+	 */
+	private String getResourcePath(TypeElement type, String packageName) {
+		final String packagePath = packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/";
+		final String fxmlPath = getFxmlPathValue(type).trim();
+
+		if (fxmlPath.isEmpty()) {
+			return "/" + packagePath + type.getSimpleName() + ".fxml";
+		}
+
+		// like Class.getResource a relative path is resolved against the package of the view.
+		return fxmlPath.startsWith("/") ? fxmlPath : "/" + packagePath + fxmlPath;
+	}
+
+	private String getFxmlPathValue(TypeElement type) {
+		for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+			final TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+
+			if (annotationType.getQualifiedName().contentEquals(FXML_PATH)) {
+				for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror
+						.getElementValues().entrySet()) {
+					if (entry.getKey().getSimpleName().contentEquals("value")) {
+						return String.valueOf(entry.getValue().getValue());
+					}
+				}
+			}
+		}
+
+		return "";
+	}
+
+	private boolean exists(JavaFileManager.Location location, String resourcePackage, String resourceName) {
+		try {
+			final FileObject resource = processingEnv.getFiler().getResource(location, resourcePackage, resourceName);
+			resource.openInputStream().close();
+			return true;
+		} catch (IOException | IllegalArgumentException e) {
+			// f.e. the location isn't supported by the compiler.
+			return false;
+		}
+	}
+
+	/**
+	 * The index file is written once at the end. Entries of a previous compilation (for incremental builds) are kept.
+	 * Entries of views that don't exist anymore are never requested at runtime.
+	 */
+	private void writeIndexFile() {
+		if (index.isEmpty()) {
+			return;
+		}
+
+		final Filer filer = processingEnv.getFiler();
+		final Properties entries = new Properties();
+
+		try {
+			final FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE);
+			try (InputStream inputStream = existing.openInputStream()) {
+				entries.load(inputStream);
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			// there is no index of a previous compilation.
+		}
+
+		entries.putAll(index);
+
+		try {
+			// Properties.store is only used for the escaping. The lines are sorted and the timestamp is left out so
+			// that the index doesn't change between builds.
+			final StringWriter content = new StringWriter();
+			entries.store(content, null);
+
+			final Set<String> lines = new TreeSet<>();
+			for (String line : content.toString().split("\\R")) {
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					lines.add(line);
+				}
+			}
+
+			final FileObject indexFile = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_FILE);
+			try (Writer writer = new OutputStreamWriter(indexFile.openOutputStream(), StandardCharsets.ISO_8859_1)) {
+				for (String line : lines) {
+					writer.write(line);
+					writer.write("\n");
+				}
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"mvvmFX wasn't able to write the FXML index [" + INDEX_FILE + "]: " + e.getMessage());
+		}
+	}
+
+	private PackageElement getPackage(TypeElement type) {
+		Element current = type;
+		while (current.getKind() != ElementKind.PACKAGE) {
+			current = current.getEnclosingElement();
+		}
+		return (PackageElement) current;
+	}
+}
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.apt;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that generates a <code>GeneratedInjector</code> for every View and ViewModel class that uses
+ * the injection annotations of mvvmFX ({@code @InjectViewModel}, {@code @InjectScope}, {@code @InjectContext},
+ * {@code @InjectResourceBundle}, {@code @Initialize}).
+ * <p>
+ * The generated injectors are placed in the package of their target class so that they can access all fields and
+ * methods that are not private without reflection. Private members and classes that can't be accessed from their
+ * package (f.e. private inner classes) are not covered. mvvmFX falls back to reflection for them at runtime.
+ * <p>
+ * The injector of a class is named after the binary name of the class, f.e. <code>Outer$Inner_MvvmfxInjector</code> for
+ * <code>Outer.Inner</code>. Binary names are unique, so the injectors of different classes can't collide. mvvmFX finds
+ * an injector by this name at runtime, so only the injectors of the classes that are actually loaded are loaded
+ * themselves.
+ * <p>
+ * Additionally the processor verifies at compile time that a class annotated with {@code @ScopeProvider} provides at
+ * least one scope.
+ */
+public class InjectorProcessor extends AbstractProcessor {
+
+	static final String INJECTOR_INTERFACE = "de.saxsys.mvvmfx.internal.viewloader.GeneratedInjector";
+	static final String INJECTOR_SUFFIX = "_MvvmfxInjector";
+
+	private static final String INJECT_VIEW_MODEL = "de.saxsys.mvvmfx.InjectViewModel";
+	private static final String INJECT_SCOPE = "de.saxsys.mvvmfx.InjectScope";
+	private static final String INJECT_CONTEXT = "de.saxsys.mvvmfx.InjectContext";
+	private static final String INJECT_RESOURCE_BUNDLE = "de.saxsys.mvvmfx.InjectResourceBundle";
+	private static final String INITIALIZE = "de.saxsys.mvvmfx.Initialize";
+	private static final String SCOPE_PROVIDER = "de.saxsys.mvvmfx.ScopeProvider";
+
+	private static final List<String> FIELD_ANNOTATIONS = Arrays.asList(INJECT_VIEW_MODEL, INJECT_SCOPE,
+			INJECT_CONTEXT, INJECT_RESOURCE_BUNDLE);
+
+	private static final List<String> METHOD_ANNOTATIONS = Collections.singletonList(INITIALIZE);
+
+	private static final String PUBLIC_INITIALIZE_METHOD = "initialize";
+
+	private final Set<String> processedTypes = new HashSet<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		final Set<String> types = new HashSet<>(FIELD_ANNOTATIONS);
+		types.addAll(METHOD_ANNOTATIONS);
+		types.add(SCOPE_PROVIDER);
+		return types;
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			return false;
+		}
+
+		final Map<String, TypeElement> targetTypes = new LinkedHashMap<>();
+
+		for (TypeElement annotation : annotations) {
+			final String annotationName = annotation.getQualifiedName().toString();
+
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (SCOPE_PROVIDER.equals(annotationName)) {
+					checkScopeProvider(element, annotation);
+				} else if (element.getEnclosingElement() instanceof TypeElement) {
+					final TypeElement type = (TypeElement) element.getEnclosingElement();
+					targetTypes.put(type.getQualifiedName().toString(), type);
+				}
+			}
+		}
+
+		for (TypeElement type : targetTypes.values()) {
+			if (processedTypes.add(type.getQualifiedName().toString()) && isAccessibleFromPackage(type)) {
+				generateInjector(type);
+			}
+		}
+
+		// other processors may be interested in the annotations of mvvmFX too
+		return false;
+	}
+
+	private void generateInjector(TypeElement type) {
+		final Map<String, String> fields = new LinkedHashMap<>();
+		final Set<String> methods = new TreeSet<>();
+
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (isAnnotatedWithAny(field, FIELD_ANNOTATIONS) && isWritable(field)) {
+				fields.put(field.getSimpleName().toString(), getCastType(field.asType()));
+			}
+		}
+
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			if (isInvokable(method)) {
+				final String name = method.getSimpleName().toString();
+				final boolean publicInitialize = PUBLIC_INITIALIZE_METHOD.equals(name)
+						&& method.getModifiers().contains(Modifier.PUBLIC)
+						&& method.getReturnType().getKind() == TypeKind.VOID;
+
+				if (publicInitialize || isAnnotatedWithAny(method, METHOD_ANNOTATIONS)) {
+					methods.add(name);
+				}
+			}
+		}
+
+		if (fields.isEmpty() && methods.isEmpty()) {
+			// everything is private. There is nothing we can do without reflection.
+			return;
+		}
+
+		final String packageName = getPackage(type).getQualifiedName().toString();
+		final String injectorName = getInjectorSimpleName(type);
+		final String qualifiedInjectorName = packageName.isEmpty() ? injectorName : packageName + "." + injectorName;
+
+		final InjectorSourceWriter sourceWriter = new InjectorSourceWriter(packageName, injectorName,
+				processingEnv.getTypeUtils().erasure(type.asType()).toString(), fields, methods);
+
+		try {
+			final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedInjectorName, type);
+			try (Writer writer = sourceFile.openWriter()) {
+				sourceWriter.write(writer);
+			}
+		} catch (IOException e) {
+			getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"mvvmFX wasn't able to generate the injector [" + qualifiedInjectorName + "]: " + e.getMessage(), type);
+		}
+	}
+
+	private void checkScopeProvider(Element element, TypeElement annotation) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (mirror.getAnnotationType().asElement().equals(annotation)) {
+				// like at runtime the scopes can be given with "value" or with its alias "scopes".
+				final boolean hasScopes = mirror.getElementValues().entrySet().stream()
+						.filter(entry -> entry.getKey().getSimpleName().contentEquals("value")
+								|| entry.getKey().getSimpleName().contentEquals("scopes"))
+						.map(Map.Entry::getValue)
+						.map(AnnotationValue::getValue)
+						.anyMatch(value -> value instanceof List && !((List<?>) value).isEmpty());
+
+				if (!hasScopes) {
+					getMessager().printMessage(Diagnostic.Kind.ERROR,
+							String.format("The scope provider '%s' has to provide at least one scope.", element), element,
+							mirror);
+				}
+			}
+		}
+	}
+
+	private boolean isAnnotatedWithAny(Element element, List<String> annotationNames) {
+		return element.getAnnotationMirrors().stream()
+				.map(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())
+				.anyMatch(annotationNames::contains);
+	}
+
+	private boolean isWritable(VariableElement field) {
+		final Set<Modifier> modifiers = field.getModifiers();
+		return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC)
+				&& !modifiers.contains(Modifier.FINAL);
+	}
+
+	private boolean isInvokable(ExecutableElement method) {
+		final Set<Modifier> modifiers = method.getModifiers();
+		return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC)
+				&& method.getParameters().isEmpty();
+	}
+
+	/**
+	 * @return <code>true</code> if the given type can be referenced from a class in its package.
+	 */
+	private boolean isAccessibleFromPackage(TypeElement type) {
+		Element current = type;
+
+		while (current instanceof TypeElement) {
+			final TypeElement currentType = (TypeElement) current;
+
+			if (currentType.getModifiers().contains(Modifier.PRIVATE)
+					|| currentType.getNestingKind() == NestingKind.LOCAL
+					|| currentType.getNestingKind() == NestingKind.ANONYMOUS) {
+				return false;
+			}
+
+			current = currentType.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	private String getCastType(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind()))
+					.getQualifiedName().toString();
+		}
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private PackageElement getPackage(TypeElement type) {
+		Element current = type;
+		while (current.getKind() != ElementKind.PACKAGE) {
+			current = current.getEnclosingElement();
+		}
+		return (PackageElement) current;
+	}
+
+	/**
+	 * @return the simple name of the generated injector. It is the binary name of the class without the package, so
+	 *         for nested classes the names of the enclosing classes are included, f.e.
+	 *         <code>Outer$Inner_MvvmfxInjector</code>.
+	 */
+	static String getInjectorSimpleName(TypeElement type) {
+		final StringBuilder name = new StringBuilder(type.getSimpleName());
+
+		Element current = type.getEnclosingElement();
+		while (current instanceof TypeElement) {
+			name.insert(0, current.getSimpleName() + "$");
+			current = current.getEnclosingElement();
+		}
+
+		return name.append(INJECTOR_SUFFIX).toString();
+	}
+
+	private Messager getMessager() {
+		return processingEnv.getMessager();
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.apt;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the source code of a single generated injector. All fields and methods are selected by their name with a
+ * <code>switch</code> statement.
+ */
+class InjectorSourceWriter {
+
+	private final String packageName;
+	private final String injectorName;
+	private final String targetType;
+	private final Map<String, String> fields;
+	private final Set<String> methods;
+
+	/**
+	 * @param packageName
+	 *            the package of the target type and the generated injector.
+	 * @param injectorName
+	 *            the simple name of the generated injector.
+	 * @param targetType
+	 *            the canonical name of the (erased) target type.
+	 * @param fields
+	 *            the names of the fields that can be accessed, mapped to the type that is used to cast new values.
+	 * @param methods
+	 *            the names of the no-arg methods that can be invoked.
+	 */
+	InjectorSourceWriter(String packageName, String injectorName, String targetType, Map<String, String> fields,
+			Set<String> methods) {
+		this.packageName = packageName;
+		this.injectorName = injectorName;
+		this.targetType = targetType;
+		this.fields = fields;
+		this.methods = methods;
+	}
+
+	void write(Writer writer) throws IOException {
+		final PrintWriter out = new PrintWriter(writer);
+
+		if (!packageName.isEmpty()) {
+			out.println("package " + packageName + ";");
+			out.println();
+		}
+
+		out.println("/**");
+		out.println(" * Injector for {@link " + targetType + "}.");
+		out.println(" * <p>");
+		out.println(" * Generated by the mvvmFX annotation processor. Do not edit.");
+		out.println(" */");
+		out.println("public final class " + injectorName + " implements " + InjectorProcessor.INJECTOR_INTERFACE + " {");
+		out.println();
+
+		out.println("\t@Override");
+		out.println("\tpublic Class<?> getTargetType() {");
+		out.println("\t\treturn " + targetType + ".class;");
+		out.println("\t}");
+		out.println();
+
+		writeCanHandle(out, "canAccessField", "fieldName", fields.keySet());
+		writeCanHandle(out, "canInvokeMethod", "methodName", methods);
+
+		out.println("\t@Override");
+		out.println("\tpublic Object getField(Object target, String fieldName) {");
+		if (!fields.isEmpty()) {
+			out.println("\t\tfinal " + targetType + " instance = (" + targetType + ") target;");
+			out.println("\t\tswitch (fieldName) {");
+			for (String field : fields.keySet()) {
+				out.println("\t\t\tcase \"" + field + "\":");
+				out.println("\t\t\t\treturn instance." + field + ";");
+			}
+			out.println("\t\t}");
+		}
+		out.println("\t\tthrow new IllegalArgumentException(\"Unknown field [\" + fieldName + \"]\");");
+		out.println("\t}");
+		out.println();
+
+		out.println("\t@Override");
+		out.println("\t@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+		out.println("\tpublic void setField(Object target, String fieldName, Object value) {");
+		if (!fields.isEmpty()) {
+			out.println("\t\tfinal " + targetType + " instance = (" + targetType + ") target;");
+			out.println("\t\tswitch (fieldName) {");
+			for (Map.Entry<String, String> field : fields.entrySet()) {
+				out.println("\t\t\tcase \"" + field.getKey() + "\":");
+				out.println("\t\t\t\tinstance." + field.getKey() + " = (" + field.getValue() + ") value;");
+				out.println("\t\t\t\treturn;");
+			}
+			out.println("\t\t}");
+		}
+		out.println("\t\tthrow new IllegalArgumentException(\"Unknown field [\" + fieldName + \"]\");");
+		out.println("\t}");
+		out.println();
+
+		out.println("\t@Override");
+		out.println("\tpublic void invokeMethod(Object target, String methodName) throws Exception {");
+		if (!methods.isEmpty()) {
+			out.println("\t\tfinal " + targetType + " instance = (" + targetType + ") target;");
+			out.println("\t\tswitch (methodName) {");
+			for (String method : methods) {
+				out.println("\t\t\tcase \"" + method + "\":");
+				out.println("\t\t\t\tinstance." + method + "();");
+				out.println("\t\t\t\treturn;");
+			}
+			out.println("\t\t}");
+		}
+		out.println("\t\tthrow new IllegalArgumentException(\"Unknown method [\" + methodName + \"]\");");
+		out.println("\t}");
+
+		out.println("}");
+		out.flush();
+	}
+
+	private void writeCanHandle(PrintWriter out, String methodName, String parameterName, Set<String> names) {
+		out.println("\t@Override");
+		out.println("\tpublic boolean " + methodName + "(String " + parameterName + ") {");
+		if (names.isEmpty()) {
+			out.println("\t\treturn false;");
+		} else {
+			out.println("\t\tswitch (" + parameterName + ") {");
+			for (String name : names) {
+				out.println("\t\t\tcase \"" + name + "\":");
+			}
+			out.println("\t\t\t\treturn true;");
+			out.println("\t\t\tdefault:");
+			out.println("\t\t\t\treturn false;");
+			out.println("\t\t}");
+		}
+		out.println("\t}");
+		out.println();
+	}
+}
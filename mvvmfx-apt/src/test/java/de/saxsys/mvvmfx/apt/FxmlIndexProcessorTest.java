@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.apt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FxmlIndexProcessorTest {
+
+	private Path sourceDir;
+	private Path outputDir;
+	private DiagnosticCollector<JavaFileObject> diagnostics;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		sourceDir = Files.createTempDirectory("mvvmfx-apt-src");
+		outputDir = Files.createTempDirectory("mvvmfx-apt-out");
+		diagnostics = new DiagnosticCollector<>();
+	}
+
+	@Test
+	public void fxmlFilesOfViewsAreIndexed() throws Exception {
+		source("example/MyView.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"public class MyView implements FxmlView<MyViewModel> {",
+				"    public static class InnerView implements FxmlView<MyViewModel> { }",
+				"}");
+		source("example/MyViewModel.java",
+				"package example;",
+				"public class MyViewModel implements de.saxsys.mvvmfx.ViewModel { }");
+		source("example/CustomPathView.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"@FxmlPath(\"/other/Custom.fxml\")",
+				"public class CustomPathView implements FxmlView<MyViewModel> { }");
+		source("example/RelativePathView.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"@FxmlPath(\"sub/Relative.fxml\")",
+				"public class RelativePathView implements FxmlView<MyViewModel> { }");
+		source("example/AbstractView.java",
+				"package example;",
+				"public abstract class AbstractView implements de.saxsys.mvvmfx.FxmlView<MyViewModel> { }");
+
+		resource("example/MyView.fxml");
+		resource("example/InnerView.fxml");
+		resource("other/Custom.fxml");
+		resource("example/sub/Relative.fxml");
+
+		assertThat(compile()).isTrue();
+		assertThat(warnings()).isEmpty();
+
+		final Properties index = readIndex();
+
+		assertThat(index).hasSize(4);
+		assertThat(index.getProperty("example.MyView")).isEqualTo("/example/MyView.fxml");
+		assertThat(index.getProperty("example.MyView$InnerView")).isEqualTo("/example/InnerView.fxml");
+		assertThat(index.getProperty("example.CustomPathView")).isEqualTo("/other/Custom.fxml");
+		assertThat(index.getProperty("example.RelativePathView")).isEqualTo("/example/sub/Relative.fxml");
+	}
+
+	@Test
+	public void missingFxmlFileIsReported() throws Exception {
+		source("example/MissingView.java",
+				"package example;",
+				"public class MissingView implements de.saxsys.mvvmfx.FxmlView<de.saxsys.mvvmfx.ViewModel> { }");
+
+		assertThat(compile()).isTrue();
+
+		assertThat(warnings()).hasSize(1);
+		assertThat(warnings().get(0)).contains("/example/MissingView.fxml");
+		assertThat(outputDir.resolve(FxmlIndexProcessor.INDEX_FILE).toFile()).doesNotExist();
+	}
+
+	@Test
+	public void missingFxmlFileIsAnErrorWithOption() throws Exception {
+		source("example/MissingView.java",
+				"package example;",
+				"public class MissingView implements de.saxsys.mvvmfx.FxmlView<de.saxsys.mvvmfx.ViewModel> { }");
+
+		assertThat(compile("-A" + FxmlIndexProcessor.MISSING_FXML_OPTION + "=error")).isFalse();
+
+		assertThat(errors()).hasSize(1);
+		assertThat(errors().get(0)).contains("/example/MissingView.fxml");
+	}
+
+	private void source(String path, String... lines) throws Exception {
+		final Path file = sourceDir.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Resources are copied to the class output before the compilation, f.e. by the maven-resources-plugin.
+	 */
+	private void resource(String path) throws Exception {
+		final Path file = outputDir.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.write(file, Arrays.asList("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"), StandardCharsets.UTF_8);
+	}
+
+	private boolean compile(String... additionalOptions) throws Exception {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+				StandardCharsets.UTF_8)) {
+			final List<File> files = Files.walk(sourceDir)
+					.filter(path -> path.toString().endsWith(".java"))
+					.map(Path::toFile)
+					.collect(Collectors.toList());
+
+			final List<String> options = new ArrayList<>();
+			options.add("-classpath");
+			options.add(System.getProperty("java.class.path"));
+			options.add("-d");
+			options.add(outputDir.toString());
+			options.addAll(Arrays.asList(additionalOptions));
+
+			final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+					fileManager.getJavaFileObjectsFromFiles(files));
+			task.setProcessors(Arrays.asList(new FxmlIndexProcessor()));
+
+			return task.call();
+		}
+	}
+
+	private Properties readIndex() throws Exception {
+		final Properties index = new Properties();
+		try (InputStream inputStream = Files.newInputStream(outputDir.resolve(FxmlIndexProcessor.INDEX_FILE))) {
+			index.load(inputStream);
+		}
+		return index;
+	}
+
+	private List<String> warnings() {
+		return messages(Diagnostic.Kind.WARNING);
+	}
+
+	private List<String> errors() {
+		return messages(Diagnostic.Kind.ERROR);
+	}
+
+	private List<String> messages(Diagnostic.Kind kind) {
+		return diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == kind)
+				.map(diagnostic -> diagnostic.getMessage(null))
+				.collect(Collectors.toList());
+	}
+}
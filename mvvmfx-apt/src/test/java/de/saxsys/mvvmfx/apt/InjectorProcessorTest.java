@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.apt;
+
+import de.saxsys.mvvmfx.internal.viewloader.GeneratedInjector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InjectorProcessorTest {
+
+	private Path sourceDir;
+	private Path outputDir;
+	private DiagnosticCollector<JavaFileObject> diagnostics;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		sourceDir = Files.createTempDirectory("mvvmfx-apt-src");
+		outputDir = Files.createTempDirectory("mvvmfx-apt-out");
+		diagnostics = new DiagnosticCollector<>();
+	}
+
+	@Test
+	public void injectorIsGeneratedForViewModel() throws Exception {
+		source("example/MyViewModel.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"import java.util.ResourceBundle;",
+				"public class MyViewModel implements ViewModel {",
+				"    @InjectScope Scope scope;",
+				"    @InjectResourceBundle protected ResourceBundle resourceBundle;",
+				"    @InjectContext private Context privateContext;",
+				"    public int initializeCalls;",
+				"    public int initCalls;",
+				"    public void initialize() { initializeCalls++; }",
+				"    @Initialize void init() { initCalls++; }",
+				"    @Initialize private void privateInit() { }",
+				"}");
+
+		assertThat(compile()).isTrue();
+
+		// injectors are found by name, there is no service registration that would load all of them
+		assertThat(outputDir.resolve("META-INF/services").toFile()).doesNotExist();
+
+		final GeneratedInjector injector = loadInjector("example.MyViewModel");
+
+		assertThat(injector.getTargetType().getName()).isEqualTo("example.MyViewModel");
+
+		assertThat(injector.canAccessField("scope")).isTrue();
+		assertThat(injector.canAccessField("resourceBundle")).isTrue();
+		// private members are left to reflection
+		assertThat(injector.canAccessField("privateContext")).isFalse();
+		assertThat(injector.canAccessField("initCalls")).isFalse();
+
+		assertThat(injector.canInvokeMethod("initialize")).isTrue();
+		assertThat(injector.canInvokeMethod("init")).isTrue();
+		assertThat(injector.canInvokeMethod("privateInit")).isFalse();
+
+		final Object viewModel = injector.getTargetType().newInstance();
+		final Object scope = new de.saxsys.mvvmfx.Scope() {
+		};
+
+		injector.setField(viewModel, "scope", scope);
+		assertThat(injector.getField(viewModel, "scope")).isSameAs(scope);
+
+		injector.invokeMethod(viewModel, "initialize");
+		injector.invokeMethod(viewModel, "init");
+		injector.invokeMethod(viewModel, "init");
+
+		assertThat(viewModel.getClass().getField("initializeCalls").get(viewModel)).isEqualTo(1);
+		assertThat(viewModel.getClass().getField("initCalls").get(viewModel)).isEqualTo(2);
+	}
+
+	@Test
+	public void injectorIsGeneratedForNestedView() throws Exception {
+		source("example/Outer.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"public class Outer {",
+				"    public static class InnerViewModel implements ViewModel { }",
+				"    public static class InnerView implements JavaView<InnerViewModel> {",
+				"        @InjectViewModel InnerViewModel viewModel;",
+				"    }",
+				"    private static class PrivateView implements JavaView<InnerViewModel> {",
+				"        @InjectViewModel InnerViewModel viewModel;",
+				"    }",
+				"}");
+
+		assertThat(compile()).isTrue();
+
+		assertThat(outputDir.resolve("example/Outer$InnerView_MvvmfxInjector.class").toFile()).exists();
+		assertThat(outputDir.resolve("example/Outer$PrivateView_MvvmfxInjector.class").toFile()).doesNotExist();
+
+		final GeneratedInjector injector = loadInjector("example.Outer$InnerView");
+		assertThat(injector.canAccessField("viewModel")).isTrue();
+	}
+
+	@Test
+	public void injectorsOfNestedAndTopLevelClassWithUnderscoreDontCollide() throws Exception {
+		source("example/Outer.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"public class Outer {",
+				"    public static class Inner implements ViewModel {",
+				"        @InjectScope Scope nestedScope;",
+				"    }",
+				"}");
+		source("example/Outer_Inner.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"public class Outer_Inner implements ViewModel {",
+				"    @InjectScope Scope topLevelScope;",
+				"}");
+
+		assertThat(compile()).isTrue();
+
+		assertThat(loadInjector("example.Outer$Inner").canAccessField("nestedScope")).isTrue();
+		assertThat(loadInjector("example.Outer_Inner").canAccessField("topLevelScope")).isTrue();
+	}
+
+	@Test
+	public void scopeProviderWithValue() throws Exception {
+		source("example/MyScope.java",
+				"package example;",
+				"public class MyScope implements de.saxsys.mvvmfx.Scope { }");
+		source("example/ValueScopeProvider.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"@ScopeProvider(MyScope.class)",
+				"public class ValueScopeProvider implements ViewModel { }");
+
+		assertThat(compile()).isTrue();
+		assertThat(errors()).isEmpty();
+	}
+
+	@Test
+	public void scopeProviderWithoutScopes() throws Exception {
+		source("example/EmptyScopeProvider.java",
+				"package example;",
+				"import de.saxsys.mvvmfx.*;",
+				"@ScopeProvider(scopes = {})",
+				"public class EmptyScopeProvider implements ViewModel { }");
+
+		assertThat(compile()).isFalse();
+
+		assertThat(errors()).hasSize(1);
+		assertThat(errors().get(0)).contains("has to provide at least one scope");
+	}
+
+	private void source(String path, String... lines) throws Exception {
+		final Path file = sourceDir.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+	}
+
+	private boolean compile() throws Exception {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+				StandardCharsets.UTF_8)) {
+			final List<File> files = Files.walk(sourceDir)
+					.filter(path -> path.toString().endsWith(".java"))
+					.map(Path::toFile)
+					.collect(Collectors.toList());
+
+			final List<String> options = new ArrayList<>();
+			options.add("-classpath");
+			options.add(System.getProperty("java.class.path"));
+			options.add("-d");
+			options.add(outputDir.toString());
+
+			final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+					fileManager.getJavaFileObjectsFromFiles(files));
+			task.setProcessors(Arrays.asList(new InjectorProcessor()));
+
+			return task.call();
+		}
+	}
+
+	private List<String> errors() {
+		return diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				.map(diagnostic -> diagnostic.getMessage(null))
+				.collect(Collectors.toList());
+	}
+
+	private GeneratedInjector loadInjector(String targetType) throws Exception {
+		final ClassLoader classLoader = new URLClassLoader(new URL[] { outputDir.toUri().toURL() },
+				getClass().getClassLoader());
+
+		// the same naming rule that is used by the view loader to find an injector
+		final String injectorName = targetType + InjectorProcessor.INJECTOR_SUFFIX;
+
+		final GeneratedInjector injector = (GeneratedInjector) classLoader.loadClass(injectorName).newInstance();
+		assertThat(injector.getTargetType().getName()).isEqualTo(targetType);
+
+		return injector;
+	}
+}
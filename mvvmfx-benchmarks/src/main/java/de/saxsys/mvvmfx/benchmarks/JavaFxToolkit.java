@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.benchmarks;
+
+import javafx.embed.swing.JFXPanel;
+
+/**
+ * Starts the JavaFX toolkit once per benchmark JVM. The toolkit is needed to create controls, the benchmarks
+ * themselves don't run on the JavaFX application thread.
+ * <p>
+ * To run headless use the monocle platform, see the README of this module.
+ */
+public final class JavaFxToolkit {
+
+	private static boolean started = false;
+
+	private JavaFxToolkit() {
+	}
+
+	public static synchronized void start() {
+		if (!started) {
+			new JFXPanel();
+			started = true;
+		}
+	}
+}
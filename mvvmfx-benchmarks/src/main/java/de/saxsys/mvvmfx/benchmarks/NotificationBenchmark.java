@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.benchmarks;
+
+import de.saxsys.mvvmfx.utils.notifications.ConcurrentNotificationCenter;
+import de.saxsys.mvvmfx.utils.notifications.DefaultNotificationCenter;
+import de.saxsys.mvvmfx.utils.notifications.NotificationCenter;
+import de.saxsys.mvvmfx.utils.notifications.Topic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the publishing of global string messages with the publishing of typed topics. Run with the GC profiler
+ * (<code>-prof gc</code>) to see the allocations of the payload arrays of the string messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationBenchmark {
+
+	private static final Topic<String> TOPIC = Topic.create("message");
+
+	@Param({ "default", "concurrent" })
+	private String implementation;
+
+	private NotificationCenter notificationCenter;
+
+	private final String payload = "payload";
+
+	@Setup
+	public void setup(Blackhole blackhole) {
+		notificationCenter = "default".equals(implementation)
+				? new DefaultNotificationCenter()
+				: new ConcurrentNotificationCenter();
+
+		for (int i = 0; i < 3; i++) {
+			notificationCenter.subscribe("message", (key, payload) -> blackhole.consume(payload));
+			notificationCenter.subscribe(TOPIC, blackhole::consume);
+		}
+	}
+
+	@Benchmark
+	public void publishStringMessage() {
+		notificationCenter.publish("message", payload);
+	}
+
+	@Benchmark
+	public void publishTopic() {
+		notificationCenter.publish(TOPIC, payload);
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.benchmarks;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewTuple;
+import de.saxsys.mvvmfx.benchmarks.views.InjectedJavaView;
+import de.saxsys.mvvmfx.benchmarks.views.InjectedView;
+import de.saxsys.mvvmfx.benchmarks.views.NestedView;
+import de.saxsys.mvvmfx.benchmarks.views.PlainJavaView;
+import de.saxsys.mvvmfx.benchmarks.views.PlainView;
+import de.saxsys.mvvmfx.benchmarks.views.ResourceView;
+import de.saxsys.mvvmfx.benchmarks.views.ScopedView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of complete view loads with the {@link FluentViewLoader}. Each benchmark loads a freshly
+ * created view including its viewModel, sub views and scopes. The allocations per load can be measured with the GC
+ * profiler (<code>-prof gc</code>, see the value <code>gc.alloc.rate.norm</code>).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewLoadingBenchmark {
+
+	private static final String VIEWS_PACKAGE = "de.saxsys.mvvmfx.benchmarks.views.";
+
+	/**
+	 * The global resource bundle is only set for the benchmark that uses it so that the other views aren't merged
+	 * with it.
+	 */
+	@State(Scope.Benchmark)
+	public static class GlobalResourceBundle {
+
+		@Setup
+		public void setup() {
+			MvvmFX.setGlobalResourceBundle(ResourceBundle.getBundle(VIEWS_PACKAGE + "global"));
+		}
+
+		@TearDown
+		public void tearDown() {
+			MvvmFX.setGlobalResourceBundle(null);
+		}
+	}
+
+	private ResourceBundle viewResourceBundle;
+
+	@Setup
+	public void setup() {
+		JavaFxToolkit.start();
+		viewResourceBundle = ResourceBundle.getBundle(VIEWS_PACKAGE + "view");
+	}
+
+	@Benchmark
+	public ViewTuple<?, ?> fxmlViewWithoutInjection() {
+		return FluentViewLoader.fxmlView(PlainView.class).load();
+	}
+
+	@Benchmark
+	public ViewTuple<?, ?> fxmlViewWithInjection() {
+		return FluentViewLoader.fxmlView(InjectedView.class).load();
+	}
+
+	@Benchmark
+	public ViewTuple<?, ?> fxmlViewWithNestedIncludes() {
+		return FluentViewLoader.fxmlView(NestedView.class).load();
+	}
+
+	@Benchmark
+	public ViewTuple<?, ?> fxmlViewWithScopes() {
+		return FluentViewLoader.fxmlView(ScopedView.class).load();
+	}
+
+	@Benchmark
+	public ViewTuple<?, ?> fxmlViewWithResourceBundles(GlobalResourceBundle globalResourceBundle) {
+		return FluentViewLoader.fxmlView(ResourceView.class).resourceBundle(viewResourceBundle).load();
+	}
+
+	@Benchmark
+	public ViewTuple<?, ?> javaViewWithoutInjection() {
+		return FluentViewLoader.javaView(PlainJavaView.class).load();
+	}
+
+	@Benchmark
+	public ViewTuple<?, ?> javaViewWithInjection() {
+		return FluentViewLoader.javaView(InjectedJavaView.class).load();
+	}
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.benchmarks.views;
+
+import de.saxsys.mvvmfx.InjectViewModel;
+import de.saxsys.mvvmfx.JavaView;
+import javafx.fxml.Initializable;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.VBox;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+
+/**
+ * The java counterpart of the {@link InjectedView}.
+ */
+public class InjectedJavaView extends VBox implements JavaView<InjectedViewModel>, Initializable {
+
+	private final Label titleLabel = new Label();
+	private final TextField nameInput = new TextField();
+
+	@InjectViewModel
+	private InjectedViewModel viewModel;
+
+	public InjectedJavaView() {
+		getChildren().addAll(titleLabel, nameInput);
+	}
+
+	@Override
+	public void initialize(URL location, ResourceBundle resources) {
+		titleLabel.textProperty().bind(viewModel.titleProperty());
+		nameInput.textProperty().bindBidirectional(viewModel.nameProperty());
+	}
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.benchmarks.views;
+
+import de.saxsys.mvvmfx.FxmlView;
+import de.saxsys.mvvmfx.InjectViewModel;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+
+/**
+ * A FXML view with an injected viewModel that is bound to the controls.
+ */
+public class InjectedView implements FxmlView<InjectedViewModel> {
+
+	@FXML
+	private Label titleLabel;
+
+	@FXML
+	private TextField nameInput;
+
+	@InjectViewModel
+	private InjectedViewModel viewModel;
+
+	public void initialize() {
+		titleLabel.textProperty().bind(viewModel.titleProperty());
+		nameInput.textProperty().bindBidirectional(viewModel.nameProperty());
+	}
+}
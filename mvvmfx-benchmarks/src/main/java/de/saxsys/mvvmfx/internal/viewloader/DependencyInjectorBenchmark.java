@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of instances by the {@link DependencyInjector} with the default constructor based
+ * instantiation and with a custom injector like it is used by the DI integrations.
+ * <p>
+ * Each benchmark uses its own injector so that the custom injector doesn't leak into the other benchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependencyInjectorBenchmark {
+
+	public static class Service {
+	}
+
+	private DependencyInjector defaultInjector;
+	private DependencyInjector customInjector;
+
+	@Setup
+	public void setup() {
+		defaultInjector = new DependencyInjector();
+
+		customInjector = new DependencyInjector();
+		customInjector.setCustomInjector(type -> new Service());
+	}
+
+	@Benchmark
+	public Object defaultInstantiation() {
+		return defaultInjector.getInstanceOf(Service.class);
+	}
+
+	@Benchmark
+	public Object customInjector() {
+		return customInjector.getInstanceOf(Service.class);
+	}
+
+	@Benchmark
+	public Object reflectiveInstantiation() throws Exception {
+		// the baseline: what the injector did before the constructors were cached as method handles.
+		return Service.class.newInstance();
+	}
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the method handle based {@link FieldAccessor} with the reflection based
+ * {@link ReflectionUtils#accessMember} path that makes the field accessible for every single access.
+ * <p>
+ * The benchmark is located in the package of the view loader because {@link FieldAccessor} is package private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldInjectionBenchmark {
+
+	public static class Target {
+		private Object value;
+	}
+
+	private Target target;
+	private Object value;
+	private Field field;
+	private Field accessibleField;
+	private FieldAccessor accessor;
+
+	@Setup
+	public void setup() throws Exception {
+		target = new Target();
+		value = new Object();
+		field = Target.class.getDeclaredField("value");
+		accessibleField = Target.class.getDeclaredField("value");
+		accessibleField.setAccessible(true);
+		accessor = FieldAccessor.of(field);
+	}
+
+	@Benchmark
+	public Object reflectionAccessMember() {
+		ReflectionUtils.accessMember(field, () -> field.set(target, value), "Can't set field");
+		return target;
+	}
+
+	@Benchmark
+	public Object reflectionAlreadyAccessible() throws Exception {
+		// the best case for plain reflection: the accessible flag was set once before.
+		// The view loader doesn't do this because the field instances are shared.
+		accessibleField.set(target, value);
+		return target;
+	}
+
+	@Benchmark
+	public Object methodHandleCachedLookup() throws Exception {
+		// includes the lookup of the accessor in the metadata cache, like the view loader does.
+		FieldAccessor.of(field).set(target, value);
+		return target;
+	}
+
+	@Benchmark
+	public Object methodHandle() throws Exception {
+		accessor.set(target, value);
+		return target;
+	}
+
+	@Benchmark
+	public Object methodHandleGetAndSet() throws Exception {
+		// the typical injection pattern: only inject if no value exists yet.
+		if (accessor.get(target) != value) {
+			accessor.set(target, value);
+		}
+		return target;
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.InjectViewModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the reflection helpers of the view loader that aren't covered by the {@link FieldInjectionBenchmark}: the
+ * lookup of fields in a class hierarchy and the setting of a single field.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionUtilsBenchmark {
+
+	public static class BaseView {
+		private Object first;
+		private Object second;
+	}
+
+	public static class View extends BaseView {
+		@InjectViewModel
+		private Object viewModel;
+		private Object third;
+		private Object fourth;
+	}
+
+	private View target;
+	private Object value;
+	private Field field;
+
+	@Setup
+	public void setup() throws Exception {
+		target = new View();
+		value = new Object();
+		field = View.class.getDeclaredField("third");
+	}
+
+	@Benchmark
+	public List<Field> getFieldsFromClassHierarchy() {
+		return ReflectionUtils.getFieldsFromClassHierarchy(View.class);
+	}
+
+	@Benchmark
+	public List<Field> getFieldsWithAnnotation() {
+		return ReflectionUtils.getFieldsWithAnnotation(target, InjectViewModel.class);
+	}
+
+	@Benchmark
+	public Object setField() {
+		ReflectionUtils.setField(field, target, value);
+		return target;
+	}
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the merging of resource bundles with the global resource bundle that is done for every view load, and the
+ * lookup of a key in the merged bundle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceBundleManagerBenchmark {
+
+	private static final String VIEWS_PACKAGE = "de.saxsys.mvvmfx.benchmarks.views.";
+
+	private ResourceBundleManager manager;
+	private ResourceBundle viewBundle;
+	private List<ResourceBundle> viewBundles;
+	private ResourceBundle mergedBundle;
+
+	@Setup
+	public void setup() {
+		manager = ResourceBundleManager.getInstance();
+		manager.setGlobalResourceBundle(ResourceBundle.getBundle(VIEWS_PACKAGE + "global"));
+
+		viewBundle = ResourceBundle.getBundle(VIEWS_PACKAGE + "view");
+		viewBundles = Arrays.asList(viewBundle, ResourceBundle.getBundle(VIEWS_PACKAGE + "global"));
+		mergedBundle = manager.mergeWithGlobal(viewBundle);
+	}
+
+	@TearDown
+	public void tearDown() {
+		manager.setGlobalResourceBundle(null);
+	}
+
+	@Benchmark
+	public ResourceBundle mergeWithGlobal() {
+		return manager.mergeWithGlobal(viewBundle);
+	}
+
+	@Benchmark
+	public ResourceBundle mergeListWithGlobal() {
+		return manager.mergeListWithGlobal(viewBundles);
+	}
+
+	@Benchmark
+	public String lookupInMergedBundle() {
+		return mergedBundle.getString("global");
+	}
+}
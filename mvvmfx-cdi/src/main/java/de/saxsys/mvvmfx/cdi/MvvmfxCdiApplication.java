@@ -27,6 +27,7 @@ import javax.enterprise.inject.spi.InjectionTarget;
 import javax.inject.Inject;
 
 import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewPreloader;
 import de.saxsys.mvvmfx.cdi.internal.MvvmfxProducer;
 
 
@@ -94,6 +95,8 @@ public abstract class MvvmfxCdiApplication extends Application implements Mvvmfx
 		producer.setApplicationParameters(getParameters());
 
 		initMvvmfx();
+
+		ViewPreloader.preload(getViewsToPreload());
 	}
 
 
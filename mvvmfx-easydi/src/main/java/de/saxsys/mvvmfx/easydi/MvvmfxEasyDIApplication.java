@@ -16,6 +16,7 @@
 package de.saxsys.mvvmfx.easydi;
 
 import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewPreloader;
 import de.saxsys.mvvmfx.internal.MvvmfxApplication;
 import eu.lestard.easydi.EasyDI;
 import javafx.application.Application;
@@ -107,6 +108,8 @@ public abstract class MvvmfxEasyDIApplication extends Application implements Mvv
 
 		// let the user init stuff
 		initMvvmfx();
+
+		ViewPreloader.preload(getViewsToPreload());
 	}
 
 	/**
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.fxml.compiler;
+
+import de.saxsys.mvvmfx.internal.viewloader.fxml.UnsupportedFxmlException;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiles all FXML files in the output directory of the project into Java classes. mvvmFX uses these classes instead
+ * of the <code>FXMLLoader</code> when the views are loaded.
+ * <p>
+ * The goal runs after the classes of the project were compiled because the FXML files may reference custom controls of
+ * the project. The generated sources are compiled directly into the output directory. FXML files that use features
+ * that are not supported by the compiler are skipped and loaded with the <code>FXMLLoader</code> at runtime.
+ */
+@Mojo(name = "compile", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class CompileFxmlMojo extends AbstractMojo {
+
+	@Parameter(defaultValue = "${project}", readonly = true, required = true)
+	private MavenProject project;
+
+	/**
+	 * The directory that contains the FXML files and the compiled classes of the project.
+	 */
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File outputDirectory;
+
+	/**
+	 * The directory for the generated Java sources.
+	 */
+	@Parameter(defaultValue = "${project.build.directory}/generated-sources/mvvmfx-fxml", required = true)
+	private File generatedSourcesDirectory;
+
+	/**
+	 * The Java version of the generated classes.
+	 */
+	@Parameter(property = "maven.compiler.target", defaultValue = "1.8")
+	private String target;
+
+	/**
+	 * If <code>true</code>, the build fails when a FXML file can't be compiled.
+	 */
+	@Parameter(property = "mvvmfx.fxml.failOnUnsupported", defaultValue = "false")
+	private boolean failOnUnsupported;
+
+	@Parameter(property = "mvvmfx.fxml.skip", defaultValue = "false")
+	private boolean skip;
+
+	@Override
+	public void execute() throws MojoExecutionException {
+		if (skip) {
+			getLog().info("Compilation of FXML files is skipped.");
+			return;
+		}
+
+		if (!outputDirectory.isDirectory()) {
+			return;
+		}
+
+		final List<String> classpath = getClasspath();
+		final List<Path> fxmlFiles = findFxmlFiles();
+
+		if (fxmlFiles.isEmpty()) {
+			return;
+		}
+
+		final JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+		if (javaCompiler == null) {
+			throw new MojoExecutionException("No Java compiler available. The FXML compiler needs a JDK.");
+		}
+
+		int compiled = 0;
+
+		try (URLClassLoader classLoader = new URLClassLoader(toUrls(classpath), ClassLoader.getSystemClassLoader().getParent());
+				StandardJavaFileManager fileManager = javaCompiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+
+			final FxmlCompiler fxmlCompiler = new FxmlCompiler(classLoader);
+
+			for (Path fxmlFile : fxmlFiles) {
+				final String resourcePath = "/" + outputDirectory.toPath().relativize(fxmlFile).toString().replace(File.separatorChar, '/');
+
+				final String source;
+				try (InputStream input = Files.newInputStream(fxmlFile)) {
+					source = fxmlCompiler.compile(resourcePath, input);
+				} catch (UnsupportedFxmlException e) {
+					handleUnsupported(resourcePath, e.getMessage());
+					continue;
+				}
+
+				final String className = fxmlCompiler.getClassName(resourcePath);
+				final Path sourceFile = generatedSourcesDirectory.toPath().resolve(className.replace('.', '/') + ".java");
+				Files.createDirectories(sourceFile.getParent());
+				Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+				// every file is compiled on its own so that a single failing file doesn't prevent the others.
+				final List<String> compileErrors = compileJava(javaCompiler, fileManager, sourceFile, classpath);
+
+				if (compileErrors.isEmpty()) {
+					compiled++;
+				} else {
+					handleUnsupported(resourcePath, "The generated code can't be compiled: " + String.join(", ", compileErrors));
+				}
+			}
+		} catch (IOException e) {
+			throw new MojoExecutionException("Error while compiling the FXML files.", e);
+		}
+
+		getLog().info("Compiled " + compiled + " of " + fxmlFiles.size() + " FXML files.");
+	}
+
+	private void handleUnsupported(String resourcePath, String reason) throws MojoExecutionException {
+		final String message = "The FXML file " + resourcePath + " is not compiled and will be loaded with the FXMLLoader: " + reason;
+
+		if (failOnUnsupported) {
+			throw new MojoExecutionException(message);
+		}
+
+		getLog().info(message);
+	}
+
+	private List<String> compileJava(JavaCompiler javaCompiler, StandardJavaFileManager fileManager, Path sourceFile,
+			List<String> classpath) {
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+		final List<String> options = Arrays.asList(
+				"-classpath", String.join(File.pathSeparator, classpath),
+				"-d", outputDirectory.getAbsolutePath(),
+				"-source", target,
+				"-target", target,
+				"-encoding", StandardCharsets.UTF_8.name(),
+				"-proc:none",
+				"-nowarn");
+
+		final Boolean success = javaCompiler.getTask(null, fileManager, diagnostics, options, null,
+				fileManager.getJavaFileObjects(sourceFile.toFile())).call();
+
+		if (Boolean.TRUE.equals(success)) {
+			return Collections.emptyList();
+		}
+
+		return diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				.map(diagnostic -> diagnostic.getMessage(null))
+				.collect(Collectors.toList());
+	}
+
+	private List<Path> findFxmlFiles() throws MojoExecutionException {
+		try (Stream<Path> files = Files.walk(outputDirectory.toPath())) {
+			return files.filter(file -> file.toString().endsWith(".fxml"))
+					.sorted()
+					.collect(Collectors.toList());
+		} catch (IOException e) {
+			throw new MojoExecutionException("Error while searching FXML files in " + outputDirectory, e);
+		}
+	}
+
+	private List<String> getClasspath() throws MojoExecutionException {
+		try {
+			final List<String> classpath = new ArrayList<>(project.getCompileClasspathElements());
+
+			if (!classpath.contains(outputDirectory.getAbsolutePath())) {
+				classpath.add(0, outputDirectory.getAbsolutePath());
+			}
+
+			return classpath;
+		} catch (DependencyResolutionRequiredException e) {
+			throw new MojoExecutionException("The compile classpath can't be resolved.", e);
+		}
+	}
+
+	private static URL[] toUrls(List<String> classpath) throws MalformedURLException {
+		final URL[] urls = new URL[classpath.size()];
+
+		for (int i = 0; i < urls.length; i++) {
+			urls[i] = new File(classpath.get(i)).toURI().toURL();
+		}
+
+		return urls;
+	}
+}
@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.fxml.compiler;
+
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlDocument;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlParser;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlStatement;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.UnsupportedFxmlException;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles a FXML file into the Java source code of a class that implements
+ * <code>de.saxsys.mvvmfx.internal.viewloader.CompiledFxml</code>. The generated code creates the same object graph as
+ * the <code>FXMLLoader</code> would do but without parsing XML and without resolving properties and builders
+ * reflectively at runtime.
+ * <p>
+ * The FXML file is parsed by the {@link FxmlParser} of mvvmFX, which is also used for the FXML templates that are
+ * cached at runtime. Therefore the same subset of FXML is supported and files with other features lead to an
+ * {@link UnsupportedFxmlException}. Such files are loaded with the <code>FXMLLoader</code> at runtime.
+ */
+public class FxmlCompiler {
+
+	static final String COMPILED_FXML_INTERFACE = "de.saxsys.mvvmfx.internal.viewloader.CompiledFxml";
+	static final String CONTEXT_CLASS = "de.saxsys.mvvmfx.internal.viewloader.CompiledFxmlContext";
+
+	private final ClassLoader classLoader;
+
+	/**
+	 * @param classLoader
+	 *            the classLoader that is used to inspect the classes that are referenced in the FXML files. It has to
+	 *            contain JavaFX, mvvmFX and the classes of the project.
+	 */
+	public FxmlCompiler(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * @param resourcePath
+	 *            the absolute classpath location of a FXML file.
+	 * @return the fully qualified name of the compiled class. The same naming rules as in mvvmFX are used.
+	 */
+	public String getClassName(String resourcePath) {
+		try {
+			final Method getClassName = classLoader.loadClass(COMPILED_FXML_INTERFACE).getMethod("getClassName",
+					String.class);
+			return (String) getClassName.invoke(null, resourcePath);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("mvvmFX has to be on the classpath to compile FXML files.", e);
+		}
+	}
+
+	/**
+	 * @param resourcePath
+	 *            the absolute classpath location of the FXML file.
+	 * @param fxml
+	 *            the content of the FXML file.
+	 * @return the Java source code of the compiled class.
+	 * @throws UnsupportedFxmlException
+	 *             if the FXML file can't be compiled.
+	 */
+	public String compile(String resourcePath, InputStream fxml) throws UnsupportedFxmlException {
+		final FxmlDocument document = FxmlParser.parse(fxml, resourcePath, classLoader);
+
+		return new Generator(resourcePath, getClassName(resourcePath), document).generate();
+	}
+
+	/**
+	 * Generates the source code of a single FXML file.
+	 */
+	private static class Generator implements FxmlValue.Visitor<String> {
+
+		private final String resourcePath;
+		private final String className;
+		private final FxmlDocument document;
+
+		private final StringBuilder body = new StringBuilder();
+		private int variableCounter = 0;
+
+		Generator(String resourcePath, String className, FxmlDocument document) {
+			this.resourcePath = resourcePath;
+			this.className = className;
+			this.document = document;
+		}
+
+		String generate() throws UnsupportedFxmlException {
+			final String root = document.getRoot().accept(this);
+
+			final int packageEnd = className.lastIndexOf('.');
+			final StringBuilder source = new StringBuilder();
+
+			if (packageEnd > 0) {
+				source.append("package ").append(className, 0, packageEnd).append(";\n\n");
+			}
+
+			source.append("/**\n");
+			source.append(" * Compiled from <code>").append(resourcePath.replace("*/", "*&#47;")).append("</code>.\n");
+			source.append(" * <p>\n");
+			source.append(" * Generated by the mvvmFX FXML compiler. Do not edit.\n");
+			source.append(" */\n");
+			source.append("public final class ").append(className.substring(packageEnd + 1))
+					.append(" implements ").append(COMPILED_FXML_INTERFACE).append(" {\n\n");
+			source.append("\t@Override\n");
+			source.append("\t@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+			source.append("\tpublic Object build(").append(CONTEXT_CLASS).append(" context) throws Exception {\n");
+			source.append(body);
+			source.append("\t\treturn ").append(root).append(";\n");
+			source.append("\t}\n");
+
+			if (!document.getIncludes().isEmpty()) {
+				final List<String> includes = new ArrayList<>();
+				for (String include : document.getIncludes()) {
+					includes.add(stringLiteral(include));
+				}
+
+				source.append("\n");
+				source.append("\t@Override\n");
+				source.append("\tpublic java.util.List<String> getIncludes() {\n");
+				source.append("\t\treturn java.util.Arrays.asList(").append(String.join(", ", includes)).append(");\n");
+				source.append("\t}\n");
+			}
+
+			final Class<?> controllerType = document.getControllerType();
+
+			source.append("\n");
+			source.append("\t@Override\n");
+			source.append("\tpublic Class<?> getControllerType() {\n");
+			source.append("\t\treturn ").append(controllerType == null ? "Void" : typeName(controllerType))
+					.append(".class;\n");
+			source.append("\t}\n");
+			source.append("}\n");
+
+			return source.toString();
+		}
+
+		@Override
+		public String visitLiteral(FxmlValue.Literal value) {
+			return literal(value.getValue());
+		}
+
+		@Override
+		public String visitEnumConstant(FxmlValue.EnumConstant value) {
+			return typeName(value.getType()) + "." + value.getName();
+		}
+
+		@Override
+		public String visitValueOf(FxmlValue.ValueOf value) {
+			return typeName(value.getType()) + "." + value.getMethod().getName() + "("
+					+ stringLiteral(value.getArgument()) + ")";
+		}
+
+		@Override
+		public String visitConstant(FxmlValue.Constant value) {
+			return typeName(value.getOwnerType()) + "." + value.getField().getName();
+		}
+
+		@Override
+		public String visitFactoryCall(FxmlValue.FactoryCall value) {
+			return typeName(value.getOwnerType()) + "." + value.getMethod().getName() + "()";
+		}
+
+		@Override
+		public String visitNewInstance(FxmlValue.NewInstance value) throws UnsupportedFxmlException {
+			final Class<?>[] parameterTypes = value.getConstructor().getParameterTypes();
+			final List<String> arguments = new ArrayList<>();
+
+			for (int i = 0; i < parameterTypes.length; i++) {
+				arguments.add(convert(value.getArguments().get(i), parameterTypes[i]));
+			}
+
+			return "new " + typeName(value.getType()) + "(" + String.join(", ", arguments) + ")";
+		}
+
+		@Override
+		public String visitRoot(FxmlValue.Root value) {
+			return "(" + typeName(value.getType()) + ") context.getRoot()";
+		}
+
+		@Override
+		public String visitInclude(FxmlValue.Include value) {
+			return declare(value.getType(), "context.include(" + stringLiteral(value.getSource()) + ", "
+					+ (value.getFxId() == null ? "null" : stringLiteral(value.getFxId())) + ")");
+		}
+
+		@Override
+		public String visitResourceString(FxmlValue.ResourceString value) {
+			return "context.getResourceString(" + stringLiteral(value.getKey()) + ")";
+		}
+
+		@Override
+		public String visitEventHandler(FxmlValue.EventHandlerReference value) {
+			return "context.createEventHandler(" + stringLiteral(value.getMethodName()) + ")";
+		}
+
+		@Override
+		public String visitInstance(FxmlValue.Instance value) throws UnsupportedFxmlException {
+			// like the FXMLLoader we create the controller before the root element.
+			if (value.getControllerType() != null) {
+				statement("context.createController(" + typeName(value.getControllerType()) + ".class);");
+			}
+
+			final String variable = declare(value.getType(), value.getCreation().accept(this));
+			final StatementGenerator statementGenerator = new StatementGenerator(variable);
+
+			for (FxmlStatement statement : value.getStatements()) {
+				statement.accept(statementGenerator);
+			}
+
+			return variable;
+		}
+
+		/**
+		 * @return the expression of the given value, casted to the given type if necessary.
+		 */
+		private String convert(FxmlValue value, Class<?> type) throws UnsupportedFxmlException {
+			final String expression = value.accept(this);
+			final Class<?> targetType = FxmlParser.box(type);
+
+			if (value.getType() == Object.class && targetType != Object.class) {
+				return "(" + typeName(targetType) + ") " + expression;
+			}
+
+			return expression;
+		}
+
+		private String declare(Class<?> type, String expression) {
+			final String variable = "v" + variableCounter++;
+			statement("final " + typeName(type) + " " + variable + " = " + expression + ";");
+			return variable;
+		}
+
+		private void statement(String statement) {
+			body.append("\t\t").append(statement).append("\n");
+		}
+
+		/**
+		 * Generates the statements that modify a single instance.
+		 */
+		private class StatementGenerator implements FxmlStatement.Visitor<Void> {
+
+			private final String target;
+
+			StatementGenerator(String target) {
+				this.target = target;
+			}
+
+			@Override
+			public Void visitSetProperty(FxmlStatement.SetProperty statement) throws UnsupportedFxmlException {
+				final Method setter = statement.getSetter();
+				final String argument = convert(statement.getValue(), setter.getParameterTypes()[0]);
+
+				statement(target + "." + setter.getName() + "(" + argument + ");");
+				return null;
+			}
+
+			@Override
+			public Void visitSetStaticProperty(FxmlStatement.SetStaticProperty statement)
+					throws UnsupportedFxmlException {
+				final Method setter = statement.getSetter();
+				final String argument = convert(statement.getValue(), setter.getParameterTypes()[1]);
+
+				statement(typeName(statement.getOwnerType()) + "." + setter.getName() + "(" + target + ", " + argument
+						+ ");");
+				return null;
+			}
+
+			@Override
+			public Void visitAddToList(FxmlStatement.AddToList statement) throws UnsupportedFxmlException {
+				final String list = statement.getGetter() == null ? target
+						: target + "." + statement.getGetter().getName() + "()";
+
+				for (FxmlValue value : statement.getValues()) {
+					final String element = convert(value, statement.getElementType());
+					statement(list + ".add(" + element + ");");
+				}
+				return null;
+			}
+
+			@Override
+			public Void visitBindResourceString(FxmlStatement.BindResourceString statement) {
+				// the property is bound if the resource depends on the locale.
+				statement("context.setResourceString(" + target + "." + statement.getPropertyGetter().getName()
+						+ "(), " + stringLiteral(statement.getKey()) + ");");
+				return null;
+			}
+
+			@Override
+			public Void visitRegister(FxmlStatement.Register statement) {
+				statement("context.register(" + stringLiteral(statement.getFxId()) + ", " + target + ");");
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * @return the Java literal of a value that was converted by the parser.
+	 */
+	private static String literal(Object value) {
+		if (value == null) {
+			return "null";
+		}
+		if (value instanceof String) {
+			return stringLiteral((String) value);
+		}
+		if (value instanceof Long) {
+			return value + "L";
+		}
+		if (value instanceof Short) {
+			return "(short) " + value;
+		}
+		if (value instanceof Byte) {
+			return "(byte) " + value;
+		}
+		if (value instanceof Double) {
+			return doubleLiteral((Double) value);
+		}
+		if (value instanceof Float) {
+			return "(float) " + doubleLiteral((Float) value);
+		}
+		if (value instanceof Character) {
+			return "'" + escape(value.toString(), '\'') + "'";
+		}
+		// Boolean and Integer
+		return value.toString();
+	}
+
+	private static String doubleLiteral(double value) {
+		if (Double.isNaN(value)) {
+			return "Double.NaN";
+		}
+		if (Double.isInfinite(value)) {
+			return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+		}
+		return Double.toString(value);
+	}
+
+	private static String typeName(Class<?> type) {
+		return type.getCanonicalName();
+	}
+
+	static String stringLiteral(String value) {
+		return "\"" + escape(value, '"') + "\"";
+	}
+
+	private static String escape(String value, char quote) {
+		final StringBuilder result = new StringBuilder();
+
+		for (char c : value.toCharArray()) {
+			if (c == quote || c == '\\') {
+				result.append('\\').append(c);
+			} else if (c == '\n') {
+				result.append("\\n");
+			} else if (c == '\r') {
+				result.append("\\r");
+			} else if (c == '\t') {
+				result.append("\\t");
+			} else if (c < 0x20 || c > 0x7e) {
+				result.append(String.format("\\u%04x", (int) c));
+			} else {
+				result.append(c);
+			}
+		}
+
+		return result.toString();
+	}
+}
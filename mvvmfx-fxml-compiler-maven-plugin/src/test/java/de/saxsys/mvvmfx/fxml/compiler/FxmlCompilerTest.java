@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.fxml.compiler;
+
+import de.saxsys.mvvmfx.internal.viewloader.CompiledFxml;
+import de.saxsys.mvvmfx.internal.viewloader.CompiledFxmlContext;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.UnsupportedFxmlException;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class FxmlCompilerTest {
+
+	private static final String EXAMPLE = "/de/saxsys/mvvmfx/fxml/compiler/Example.fxml";
+
+	private FxmlCompiler compiler;
+
+	@BeforeEach
+	public void setup() {
+		compiler = new FxmlCompiler(getClass().getClassLoader());
+	}
+
+	@Test
+	public void classNameFollowsTheConventionOfMvvmfx() {
+		assertThat(compiler.getClassName(EXAMPLE)).isEqualTo("de.saxsys.mvvmfx.fxml.compiler.Example_Fxml");
+		assertThat(compiler.getClassName("/my-views/1st.view.fxml")).isEqualTo("my_views._1st_view_Fxml");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void compiledClassCreatesTheSameObjectGraph() throws Exception {
+		final String source;
+		try (InputStream input = getClass().getResourceAsStream(EXAMPLE)) {
+			source = compiler.compile(EXAMPLE, input);
+		}
+
+		final CompiledFxml compiledFxml = compileJava(compiler.getClassName(EXAMPLE), source);
+		final BorderPane root = (BorderPane) compiledFxml.build(createContext());
+
+		assertThat(root.getPadding().getTop()).isEqualTo(1.0);
+		assertThat(root.getPadding().getLeft()).isEqualTo(4.0);
+
+		final Label title = (Label) root.getTop();
+		assertThat(title.getId()).isEqualTo("title");
+		assertThat(title.getText()).isEqualTo("%title");
+		assertThat(title.getTextFill()).isEqualTo(Color.RED);
+		assertThat(title.isWrapText()).isTrue();
+
+		final VBox center = (VBox) root.getCenter();
+		assertThat(center.getChildren()).hasSize(3);
+
+		final Slider slider = (Slider) center.getChildren().get(0);
+		assertThat(slider.getValue()).isEqualTo(150.0);
+		// the attributes are applied in the order of the FXML file like the FXMLLoader does
+		assertThat(source.indexOf(".setMin(100.0)")).isLessThan(source.indexOf(".setMax(200.0)"));
+
+		final ComboBox<Object> combo = (ComboBox<Object>) center.getChildren().get(1);
+		assertThat(combo.getItems()).containsExactly("first", "second");
+
+		final Region region = (Region) center.getChildren().get(2);
+		assertThat(region.getPrefWidth()).isEqualTo(Double.NEGATIVE_INFINITY);
+		assertThat(region.getMaxWidth()).isEqualTo(Double.MAX_VALUE);
+
+		final HBox bottom = (HBox) root.getBottom();
+		assertThat(GridPane.getColumnIndex(bottom)).isEqualTo(1);
+		assertThat(bottom.getStyleClass()).containsExactly("a", "b");
+	}
+
+	@Test
+	public void includesAreListedForParallelLoading() throws Exception {
+		final String fxml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<?import javafx.scene.layout.*?>\n"
+				+ "<VBox xmlns:fx=\"http://javafx.com/fxml\">"
+				+ "<fx:include source=\"First.fxml\"/><fx:include fx:id=\"second\" source=\"/views/Second.fxml\"/>"
+				+ "</VBox>";
+
+		final String source = compiler.compile("/Includes.fxml",
+				new ByteArrayInputStream(fxml.getBytes(StandardCharsets.UTF_8)));
+
+		final CompiledFxml compiledFxml = compileJava(compiler.getClassName("/Includes.fxml"), source);
+
+		assertThat(compiledFxml.getIncludes()).containsExactly("First.fxml", "/views/Second.fxml");
+	}
+
+	@Test
+	public void resourceKeysOfStringPropertiesAreSetByTheContext() throws Exception {
+		final String fxml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<?import javafx.scene.control.*?>\n"
+				+ "<Label xmlns:fx=\"http://javafx.com/fxml\" text=\"%greeting\"/>";
+
+		final String source = compiler.compile("/Resources.fxml",
+				new ByteArrayInputStream(fxml.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(source).contains("context.setResourceString(");
+
+		final CompiledFxml compiledFxml = compileJava(compiler.getClassName("/Resources.fxml"), source);
+		final ResourceBundle resources = new ListResourceBundle() {
+			@Override
+			protected Object[][] getContents() {
+				return new Object[][] { { "greeting", "Hello" } };
+			}
+		};
+
+		final Label label = (Label) compiledFxml.build(createContext(resources));
+
+		assertThat(label.getText()).isEqualTo("Hello");
+	}
+
+	@Test
+	public void unsupportedFeatures() throws Exception {
+		assertUnsupported("<fx:define><Label fx:id=\"x\"/></fx:define>");
+		assertUnsupported("<Label text=\"${x.text}\"/>");
+		assertUnsupported("<Label text=\"@image.png\"/>");
+		assertUnsupported("<Label onMouseClicked=\"System.out.println()\"/>");
+		assertUnsupported("<fx:script>var x = 1;</fx:script>");
+		assertUnsupported("<UnknownControl/>");
+	}
+
+	private void assertUnsupported(String content) throws Exception {
+		final String fxml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<?import javafx.scene.control.*?>\n"
+				+ "<?import javafx.scene.layout.*?>\n"
+				+ "<VBox xmlns:fx=\"http://javafx.com/fxml\">" + content + "</VBox>";
+
+		try {
+			compiler.compile("/Unsupported.fxml",
+					new ByteArrayInputStream(fxml.getBytes(StandardCharsets.UTF_8)));
+			fail("Expected an UnsupportedFxmlException for " + content);
+		} catch (UnsupportedFxmlException expected) {
+		}
+	}
+
+	private CompiledFxml compileJava(String className, String source) throws Exception {
+		final Path sourceDir = Files.createTempDirectory("mvvmfx-fxml-src");
+		final Path outputDir = Files.createTempDirectory("mvvmfx-fxml-out");
+
+		final Path sourceFile = sourceDir.resolve(className.replace('.', '/') + ".java");
+		Files.createDirectories(sourceFile.getParent());
+		Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+		final JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+		try (StandardJavaFileManager fileManager = javaCompiler.getStandardFileManager(null, null,
+				StandardCharsets.UTF_8)) {
+			final Boolean success = javaCompiler.getTask(null, fileManager, null,
+					Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d", outputDir.toString()),
+					null, fileManager.getJavaFileObjects(sourceFile.toFile())).call();
+
+			assertThat(success).isTrue();
+		}
+
+		final ClassLoader classLoader = new URLClassLoader(new URL[] { outputDir.toUri().toURL() },
+				getClass().getClassLoader());
+
+		return (CompiledFxml) classLoader.loadClass(className).newInstance();
+	}
+
+	private CompiledFxmlContext createContext() throws Exception {
+		return createContext(null);
+	}
+
+	private CompiledFxmlContext createContext(ResourceBundle resources) throws Exception {
+		final Constructor<CompiledFxmlContext> constructor = CompiledFxmlContext.class.getDeclaredConstructor(
+				String.class, URL.class, ResourceBundle.class, javafx.util.Callback.class, Object.class, Object.class,
+				ClassLoader.class);
+		constructor.setAccessible(true);
+
+		return constructor.newInstance(EXAMPLE, getClass().getResource(EXAMPLE), resources, null, null, null,
+				getClass().getClassLoader());
+	}
+}
@@ -19,7 +19,9 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Module;
+import com.google.inject.Provider;
 import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewPreloader;
 import de.saxsys.mvvmfx.guice.internal.MvvmfxModule;
 import de.saxsys.mvvmfx.internal.MvvmfxApplication;
 import javafx.application.Application;
@@ -70,11 +72,21 @@ public abstract class MvvmfxGuiceApplication extends Application implements Mvvm
 		this.initGuiceModules(modules);
 
 		final Injector injector = Guice.createInjector(modules);
-		MvvmFX.setCustomDependencyInjector(injector::getInstance);
+
+		// the provider of each class is resolved only once
+		final ClassValue<Provider<?>> providers = new ClassValue<Provider<?>>() {
+			@Override
+			protected Provider<?> computeValue(Class<?> type) {
+				return injector.getProvider(type);
+			}
+		};
+		MvvmFX.setCustomDependencyInjector(type -> providers.get(type).get());
 
 		injector.injectMembers(this);
 
 		this.initMvvmfx();
+
+		ViewPreloader.preload(getViewsToPreload());
 	}
 	
 	/**
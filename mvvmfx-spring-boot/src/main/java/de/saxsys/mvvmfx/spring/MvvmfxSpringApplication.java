@@ -1,6 +1,7 @@
 package de.saxsys.mvvmfx.spring;
 
 import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewPreloader;
 import de.saxsys.mvvmfx.internal.MvvmfxApplication;
 import de.saxsys.mvvmfx.utils.notifications.NotificationCenter;
 import javafx.application.Application;
@@ -57,6 +58,8 @@ public abstract class MvvmfxSpringApplication extends Application implements Mvv
 		ctx.getBeanFactory().autowireBean(this);
 
 		initMvvmfx();
+
+		ViewPreloader.preload(getViewsToPreload());
 	}
 
 	/**
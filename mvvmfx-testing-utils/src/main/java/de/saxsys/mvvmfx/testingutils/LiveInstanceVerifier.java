@@ -0,0 +1,74 @@
+package de.saxsys.mvvmfx.testingutils;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+
+/**
+ * This is a small testing helper to verify how many instances of a class are still alive after all unreferenced
+ * instances were garbage collected. The live counts are provided by a census, typically the instance census of
+ * mvvmFX:
+ * 
+ * <pre>
+ * MvvmFX.enableInstanceTracking(0);
+ * 
+ * LiveInstanceVerifier verifier = LiveInstanceVerifier.create(() -&gt; MvvmFX.getInstanceCensus().getLiveCounts());
+ * 
+ * // load and remove some views...
+ * 
+ * verifier.verifyNoLiveInstances(MyViewModel.class); // this will throw an AssertionError if a MyViewModel leaks
+ * </pre>
+ * 
+ */
+public class LiveInstanceVerifier {
+	
+	/**
+	 * Instances that are only referenced by other garbage may need more than one collection.
+	 */
+	private static final int MAX_GC_RUNS = 10;
+	
+	private final Supplier<Map<Class<?>, Integer>> census;
+	
+	LiveInstanceVerifier(Supplier<Map<Class<?>, Integer>> census) {
+		this.census = census;
+	}
+	
+	/**
+	 * @param census
+	 *            returns the current number of live instances per class.
+	 * @return an instance of the {@link LiveInstanceVerifier} for the given census.
+	 */
+	public static LiveInstanceVerifier create(Supplier<Map<Class<?>, Integer>> census) {
+		return new LiveInstanceVerifier(census);
+	}
+	
+	/**
+	 * Verifies that no instance of the given classes is alive.
+	 */
+	public void verifyNoLiveInstances(Class<?>... types) {
+		for (Class<?> type : types) {
+			verifyLiveInstances(type, 0);
+		}
+	}
+	
+	/**
+	 * Verifies that exactly the given number of instances of the class is alive.
+	 */
+	public void verifyLiveInstances(Class<?> type, int expectedCount) {
+		int actualCount = getLiveCount(type);
+		
+		for (int i = 0; i < MAX_GC_RUNS && actualCount > expectedCount; i++) {
+			GCVerifier.forceGC();
+			actualCount = getLiveCount(type);
+		}
+		
+		if (actualCount != expectedCount) {
+			throw new AssertionError("Expected " + expectedCount + " live instances of [" + type.getName()
+					+ "] but there are " + actualCount);
+		}
+	}
+	
+	private int getLiveCount(Class<?> type) {
+		return census.get().getOrDefault(type, 0);
+	}
+}
@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+/**
+ * A hook for Views (code behinds) and ViewModels to release their resources (f.e. listeners on long living models or
+ * running tasks) when the view is disposed with {@link ViewTuple#dispose()}. The code behinds are disposed before
+ * their viewModels.
+ */
+@FunctionalInterface
+public interface Disposable {
+
+	/**
+	 * This method is invoked on the JavaFX application thread when the view that was loaded together with this
+	 * instance is disposed.
+	 */
+	void dispose();
+
+}
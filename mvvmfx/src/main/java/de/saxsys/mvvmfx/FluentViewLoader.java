@@ -5,6 +5,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import de.saxsys.mvvmfx.internal.viewloader.FxmlViewLoader;
 import de.saxsys.mvvmfx.internal.viewloader.JavaViewLoader;
@@ -43,6 +45,15 @@ import javafx.util.BuilderFactory;
  * {@link FxmlView} and {@link JavaView} with the first method call. After that
  * you will only get builder-methods that are suitable for the view type you
  * have chosen.
+ * <p>
+ * Views can also be loaded in the background with <code>loadAsync</code>. The
+ * node graph isn't attached to a scene while loading so only attaching it has
+ * to be done on the JavaFX application thread:
+ *
+ * <pre>
+ * FluentViewLoader.fxmlView(MyCoolView.class).loadAsync(executor)
+ * 		.thenAcceptAsync(viewTuple -{@literal >} borderPane.setCenter(viewTuple.getView()), Platform::runLater);
+ * </pre>
  * 
  * @author manuel.mauky
  */
@@ -166,6 +177,34 @@ public class FluentViewLoader {
 			return javaViewLoader.loadJavaViewTuple(viewType, bundle, viewModel, codeBehind, context,
 					providedScopes);
 		}
+
+		/**
+		 * The final step of the Fluent API. This method loads the view based on
+		 * the given params with the given executor.
+		 * <p>
+		 * The creation of the view, the viewModel and the dependency injection
+		 * including the <code>initialize</code> methods are done by the
+		 * executor. The loaded view is not attached to a scene so adding it to
+		 * a visible scene has to be done on the JavaFX application thread.
+		 * Views that create windows or other controls that can only be created
+		 * on the JavaFX application thread can't be loaded this way.
+		 *
+		 * @param executor
+		 *            the executor that loads the view.
+		 * @return a future that is completed with a view tuple containing the
+		 *         loaded view or exceptionally if the view can't be loaded.
+		 */
+		public CompletableFuture<ViewTuple<ViewType, ViewModelType>> loadAsync(Executor executor) {
+			// the parameters are captured now so that the builder may be changed afterwards
+			final ResourceBundle bundle = ResourceBundleManager.getInstance().mergeListWithGlobal(resourceBundles);
+			final ViewModelType viewModel = this.viewModel;
+			final ViewType codeBehind = this.codeBehind;
+			final Context context = this.context;
+			final Collection<Scope> providedScopes = copy(this.providedScopes);
+
+			return CompletableFuture.supplyAsync(() -> new JavaViewLoader().loadJavaViewTuple(viewType, bundle,
+					viewModel, codeBehind, context, providedScopes), executor);
+		}
 	}
 
     /**
@@ -333,6 +372,37 @@ public class FluentViewLoader {
 			return fxmlViewLoader.loadFxmlViewTuple(viewType, bundle, codeBehind, root, viewModel,
 					context, providedScopes, builderFactories);
 		}
+
+		/**
+		 * The final step of the Fluent API. This method loads the view based on
+		 * the given params with the given executor.
+		 * <p>
+		 * Parsing the fxml file, the creation of the controller and the
+		 * viewModel and the dependency injection including the
+		 * <code>initialize</code> methods are done by the executor. The loaded
+		 * node graph is not attached to a scene so adding it to a visible scene
+		 * has to be done on the JavaFX application thread. Fxml files with
+		 * controls that can only be created on the JavaFX application thread
+		 * (f.e. <code>WebView</code>) can't be loaded this way.
+		 *
+		 * @param executor
+		 *            the executor that loads the view.
+		 * @return a future that is completed with a view tuple containing the
+		 *         loaded view or exceptionally if the view can't be loaded.
+		 */
+		public CompletableFuture<ViewTuple<ViewType, ViewModelType>> loadAsync(Executor executor) {
+			// the parameters are captured now so that the builder may be changed afterwards
+			final ResourceBundle bundle = ResourceBundleManager.getInstance().mergeListWithGlobal(resourceBundles);
+			final ViewType codeBehind = this.codeBehind;
+			final Object root = this.root;
+			final ViewModelType viewModel = this.viewModel;
+			final Context context = this.context;
+			final Collection<Scope> providedScopes = copy(this.providedScopes);
+			final List<BuilderFactory> builderFactories = copy(this.builderFactories);
+
+			return CompletableFuture.supplyAsync(() -> new FxmlViewLoader().loadFxmlViewTuple(viewType, bundle,
+					codeBehind, root, viewModel, context, providedScopes, builderFactories), executor);
+		}
     }
 
     /**
@@ -377,4 +447,8 @@ public class FluentViewLoader {
         return new FxmlViewStep<>(viewType);
     }
 
+    private static <T> List<T> copy(Collection<T> collection) {
+        return collection == null ? null : new ArrayList<>(collection);
+    }
+
 }
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+/**
+ * A snapshot of the statistics of the FXML template cache, see {@link MvvmFX#setFxmlTemplateCacheSize(int)}.
+ */
+public final class FxmlTemplateCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final int size;
+	private final int maximumSize;
+
+	public FxmlTemplateCacheStatistics(long hitCount, long missCount, long evictionCount, int size, int maximumSize) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * @return the number of view loads that used an already parsed FXML file.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of view loads that had to parse the FXML file.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of parsed FXML files that were removed because the cache was full.
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the ratio of hits to all requests or <code>0</code> if there were no requests yet.
+	 */
+	public double getHitRate() {
+		final long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return the number of FXML files that are currently cached.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the maximum number of cached FXML files. <code>0</code> means that the cache is disabled.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	@Override
+	public String toString() {
+		return "FxmlTemplateCacheStatistics{" +
+				"hitCount=" + hitCount +
+				", missCount=" + missCount +
+				", evictionCount=" + evictionCount +
+				", size=" + size +
+				", maximumSize=" + maximumSize +
+				'}';
+	}
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * A snapshot of the views, viewModels and scopes that were created by the view loaders and are still alive, see
+ * {@link MvvmFX#enableInstanceTracking(int)}.
+ * <p>
+ * The snapshot doesn't reference the instances itself. Instances that aren't referenced anymore but weren't garbage
+ * collected yet are still part of the census.
+ */
+public final class InstanceCensus {
+
+	private final Instant time;
+	private final List<LiveInstance> instances;
+
+	public InstanceCensus(Instant time, List<LiveInstance> instances) {
+		this.time = time;
+		this.instances = Collections.unmodifiableList(instances);
+	}
+
+	/**
+	 * @return the point in time when the snapshot was taken.
+	 */
+	public Instant getTime() {
+		return time;
+	}
+
+	/**
+	 * @return all instances that were alive.
+	 */
+	public List<LiveInstance> getInstances() {
+		return instances;
+	}
+
+	/**
+	 * @return the number of live instances per class, starting with the class with the most instances.
+	 */
+	public Map<Class<?>, Integer> getLiveCounts() {
+		final Map<Class<?>, Integer> counts = instances.stream()
+				.collect(Collectors.groupingBy(LiveInstance::getType, Collectors.summingInt(instance -> 1)));
+
+		final Map<Class<?>, Integer> result = new LinkedHashMap<>();
+		counts.entrySet().stream()
+				.sorted(Map.Entry.<Class<?>, Integer> comparingByValue().reversed())
+				.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+
+		return result;
+	}
+
+	/**
+	 * @return the number of live instances of the given class. Instances of subclasses aren't counted.
+	 */
+	public int getLiveCount(Class<?> type) {
+		return (int) instances.stream().filter(instance -> instance.getType() == type).count();
+	}
+
+	/**
+	 * Views (and their viewModels and scopes) that are created but never shown are a typical cause of memory leaks,
+	 * f.e. views that are loaded in advance and kept in a collection.
+	 *
+	 * @param minimumAge
+	 *            only instances that were created at least this long before the snapshot are returned.
+	 * @return the instances whose view was never part of a scene. Instances whose scene state isn't known aren't
+	 *         returned.
+	 */
+	public List<LiveInstance> getNeverAttachedInstances(Duration minimumAge) {
+		return instances.stream()
+				.filter(LiveInstance::isSceneStateTracked)
+				.filter(instance -> !instance.wasAttachedToScene())
+				.filter(instance -> getAge(instance).compareTo(minimumAge) >= 0)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * @return the time between the creation of the instance and the snapshot.
+	 */
+	public Duration getAge(LiveInstance instance) {
+		return Duration.between(instance.getCreationTime(), time);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder("InstanceCensus{time=").append(time).append('}');
+		getLiveCounts().forEach((type, count) -> builder.append(System.lineSeparator())
+				.append("  ").append(count).append("x ").append(type.getName()));
+		return builder.toString();
+	}
+
+	/**
+	 * A view, viewModel or scope that was alive when the snapshot was taken.
+	 */
+	public static final class LiveInstance {
+
+		private final Class<?> type;
+		private final Instant creationTime;
+		private final boolean sceneStateTracked;
+		private final boolean attachedToScene;
+		private final StackTraceElement[] allocationStack;
+
+		public LiveInstance(Class<?> type, Instant creationTime, boolean sceneStateTracked, boolean attachedToScene,
+				StackTraceElement[] allocationStack) {
+			this.type = type;
+			this.creationTime = creationTime;
+			this.sceneStateTracked = sceneStateTracked;
+			this.attachedToScene = attachedToScene;
+			this.allocationStack = allocationStack;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+
+		public Instant getCreationTime() {
+			return creationTime;
+		}
+
+		/**
+		 * @return <code>false</code> if it isn't known whether the view of the instance was part of a scene, f.e. for
+		 *         scopes that are provided by the viewModel of a java view.
+		 */
+		public boolean isSceneStateTracked() {
+			return sceneStateTracked;
+		}
+
+		/**
+		 * @return <code>true</code> if the view of the instance was part of a scene at least once.
+		 */
+		public boolean wasAttachedToScene() {
+			return attachedToScene;
+		}
+
+		/**
+		 * @return the stack of the creation of the instance or an empty optional if the stack wasn't sampled for this
+		 *         instance.
+		 */
+		public Optional<StackTraceElement[]> getAllocationStack() {
+			return Optional.ofNullable(allocationStack).map(StackTraceElement[]::clone);
+		}
+
+		@Override
+		public String toString() {
+			return "LiveInstance{" +
+					"type=" + type.getName() +
+					", creationTime=" + creationTime +
+					", attachedToScene=" + (sceneStateTracked ? attachedToScene : "unknown") +
+					'}';
+		}
+	}
+}
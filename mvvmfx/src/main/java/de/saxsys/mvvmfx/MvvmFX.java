@@ -15,8 +15,14 @@
  ******************************************************************************/
 package de.saxsys.mvvmfx;
 
+import de.saxsys.mvvmfx.internal.viewloader.FxmlTemplateCache;
 import de.saxsys.mvvmfx.internal.viewloader.GlobalBuilderFactory;
+import de.saxsys.mvvmfx.internal.viewloader.ParallelIncludeLoading;
 import de.saxsys.mvvmfx.internal.viewloader.ResourceBundleManager;
+import de.saxsys.mvvmfx.internal.viewloader.ViewLoadTracing;
+import de.saxsys.mvvmfx.internal.viewloader.ViewModelRegistry;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ObjectProperty;
 import javafx.util.BuilderFactory;
 import javafx.util.Callback;
 
@@ -24,7 +30,10 @@ import de.saxsys.mvvmfx.utils.notifications.NotificationCenter;
 import de.saxsys.mvvmfx.utils.notifications.NotificationCenterFactory;
 import de.saxsys.mvvmfx.internal.viewloader.DependencyInjector;
 
+import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.Executor;
 
 /**
  * This class is a facade that is used by the user to access classes and services from the framework.
@@ -52,6 +61,18 @@ public class MvvmFX {
 		DependencyInjector.getInstance().setCustomInjector(injector);
 	}
 
+	/**
+	 * Returns how many instances of each class were requested from the dependency injection (see
+	 * {@link #setCustomDependencyInjector(Callback)}) so far. This includes views, viewModels and scopes. The numbers
+	 * can be used to find out which classes are created unexpectedly often, f.e. by a list with a cell factory that
+	 * loads views.
+	 *
+	 * @return the number of instances per class.
+	 */
+	public static Map<Class<?>, Long> getInstantiationCounts() {
+		return DependencyInjector.getInstance().getInstantiationCounts();
+	}
+
 	/**
 	 * This method is used to set a global {@link ResourceBundle} for the application.
 	 * 
@@ -61,6 +82,9 @@ public class MvvmFX {
 	 * <p>
 	 * The global resourceBundle set by this method will have a lower priority then the ones provided while loading. 
 	 * If there are keys available in both resourceBundles, the values of the global resourceBundle will be overwritten.
+	 * <p>
+	 * The merged resourceBundles are cached and contain a snapshot of the values of the merged bundles. Setting the
+	 * global resourceBundle (again) clears this cache.
 	 * 
 	 * @param resourceBundle the resourceBundle
 	 */
@@ -68,6 +92,49 @@ public class MvvmFX {
 		ResourceBundleManager.getInstance().setGlobalResourceBundle(resourceBundle);
 	}
 
+	/**
+	 * Sets a global {@link ResourceBundle} that follows the {@link #localeProperty()}. It is merged with the
+	 * resourceBundles of the views like the one set with {@link #setGlobalResourceBundle(ResourceBundle)}.
+	 * <p>
+	 * When the locale is changed, all string properties that were set with a resource key of this bundle
+	 * (f.e. <code>text="%key"</code>) are updated without reloading the views. This works for FXML files that are
+	 * cached as template (see {@link #setFxmlTemplateCacheSize(int)}) or compiled by the
+	 * <code>mvvmfx-fxml-compiler-maven-plugin</code>. FXML files that are loaded with the
+	 * {@link javafx.fxml.FXMLLoader} get the values of the locale at loading time. Texts that are created in code can
+	 * use {@link #getStringBinding(String)} instead.
+	 * <p>
+	 * Because the properties are bound, they can't be set by the application anymore.
+	 *
+	 * @param baseName
+	 *            the base name of the resourceBundle. It is loaded with the context class loader of the current thread.
+	 */
+	public static void setObservableGlobalResourceBundle(String baseName) {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ResourceBundleManager.getInstance().setObservableGlobalResourceBundle(baseName,
+				contextClassLoader == null ? MvvmFX.class.getClassLoader() : contextClassLoader);
+	}
+
+	/**
+	 * The locale of the resourceBundle that was set with {@link #setObservableGlobalResourceBundle(String)}. The
+	 * initial value is the default locale. It must only be changed on the JavaFX application thread.
+	 *
+	 * @return the locale property.
+	 */
+	public static ObjectProperty<Locale> localeProperty() {
+		return ResourceBundleManager.getInstance().localeProperty();
+	}
+
+	/**
+	 * @param key
+	 *            the key of the resource.
+	 * @return a binding of the resource in the resourceBundle that was set with
+	 *         {@link #setObservableGlobalResourceBundle(String)}. The binding is updated when the locale changes. All
+	 *         calls with the same key return the same binding.
+	 */
+	public static StringBinding getStringBinding(String key) {
+		return ResourceBundleManager.getInstance().getStringBinding(key);
+	}
+
 	/**
 	 * Add a {@link BuilderFactory} to be used by mvvmFX.
 	 * <br/>
@@ -92,4 +159,115 @@ public class MvvmFX {
 	public static void addGlobalBuilderFactory(BuilderFactory factory) {
 		GlobalBuilderFactory.getInstance().addBuilderFactory(factory);
 	}
+
+	/**
+	 * Enables the cache for parsed FXML files.
+	 * <br/>
+	 * With the cache each FXML file is parsed only once into an in-memory template. All further loads of the same FXML
+	 * file create a fresh node tree from this template instead of parsing the XML again. This is useful for views that
+	 * are loaded many times, f.e. views in list cells or dialogs.
+	 * <br/>
+	 * The cache is keyed by the URL of the FXML file. When more than <code>maximumSize</code> FXML files are loaded,
+	 * the least recently used template is removed from the cache.
+	 * <br/>
+	 * Only a subset of FXML can be represented by templates (the same subset that is supported by the
+	 * <code>mvvmfx-fxml-compiler-maven-plugin</code>). FXML files with other features (f.e. scripts, <code>fx:define</code>
+	 * or expression bindings) are still loaded with the {@link javafx.fxml.FXMLLoader}. The cache is not used while
+	 * custom builder factories are defined (see {@link #addGlobalBuilderFactory(BuilderFactory)}).
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached FXML files. <code>0</code> disables the cache (default).
+	 */
+	public static void setFxmlTemplateCacheSize(int maximumSize) {
+		FxmlTemplateCache.getInstance().setMaximumSize(maximumSize);
+	}
+
+	/**
+	 * @return the hit/miss statistics of the FXML template cache, see {@link #setFxmlTemplateCacheSize(int)}.
+	 */
+	public static FxmlTemplateCacheStatistics getFxmlTemplateCacheStatistics() {
+		return FxmlTemplateCache.getInstance().getStatistics();
+	}
+
+	/**
+	 * Enables the parallel loading of included FXML files (<code>fx:include</code>).
+	 * <br/>
+	 * Views that are composed of many sub views are loaded one sub view after the other by default. With an executor
+	 * the sub views of a FXML file are loaded by the executor at the same time. The sub views are started as soon as
+	 * the controller and the viewModel of the including view are created, so that the scopes of this viewModel are
+	 * available to the sub views.
+	 * <br/>
+	 * Scopes are resolved the same way as without an executor: a sub view sees the scopes of all views that were loaded
+	 * before it in document order, including the scopes that are provided by its preceding siblings. Therefore only the
+	 * sub views before the first sub view whose viewModel (or one of its own sub views' viewModels) provides scopes are
+	 * loaded in parallel. The remaining sub views are loaded one after the other.
+	 * <br/>
+	 * Only FXML files that are compiled by the <code>mvvmfx-fxml-compiler-maven-plugin</code> or cached as template
+	 * (see {@link #setFxmlTemplateCacheSize(int)}) can load their includes in parallel because only for these the
+	 * included files are known before the loading starts. Sub views are created outside of the JavaFX application
+	 * thread so they must not contain controls that can only be created on this thread (f.e. <code>WebView</code>).
+	 *
+	 * @param executor
+	 *            the executor that loads the sub views. <code>null</code> disables the parallel loading (default).
+	 */
+	public static void setIncludeLoadingExecutor(Executor executor) {
+		ParallelIncludeLoading.getInstance().setExecutor(executor);
+	}
+
+	/**
+	 * Enables the tracking of all views, viewModels and scopes that are created by the view loaders. The instances are
+	 * only referenced weakly, they can be garbage collected as usual. {@link #getInstanceCensus()} shows which
+	 * instances are still alive, f.e. to find out which viewModel types leak without taking heap dumps.
+	 * <br/>
+	 * Capturing the allocation stack is expensive, therefore it is only done for every n-th instance.
+	 *
+	 * @param allocationStackSampleInterval
+	 *            the allocation stack is captured for every n-th instance. <code>0</code> disables the capturing of
+	 *            allocation stacks, <code>1</code> captures the stack of every instance.
+	 */
+	public static void enableInstanceTracking(int allocationStackSampleInterval) {
+		ViewModelRegistry.getInstance().enable(allocationStackSampleInterval);
+	}
+
+	/**
+	 * Disables the tracking that was enabled with {@link #enableInstanceTracking(int)} and forgets all tracked
+	 * instances.
+	 */
+	public static void disableInstanceTracking() {
+		ViewModelRegistry.getInstance().disable();
+	}
+
+	/**
+	 * @return the views, viewModels and scopes that are alive and were created while the tracking was enabled, see
+	 *         {@link #enableInstanceTracking(int)}.
+	 */
+	public static InstanceCensus getInstanceCensus() {
+		return ViewModelRegistry.getInstance().getCensus();
+	}
+
+	/**
+	 * Adds a listener that is notified about the phases of all view loads (f.e. parsing of the FXML file, dependency
+	 * injection or the call of the <code>initialize</code> methods) with their durations. This can be used to find out
+	 * why a view is slow to load.
+	 * <br/>
+	 * The listener is called on the thread that loads the view. Sub views (<code>fx:include</code>) are reported as
+	 * separate loads that reference the load of the including view, see {@link ViewLoadEvent#getParentLoadId()}. No
+	 * measurements are taken while no listener is registered.
+	 *
+	 * @param listener
+	 *            the listener.
+	 */
+	public static void addViewLoadListener(ViewLoadListener listener) {
+		ViewLoadTracing.getInstance().addListener(listener);
+	}
+
+	/**
+	 * Removes a listener that was added with {@link #addViewLoadListener(ViewLoadListener)}.
+	 *
+	 * @param listener
+	 *            the listener.
+	 */
+	public static void removeViewLoadListener(ViewLoadListener listener) {
+		ViewLoadTracing.getInstance().removeListener(listener);
+	}
 }
@@ -19,6 +19,11 @@ import de.saxsys.mvvmfx.utils.notifications.NotificationObserver;
 
 /**
  * Scope.
+ * <p>
+ * The framework counts the views that use a scope (by providing it or by injecting it into their viewModel) and that
+ * weren't disposed yet (see {@link ViewTuple#dispose()} and {@link ViewTuple#disposeOnSceneRemoval()}). When the last
+ * of these views was disposed, the scope is disposed too: {@link #onDispose()} is invoked and all subscriptions on the
+ * notification channel of the scope are removed.
  * 
  * @author alexander.casall
  *
@@ -41,4 +46,12 @@ public interface Scope {
         MvvmFX.getNotificationCenter().unsubscribe(this, observer);
     }
 
+    /**
+     * This method is invoked when the last view that uses this scope was disposed. It can be used to release resources
+     * of the scope. Views that are only removed from the scene without being disposed don't dispose the scope. After
+     * this method the subscriptions of the scope are removed.
+     */
+    default void onDispose() {
+    }
+
 }
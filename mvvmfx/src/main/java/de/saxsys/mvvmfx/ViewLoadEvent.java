@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import java.time.Duration;
+
+/**
+ * A finished phase of a view load, see {@link ViewLoadListener}.
+ * <p>
+ * Every load has an id. Sub views get their own load with the id of the including load as parent id. For FXML files
+ * that are compiled or cached as template (see {@link MvvmFX#setFxmlTemplateCacheSize(int)}) the load of a sub view
+ * covers the whole included FXML file. For FXML files that are loaded with the {@link javafx.fxml.FXMLLoader} it only
+ * covers the creation of the controller of the included file because the FXMLLoader loads the included files
+ * internally.
+ */
+public final class ViewLoadEvent {
+
+	private final long loadId;
+	private final long parentLoadId;
+	private final String viewName;
+	private final ViewLoadPhase phase;
+	private final Class<?> type;
+	private final long durationNanos;
+
+	public ViewLoadEvent(long loadId, long parentLoadId, String viewName, ViewLoadPhase phase, Class<?> type,
+			long durationNanos) {
+		this.loadId = loadId;
+		this.parentLoadId = parentLoadId;
+		this.viewName = viewName;
+		this.phase = phase;
+		this.type = type;
+		this.durationNanos = durationNanos;
+	}
+
+	/**
+	 * @return the id of the load that this phase belongs to.
+	 */
+	public long getLoadId() {
+		return loadId;
+	}
+
+	/**
+	 * @return the id of the load of the including view or <code>0</code> if the view wasn't loaded as sub view.
+	 */
+	public long getParentLoadId() {
+		return parentLoadId;
+	}
+
+	/**
+	 * @return the name of the loaded view, i.e. the class name of the view or the path of the FXML file.
+	 */
+	public String getViewName() {
+		return viewName;
+	}
+
+	/**
+	 * @return the phase.
+	 */
+	public ViewLoadPhase getPhase() {
+		return phase;
+	}
+
+	/**
+	 * @return the class that the phase was about, f.e. the viewModel class for the
+	 *         {@link ViewLoadPhase#SCOPE_INJECTION}. May be <code>null</code>.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * @return the duration of the phase.
+	 */
+	public Duration getDuration() {
+		return Duration.ofNanos(durationNanos);
+	}
+
+	/**
+	 * @return the duration of the phase in nanoseconds.
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "ViewLoadEvent{" +
+				"loadId=" + loadId +
+				", parentLoadId=" + parentLoadId +
+				", viewName='" + viewName + '\'' +
+				", phase=" + phase +
+				", type=" + (type == null ? null : type.getName()) +
+				", durationNanos=" + durationNanos +
+				'}';
+	}
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+/**
+ * A listener that is informed about the phases of every view load, see
+ * {@link MvvmFX#addViewLoadListener(ViewLoadListener)}. This can be used to find views that are slow to load without
+ * attaching a profiler.
+ * <p>
+ * The listener is called synchronously by the thread that loads the view, so the implementation should be fast and
+ * thread-safe. Exceptions that are thrown by a listener are logged and don't affect the loading.
+ */
+@FunctionalInterface
+public interface ViewLoadListener {
+
+	/**
+	 * Called when a phase of a view load is finished.
+	 *
+	 * @param event
+	 *            the finished phase.
+	 */
+	void onViewLoadEvent(ViewLoadEvent event);
+}
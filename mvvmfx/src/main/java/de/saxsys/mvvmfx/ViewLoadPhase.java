@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+/**
+ * The phases of a view load that are reported to a {@link ViewLoadListener}.
+ * <p>
+ * Phases can contain other phases, f.e. the {@link #CONTROLLER_CREATION} contains the {@link #DEPENDENCY_INJECTION}
+ * of the controller and the {@link #VIEW_MODEL_INJECTION}. The durations of the phases of a load therefore don't add
+ * up to the duration of the {@link #TOTAL} phase.
+ */
+public enum ViewLoadPhase {
+
+	/**
+	 * Creation of the context and adding the provided scopes.
+	 */
+	CONTEXT_PREPARATION,
+
+	/**
+	 * Resolving the location of the FXML file.
+	 */
+	FXML_RESOLUTION,
+
+	/**
+	 * Reading the FXML file and creating the node graph, including the controllers and the included FXML files. For
+	 * FXML files that are loaded with the {@link javafx.fxml.FXMLLoader} this also contains the
+	 * <code>initialize</code> method of the controller.
+	 */
+	PARSE,
+
+	/**
+	 * Creation of a controller (the code behind) of a FXML file including the injection of its viewModel.
+	 */
+	CONTROLLER_CREATION,
+
+	/**
+	 * Creation of an instance (view, viewModel or scope) by the dependency injection.
+	 */
+	DEPENDENCY_INJECTION,
+
+	/**
+	 * Injection of the viewModel into the view. This contains the creation and initialization of the viewModel.
+	 */
+	VIEW_MODEL_INJECTION,
+
+	/**
+	 * Creation and injection of the scopes of a viewModel.
+	 */
+	SCOPE_INJECTION,
+
+	/**
+	 * Injection of the resource bundle into a view or viewModel.
+	 */
+	RESOURCE_BUNDLE_INJECTION,
+
+	/**
+	 * Invocation of the <code>initialize</code> method of a view or viewModel.
+	 */
+	INITIALIZATION,
+
+	/**
+	 * The whole load. This is always the last event of a load.
+	 */
+	TOTAL
+}
@@ -15,6 +15,7 @@
  ******************************************************************************/
 package de.saxsys.mvvmfx;
 
+import de.saxsys.mvvmfx.internal.ViewModelChannels;
 import de.saxsys.mvvmfx.internal.viewloader.View;
 import de.saxsys.mvvmfx.utils.notifications.NotificationCenter;
 import de.saxsys.mvvmfx.utils.notifications.NotificationObserver;
@@ -50,7 +51,8 @@ public interface ViewModel {
 	 *     
 	 * This notification mechanism uses the {@link NotificationCenter} internally with the difference that messages send
 	 * by this method aren't globally available. Instead they can only be received by this viewModels {@link #subscribe(String, NotificationObserver)}
-	 * method or when using this viewModel instance as argument to the {@link NotificationCenter#subscribe(Object, String, NotificationObserver)} method.
+	 * method. Each viewModel instance has its own channel in the {@link NotificationCenter} which is removed when the
+	 * viewModel is garbage collected.
 	 * <p>
 	 *     
 	 * See {@link NotificationTestHelper} for a utility that's purpose is to simplify unit tests with notifications.
@@ -61,7 +63,10 @@ public interface ViewModel {
 	 *            to be send
 	 */
 	default void publish(String messageName, Object... payload) {
-		MvvmFX.getNotificationCenter().publish(System.identityHashCode(this), messageName, payload);
+		final Object channel = ViewModelChannels.getInstance().findChannel(this);
+		if (channel != null) {
+			MvvmFX.getNotificationCenter().publish(channel, messageName, payload);
+		}
 	}
 	
 	/**
@@ -74,7 +79,7 @@ public interface ViewModel {
 	 *            which should execute when the notification occurs
 	 */
 	default void subscribe(String messageName, NotificationObserver observer) {
-		MvvmFX.getNotificationCenter().subscribe(System.identityHashCode(this), messageName, observer);
+		MvvmFX.getNotificationCenter().subscribe(ViewModelChannels.getInstance().channelOf(this), messageName, observer);
 	}
 	
 	/**
@@ -86,7 +91,10 @@ public interface ViewModel {
 	 *            to remove
 	 */
 	default void unsubscribe(String messageName, NotificationObserver observer) {
-		MvvmFX.getNotificationCenter().unsubscribe(System.identityHashCode(this), messageName, observer);
+		final Object channel = ViewModelChannels.getInstance().findChannel(this);
+		if (channel != null) {
+			MvvmFX.getNotificationCenter().unsubscribe(channel, messageName, observer);
+		}
 	}
 	
 	/**
@@ -96,6 +104,9 @@ public interface ViewModel {
 	 *            to be removed
 	 */
 	default void unsubscribe(NotificationObserver observer) {
-		MvvmFX.getNotificationCenter().unsubscribe(System.identityHashCode(this), observer);
+		final Object channel = ViewModelChannels.getInstance().findChannel(this);
+		if (channel != null) {
+			MvvmFX.getNotificationCenter().unsubscribe(channel, observer);
+		}
 	}
 }
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The result of the warm-up of a single view by the {@link ViewPreloader}.
+ */
+public final class ViewPreloadResult {
+
+	private final Class<?> viewType;
+	private final Duration duration;
+	private final Throwable error;
+
+	ViewPreloadResult(Class<?> viewType, Duration duration, Throwable error) {
+		this.viewType = viewType;
+		this.duration = duration;
+		this.error = error;
+	}
+
+	/**
+	 * @return the view class that was preloaded.
+	 */
+	public Class<?> getViewType() {
+		return viewType;
+	}
+
+	/**
+	 * @return the time that was needed for the warm-up of the view.
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return the exception that was thrown while the view was loaded or an empty optional if the warm-up was
+	 *         successful.
+	 */
+	public Optional<Throwable> getError() {
+		return Optional.ofNullable(error);
+	}
+
+	/**
+	 * @return <code>true</code> if the view was loaded without errors.
+	 */
+	public boolean isSuccessful() {
+		return error == null;
+	}
+
+	@Override
+	public String toString() {
+		return "ViewPreloadResult{" +
+				"viewType=" + viewType.getName() +
+				", duration=" + duration.toMillis() + "ms" +
+				", successful=" + isSuccessful() +
+				'}';
+	}
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import de.saxsys.mvvmfx.internal.viewloader.View;
+import de.saxsys.mvvmfx.internal.viewloader.ViewLoaderReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Warms up views before they are shown for the first time.
+ * <p>
+ * The first load of a view is much slower than all later loads: the classes of the view and the viewModel have to be
+ * loaded and initialized, the FXML file has to be found, the reflection information for the injection has to be
+ * collected and the dependency injection framework has to create its bindings. The preloader does all of this ahead
+ * of time by loading each view once and throwing the result away. Directly after loading, the resources that the
+ * throwaway load created (scopes, scene lifecycle hooks and instance tracking) are released. The views and viewModels
+ * themselves aren't disposed (see {@link ViewTuple#dispose()}) because the dependency injection framework may return
+ * the same instances (f.e. singletons) to the views that are loaded later.
+ * <p>
+ * The applications of the mvvmFX extensions (f.e. <code>MvvmfxGuiceApplication</code>) preload the views of
+ * {@link de.saxsys.mvvmfx.internal.MvvmfxApplication#getViewsToPreload()} directly after
+ * {@link de.saxsys.mvvmfx.internal.MvvmfxApplication#initMvvmfx()}. This happens in the <code>init</code> method of the
+ * application, i.e. on the launcher thread while a splash screen (see {@link javafx.application.Preloader}) is shown.
+ * <p>
+ * The views are loaded outside of the JavaFX application thread. Views that contain controls that can only be created
+ * on this thread (f.e. <code>WebView</code>) can't be preloaded. As the viewModels are created and initialized like
+ * in every other load, viewModels with side effects in their <code>initialize</code> method shouldn't be preloaded
+ * either. Views that fail to load (f.e. because they need a scope of a parent view) are reported but their classes
+ * and reflection information are warmed up anyway.
+ */
+public final class ViewPreloader {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ViewPreloader.class);
+
+	private ViewPreloader() {
+	}
+
+	/**
+	 * Preloads the given views one after the other on the calling thread.
+	 *
+	 * @param viewTypes
+	 *            the views to preload.
+	 * @return the result for each view in the given order.
+	 */
+	@SafeVarargs
+	public static List<ViewPreloadResult> preload(Class<? extends View>... viewTypes) {
+		// the elements are copied so that the varargs array doesn't escape this method
+		final List<Class<? extends View>> viewTypeList = new ArrayList<>(viewTypes.length);
+		for (Class<? extends View> viewType : viewTypes) {
+			viewTypeList.add(viewType);
+		}
+
+		return preload(viewTypeList);
+	}
+
+	/**
+	 * Preloads the given views one after the other on the calling thread.
+	 *
+	 * @param viewTypes
+	 *            the views to preload.
+	 * @return the result for each view in the given order.
+	 */
+	public static List<ViewPreloadResult> preload(Collection<? extends Class<? extends View>> viewTypes) {
+		final List<ViewPreloadResult> results = new ArrayList<>();
+
+		for (Class<? extends View> viewType : viewTypes) {
+			results.add(preloadView(viewType));
+		}
+
+		logSummary(results);
+
+		return results;
+	}
+
+	/**
+	 * Preloads each of the given views as separate task of the given executor.
+	 *
+	 * @param executor
+	 *            the executor that loads the views.
+	 * @param viewTypes
+	 *            the views to preload.
+	 * @return a future that is completed with the result for each view in the given order when all views are
+	 *         preloaded.
+	 */
+	public static CompletableFuture<List<ViewPreloadResult>> preloadAsync(Executor executor,
+			Collection<? extends Class<? extends View>> viewTypes) {
+		final List<CompletableFuture<ViewPreloadResult>> futures = viewTypes.stream()
+				.map(viewType -> CompletableFuture.supplyAsync(() -> preloadView(viewType), executor))
+				.collect(Collectors.toList());
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+				.thenApply(ignored -> {
+					final List<ViewPreloadResult> results = futures.stream()
+							.map(CompletableFuture::join)
+							.collect(Collectors.toList());
+
+					logSummary(results);
+
+					return results;
+				});
+	}
+
+	private static ViewPreloadResult preloadView(Class<? extends View> viewType) {
+		final long start = System.nanoTime();
+		Throwable error = null;
+
+		try {
+			// loads and initializes the class
+			Class.forName(viewType.getName(), true, viewType.getClassLoader());
+
+			// this is done separately so that the metadata is cached even if the view can't be loaded
+			ViewLoaderReflectionUtils.prepareMetadata(viewType);
+
+			// the throwaway load resolves the FXML file and creates the bindings of the dependency injection
+			final ViewTuple<?, ?> viewTuple = load(viewType);
+
+			if (viewTuple != null && viewTuple.getLifecycle() != null) {
+				viewTuple.getLifecycle().discard();
+			}
+		} catch (Exception | LinkageError e) {
+			error = e;
+		}
+
+		final ViewPreloadResult result = new ViewPreloadResult(viewType, Duration.ofNanos(System.nanoTime() - start),
+				error);
+
+		if (error == null) {
+			LOG.debug("Preloaded view [{}] in {} ms", viewType.getName(), result.getDuration().toMillis());
+		} else {
+			LOG.warn("The view [{}] couldn't be preloaded after {} ms", viewType.getName(),
+					result.getDuration().toMillis(), error);
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return the loaded view or <code>null</code> if the view type is neither a {@link FxmlView} nor a
+	 *         {@link JavaView}.
+	 */
+	private static ViewTuple<?, ?> load(Class<? extends View> viewType) {
+		if (FxmlView.class.isAssignableFrom(viewType)) {
+			@SuppressWarnings("unchecked")
+			final Class<? extends FxmlView<ViewModel>> fxmlViewType = (Class<? extends FxmlView<ViewModel>>) viewType;
+			return FluentViewLoader.fxmlView(fxmlViewType).load();
+		}
+
+		if (JavaView.class.isAssignableFrom(viewType)) {
+			@SuppressWarnings("unchecked")
+			final Class<? extends JavaView<ViewModel>> javaViewType = (Class<? extends JavaView<ViewModel>>) viewType;
+			return FluentViewLoader.javaView(javaViewType).load();
+		}
+
+		return null;
+	}
+
+	private static void logSummary(List<ViewPreloadResult> results) {
+		if (results.isEmpty()) {
+			return;
+		}
+
+		final long totalMillis = results.stream().mapToLong(result -> result.getDuration().toMillis()).sum();
+
+		LOG.info("Preloaded {} views in {} ms: {}", results.size(), totalMillis, results.stream()
+				.map(result -> result.getViewType().getSimpleName() + "=" + result.getDuration().toMillis() + "ms")
+				.collect(Collectors.joining(", ")));
+	}
+}
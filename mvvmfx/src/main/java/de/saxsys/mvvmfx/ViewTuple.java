@@ -18,6 +18,7 @@ package de.saxsys.mvvmfx;
 import javafx.scene.Parent;
 
 import de.saxsys.mvvmfx.internal.viewloader.View;
+import de.saxsys.mvvmfx.internal.viewloader.ViewLifecycle;
 
 /**
  * <p>
@@ -34,6 +35,10 @@ import de.saxsys.mvvmfx.internal.viewloader.View;
  * Instances of this class are immutable.
  * </p>
  * 
+ * <p>
+ * A view that isn't needed anymore can be released with {@link #dispose()}, f.e. when a document window is closed.
+ * </p>
+ * 
  * 
  * @param <ViewType>
  *            the generic type of the view that was loaded.
@@ -45,6 +50,7 @@ public class ViewTuple<ViewType extends View<? extends ViewModelType>, ViewModel
 	private final ViewType codeBehind;
 	private final Parent view;
 	private final ViewModelType viewModel;
+	private final ViewLifecycle lifecycle;
 	
 	/**
 	 * @param codeBehind
@@ -55,9 +61,25 @@ public class ViewTuple<ViewType extends View<? extends ViewModelType>, ViewModel
 	 *            the viewModel for this viewTuple
 	 */
 	public ViewTuple(final ViewType codeBehind, final Parent view, final ViewModelType viewModel) {
+		this(codeBehind, view, viewModel, null);
+	}
+
+	/**
+	 * @param codeBehind
+	 *            the codeBehind for this viewTuple
+	 * @param view
+	 *            the view for this viewTuple
+	 * @param viewModel
+	 *            the viewModel for this viewTuple
+	 * @param lifecycle
+	 *            the resources of the load that created this viewTuple or <code>null</code>.
+	 */
+	public ViewTuple(final ViewType codeBehind, final Parent view, final ViewModelType viewModel,
+			final ViewLifecycle lifecycle) {
 		this.codeBehind = codeBehind;
 		this.view = view;
 		this.viewModel = viewModel;
+		this.lifecycle = lifecycle;
 	}
 	
 	/**
@@ -92,4 +114,40 @@ public class ViewTuple<ViewType extends View<? extends ViewModelType>, ViewModel
 	public ViewModelType getViewModel() {
 		return viewModel;
 	}
+
+	/**
+	 * Releases the view and all its sub views so that they can be garbage collected:
+	 * <ul>
+	 * <li>{@link SceneLifecycle#onViewRemoved()} is invoked if the view is still part of a scene and the
+	 * {@link SceneLifecycle} hooks are removed</li>
+	 * <li>the references to the scopes of the viewModels are released (see {@link Scope#onDispose()})</li>
+	 * <li>all subscriptions that were made with {@link ViewModel#subscribe(String,
+	 * de.saxsys.mvvmfx.utils.notifications.NotificationObserver)} are removed</li>
+	 * <li>{@link Disposable#dispose()} is invoked for all code behinds and viewModels that implement it</li>
+	 * </ul>
+	 * The view should be removed from the scene before. This method must be called on the JavaFX application thread.
+	 * Calling it multiple times has no effect.
+	 */
+	public void dispose() {
+		if (lifecycle != null) {
+			lifecycle.dispose();
+		}
+	}
+
+	/**
+	 * Disposes this viewTuple (see {@link #dispose()}) automatically when the view is removed from the scene. Views
+	 * that are only moved to another place in the scene aren't disposed.
+	 * 
+	 * @return this viewTuple.
+	 */
+	public ViewTuple<ViewType, ViewModelType> disposeOnSceneRemoval() {
+		if (lifecycle != null) {
+			lifecycle.disposeOnSceneRemoval();
+		}
+		return this;
+	}
+
+	ViewLifecycle getLifecycle() {
+		return lifecycle;
+	}
 }
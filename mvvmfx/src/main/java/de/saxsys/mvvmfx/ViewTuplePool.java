@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import de.saxsys.mvvmfx.internal.viewloader.View;
+import de.saxsys.mvvmfx.internal.viewloader.ViewLoaderReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A pool of ready-to-use {@link ViewTuple}s of the same view. This is useful for views that are opened very often,
+ * f.e. dialogs: instead of loading the view every time it is needed, a tuple that was loaded in the background is
+ * taken from the pool.
+ * <p>
+ * The pool loads <code>size</code> tuples with the given executor. Every {@link #take()} removes a tuple from the pool
+ * and starts the loading of a new one in the background. If the pool is empty, the tuple is loaded by the calling
+ * thread.
+ *
+ * <pre>
+ * ViewTuplePool&lt;OrderView, OrderViewModel&gt; pool = ViewTuplePool.fxmlView(OrderView.class, 3, executor);
+ *
+ * ...
+ * ViewTuple&lt;OrderView, OrderViewModel&gt; viewTuple = pool.take();
+ * </pre>
+ *
+ * A pooled tuple can be bound to an existing viewModel instance with {@link #take(ViewModel)}. The viewModel is
+ * injected into the code behind and the reset hook (see {@link #setResetHook(BiConsumer)}) has to re-bind the view
+ * to it, f.e. the bindings that were created in the <code>initialize</code> method of the code behind.
+ * <p>
+ * The tuples are loaded outside of the JavaFX application thread. Views that contain controls that can only be
+ * created on this thread (f.e. <code>WebView</code>) can't be pooled.
+ *
+ * @param <ViewType>
+ *            the generic type of the view.
+ * @param <ViewModelType>
+ *            the generic type of the viewModel.
+ */
+public class ViewTuplePool<ViewType extends View<? extends ViewModelType>, ViewModelType extends ViewModel> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ViewTuplePool.class);
+
+	private final Supplier<ViewTuple<ViewType, ViewModelType>> loader;
+	private final int size;
+	private final Executor executor;
+
+	private final Queue<ViewTuple<ViewType, ViewModelType>> pooledTuples = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The number of tuples that are in the pool or are currently loaded.
+	 */
+	private final AtomicInteger reservedCount = new AtomicInteger();
+
+	private volatile BiConsumer<ViewType, ViewModelType> resetHook;
+
+	/**
+	 * @param loader
+	 *            loads a new tuple, f.e. <code>() -&gt; FluentViewLoader.fxmlView(MyView.class).load()</code>.
+	 * @param size
+	 *            the number of tuples that are kept in the pool.
+	 * @param executor
+	 *            the executor that loads the tuples.
+	 */
+	public ViewTuplePool(Supplier<ViewTuple<ViewType, ViewModelType>> loader, int size, Executor executor) {
+		if (size < 1) {
+			throw new IllegalArgumentException("The size of the pool has to be at least 1.");
+		}
+
+		this.loader = loader;
+		this.size = size;
+		this.executor = executor;
+
+		refill();
+	}
+
+	/**
+	 * Creates a pool for the given fxml view.
+	 */
+	public static <ViewType extends FxmlView<? extends ViewModelType>, ViewModelType extends ViewModel> ViewTuplePool<ViewType, ViewModelType> fxmlView(
+			Class<? extends ViewType> viewType, int size, Executor executor) {
+		return new ViewTuplePool<>(() -> FluentViewLoader.<ViewType, ViewModelType> fxmlView(viewType).load(), size,
+				executor);
+	}
+
+	/**
+	 * Creates a pool for the given java view.
+	 */
+	public static <ViewType extends JavaView<? extends ViewModelType>, ViewModelType extends ViewModel> ViewTuplePool<ViewType, ViewModelType> javaView(
+			Class<? extends ViewType> viewType, int size, Executor executor) {
+		return new ViewTuplePool<>(() -> FluentViewLoader.<ViewType, ViewModelType> javaView(viewType).load(), size,
+				executor);
+	}
+
+	/**
+	 * Defines the hook that re-binds a pooled view to another viewModel, see {@link #take(ViewModel)}. The hook is
+	 * called with the code behind after the new viewModel was injected into it.
+	 *
+	 * @param resetHook
+	 *            the hook.
+	 */
+	public void setResetHook(BiConsumer<ViewType, ViewModelType> resetHook) {
+		this.resetHook = resetHook;
+	}
+
+	/**
+	 * Takes a tuple from the pool and starts loading a replacement in the background. If the pool is empty, the
+	 * tuple is loaded by the calling thread.
+	 *
+	 * @return a tuple that wasn't used before.
+	 */
+	public ViewTuple<ViewType, ViewModelType> take() {
+		final ViewTuple<ViewType, ViewModelType> viewTuple = pooledTuples.poll();
+
+		if (viewTuple == null) {
+			refill();
+			return loader.get();
+		}
+
+		reservedCount.decrementAndGet();
+		refill();
+
+		return viewTuple;
+	}
+
+	/**
+	 * Takes a tuple from the pool (see {@link #take()}) and binds it to the given viewModel. The viewModel is injected
+	 * into the code behind and the reset hook is called afterwards. The original viewModel of the tuple is disposed
+	 * (see {@link Disposable}) and the given viewModel takes its place, so that {@link ViewTuple#dispose()} releases
+	 * the given viewModel.
+	 *
+	 * @param viewModel
+	 *            the viewModel that is used for the view.
+	 * @return a tuple with the given viewModel.
+	 * @throws IllegalStateException
+	 *             if no reset hook was defined.
+	 */
+	public ViewTuple<ViewType, ViewModelType> take(ViewModelType viewModel) {
+		final BiConsumer<ViewType, ViewModelType> hook = resetHook;
+
+		if (hook == null) {
+			throw new IllegalStateException("A pooled view can only be bound to another viewModel with a reset hook. "
+					+ "Define it with setResetHook.");
+		}
+
+		final ViewTuple<ViewType, ViewModelType> viewTuple = take();
+
+		ViewLoaderReflectionUtils.replaceViewModel(viewTuple.getCodeBehind(), viewModel);
+		hook.accept(viewTuple.getCodeBehind(), viewModel);
+
+		if (viewTuple.getLifecycle() != null) {
+			viewTuple.getLifecycle().replaceViewModel(viewTuple.getViewModel(), viewModel);
+		}
+
+		return new ViewTuple<>(viewTuple.getCodeBehind(), viewTuple.getView(), viewModel, viewTuple.getLifecycle());
+	}
+
+	/**
+	 * @return the number of tuples that can be taken without loading.
+	 */
+	public int getAvailableCount() {
+		return pooledTuples.size();
+	}
+
+	/**
+	 * Removes all pooled tuples and loads new ones, f.e. after the resources of the application have changed. The
+	 * removed tuples are disposed (see {@link ViewTuple#dispose()}), so this method must be called on the JavaFX
+	 * application thread.
+	 */
+	public void clear() {
+		ViewTuple<ViewType, ViewModelType> viewTuple;
+		while ((viewTuple = pooledTuples.poll()) != null) {
+			reservedCount.decrementAndGet();
+			viewTuple.dispose();
+		}
+
+		refill();
+	}
+
+	private void refill() {
+		// the number of attempts is limited so that a failing loader with a synchronous executor can't loop forever.
+		final int missing = size - reservedCount.get();
+
+		for (int i = 0; i < missing; i++) {
+			if (reservedCount.incrementAndGet() > size) {
+				reservedCount.decrementAndGet();
+				return;
+			}
+
+			try {
+				executor.execute(this::loadIntoPool);
+			} catch (RejectedExecutionException e) {
+				reservedCount.decrementAndGet();
+				LOG.warn("The pool can't be refilled.", e);
+				return;
+			}
+		}
+	}
+
+	private void loadIntoPool() {
+		try {
+			pooledTuples.add(loader.get());
+		} catch (RuntimeException e) {
+			// the next take will try it again.
+			reservedCount.decrementAndGet();
+			LOG.warn("A view couldn't be loaded into the pool.", e);
+		}
+	}
+}
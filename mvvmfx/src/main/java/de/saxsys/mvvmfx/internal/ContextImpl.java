@@ -1,28 +1,67 @@
 package de.saxsys.mvvmfx.internal;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import de.saxsys.mvvmfx.Context;
 import de.saxsys.mvvmfx.Scope;
 
-public class ContextImpl implements Context {
+/**
+ * An immutable context of scopes. Each instance holds the scopes that were added at one level of the view hierarchy
+ * and refers to the context of the level above. Adding scopes creates a new level instead of modifying the context,
+ * so the context of a view can be handed to sub views (also on other threads) without copying. The lookup of a scope
+ * takes O(depth) where depth is the number of levels that provide scopes.
+ */
+public final class ContextImpl implements Context {
+
+    private final ContextImpl parent;
 
     private final Map<Class<? extends Scope>, Object> scopeContext;
 
     public ContextImpl() {
-        this(new HashMap<>());
+        this(null, Collections.emptyMap());
     }
 
-    private ContextImpl(Map<Class<? extends Scope>, Object> scopeContext) {
+    private ContextImpl(ContextImpl parent, Map<Class<? extends Scope>, Object> scopeContext) {
+        this.parent = parent;
         this.scopeContext = scopeContext;
     }
 
-    public void addScopeToContext(Scope scope) {
-        scopeContext.put(scope.getClass(), scope);
+    /**
+     * @return a context that contains the given scope in addition to the scopes of this context. A scope of the same
+     *         type in this context is overridden.
+     */
+    public ContextImpl withScope(Scope scope) {
+        return withScopes(Collections.singletonList(scope));
+    }
+
+    /**
+     * @return a context that contains the given scopes in addition to the scopes of this context or this context if
+     *         there are no scopes given. Scopes of the same type in this context are overridden.
+     */
+    public ContextImpl withScopes(Collection<? extends Scope> scopes) {
+        if (scopes == null || scopes.isEmpty()) {
+            return this;
+        }
+
+        final Map<Class<? extends Scope>, Object> level = new HashMap<>();
+        for (Scope scope : scopes) {
+            level.put(scope.getClass(), scope);
+        }
+
+        return new ContextImpl(this, Collections.unmodifiableMap(level));
     }
 
     public <T extends Scope> Object getScope(Class<T> scopeType) {
-        return scopeContext.get(scopeType);
+        for (ContextImpl context = this; context != null; context = context.parent) {
+            final Object scope = context.scopeContext.get(scopeType);
+
+            if (scope != null) {
+                return scope;
+            }
+        }
+        return null;
     }
 }
@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An event type of the JDK Flight Recorder (JFR) for the hot paths of mvvmFX.
+ * <p>
+ * mvvmFX is compiled for Java 8 which doesn't contain the <code>jdk.jfr</code> API. Therefore the event types are
+ * defined at runtime with <code>jdk.jfr.EventFactory</code>. On JVMs without this API nothing is recorded.
+ * <p>
+ * All event types are in the category "mvvmFX" and are disabled by default. They can be enabled in the settings
+ * (<code>.jfc</code> file) of a recording, f.e.:
+ *
+ * <pre>
+ * &lt;event name="de.saxsys.mvvmfx.ViewLoad"&gt;
+ *   &lt;setting name="enabled"&gt;true&lt;/setting&gt;
+ *   &lt;setting name="threshold"&gt;0 ms&lt;/setting&gt;
+ * &lt;/event&gt;
+ * </pre>
+ *
+ * While an event type is disabled, {@link #begin()} only checks a flag of the recorder and returns <code>null</code>.
+ * Callers check the event for <code>null</code> before {@link #commit(Object, Object...)}, so that the varargs array
+ * isn't created and the values aren't boxed while nothing is recorded.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * final Object event = FlightRecorderEvent.VIEW_MODEL_INITIALIZATION.begin();
+ * try {
+ * 	...
+ * } finally {
+ * 	if (event != null) {
+ * 		FlightRecorderEvent.VIEW_MODEL_INITIALIZATION.commit(event, viewModel.getClass());
+ * 	}
+ * }
+ * </pre>
+ */
+public final class FlightRecorderEvent {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FlightRecorderEvent.class);
+
+	private static final String NAME_PREFIX = "de.saxsys.mvvmfx.";
+
+	private static final String CATEGORY = "mvvmFX";
+
+	/**
+	 * The load of a view including its sub views.
+	 */
+	public static final FlightRecorderEvent VIEW_LOAD = new FlightRecorderEvent("ViewLoad", "View Load",
+			"Loading of a view with FluentViewLoader including all sub views",
+			field("view", "View", String.class),
+			field("viewModel", "ViewModel", String.class),
+			field("fxml", "FXML File", String.class));
+
+	/**
+	 * The invocation of the initialize methods of a viewModel.
+	 */
+	public static final FlightRecorderEvent VIEW_MODEL_INITIALIZATION = new FlightRecorderEvent(
+			"ViewModelInitialization", "ViewModel Initialization", "Invocation of the initialize methods of a ViewModel",
+			field("viewModel", "ViewModel", String.class));
+
+	/**
+	 * The delivery of a notification to its observers.
+	 */
+	public static final FlightRecorderEvent NOTIFICATION_PUBLISH = new FlightRecorderEvent("NotificationPublish",
+			"Notification Publish", "Delivery of a notification of the NotificationCenter to its observers",
+			field("message", "Message", String.class),
+			field("channel", "Channel", String.class),
+			field("observers", "Observers", int.class));
+
+	/**
+	 * The execution of a command.
+	 */
+	public static final FlightRecorderEvent COMMAND_EXECUTION = new FlightRecorderEvent("CommandExecution",
+			"Command Execution", "Execution of a DelegateCommand until the action has finished",
+			field("command", "Command", String.class),
+			field("actionSupplier", "Action Supplier", String.class),
+			field("background", "In Background", boolean.class));
+
+	/**
+	 * The commit of a model wrapper.
+	 */
+	public static final FlightRecorderEvent MODEL_WRAPPER_COMMIT = new FlightRecorderEvent("ModelWrapperCommit",
+			"ModelWrapper Commit", "Writing the values of a ModelWrapper into the wrapped model",
+			field("model", "Model", String.class),
+			field("fields", "Fields", int.class));
+
+	/**
+	 * The reload of a model wrapper.
+	 */
+	public static final FlightRecorderEvent MODEL_WRAPPER_RELOAD = new FlightRecorderEvent("ModelWrapperReload",
+			"ModelWrapper Reload", "Reading the values of the wrapped model into a ModelWrapper",
+			field("model", "Model", String.class),
+			field("fields", "Fields", int.class));
+
+	/**
+	 * <code>null</code> if the JFR API isn't available.
+	 */
+	private final Object eventFactory;
+	private final Object eventType;
+
+	private FlightRecorderEvent(String name, String label, String description, Field... fields) {
+		Object factory = null;
+		Object type = null;
+
+		if (Jfr.AVAILABLE) {
+			try {
+				factory = Jfr.createEventFactory(NAME_PREFIX + name, label, description, fields);
+				type = Jfr.GET_EVENT_TYPE.invoke(factory);
+			} catch (Throwable e) {
+				LOG.debug("The JFR event type [{}] can't be registered.", name, e);
+				factory = null;
+				type = null;
+			}
+		}
+
+		this.eventFactory = factory;
+		this.eventType = type;
+	}
+
+	/**
+	 * Starts an event if the event type is enabled in a running recording.
+	 *
+	 * @return the started event or <code>null</code> if the event isn't recorded.
+	 */
+	public Object begin() {
+		if (eventType == null) {
+			return null;
+		}
+
+		try {
+			if (!(boolean) Jfr.IS_ENABLED.invokeExact(eventType)) {
+				return null;
+			}
+
+			final Object event = (Object) Jfr.NEW_EVENT.invokeExact(eventFactory);
+			Jfr.BEGIN.invokeExact(event);
+			return event;
+		} catch (Throwable e) {
+			LOG.debug("The JFR event can't be started.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Ends and records an event that was started with {@link #begin()}.
+	 *
+	 * @param event
+	 *            the started event. Nothing happens if it's <code>null</code>.
+	 * @param values
+	 *            the values of the fields of the event type in the order of their definition. Classes are recorded with
+	 *            their name.
+	 */
+	public void commit(Object event, Object... values) {
+		if (event == null) {
+			return;
+		}
+
+		try {
+			for (int i = 0; i < values.length; i++) {
+				final Object value = values[i];
+				Jfr.SET.invokeExact(event, i, (Object) (value instanceof Class ? ((Class<?>) value).getName() : value));
+			}
+
+			Jfr.COMMIT.invokeExact(event);
+		} catch (Throwable e) {
+			LOG.debug("The JFR event can't be committed.", e);
+		}
+	}
+
+	private static Field field(String name, String label, Class<?> type) {
+		return new Field(name, label, type);
+	}
+
+	private static final class Field {
+		final String name;
+		final String label;
+		final Class<?> type;
+
+		Field(String name, String label, Class<?> type) {
+			this.name = name;
+			this.label = label;
+			this.type = type;
+		}
+	}
+
+	/**
+	 * The reflective access to the JFR API.
+	 */
+	private static final class Jfr {
+
+		static final boolean AVAILABLE;
+
+		static final MethodHandle GET_EVENT_TYPE;
+		static final MethodHandle IS_ENABLED;
+		static final MethodHandle NEW_EVENT;
+		static final MethodHandle BEGIN;
+		static final MethodHandle SET;
+		static final MethodHandle COMMIT;
+
+		private static Class<?> eventFactoryClass;
+		private static Constructor<?> annotationElementConstructor;
+		private static Constructor<?> valueDescriptorConstructor;
+
+		static {
+			MethodHandle getEventType = null;
+			MethodHandle isEnabled = null;
+			MethodHandle newEvent = null;
+			MethodHandle begin = null;
+			MethodHandle set = null;
+			MethodHandle commit = null;
+			boolean available = false;
+
+			try {
+				final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+				eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+				final Class<?> eventClass = Class.forName("jdk.jfr.Event");
+				final Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType");
+				final Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+				final Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+
+				annotationElementConstructor = annotationElementClass.getConstructor(Class.class, Object.class);
+				valueDescriptorConstructor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+
+				getEventType = lookup.findVirtual(eventFactoryClass, "getEventType", MethodType.methodType(eventTypeClass))
+						.asType(MethodType.methodType(Object.class, Object.class));
+				isEnabled = lookup.findVirtual(eventTypeClass, "isEnabled", MethodType.methodType(boolean.class))
+						.asType(MethodType.methodType(boolean.class, Object.class));
+				newEvent = lookup.findVirtual(eventFactoryClass, "newEvent", MethodType.methodType(eventClass))
+						.asType(MethodType.methodType(Object.class, Object.class));
+				begin = lookup.findVirtual(eventClass, "begin", MethodType.methodType(void.class))
+						.asType(MethodType.methodType(void.class, Object.class));
+				set = lookup.findVirtual(eventClass, "set", MethodType.methodType(void.class, int.class, Object.class))
+						.asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+				commit = lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class))
+						.asType(MethodType.methodType(void.class, Object.class));
+
+				available = true;
+			} catch (ClassNotFoundException e) {
+				LOG.debug("The JDK Flight Recorder API isn't available. No JFR events are recorded.");
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				LOG.debug("The JDK Flight Recorder API can't be used. No JFR events are recorded.", e);
+			}
+
+			GET_EVENT_TYPE = getEventType;
+			IS_ENABLED = isEnabled;
+			NEW_EVENT = newEvent;
+			BEGIN = begin;
+			SET = set;
+			COMMIT = commit;
+			AVAILABLE = available;
+		}
+
+		static Object createEventFactory(String name, String label, String description, Field[] fields)
+				throws ReflectiveOperationException {
+			final List<Object> annotations = Arrays.asList(
+					annotation("jdk.jfr.Name", name),
+					annotation("jdk.jfr.Label", label),
+					annotation("jdk.jfr.Description", description),
+					annotation("jdk.jfr.Category", new String[] { CATEGORY }),
+					annotation("jdk.jfr.Enabled", false),
+					annotation("jdk.jfr.StackTrace", false));
+
+			final List<Object> valueDescriptors = new ArrayList<>();
+
+			for (Field field : fields) {
+				valueDescriptors.add(valueDescriptorConstructor.newInstance(field.type, field.name,
+						Arrays.asList(annotation("jdk.jfr.Label", field.label))));
+			}
+
+			return eventFactoryClass.getMethod("create", List.class, List.class)
+					.invoke(null, annotations, valueDescriptors);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Object annotation(String annotationType, Object value) throws ReflectiveOperationException {
+			final Class<? extends Annotation> type = (Class<? extends Annotation>) Class.forName(annotationType);
+			return annotationElementConstructor.newInstance(type, value);
+		}
+	}
+}
@@ -15,9 +15,14 @@
  ******************************************************************************/
 package de.saxsys.mvvmfx.internal;
 
+import de.saxsys.mvvmfx.ViewPreloader;
+import de.saxsys.mvvmfx.internal.viewloader.View;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * This interface defines a common set of methods that the root application classes of extensions of mvvmfx should
  * implement.
@@ -32,6 +37,8 @@ import javafx.stage.Stage;
  * <li>Call {@link #initMvvmfx()} as last step in the overwritten init method. The contract is that the
  * {@link #initMvvmfx()} is called when the basic container bootstrapping is done so that the user can do her own
  * initialization in this method.</li>
+ * <li>Call {@link ViewPreloader#preload(Collection)} with the views of {@link #getViewsToPreload()} directly after
+ * {@link #initMvvmfx()}.</li>
  * <li>Implement {@link Application#start(Stage)} method. In this method own startup logic can be done (if needed).</li>
  * <li>Call {@link #startMvvmfx(Stage)} as last step in the overwritten start method. Pass the stage instance from the
  * original {@link Application#start(Stage)} method to {@link #startMvvmfx(Stage)}.</li>
@@ -51,6 +58,17 @@ public interface MvvmfxApplication {
 	default void initMvvmfx() throws Exception {
 	}
 	
+	/**
+	 * Override this method to define the views that are warmed up while the application is initialized. The views
+	 * are loaded once after {@link #initMvvmfx()} so that the first real load of these views is faster. See
+	 * {@link ViewPreloader} for details.
+	 * 
+	 * @return the views to preload.
+	 */
+	default Collection<Class<? extends View>> getViewsToPreload() {
+		return Collections.emptyList();
+	}
+	
 	/**
 	 * Override this method with your application startup logic.
 	 * <p/>
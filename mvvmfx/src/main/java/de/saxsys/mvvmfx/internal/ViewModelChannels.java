@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal;
+
+import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewModel;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The notification channels of viewModels (see {@link ViewModel#publish(String, Object...)}). Each viewModel gets its
+ * own channel object which is only equal to itself, so that two viewModels never share a channel, even if their
+ * <code>equals</code> methods say so.
+ * <p>
+ * The viewModels are only referenced weakly and are compared by identity. When a viewModel is garbage collected, its
+ * channel is removed from the notification center the next time a channel is created or removed. This isn't done when
+ * a channel is only looked up, because viewModels publish from background threads too and the notification center
+ * (f.e. the {@link de.saxsys.mvvmfx.utils.notifications.DefaultNotificationCenter}) may only be read by them.
+ * <p>
+ * Observers of a channel typically reference the viewModel (f.e. a lambda in the viewModel or its view). As the
+ * notification center keeps the observers, such a viewModel is never garbage collected while its channel exists. The
+ * observers aren't held weakly as this would drop observers that are only referenced by the notification center.
+ * Instead the channel is removed whenever the view is disposed (see {@link de.saxsys.mvvmfx.ViewTuple#dispose()} and
+ * {@link de.saxsys.mvvmfx.ViewTuple#disposeOnSceneRemoval()}), no matter what the observers reference. ViewModels that
+ * weren't loaded with a view have to unsubscribe their observers themselves.
+ */
+public final class ViewModelChannels {
+
+	private static final ViewModelChannels SINGLETON = new ViewModelChannels();
+
+	private final ConcurrentMap<Object, Channel> channels = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<ViewModel> collectedViewModels = new ReferenceQueue<>();
+
+	private ViewModelChannels() {
+	}
+
+	public static ViewModelChannels getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * @return the channel of the viewModel. The channel is created if it doesn't exist yet.
+	 */
+	public Object channelOf(ViewModel viewModel) {
+		purgeCollectedViewModels();
+
+		final Channel channel = channels.get(WeakIdentityKey.lookup(viewModel));
+		if (channel != null) {
+			return channel;
+		}
+
+		return channels.computeIfAbsent(new WeakIdentityKey<>(viewModel, collectedViewModels), key -> new Channel(viewModel));
+	}
+
+	/**
+	 * @return the channel of the viewModel or <code>null</code> if nobody subscribed for the viewModel yet.
+	 */
+	public Object findChannel(ViewModel viewModel) {
+		return channels.get(WeakIdentityKey.lookup(viewModel));
+	}
+
+	/**
+	 * Removes the channel of the viewModel and all its observers from the notification center.
+	 */
+	public void removeChannel(ViewModel viewModel) {
+		purgeCollectedViewModels();
+
+		final Channel channel = channels.remove(WeakIdentityKey.lookup(viewModel));
+
+		if (channel != null) {
+			MvvmFX.getNotificationCenter().removeChannel(channel);
+		}
+	}
+
+	/**
+	 * @return the number of viewModels that have a channel, including collected viewModels whose channel wasn't
+	 *         removed yet.
+	 */
+	public int size() {
+		return channels.size();
+	}
+
+	private void purgeCollectedViewModels() {
+		Reference<? extends ViewModel> reference;
+		while ((reference = collectedViewModels.poll()) != null) {
+			final Channel channel = channels.remove(reference);
+
+			if (channel != null) {
+				MvvmFX.getNotificationCenter().removeChannel(channel);
+			}
+		}
+	}
+
+	/**
+	 * The channel object that is used as key in the notification center. It uses the equals and hashCode of
+	 * {@link Object} and only keeps the name of the viewModel class for debugging.
+	 */
+	private static final class Channel {
+		private final String viewModelType;
+
+		Channel(ViewModel viewModel) {
+			this.viewModelType = viewModel.getClass().getName();
+		}
+
+		@Override
+		public String toString() {
+			return "ViewModelChannel[" + viewModelType + "]";
+		}
+	}
+}
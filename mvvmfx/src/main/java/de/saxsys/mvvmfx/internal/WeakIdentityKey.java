@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * A map key that references an object weakly and compares it by identity, so that the <code>equals</code> method of
+ * the object is never used. The key is registered at a {@link ReferenceQueue} and can be removed from the map when the
+ * queue returns it.
+ * <p>
+ * A key whose object was collected is only equal to itself, so that it can still be removed. Entries are looked up
+ * with {@link #lookup(Object)}, which doesn't create a weak reference.
+ *
+ * @param <T>
+ *            the type of the referenced object.
+ */
+public final class WeakIdentityKey<T> extends WeakReference<T> {
+
+	private final int hash;
+
+	public WeakIdentityKey(T referent, ReferenceQueue<? super T> queue) {
+		super(referent, queue);
+		this.hash = System.identityHashCode(referent);
+	}
+
+	/**
+	 * @return a short-living key that is equal to the {@link WeakIdentityKey} of the given object.
+	 */
+	public static Object lookup(Object referent) {
+		return new LookupKey(referent);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		final T referent = get();
+		if (referent == null) {
+			return false;
+		}
+
+		if (obj instanceof WeakIdentityKey) {
+			return referent == ((WeakIdentityKey<?>) obj).get();
+		}
+		return obj instanceof LookupKey && referent == ((LookupKey) obj).referent;
+	}
+
+	private static final class LookupKey {
+		private final Object referent;
+
+		LookupKey(Object referent) {
+			this.referent = referent;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(referent);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof LookupKey) {
+				return referent == ((LookupKey) obj).referent;
+			}
+			return obj instanceof WeakIdentityKey && referent == ((WeakIdentityKey<?>) obj).get();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A FXML file that was compiled into Java code at build time by the <code>mvvmfx-fxml-compiler-maven-plugin</code>.
+ * <p>
+ * When the {@link FxmlViewLoader} finds a compiled class for a FXML file on the classpath, it is used instead of the
+ * {@link javafx.fxml.FXMLLoader}. This way the XML doesn't need to be parsed and no builders have to be resolved
+ * reflectively at runtime. The controller is still created with the controller factory of mvvmFX so the
+ * ViewModel/Scope/Context injection works exactly the same way.
+ * <p>
+ * The name of the compiled class is derived from the classpath location of the FXML file, see
+ * {@link #getClassName(String)}.
+ * <p>
+ * This interface is not intended to be implemented by hand.
+ */
+public interface CompiledFxml {
+
+	/**
+	 * The suffix of the simple name of compiled FXML classes.
+	 */
+	String CLASS_SUFFIX = "_Fxml";
+
+	/**
+	 * Creates a new object graph for the FXML file.
+	 *
+	 * @param context
+	 *            the context that provides the controller, the resources and the root for <code>fx:root</code>.
+	 * @return the root object of the FXML file.
+	 * @throws Exception
+	 *             any exception that is thrown while the objects are created.
+	 */
+	Object build(CompiledFxmlContext context) throws Exception;
+
+	/**
+	 * @return the <code>source</code> attributes of all <code>fx:include</code> elements in document order. They are
+	 *         used to load the included FXML files in parallel, see {@link ParallelIncludeLoading}.
+	 */
+	default List<String> getIncludes() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * @return the class of the <code>fx:controller</code> of the root element, <code>Void.class</code> if the FXML
+	 *         file has no controller or <code>null</code> if the controller is unknown. It is used to find out which
+	 *         includes can be loaded in parallel, see {@link ParallelIncludeLoading}.
+	 */
+	default Class<?> getControllerType() {
+		return null;
+	}
+
+	/**
+	 * Returns the fully qualified name of the compiled class for the FXML file with the given absolute classpath
+	 * location.
+	 * <p>
+	 * Example: <code>/de/saxsys/myapp/ui/MainView.fxml</code> will be transformed to
+	 * <code>de.saxsys.myapp.ui.MainView_Fxml</code>. Characters that are not allowed in Java identifiers are replaced
+	 * by <code>_</code>.
+	 *
+	 * @param resourcePath
+	 *            the absolute path of the FXML file on the classpath.
+	 * @return the name of the compiled class.
+	 */
+	static String getClassName(String resourcePath) {
+		String path = resourcePath;
+
+		while (path.startsWith("/")) {
+			path = path.substring(1);
+		}
+
+		if (path.endsWith(".fxml")) {
+			path = path.substring(0, path.length() - ".fxml".length());
+		}
+
+		final StringBuilder className = new StringBuilder();
+
+		for (String segment : path.split("/")) {
+			if (segment.isEmpty()) {
+				continue;
+			}
+
+			if (className.length() > 0) {
+				className.append('.');
+			}
+
+			if (!Character.isJavaIdentifierStart(segment.charAt(0))) {
+				className.append('_');
+			}
+
+			for (char c : segment.toCharArray()) {
+				className.append(Character.isJavaIdentifierPart(c) ? c : '_');
+			}
+		}
+
+		return className.append(CLASS_SUFFIX).toString();
+	}
+}
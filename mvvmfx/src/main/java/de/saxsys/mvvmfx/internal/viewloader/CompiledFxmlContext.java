@@ -0,0 +1,565 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.ViewLoadPhase;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.StringProperty;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.Initializable;
+import javafx.fxml.LoadException;
+import javafx.util.Callback;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The context of a single loading process of a {@link CompiledFxml}. It is used by the compiled code to access
+ * everything that is only known at runtime: the controller (created by the controller factory of mvvmFX), the
+ * resources, the root for <code>fx:root</code> and included FXML files.
+ * <p>
+ * After the object graph was created, the context injects all objects with an <code>fx:id</code> into the controller
+ * and calls the <code>initialize</code> method of the controller like the {@link FXMLLoader} does.
+ * <p>
+ * When parallel loading is enabled (see {@link ParallelIncludeLoading}), the included FXML files are handed over to
+ * the executor as soon as the controller was created. Each of them gets its own controller factory (see
+ * {@link ForkableControllerFactory}) so that the sub views of different threads don't share a mutable state.
+ * Scopes are resolved like with the {@link FXMLLoader}: a sub view sees the scopes of all views that were loaded
+ * before it in document order. Therefore only the includes before the first include that may provide scopes are
+ * handed over to the executor, all others are loaded one after the other. <code>fx:include</code> then only waits for
+ * the result. An include that wasn't started by the executor yet is
+ * loaded by the waiting thread itself so that nested includes can't block each other even with a small thread pool.
+ */
+public final class CompiledFxmlContext {
+
+	private static final String LOCATION_KEY = FXMLLoader.LOCATION_KEY;
+	private static final String RESOURCES_KEY = FXMLLoader.RESOURCES_KEY;
+	private static final String CONTROLLER_SUFFIX = FXMLLoader.CONTROLLER_SUFFIX;
+
+	/**
+	 * Caches for every compiled FXML file if it or one of its includes may provide scopes.
+	 */
+	private static final Map<CompiledFxml, Boolean> SCOPE_PROVIDERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final String resourcePath;
+	private final URL location;
+	private final ResourceBundle resources;
+	private final Callback<Class<?>, Object> controllerFactory;
+	private final ClassLoader classLoader;
+
+	private final Map<String, Object> namespace = new LinkedHashMap<>();
+
+	/**
+	 * The load of this FXML file. Includes that are loaded by other threads use it as parent load.
+	 */
+	private final ViewLoadTracing.Load parentLoad = ViewLoadTracing.getInstance().currentLoad();
+
+	private CompiledFxml compiledFxml;
+	private Map<String, Deque<IncludeTask>> forkedIncludes;
+
+	private Object controller;
+	private Object root;
+
+	/**
+	 * @param resourcePath
+	 *            the absolute classpath location of the FXML file.
+	 * @param location
+	 *            the URL of the FXML file.
+	 * @param resources
+	 *            the resourceBundle. May be <code>null</code>.
+	 * @param controllerFactory
+	 *            the factory that is used to create the controller.
+	 * @param controller
+	 *            an existing controller instance. May be <code>null</code>.
+	 * @param root
+	 *            the root that is used for <code>fx:root</code>. May be <code>null</code>.
+	 * @param classLoader
+	 *            the classLoader that is used to find compiled classes of included FXML files.
+	 */
+	CompiledFxmlContext(String resourcePath, URL location, ResourceBundle resources,
+			Callback<Class<?>, Object> controllerFactory, Object controller, Object root, ClassLoader classLoader) {
+		this.resourcePath = resourcePath;
+		this.location = location;
+		this.resources = resources;
+		this.controllerFactory = controllerFactory;
+		this.controller = controller;
+		this.root = root;
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Used for <code>fx:controller</code>.
+	 *
+	 * @param type
+	 *            the controller class.
+	 * @return the new controller instance.
+	 */
+	public Object createController(Class<?> type) throws Exception {
+		if (controller != null) {
+			throw new IllegalStateException("Controller value already specified.");
+		}
+
+		controller = controllerFactory == null ? ReflectionUtils.newInstance(type) : controllerFactory.call(type);
+
+		// the scopes of the controller's viewModel are available now.
+		forkIncludes();
+
+		return controller;
+	}
+
+	/**
+	 * Used for <code>fx:root</code>.
+	 *
+	 * @return the root instance that was provided for this loading process.
+	 */
+	public Object getRoot() {
+		if (root == null) {
+			throw new IllegalStateException("Root hasn't been set. Use method setRoot() before load.");
+		}
+		return root;
+	}
+
+	/**
+	 * Used for resource keys like <code>text="%key"</code>.
+	 */
+	public String getResourceString(String key) {
+		if (resources == null) {
+			throw new IllegalStateException("No resources specified.");
+		}
+		return resources.getString(key);
+	}
+
+	/**
+	 * Used for resource keys of string properties like <code>text="%key"</code>. If the value comes from the
+	 * observable global resourceBundle (see {@link ResourceBundleManager#setObservableGlobalResourceBundle}), the
+	 * property is bound to the resource so that it follows changes of the locale. Otherwise the value is set once.
+	 */
+	public void setResourceString(StringProperty property, String key) {
+		final Optional<StringBinding> binding = ResourceBundleManager.getInstance().findStringBinding(resources, key);
+
+		if (binding.isPresent()) {
+			property.bind(binding.get());
+		} else {
+			property.set(getResourceString(key));
+		}
+	}
+
+	/**
+	 * Used for event handlers like <code>onAction="#handle"</code>.
+	 *
+	 * @param methodName
+	 *            the name of the controller method.
+	 * @return an event handler that invokes the method of the controller.
+	 */
+	public <T extends Event> EventHandler<T> createEventHandler(String methodName) {
+		if (controller == null) {
+			throw new IllegalStateException("No controller specified.");
+		}
+
+		final Object target = controller;
+		final Method method = FxmlControllerMetadata.of(target.getClass()).getEventHandlerMethod(methodName)
+				.orElseThrow(() -> new IllegalStateException("Error resolving \"#" + methodName
+						+ "\", the method is not available in the controller [" + target.getClass() + "]."));
+
+		final String errorMessage = "Error while invoking the event handler [" + methodName + "] of controller [" + target + "]";
+
+		if (method.getParameterCount() == 0) {
+			return event -> ReflectionUtils.handleErrors(() -> method.invoke(target), errorMessage);
+		} else {
+			return event -> ReflectionUtils.handleErrors(() -> method.invoke(target, event), errorMessage);
+		}
+	}
+
+	/**
+	 * Used for <code>fx:id</code>. The object will be injected into the controller after the loading process.
+	 */
+	public void register(String fxId, Object value) {
+		namespace.put(fxId, value);
+	}
+
+	/**
+	 * Used for <code>fx:include</code>. If the included FXML file was compiled too, the compiled class is used. If
+	 * not, a cached template is used (see {@link FxmlTemplateCache}) or a {@link FXMLLoader} as last resort. In all
+	 * cases the same controller factory and resources are used.
+	 *
+	 * @param source
+	 *            the value of the source attribute. Either absolute or relative to the current FXML file.
+	 * @param fxId
+	 *            the <code>fx:id</code> of the include. May be <code>null</code>.
+	 * @return the root of the included FXML file.
+	 */
+	public Object include(String source, String fxId) throws Exception {
+		// without a controller the includes weren't forked yet.
+		forkIncludes();
+
+		final IncludeTask forkedInclude = forkedIncludes.containsKey(source) ? forkedIncludes.get(source).poll() : null;
+
+		final Included included;
+
+		if (forkedInclude != null) {
+			included = forkedInclude.join();
+		} else {
+			final String includePath = resolveIncludePath(source);
+			included = loadInclude(includePath, resolveIncludeLocation(source, includePath), controllerFactory);
+		}
+
+		if (fxId != null) {
+			register(fxId, included.root);
+
+			if (included.controller != null) {
+				register(fxId + CONTROLLER_SUFFIX, included.controller);
+			}
+		}
+
+		return included.root;
+	}
+
+	private String resolveIncludePath(String source) throws Exception {
+		return resolveIncludePath(resourcePath, source);
+	}
+
+	private static String resolveIncludePath(String resourcePath, String source) throws Exception {
+		return source.startsWith("/") ? source
+				: new URI(null, null, resourcePath, null).resolve(new URI(null, null, source, null)).getPath();
+	}
+
+	private URL resolveIncludeLocation(String source, String includePath) throws IOException {
+		final URL includeLocation = classLoader.getResource(includePath.substring(1));
+
+		if (includeLocation == null) {
+			throw new IOException("Cannot resolve path: " + source);
+		}
+
+		return includeLocation;
+	}
+
+	private Included loadInclude(String includePath, URL includeLocation,
+			Callback<Class<?>, Object> includeControllerFactory) throws Exception {
+		final ViewLoadTracing tracing = ViewLoadTracing.getInstance();
+		final ViewLoadTracing.Load load = tracing.startLoad(includePath, parentLoad);
+		Class<?> includedType = null;
+
+		try {
+			final long start = tracing.startPhase();
+
+			final Optional<CompiledFxml> compiledInclude = findCompiledFxml(includePath, includeLocation);
+			final Included included;
+
+			if (compiledInclude.isPresent()) {
+				final CompiledFxmlContext context = new CompiledFxmlContext(includePath, includeLocation, resources,
+						includeControllerFactory, null, null, classLoader);
+				final Object includedRoot = context.load(compiledInclude.get());
+				included = new Included(includedRoot, context.getController());
+			} else {
+				final FXMLLoader loader = new FXMLLoader(includeLocation, resources, GlobalBuilderFactory.getInstance(),
+						includeControllerFactory);
+				loader.setClassLoader(classLoader);
+				final Object includedRoot = loader.load();
+				included = new Included(includedRoot, loader.getController());
+			}
+
+			tracing.finishPhase(ViewLoadPhase.PARSE, null, start);
+
+			if (included.controller != null) {
+				includedType = included.controller.getClass();
+			}
+
+			return included;
+		} finally {
+			tracing.finishLoad(load, includedType);
+		}
+	}
+
+	/**
+	 * Hands all includes of the FXML file over to the executor of {@link ParallelIncludeLoading}. This is done only
+	 * once per loading process.
+	 */
+	private void forkIncludes() throws Exception {
+		if (forkedIncludes != null) {
+			return;
+		}
+
+		forkedIncludes = new HashMap<>();
+
+		final Optional<Executor> executor = ParallelIncludeLoading.getInstance().getExecutor();
+
+		if (!executor.isPresent() || compiledFxml == null || !(controllerFactory instanceof ForkableControllerFactory)) {
+			return;
+		}
+
+		for (String source : compiledFxml.getIncludes()) {
+			final String includePath = resolveIncludePath(source);
+			final URL includeLocation = classLoader.getResource(includePath.substring(1));
+
+			if (includeLocation == null) {
+				// the error is reported when the include is reached.
+				continue;
+			}
+
+			// like with the FXMLLoader, a sub view sees the scopes of all sub views that were loaded before it.
+			// Therefore this include and all following ones are loaded one after the other when they are reached.
+			if (mayProvideScopes(includePath, includeLocation)) {
+				return;
+			}
+
+			final Callback<Class<?>, Object> includeControllerFactory = ((ForkableControllerFactory) controllerFactory)
+					.fork();
+
+			final IncludeTask task = new IncludeTask(
+					() -> loadInclude(includePath, includeLocation, includeControllerFactory));
+
+			forkedIncludes.computeIfAbsent(source, key -> new ArrayDeque<>()).add(task);
+
+			try {
+				executor.get().execute(task);
+			} catch (RejectedExecutionException e) {
+				// the include is loaded by this thread when it is reached.
+			}
+		}
+	}
+
+	private Optional<CompiledFxml> findCompiledFxml(String includePath, URL includeLocation) {
+		final Optional<CompiledFxml> compiledInclude = CompiledFxmls.find(classLoader, includePath);
+
+		return compiledInclude.isPresent() ? compiledInclude
+				: FxmlTemplateCache.getInstance().find(includeLocation, classLoader);
+	}
+
+	/**
+	 * @return <code>false</code> if neither the viewModel of the included FXML file nor the viewModels of its own
+	 *         includes provide scopes. <code>true</code> if they do or if this can't be decided before the file is
+	 *         loaded, f.e. because it is loaded with the {@link FXMLLoader}.
+	 */
+	private boolean mayProvideScopes(String includePath, URL includeLocation) throws Exception {
+		final Optional<CompiledFxml> compiledInclude = findCompiledFxml(includePath, includeLocation);
+
+		if (!compiledInclude.isPresent()) {
+			return true;
+		}
+
+		final Boolean cached = SCOPE_PROVIDERS.get(compiledInclude.get());
+		if (cached != null) {
+			return cached;
+		}
+
+		boolean result = controllerMayProvideScopes(compiledInclude.get().getControllerType());
+
+		for (int i = 0; !result && i < compiledInclude.get().getIncludes().size(); i++) {
+			final String nestedPath = resolveIncludePath(includePath, compiledInclude.get().getIncludes().get(i));
+			final URL nestedLocation = classLoader.getResource(nestedPath.substring(1));
+
+			result = nestedLocation != null && mayProvideScopes(nestedPath, nestedLocation);
+		}
+
+		SCOPE_PROVIDERS.put(compiledInclude.get(), result);
+		return result;
+	}
+
+	/**
+	 * The scopes are provided by the viewModel that is declared by the view. If this is an interface or an abstract
+	 * class, the dependency injection may create any subclass.
+	 */
+	private static boolean controllerMayProvideScopes(Class<?> controllerType) {
+		if (controllerType == null) {
+			return true;
+		}
+
+		if (!View.class.isAssignableFrom(controllerType)) {
+			return false;
+		}
+
+		final Class<?> viewModelType = InjectionMetadata.of(controllerType).getViewModelType();
+
+		if (viewModelType == null) {
+			return false;
+		}
+
+		return viewModelType.isInterface() || Modifier.isAbstract(viewModelType.getModifiers())
+				|| InjectionMetadata.of(viewModelType).getProvidedScopes().length > 0;
+	}
+
+	/**
+	 * Prevents that forked includes are started after the loading process has failed.
+	 */
+	private void cancelForkedIncludes() {
+		if (forkedIncludes != null) {
+			forkedIncludes.values().forEach(tasks -> tasks.forEach(IncludeTask::cancel));
+		}
+	}
+
+	/**
+	 * Creates the object graph, injects the objects into the controller and initializes the controller.
+	 *
+	 * @return the root of the loaded object graph.
+	 */
+	Object load(CompiledFxml compiledFxml) throws LoadException {
+		this.compiledFxml = compiledFxml;
+
+		namespace.put(LOCATION_KEY, location);
+		namespace.put(RESOURCES_KEY, resources);
+
+		try {
+			if (controller != null) {
+				// the controller was provided by the user.
+				forkIncludes();
+			}
+
+			final Object builtRoot = compiledFxml.build(this);
+
+			if (root == null) {
+				root = builtRoot;
+			}
+
+			if (controller != null) {
+				injectFields();
+				initializeController();
+			}
+		} catch (LoadException e) {
+			cancelForkedIncludes();
+			throw e;
+		} catch (Exception e) {
+			cancelForkedIncludes();
+
+			// errors are reported the same way as the FXMLLoader does.
+			final Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+			throw new LoadException(cause.getMessage() + " [" + location + "]", cause);
+		}
+
+		return root;
+	}
+
+	/**
+	 * @return the controller or <code>null</code> if no controller was specified.
+	 */
+	Object getController() {
+		return controller;
+	}
+
+	private void injectFields() throws Exception {
+		final FxmlControllerMetadata metadata = FxmlControllerMetadata.of(controller.getClass());
+
+		for (Map.Entry<String, Object> entry : namespace.entrySet()) {
+			final Optional<Field> field = metadata.getField(entry.getKey());
+
+			if (field.isPresent()) {
+				FieldAccessor.of(field.get()).set(controller, entry.getValue());
+			}
+		}
+	}
+
+	private void initializeController() throws Exception {
+		final long start = ViewLoadTracing.getInstance().startPhase();
+
+		if (controller instanceof Initializable) {
+			((Initializable) controller).initialize(location, resources);
+		} else {
+			final Optional<Method> initializeMethod = FxmlControllerMetadata.of(controller.getClass()).getInitializeMethod();
+
+			if (initializeMethod.isPresent()) {
+				initializeMethod.get().invoke(controller);
+			}
+		}
+
+		ViewLoadTracing.getInstance().finishPhase(ViewLoadPhase.INITIALIZATION, controller.getClass(), start);
+	}
+
+	/**
+	 * A controller factory that can create an independent factory for an included FXML file that is loaded in
+	 * parallel, f.e. with its own reference to the (immutable) context so that the scopes that are provided by one sub
+	 * view don't leak into the sub views of other threads.
+	 */
+	interface ForkableControllerFactory extends Callback<Class<?>, Object> {
+
+		/**
+		 * @return the controller factory for an included FXML file.
+		 */
+		Callback<Class<?>, Object> fork();
+	}
+
+	private static final class Included {
+		final Object root;
+		final Object controller;
+
+		Included(Object root, Object controller) {
+			this.root = root;
+			this.controller = controller;
+		}
+	}
+
+	/**
+	 * The loading of an include that is either started by the executor or by the thread that reaches the
+	 * <code>fx:include</code> first.
+	 */
+	private static final class IncludeTask implements Runnable {
+		private final Callable<Included> loading;
+		private final AtomicBoolean started = new AtomicBoolean();
+		private final CompletableFuture<Included> result = new CompletableFuture<>();
+
+		IncludeTask(Callable<Included> loading) {
+			this.loading = loading;
+		}
+
+		@Override
+		public void run() {
+			if (started.compareAndSet(false, true)) {
+				try {
+					result.complete(loading.call());
+				} catch (Throwable e) {
+					result.completeExceptionally(e);
+				}
+			}
+		}
+
+		void cancel() {
+			started.set(true);
+		}
+
+		Included join() throws Exception {
+			run();
+
+			try {
+				return result.get();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Exception) {
+					throw (Exception) e.getCause();
+				}
+				throw (Error) e.getCause();
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is used to find the {@link CompiledFxml} for a FXML file.
+ * <p>
+ * The result of the lookup (including the absence of a compiled class) is cached per {@link ClassLoader} and FXML
+ * path so that the class lookup is only done once. The cache only references the compiled classes weakly and the
+ * instances are attached to their classes, so that neither keeps a class loader from being garbage collected.
+ */
+final class CompiledFxmls {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CompiledFxmls.class);
+
+	private static final WeakReference<Class<?>> NOT_COMPILED = new WeakReference<>(null);
+
+	private static final Map<ClassLoader, ConcurrentMap<String, WeakReference<Class<?>>>> CACHE = new WeakHashMap<>();
+
+	private static final ClassValue<CompiledFxml> INSTANCES = new ClassValue<CompiledFxml>() {
+		@Override
+		protected CompiledFxml computeValue(Class<?> type) {
+			return (CompiledFxml) ReflectionUtils.newInstance(type);
+		}
+	};
+
+	private CompiledFxmls() {
+	}
+
+	/**
+	 * @param classLoader
+	 *            the classLoader that is used to load the compiled class.
+	 * @param resourcePath
+	 *            the absolute classpath location of the FXML file.
+	 * @return the compiled FXML or an empty optional if there is no compiled class for the FXML file.
+	 */
+	static Optional<CompiledFxml> find(ClassLoader classLoader, String resourcePath) {
+		if (classLoader == null) {
+			return Optional.empty();
+		}
+
+		final Class<?> type = getCache(classLoader).computeIfAbsent(resourcePath, path -> load(classLoader, path)).get();
+
+		return type == null ? Optional.empty() : Optional.of(INSTANCES.get(type));
+	}
+
+	private static ConcurrentMap<String, WeakReference<Class<?>>> getCache(ClassLoader classLoader) {
+		synchronized (CACHE) {
+			return CACHE.computeIfAbsent(classLoader, loader -> new ConcurrentHashMap<>());
+		}
+	}
+
+	private static WeakReference<Class<?>> load(ClassLoader classLoader, String resourcePath) {
+		final String className = CompiledFxml.getClassName(resourcePath);
+
+		try {
+			final Class<?> type = Class.forName(className, true, classLoader);
+
+			if (CompiledFxml.class.isAssignableFrom(type)) {
+				// instantiated eagerly so that a class that can't be instantiated falls back to the FXMLLoader.
+				INSTANCES.get(type);
+				LOG.debug("Using the compiled class [{}] for FXML file [{}].", className, resourcePath);
+				return new WeakReference<>(type);
+			}
+
+			LOG.warn("The class [{}] doesn't implement [{}]. The FXML file [{}] is loaded with the FXMLLoader instead.",
+					className, CompiledFxml.class.getName(), resourcePath);
+		} catch (ClassNotFoundException | LinkageError e) {
+			// there is no compiled class for this FXML file.
+		} catch (RuntimeException e) {
+			LOG.warn("The compiled class [{}] can't be instantiated. The FXML file [{}] is loaded with the FXMLLoader instead.",
+					className, resourcePath, e);
+		}
+
+		return NOT_COMPILED;
+	}
+}
@@ -15,7 +15,21 @@
  ******************************************************************************/
 package de.saxsys.mvvmfx.internal.viewloader;
 
+import de.saxsys.mvvmfx.ViewLoadPhase;
 import javafx.util.Callback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class handles the dependency injection for the mvvmFX framework.
@@ -23,13 +37,35 @@ import javafx.util.Callback;
  * The main reason for this class is to make it possible for the user to use her own dependency injection
  * mechanism/framework. The user can define how instances should be retrieved by setting an callback that returns an
  * instance for a given class type (see {@link DependencyInjector#setCustomInjector}.
+ * <p>
+ * Without a custom injector, instances are created with the public no-arg constructor of the class. The constructor
+ * is resolved only once per class into a {@link MethodHandle} so that the access checks aren't repeated for every
+ * instance. The number of instances is counted per class, see {@link #getInstantiationCounts()}.
  *
  * @author manuel.mauky
  */
 public class DependencyInjector {
 	
+	private static final Logger LOG = LoggerFactory.getLogger(DependencyInjector.class);
+	
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+	
 	private Callback<Class<?>, Object> customInjector;
 	
+	private final ClassValue<TypeEntry> types = new ClassValue<TypeEntry>() {
+		@Override
+		protected TypeEntry computeValue(Class<?> type) {
+			return new TypeEntry(type);
+		}
+	};
+	
+	/**
+	 * Used to enumerate the counters. The classes are kept weakly so that they can be unloaded. A counter is only
+	 * registered after {@link #types} returned its entry, because {@link ClassValue#computeValue(Class)} may run
+	 * concurrently and all but one of the computed entries are discarded.
+	 */
+	private final Map<Class<?>, LongAdder> instantiationCounts = Collections.synchronizedMap(new WeakHashMap<>());
+	
 	private static DependencyInjector singleton = new DependencyInjector();
 	
 	DependencyInjector() {
@@ -57,8 +93,8 @@ public class DependencyInjector {
 	/**
 	 * Returns an instance of the given type. When there is a custom injector defined (See:
 	 * {@link #setCustomInjector(javafx.util.Callback)}) then this injector is used. Otherwise a new instance of the
-	 * desired type is created. This is done by a call to {@link Class#newInstance()} which means that all constraints
-	 * of the newInstance method are also need to be satisfied.
+	 * desired type is created. This is done with the no-arg constructor of the type which means that all constraints
+	 * of the {@link Class#newInstance()} method are also need to be satisfied.
 	 *
 	 * @param type
 	 * @param <T>
@@ -66,19 +102,42 @@ public class DependencyInjector {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T getInstanceOf(Class<? extends T> type) {
-		if (isCustomInjectorDefined()) {
-			return (T) customInjector.call(type);
-		} else {
-			try {
-				// use default creation
-				return type.newInstance();
-			} catch (InstantiationException | IllegalAccessException e) {
-				throw new RuntimeException("Can't create instance of type " + type.getName() +
-						". Make sure that the class has a public no-arg constructor.", e);
+		final TypeEntry entry = types.get(type);
+		
+		if (!entry.countRegistered) {
+			instantiationCounts.computeIfAbsent(type, key -> entry.count);
+			entry.countRegistered = true;
+		}
+		
+		entry.count.increment();
+		
+		final Callback<Class<?>, Object> injector = customInjector;
+		final long start = ViewLoadTracing.getInstance().startPhase();
+		
+		try {
+			if (injector != null) {
+				return (T) injector.call(type);
+			} else {
+				return (T) entry.newInstance();
 			}
+		} finally {
+			ViewLoadTracing.getInstance().finishPhase(ViewLoadPhase.DEPENDENCY_INJECTION, type, start);
 		}
 	}
 	
+	/**
+	 * @return the number of instances that were requested per class since the start of the application.
+	 */
+	public Map<Class<?>, Long> getInstantiationCounts() {
+		final Map<Class<?>, Long> result = new HashMap<>();
+		
+		synchronized (instantiationCounts) {
+			instantiationCounts.forEach((type, count) -> result.put(type, count.sum()));
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * See {@link #setCustomInjector(javafx.util.Callback)} for more details.
 	 * 
@@ -96,4 +155,86 @@ public class DependencyInjector {
 		return customInjector != null;
 	}
 	
+	/**
+	 * The cached information of a single class.
+	 */
+	private static class TypeEntry {
+		
+		private final LongAdder count = new LongAdder();
+		
+		private volatile boolean countRegistered = false;
+		
+		private final Class<?> type;
+		
+		/**
+		 * The no-arg constructor or <code>null</code> if it isn't accessible. It's resolved lazily because it isn't
+		 * needed when a custom injector is used.
+		 */
+		private MethodHandle constructor;
+		private volatile boolean constructorResolved = false;
+		
+		TypeEntry(Class<?> type) {
+			this.type = type;
+		}
+		
+		Object newInstance() {
+			if (!constructorResolved) {
+				constructor = resolveConstructor();
+				constructorResolved = true;
+			}
+			
+			if (constructor == null) {
+				return newInstanceReflectively();
+			}
+			
+			try {
+				return constructor.invokeExact();
+			} catch (Throwable e) {
+				// like Class.newInstance the exceptions of the constructor are thrown unchanged, even checked ones
+				throw TypeEntry.<RuntimeException> sneakyThrow(e);
+			}
+		}
+		
+		/**
+		 * Reports the problem the same way as Class.newInstance does.
+		 */
+		private Object newInstanceReflectively() {
+			try {
+				return type.getDeclaredConstructor().newInstance();
+			} catch (NoSuchMethodException e) {
+				final InstantiationException instantiationException = new InstantiationException(type.getName());
+				instantiationException.initCause(e);
+				throw cannotInstantiate(instantiationException);
+			} catch (InstantiationException | IllegalAccessException e) {
+				throw cannotInstantiate(e);
+			} catch (InvocationTargetException e) {
+				throw TypeEntry.<RuntimeException> sneakyThrow(e.getCause());
+			}
+		}
+		
+		private RuntimeException cannotInstantiate(ReflectiveOperationException cause) {
+			return new RuntimeException("Can't create instance of type " + type.getName() +
+					". Make sure that the class has a public no-arg constructor.", cause);
+		}
+		
+		@SuppressWarnings("unchecked")
+		private static <T extends Throwable> T sneakyThrow(Throwable throwable) throws T {
+			throw (T) throwable;
+		}
+		
+		private MethodHandle resolveConstructor() {
+			if (Modifier.isAbstract(type.getModifiers())) {
+				return null;
+			}
+			
+			try {
+				// the lookup has the same access rights as Class.newInstance called by this class.
+				return MethodHandles.lookup().findConstructor(type, MethodType.methodType(void.class))
+						.asType(CONSTRUCTOR_TYPE);
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				LOG.trace("No accessible no-arg constructor found for [{}]", type, e);
+				return null;
+			}
+		}
+	}
 }
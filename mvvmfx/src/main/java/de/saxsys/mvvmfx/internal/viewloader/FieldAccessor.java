@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+/**
+ * This class is used to read and write the value of a specific field.
+ * <p>
+ * The default implementation resolves a {@link MethodHandle} for the getter and the setter of the field once and
+ * invokes these handles directly afterwards. In contrast to {@link ReflectionUtils#accessMember} there is no need to
+ * change the accessibility of the field for every single access.
+ * <p>
+ * If there is a {@link GeneratedInjector} for the declaring class of the field that covers the field, the generated
+ * code is used instead. If no method handles can be created (f.e. when a security manager prevents access or when the
+ * field is final) a reflection based fallback is used that works the same way as {@link ReflectionUtils#accessMember}.
+ * <p>
+ * Accessors are cached together with the other {@link InjectionMetadata} of the declaring class. Use
+ * {@link #of(Field)} to get an instance.
+ */
+abstract class FieldAccessor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FieldAccessor.class);
+
+	/**
+	 * @param field
+	 *            the field that should be accessed.
+	 * @return the cached accessor for the given field.
+	 */
+	static FieldAccessor of(Field field) {
+		return InjectionMetadata.of(field.getDeclaringClass()).getFieldAccessor(field);
+	}
+
+	/**
+	 * Creates a new accessor for the given field. If the given generated injector can access the field, it is used.
+	 * Otherwise if possible a method handle based accessor is created or else the reflection based fallback is used.
+	 *
+	 * @param generatedInjector
+	 *            the generated injector of the declaring class of the field. May be <code>null</code>.
+	 */
+	static FieldAccessor create(Field field, GeneratedInjector generatedInjector) {
+		if (generatedInjector != null && generatedInjector.canAccessField(field.getName())) {
+			return new GeneratedFieldAccessor(generatedInjector, field.getName());
+		}
+
+		try {
+			return new MethodHandleFieldAccessor(field);
+		} catch (IllegalAccessException | RuntimeException e) {
+			LOG.debug("Can't create method handles for the field [{}]. Falling back to reflection.", field, e);
+			return new ReflectionFieldAccessor(field);
+		}
+	}
+
+	/**
+	 * @param target
+	 *            the instance of which the field value is read.
+	 * @return the current value of the field.
+	 */
+	abstract Object get(Object target) throws Exception;
+
+	/**
+	 * @param target
+	 *            the instance of which the field will be set.
+	 * @param value
+	 *            the new value of the field.
+	 */
+	abstract void set(Object target, Object value) throws Exception;
+
+
+	/**
+	 * Accessor that delegates to code that was generated at compile time.
+	 */
+	static class GeneratedFieldAccessor extends FieldAccessor {
+
+		private final GeneratedInjector injector;
+		private final String fieldName;
+
+		GeneratedFieldAccessor(GeneratedInjector injector, String fieldName) {
+			this.injector = injector;
+			this.fieldName = fieldName;
+		}
+
+		@Override
+		Object get(Object target) {
+			return injector.getField(target, fieldName);
+		}
+
+		@Override
+		void set(Object target, Object value) {
+			injector.setField(target, fieldName, value);
+		}
+	}
+
+	/**
+	 * Accessor that uses method handles that are resolved once at creation time.
+	 */
+	static class MethodHandleFieldAccessor extends FieldAccessor {
+
+		private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+		private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+
+		MethodHandleFieldAccessor(Field field) throws IllegalAccessException {
+			// We make a copy of the field accessible so that the accessibility of the
+			// (shared) field instance isn't changed.
+			final Field accessibleField = AccessController.doPrivileged((PrivilegedAction<Field>) () -> {
+				try {
+					final Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+					copy.setAccessible(true);
+					return copy;
+				} catch (NoSuchFieldException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+			MethodHandle getterHandle = lookup.unreflectGetter(accessibleField);
+			MethodHandle setterHandle = lookup.unreflectSetter(accessibleField);
+
+			if (Modifier.isStatic(accessibleField.getModifiers())) {
+				getterHandle = MethodHandles.dropArguments(getterHandle, 0, Object.class);
+				setterHandle = MethodHandles.dropArguments(setterHandle, 0, Object.class);
+			}
+
+			this.getter = getterHandle.asType(GETTER_TYPE);
+			this.setter = setterHandle.asType(SETTER_TYPE);
+		}
+
+		@Override
+		Object get(Object target) throws Exception {
+			try {
+				return (Object) getter.invokeExact(target);
+			} catch (Throwable throwable) {
+				throw rethrow(throwable);
+			}
+		}
+
+		@Override
+		void set(Object target, Object value) throws Exception {
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable throwable) {
+				throw rethrow(throwable);
+			}
+		}
+
+		private static Exception rethrow(Throwable throwable) {
+			if (throwable instanceof Error) {
+				throw (Error) throwable;
+			}
+			if (throwable instanceof Exception) {
+				return (Exception) throwable;
+			}
+			return new UndeclaredThrowableException(throwable);
+		}
+	}
+
+	/**
+	 * Fallback accessor that makes the field accessible for every single access, like
+	 * {@link ReflectionUtils#accessMember} does.
+	 */
+	static class ReflectionFieldAccessor extends FieldAccessor {
+
+		private final Field field;
+
+		ReflectionFieldAccessor(Field field) {
+			this.field = field;
+		}
+
+		@Override
+		Object get(Object target) throws Exception {
+			return ReflectionUtils.accessMember(field, () -> field.get(target),
+					"Cannot get the field [" + field.getName() + "] of instance [" + target + "]");
+		}
+
+		@Override
+		void set(Object target, Object value) throws Exception {
+			ReflectionUtils.accessMember(field, () -> field.set(target, value),
+					"Cannot set the field [" + field.getName() + "] of instance [" + target + "] to value [" + value + "]");
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import javafx.event.Event;
+import javafx.fxml.FXML;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The fields and methods of a FXML controller class that are used by {@link CompiledFxmlContext}. The lookup follows
+ * the rules of the {@link javafx.fxml.FXMLLoader}: Fields and methods have to be public or annotated with {@link FXML}.
+ * Members of subclasses hide members with the same name of super classes.
+ * <p>
+ * Like {@link InjectionMetadata} the metadata is computed only once per controller class.
+ */
+final class FxmlControllerMetadata {
+
+	private static final String INITIALIZE_METHOD = "initialize";
+
+	private static final ClassValue<FxmlControllerMetadata> CACHE = new ClassValue<FxmlControllerMetadata>() {
+		@Override
+		protected FxmlControllerMetadata computeValue(Class<?> type) {
+			return new FxmlControllerMetadata(type);
+		}
+	};
+
+	private final Map<String, Field> fields;
+	private final Map<String, Method> eventHandlerMethods;
+	private final Method initializeMethod;
+
+	private FxmlControllerMetadata(Class<?> type) {
+		final Map<String, Field> fields = new HashMap<>();
+		final Map<String, Method> eventHandlerMethods = new HashMap<>();
+		Method initializeMethod = null;
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && isVisibleForFxml(field.getModifiers(), field.isAnnotationPresent(FXML.class))) {
+					fields.putIfAbsent(field.getName(), field);
+				}
+			}
+
+			for (Method method : current.getDeclaredMethods()) {
+				if (Modifier.isStatic(method.getModifiers()) || !isVisibleForFxml(method.getModifiers(), method.isAnnotationPresent(FXML.class))) {
+					continue;
+				}
+
+				final Class<?>[] parameterTypes = method.getParameterTypes();
+
+				if (INITIALIZE_METHOD.equals(method.getName()) && parameterTypes.length == 0) {
+					if (initializeMethod == null) {
+						initializeMethod = makeAccessible(method);
+					}
+				} else if (parameterTypes.length == 0
+						|| (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0]))) {
+					eventHandlerMethods.putIfAbsent(method.getName(), makeAccessible(method));
+				}
+			}
+		}
+
+		this.fields = Collections.unmodifiableMap(fields);
+		this.eventHandlerMethods = Collections.unmodifiableMap(eventHandlerMethods);
+		this.initializeMethod = initializeMethod;
+	}
+
+	static FxmlControllerMetadata of(Class<?> type) {
+		return CACHE.get(type);
+	}
+
+	/**
+	 * @return the field of the controller that receives the object with the given <code>fx:id</code>.
+	 */
+	Optional<Field> getField(String fxId) {
+		return Optional.ofNullable(fields.get(fxId));
+	}
+
+	/**
+	 * @return the method that is referenced by an event handler attribute like <code>onAction="#methodName"</code>.
+	 */
+	Optional<Method> getEventHandlerMethod(String methodName) {
+		return Optional.ofNullable(eventHandlerMethods.get(methodName));
+	}
+
+	/**
+	 * @return the no-arg <code>initialize</code> method of the controller.
+	 */
+	Optional<Method> getInitializeMethod() {
+		return Optional.ofNullable(initializeMethod);
+	}
+
+	private static boolean isVisibleForFxml(int modifiers, boolean annotatedWithFxml) {
+		return Modifier.isPublic(modifiers) || annotatedWithFxml;
+	}
+
+	private static Method makeAccessible(Method method) {
+		// getDeclaredMethods returns new copies of the methods so we don't change the accessibility of shared instances.
+		return AccessController.doPrivileged((PrivilegedAction<Method>) () -> {
+			method.setAccessible(true);
+			return method;
+		});
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to find the URL of the FXML file of a view.
+ * <p>
+ * {@link Class#getResource(String)} searches all entries of the classpath which takes some time for big classpaths.
+ * Therefore the annotation processor of <code>mvvmfx-apt</code> writes an index ({@value #INDEX_FILE}) of all
+ * FxmlView classes and the locations of their FXML files. The index is located in the same classpath entry as the
+ * views, so the URL of an indexed FXML file is built relative to the URL of the index without searching the
+ * classpath. The indexes are loaded once per {@link ClassLoader}.
+ * <p>
+ * FXML files that aren't indexed are resolved with {@link Class#getResource(String)} once and cached per class.
+ */
+final class FxmlLocations {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FxmlLocations.class);
+
+	static final String INDEX_FILE = "META-INF/mvvmfx/fxml-index.properties";
+
+	private static final Map<ClassLoader, Map<String, IndexEntry>> INDEXES = new WeakHashMap<>();
+
+	private static final ClassValue<Map<String, URL>> RESOLVED_LOCATIONS = new ClassValue<Map<String, URL>>() {
+		@Override
+		protected Map<String, URL> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private FxmlLocations() {
+	}
+
+	/**
+	 * @param resourceLoaderClass
+	 *            the class that is used to load the FXML file.
+	 * @param resourcePath
+	 *            the absolute classpath location of the FXML file.
+	 * @return the URL of the FXML file or <code>null</code> if there is no such file.
+	 */
+	static URL find(Class<?> resourceLoaderClass, String resourcePath) {
+		final ClassLoader classLoader = resourceLoaderClass.getClassLoader();
+
+		if (classLoader != null) {
+			final IndexEntry entry = getIndex(classLoader).get(resourceLoaderClass.getName());
+
+			// the index contains the default location of the view, another file may be requested explicitly.
+			if (entry != null && entry.resourcePath.equals(resourcePath)) {
+				return entry.location;
+			}
+		}
+
+		final Map<String, URL> resolvedLocations = RESOLVED_LOCATIONS.get(resourceLoaderClass);
+		URL location = resolvedLocations.get(resourcePath);
+
+		if (location == null) {
+			location = resourceLoaderClass.getResource(resourcePath);
+
+			// missing files aren't cached so that they are reported every time.
+			if (location != null) {
+				resolvedLocations.put(resourcePath, location);
+			}
+		}
+
+		return location;
+	}
+
+	private static Map<String, IndexEntry> getIndex(ClassLoader classLoader) {
+		synchronized (INDEXES) {
+			return INDEXES.computeIfAbsent(classLoader, FxmlLocations::loadIndex);
+		}
+	}
+
+	/**
+	 * @return the indexed FXML files of all classpath entries of the given classLoader by the name of the view class.
+	 */
+	static Map<String, IndexEntry> loadIndex(ClassLoader classLoader) {
+		final Map<String, IndexEntry> index = new HashMap<>();
+
+		try {
+			final Enumeration<URL> indexFiles = classLoader.getResources(INDEX_FILE);
+
+			while (indexFiles.hasMoreElements()) {
+				final URL indexFile = indexFiles.nextElement();
+
+				try {
+					readIndexFile(indexFile, index);
+				} catch (IOException e) {
+					LOG.warn("The FXML index [{}] can't be read.", indexFile, e);
+				}
+			}
+		} catch (IOException e) {
+			LOG.warn("The FXML indexes can't be loaded. The FXML files are searched in the classpath instead.", e);
+		}
+
+		if (!index.isEmpty()) {
+			LOG.debug("Found {} indexed FXML files.", index.size());
+		}
+
+		return Collections.unmodifiableMap(index);
+	}
+
+	private static void readIndexFile(URL indexFile, Map<String, IndexEntry> index) throws IOException {
+		final Properties properties = new Properties();
+
+		try (InputStream inputStream = indexFile.openStream()) {
+			properties.load(inputStream);
+		}
+
+		// the root of the classpath entry that contains the index file.
+		final String indexFileUrl = indexFile.toExternalForm();
+		final String root = indexFileUrl.substring(0, indexFileUrl.length() - INDEX_FILE.length());
+
+		for (String viewName : properties.stringPropertyNames()) {
+			final String resourcePath = properties.getProperty(viewName);
+
+			try {
+				// the first index in the classpath wins like it is done by Class.getResource.
+				index.putIfAbsent(viewName, new IndexEntry(resourcePath, new URL(root + resourcePath.substring(1))));
+			} catch (MalformedURLException | StringIndexOutOfBoundsException e) {
+				LOG.warn("The FXML index [{}] contains the invalid entry [{}={}].", indexFile, viewName, resourcePath);
+			}
+		}
+	}
+
+	static final class IndexEntry {
+		final String resourcePath;
+		final URL location;
+
+		IndexEntry(String resourcePath, URL location) {
+			this.resourcePath = resourcePath;
+			this.location = location;
+		}
+	}
+}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlDocument;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlStatement;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.UnsupportedFxmlException;
+import javafx.beans.property.StringProperty;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A FXML file that was parsed once at runtime. It is the runtime counterpart of the classes that are generated by the
+ * <code>mvvmfx-fxml-compiler-maven-plugin</code>: both use the {@link FxmlDocument} of the
+ * {@link de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlParser}. Instead of generating source code, the resolved
+ * constructors, setters and converted attribute values are combined into {@link Expression}s and {@link Statement}s
+ * and every call of {@link #build(CompiledFxmlContext)} only creates a fresh object graph from these prepared steps.
+ * <p>
+ * Instances are immutable and can be used by multiple threads. They are cached by the {@link FxmlTemplateCache}.
+ */
+final class FxmlTemplate implements CompiledFxml {
+
+	/**
+	 * Creates a value, f.e. an instance element or a converted attribute value.
+	 */
+	@FunctionalInterface
+	interface Expression {
+		Object evaluate(CompiledFxmlContext context) throws Exception;
+
+		static Expression constant(Object value) {
+			return context -> value;
+		}
+	}
+
+	/**
+	 * Modifies a value that was created by an {@link Expression}, f.e. sets a property.
+	 */
+	@FunctionalInterface
+	interface Statement {
+		void execute(CompiledFxmlContext context, Object target) throws Exception;
+	}
+
+	private final String location;
+	private final Expression root;
+	private final List<String> includes;
+	private final Class<?> controllerType;
+
+	FxmlTemplate(String location, Expression root, List<String> includes, Class<?> controllerType) {
+		this.location = location;
+		this.root = root;
+		this.includes = Collections.unmodifiableList(includes);
+		this.controllerType = controllerType == null ? Void.class : controllerType;
+	}
+
+	/**
+	 * @param document
+	 *            the parsed FXML file.
+	 * @return the template that creates the object graph of the document.
+	 * @throws UnsupportedFxmlException
+	 *             if a member of the document can't be accessed reflectively.
+	 */
+	static FxmlTemplate of(FxmlDocument document) throws UnsupportedFxmlException {
+		final Expression root = document.getRoot().accept(new ExpressionTranslator());
+		return new FxmlTemplate(document.getLocation(), root, document.getIncludes(), document.getControllerType());
+	}
+
+	@Override
+	public Object build(CompiledFxmlContext context) throws Exception {
+		return root.evaluate(context);
+	}
+
+	@Override
+	public List<String> getIncludes() {
+		return includes;
+	}
+
+	@Override
+	public Class<?> getControllerType() {
+		return controllerType;
+	}
+
+	@Override
+	public String toString() {
+		return "FxmlTemplate[" + location + "]";
+	}
+
+	/**
+	 * The parser only resolves members of public classes. Nevertheless a member may be declared in a class that can't
+	 * be accessed from this package, f.e. an inherited method of a public class from another module.
+	 */
+	private static <T extends AccessibleObject> T accessible(T member) throws UnsupportedFxmlException {
+		try {
+			member.setAccessible(true);
+			return member;
+		} catch (RuntimeException e) {
+			// a SecurityException or, on Java 9 and newer, an InaccessibleObjectException.
+			throw new UnsupportedFxmlException(member + " can't be accessed: " + e.getMessage());
+		}
+	}
+
+	private static List<Expression> translate(List<FxmlValue> values) throws UnsupportedFxmlException {
+		final List<Expression> expressions = new ArrayList<>();
+
+		for (FxmlValue value : values) {
+			expressions.add(value.accept(new ExpressionTranslator()));
+		}
+
+		return expressions;
+	}
+
+	private static Object[] evaluate(CompiledFxmlContext context, List<Expression> expressions) throws Exception {
+		final Object[] values = new Object[expressions.size()];
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = expressions.get(i).evaluate(context);
+		}
+
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void addAll(CompiledFxmlContext context, List<?> list, List<Expression> expressions)
+			throws Exception {
+		for (Expression expression : expressions) {
+			((List<Object>) list).add(expression.evaluate(context));
+		}
+	}
+
+	private static class ExpressionTranslator implements FxmlValue.Visitor<Expression> {
+
+		@Override
+		public Expression visitLiteral(FxmlValue.Literal value) {
+			return Expression.constant(value.getValue());
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Expression visitEnumConstant(FxmlValue.EnumConstant value) {
+			return Expression.constant(Enum.valueOf((Class) value.getType(), value.getName()));
+		}
+
+		@Override
+		public Expression visitValueOf(FxmlValue.ValueOf value) throws UnsupportedFxmlException {
+			// the result is not shared between the created object graphs because it may be mutable.
+			final Method method = accessible(value.getMethod());
+			final String argument = value.getArgument();
+			return context -> method.invoke(null, argument);
+		}
+
+		@Override
+		public Expression visitConstant(FxmlValue.Constant value) throws UnsupportedFxmlException {
+			final Field field = accessible(value.getField());
+			return context -> field.get(null);
+		}
+
+		@Override
+		public Expression visitFactoryCall(FxmlValue.FactoryCall value) throws UnsupportedFxmlException {
+			final Method method = accessible(value.getMethod());
+			return context -> method.invoke(null);
+		}
+
+		@Override
+		public Expression visitNewInstance(FxmlValue.NewInstance value) throws UnsupportedFxmlException {
+			final Constructor<?> constructor = accessible(value.getConstructor());
+			final List<Expression> arguments = translate(value.getArguments());
+			return context -> constructor.newInstance(evaluate(context, arguments));
+		}
+
+		@Override
+		public Expression visitRoot(FxmlValue.Root value) {
+			final Class<?> type = value.getType();
+			return context -> type.cast(context.getRoot());
+		}
+
+		@Override
+		public Expression visitInclude(FxmlValue.Include value) {
+			final String source = value.getSource();
+			final String fxId = value.getFxId();
+			return context -> context.include(source, fxId);
+		}
+
+		@Override
+		public Expression visitResourceString(FxmlValue.ResourceString value) {
+			final String key = value.getKey();
+			return context -> context.getResourceString(key);
+		}
+
+		@Override
+		public Expression visitEventHandler(FxmlValue.EventHandlerReference value) {
+			final String methodName = value.getMethodName();
+			return context -> context.createEventHandler(methodName);
+		}
+
+		@Override
+		public Expression visitInstance(FxmlValue.Instance value) throws UnsupportedFxmlException {
+			final Class<?> controllerType = value.getControllerType();
+			final Expression creation = value.getCreation().accept(this);
+			final List<Statement> statements = new ArrayList<>();
+
+			for (FxmlStatement statement : value.getStatements()) {
+				statements.add(statement.accept(new StatementTranslator()));
+			}
+
+			// like the FXMLLoader we create the controller before the root element.
+			return context -> {
+				if (controllerType != null) {
+					context.createController(controllerType);
+				}
+
+				final Object instance = creation.evaluate(context);
+				for (Statement statement : statements) {
+					statement.execute(context, instance);
+				}
+				return instance;
+			};
+		}
+	}
+
+	private static class StatementTranslator implements FxmlStatement.Visitor<Statement> {
+
+		@Override
+		public Statement visitSetProperty(FxmlStatement.SetProperty statement) throws UnsupportedFxmlException {
+			final Method setter = accessible(statement.getSetter());
+			final Expression value = statement.getValue().accept(new ExpressionTranslator());
+			return (context, target) -> setter.invoke(target, value.evaluate(context));
+		}
+
+		@Override
+		public Statement visitSetStaticProperty(FxmlStatement.SetStaticProperty statement)
+				throws UnsupportedFxmlException {
+			final Method setter = accessible(statement.getSetter());
+			final Expression value = statement.getValue().accept(new ExpressionTranslator());
+			return (context, target) -> setter.invoke(null, target, value.evaluate(context));
+		}
+
+		@Override
+		public Statement visitAddToList(FxmlStatement.AddToList statement) throws UnsupportedFxmlException {
+			final List<Expression> values = translate(statement.getValues());
+
+			if (statement.getGetter() == null) {
+				return (context, target) -> addAll(context, (List<?>) target, values);
+			}
+
+			final Method getter = accessible(statement.getGetter());
+			return (context, target) -> addAll(context, (List<?>) getter.invoke(target), values);
+		}
+
+		@Override
+		public Statement visitBindResourceString(FxmlStatement.BindResourceString statement)
+				throws UnsupportedFxmlException {
+			final Method propertyGetter = accessible(statement.getPropertyGetter());
+			final String key = statement.getKey();
+
+			// the property is bound if the resource depends on the locale.
+			return (context, target) -> context.setResourceString((StringProperty) propertyGetter.invoke(target), key);
+		}
+
+		@Override
+		public Statement visitRegister(FxmlStatement.Register statement) {
+			final String fxId = statement.getFxId();
+			return (context, target) -> context.register(fxId, target);
+		}
+	}
+}
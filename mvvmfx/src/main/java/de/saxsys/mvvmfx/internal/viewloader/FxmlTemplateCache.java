@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.FxmlTemplateCacheStatistics;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlParser;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.UnsupportedFxmlException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A size-bounded cache of parsed FXML files ({@link FxmlTemplate}) that are keyed by the resolved URL of the FXML
+ * file. When the cache is full, the least recently used template is evicted.
+ * <p>
+ * FXML files that can't be represented by a template or can't be parsed at all are cached too, so that they aren't
+ * parsed again before they are loaded with the {@link javafx.fxml.FXMLLoader}.
+ * <p>
+ * The cache is disabled by default and can be enabled with
+ * {@link de.saxsys.mvvmfx.MvvmFX#setFxmlTemplateCacheSize(int)}.
+ */
+public final class FxmlTemplateCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FxmlTemplateCache.class);
+
+	private static final FxmlTemplateCache SINGLETON = new FxmlTemplateCache();
+
+	private final Map<String, CacheEntry> templates = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+			if (size() > maximumSize) {
+				evictionCount++;
+				return true;
+			}
+			return false;
+		}
+	};
+
+	private int maximumSize = 0;
+
+	private long hitCount = 0;
+	private long missCount = 0;
+	private long evictionCount = 0;
+
+	private FxmlTemplateCache() {
+	}
+
+	public static FxmlTemplateCache getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * @param maximumSize
+	 *            the maximum number of cached FXML files. <code>0</code> disables the cache.
+	 */
+	public synchronized void setMaximumSize(int maximumSize) {
+		if (maximumSize < 0) {
+			throw new IllegalArgumentException("The maximum size of the FXML template cache must not be negative.");
+		}
+
+		this.maximumSize = maximumSize;
+
+		final Iterator<CacheEntry> iterator = templates.values().iterator();
+		while (templates.size() > maximumSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+			evictionCount++;
+		}
+	}
+
+	public synchronized FxmlTemplateCacheStatistics getStatistics() {
+		return new FxmlTemplateCacheStatistics(hitCount, missCount, evictionCount, templates.size(), maximumSize);
+	}
+
+	/**
+	 * Removes all cached templates and resets the statistics.
+	 */
+	public synchronized void clear() {
+		templates.clear();
+		hitCount = 0;
+		missCount = 0;
+		evictionCount = 0;
+	}
+
+	/**
+	 * @param location
+	 *            the resolved URL of the FXML file.
+	 * @param classLoader
+	 *            the classLoader that is used to resolve the classes of the FXML file.
+	 * @return the template for the FXML file or an empty optional if the cache is disabled or the FXML file can't be
+	 *         represented by a template.
+	 */
+	Optional<CompiledFxml> find(URL location, ClassLoader classLoader) {
+		// the external form is used as key because URL.equals may resolve the host name.
+		final String key = location.toExternalForm();
+
+		synchronized (this) {
+			if (maximumSize == 0) {
+				return Optional.empty();
+			}
+
+			final CacheEntry entry = templates.get(key);
+
+			if (entry != null && entry.classLoader.get() == classLoader) {
+				hitCount++;
+				return entry.template;
+			}
+
+			missCount++;
+		}
+
+		final Optional<CompiledFxml> template;
+
+		try (InputStream input = location.openStream()) {
+			template = Optional.of(FxmlTemplate.of(FxmlParser.parse(input, location.toExternalForm(), classLoader)));
+		} catch (UnsupportedFxmlException e) {
+			LOG.debug("The FXML file [{}] is loaded with the FXMLLoader: {}", key, e.getMessage());
+			return cache(key, classLoader, Optional.empty());
+		} catch (IOException | RuntimeException e) {
+			// the FXMLLoader will report the problem. The file isn't read again until it is evicted.
+			LOG.debug("The FXML file [{}] can't be parsed.", key, e);
+			return cache(key, classLoader, Optional.empty());
+		}
+
+		return cache(key, classLoader, template);
+	}
+
+	private synchronized Optional<CompiledFxml> cache(String key, ClassLoader classLoader,
+			Optional<CompiledFxml> template) {
+		if (maximumSize > 0) {
+			templates.put(key, new CacheEntry(classLoader, template));
+		}
+		return template;
+	}
+
+	/**
+	 * The classLoader is only referenced weakly so that an entry doesn't keep a class loader (for example the one of a
+	 * redeployed plugin) alive on its own. A template that references classes of the class loader still keeps it alive
+	 * until the entry is evicted or the cache is cleared.
+	 */
+	private static class CacheEntry {
+		final WeakReference<ClassLoader> classLoader;
+		final Optional<CompiledFxml> template;
+
+		CacheEntry(ClassLoader classLoader, Optional<CompiledFxml> template) {
+			this.classLoader = new WeakReference<>(classLoader);
+			this.template = template;
+		}
+	}
+}
@@ -17,13 +17,12 @@ package de.saxsys.mvvmfx.internal.viewloader;
 
 import de.saxsys.mvvmfx.Context;
 import de.saxsys.mvvmfx.Scope;
+import de.saxsys.mvvmfx.ViewLoadPhase;
 import de.saxsys.mvvmfx.ViewModel;
 import de.saxsys.mvvmfx.ViewTuple;
 import de.saxsys.mvvmfx.FxmlPath;
 import de.saxsys.mvvmfx.internal.ContextImpl;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.value.ObservableBooleanValue;
+import de.saxsys.mvvmfx.internal.FlightRecorderEvent;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.util.BuilderFactory;
@@ -38,6 +37,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * This viewLoader is used to load views that are implementing
@@ -49,6 +49,13 @@ public class FxmlViewLoader {
 
     private static final Logger LOG = LoggerFactory.getLogger(FxmlViewLoader.class);
 
+    private static final ClassValue<String> FXML_PATHS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> viewType) {
+            return createFxmlPath(viewType);
+        }
+    };
+
     /**
      * Load the viewTuple by it`s ViewType.
      *
@@ -78,7 +85,7 @@ public class FxmlViewLoader {
 			ViewModelType viewModel, Context context, Collection<Scope> providedScopes,
 			List<BuilderFactory> builderFactories) {
 
-        final String pathToFXML = createFxmlPath(viewType);
+        final String pathToFXML = FXML_PATHS.get(viewType);
         return loadFxmlViewTuple(viewType, pathToFXML, resourceBundle, codeBehind, root, viewModel, context, providedScopes, builderFactories);
     }
 
@@ -99,11 +106,13 @@ public class FxmlViewLoader {
      * Example 2: MainView (located in the default package) will be transformed
      * to "/MainView.fxml"
      *
+     * The result is cached per view class, see {@link #FXML_PATHS}.
+     *
      * @param viewType
      *            the view class type.
      * @return the path to the fxml file as string.
      */
-    private String createFxmlPath(Class<?> viewType) {
+    private static String createFxmlPath(Class<?> viewType) {
         final StringBuilder pathBuilder = new StringBuilder();
 
         final FxmlPath pathAnnotation = viewType.getDeclaredAnnotation(FxmlPath.class); //Get annotation from view
@@ -116,7 +125,7 @@ public class FxmlViewLoader {
             pathBuilder.append("/");
 
             if (viewType.getPackage() != null) {
-                pathBuilder.append(viewType.getPackage().getName().replaceAll("\\.", "/"));
+                pathBuilder.append(viewType.getPackage().getName().replace('.', '/'));
                 pathBuilder.append("/");
             }
 
@@ -202,29 +211,91 @@ public class FxmlViewLoader {
 			final Class<?> resourceLoader, final String resource, ResourceBundle resourceBundle, final ViewType codeBehind, final Object root,
 			ViewModelType viewModel, Context parentContext, Collection<Scope> providedScopes,
 			List<BuilderFactory> builderFactories) {
+        final ViewLoadTracing tracing = ViewLoadTracing.getInstance();
+        final ViewLoadTracing.Load load = tracing.startLoad(resource);
+        final Object flightRecorderEvent = FlightRecorderEvent.VIEW_LOAD.begin();
+        Class<?> loadedType = null;
+        Class<?> loadedViewModelType = null;
+
         try {
+            long start = tracing.startPhase();
 
             // FIXME Woanders hin?
             ContextImpl context = ViewLoaderScopeUtils.prepareContext(parentContext, providedScopes);
             //////////////////////////////////////////////////////////////////////
 
-            // for the SceneLifecycle we need to know when the view is put into the scene
-            BooleanProperty viewInSceneProperty = new SimpleBooleanProperty();
+            tracing.finishPhase(ViewLoadPhase.CONTEXT_PREPARATION, null, start);
+
+            // for the SceneLifecycle we need to know when the view is put into the scene.
+            // The lifecycle also collects all views and viewModels of this load for ViewTuple.dispose().
+            final ViewLifecycle lifecycle = new ViewLifecycle();
+
+            start = tracing.startPhase();
+
+            final Class<?> resourceLoaderClass = resourceLoader == null ? FxmlViewLoader.class : resourceLoader;
+            final String resourcePath = getAbsoluteResourcePath(resourceLoaderClass, resource);
+            final URL location = FxmlLocations.find(resourceLoaderClass, resourcePath);
+            if (location == null) {
+                throw new IOException("Error loading FXML - can't load from given resourcepath: " + resource);
+            }
+
+            tracing.finishPhase(ViewLoadPhase.FXML_RESOLUTION, resourceLoaderClass, start);
+
+            // When the user provides a codeBehind instance we take care of the
+            // injection of the viewModel to this
+            // controller here.
+            if (codeBehind != null) {
+                // the controller factory must not treat the first controller as the one of this fxml file.
+                if (load != null) {
+                    load.controllerCreated = true;
+                }
+
+                if (viewModel == null) {
+                    context = handleInjection(codeBehind, resourceBundle, context, lifecycle);
+                } else {
+                    context = handleInjection(codeBehind, resourceBundle, viewModel, context, lifecycle);
+                }
+            }
+
+            // the sub views get the context with the scopes of the codeBehind's viewModel.
+            final Callback<Class<?>, Object> controllerFactory = createControllerFactory(resourceBundle, codeBehind, viewModel, context, lifecycle);
+
+            final ViewType loadedController;
+            final Parent loadedRoot;
+
+            start = tracing.startPhase();
+
+            final Optional<CompiledFxml> compiledFxml = findCompiledFxml(resourceLoaderClass, resourcePath, location, builderFactories);
+
+            if (compiledFxml.isPresent()) {
+                final CompiledFxmlContext compiledFxmlContext = new CompiledFxmlContext(resourcePath, location,
+                        resourceBundle, controllerFactory, codeBehind, root, resourceLoaderClass.getClassLoader());
+
+                loadedRoot = (Parent) compiledFxmlContext.load(compiledFxml.get());
+                // the controller was created by the controller factory for the type of the code behind.
+                @SuppressWarnings("unchecked")
+                final ViewType compiledController = (ViewType) compiledFxmlContext.getController();
+                loadedController = compiledController;
+            } else {
+                final FXMLLoader loader = createFxmlLoader(location, resourceBundle, codeBehind, root, controllerFactory, builderFactories);
 
-            final FXMLLoader loader = createFxmlLoader(resourceLoader, resource, resourceBundle, codeBehind, root, viewModel, context, viewInSceneProperty, builderFactories);
+                loader.load();
 
-            loader.load();
+                loadedController = loader.getController();
+                loadedRoot = loader.getRoot();
+            }
 
-            final ViewType loadedController = loader.getController();
-            final Parent loadedRoot = loader.getRoot();
+            tracing.finishPhase(ViewLoadPhase.PARSE, resourceLoaderClass, start);
 
-            viewInSceneProperty.bind(loadedRoot.sceneProperty().isNotNull());
+            lifecycle.setRoot(loadedRoot);
 
             if (loadedController == null) {
                 throw new IOException("Could not load the controller for the View " + resource
                         + " maybe your missed the fx:controller in your fxml?");
             }
 
+            loadedType = loadedController.getClass();
+
             // the actually used ViewModel instance. We need this so we can
             // return it in the ViewTuple
             ViewModelType actualViewModel;
@@ -267,24 +338,66 @@ public class FxmlViewLoader {
                 // context);
             }
 
-            return new ViewTuple<>(loadedController, loadedRoot, actualViewModel);
+            if (actualViewModel != null) {
+                loadedViewModelType = actualViewModel.getClass();
+            }
+
+            lifecycle.register(loadedController, actualViewModel);
 
-        } catch (final IOException ex) {
+            return new ViewTuple<>(loadedController, loadedRoot, actualViewModel, lifecycle);
+
+        } catch (final RuntimeException ex) {
+            throw ex;
+        } catch (final Exception ex) {
             throw new RuntimeException(ex);
+        } finally {
+            tracing.finishLoad(load, loadedType);
+            if (flightRecorderEvent != null) {
+                FlightRecorderEvent.VIEW_LOAD.commit(flightRecorderEvent, loadedType, loadedViewModelType, resource);
+            }
         }
     }
 
-    private FXMLLoader createFxmlLoader(Class<?> resourceLoader, String resource, ResourceBundle resourceBundle, View codeBehind, Object root,
-			ViewModel viewModel, ContextImpl context, ObservableBooleanValue viewInSceneProperty,
-			List<BuilderFactory> builderFactories) throws IOException {
-        // Load FXML file
+    /**
+     * A compiled FXML class (see {@link CompiledFxml}) or a cached template (see {@link FxmlTemplateCache}) is only
+     * used when no custom builder factories are defined because they can't use them.
+     */
+    private Optional<CompiledFxml> findCompiledFxml(Class<?> resourceLoaderClass, String resourcePath, URL location, List<BuilderFactory> builderFactories) {
+        if ((builderFactories != null && !builderFactories.isEmpty())
+                || GlobalBuilderFactory.getInstance().hasCustomBuilderFactories()) {
+            return Optional.empty();
+        }
+
+        final Optional<CompiledFxml> compiledFxml = CompiledFxmls.find(resourceLoaderClass.getClassLoader(), resourcePath);
+
+        if (compiledFxml.isPresent()) {
+            return compiledFxml;
+        }
+
+        return FxmlTemplateCache.getInstance().find(location, resourceLoaderClass.getClassLoader());
+    }
 
-        Class<?> resourceLoaderClass = resourceLoader == null ? FxmlViewLoader.class : resourceLoader;
-        final URL location = resourceLoaderClass.getResource(resource);
-        if (location == null) {
-            throw new IOException("Error loading FXML - can't load from given resourcepath: " + resource);
+    /**
+     * @return the absolute classpath location of the given resource which may be relative to the given class.
+     */
+    private String getAbsoluteResourcePath(Class<?> resourceLoaderClass, String resource) {
+        if (resource.startsWith("/")) {
+            return resource;
         }
 
+        final String className = resourceLoaderClass.getName();
+        final int packageEnd = className.lastIndexOf('.');
+
+        if (packageEnd < 0) {
+            return "/" + resource;
+        }
+
+        return "/" + className.substring(0, packageEnd).replace('.', '/') + "/" + resource;
+    }
+
+    private FXMLLoader createFxmlLoader(URL location, ResourceBundle resourceBundle, View codeBehind, Object root,
+			Callback<Class<?>, Object> controllerFactory, List<BuilderFactory> builderFactories) {
+        // Load FXML file
         final FXMLLoader fxmlLoader = new FXMLLoader();
 
         fxmlLoader.setRoot(root);
@@ -298,50 +411,69 @@ public class FxmlViewLoader {
 			fxmlLoader.setBuilderFactory(factory);
 		}
 
+        fxmlLoader.setControllerFactory(controllerFactory);
+
+        if (codeBehind != null) {
+            fxmlLoader.setController(codeBehind);
+        }
+
+        return fxmlLoader;
+    }
 
+    private Callback<Class<?>, Object> createControllerFactory(ResourceBundle resourceBundle, View codeBehind,
+            ViewModel viewModel, ContextImpl context, ViewLifecycle lifecycle) {
         // when the user provides a viewModel but no codeBehind, we need to use
         // the custom controller factory.
         // in all other cases the default factory can be used.
         if (viewModel != null && codeBehind == null) {
-            fxmlLoader
-                    .setControllerFactory(new ControllerFactoryForCustomViewModel(viewModel, resourceBundle, context, viewInSceneProperty));
+            return new ControllerFactoryForCustomViewModel(viewModel, resourceBundle, context, lifecycle);
         } else {
-            fxmlLoader.setControllerFactory(new DefaultControllerFactory(resourceBundle, context, viewInSceneProperty));
+            return new DefaultControllerFactory(resourceBundle, context, lifecycle);
         }
+    }
 
-        // When the user provides a codeBehind instance we take care of the
-        // injection of the viewModel to this
-        // controller here.
-        if (codeBehind != null) {
-            fxmlLoader.setController(codeBehind);
+    /**
+     * Reports the creation of a controller to the {@link ViewLoadTracing}. Every controller except the first one of a
+     * load belongs to an included fxml file and is therefore reported as a separate load.
+     */
+    private static Object traceControllerCreation(Class<?> type, Function<Class<?>, Object> controllerCreation) {
+        final ViewLoadTracing tracing = ViewLoadTracing.getInstance();
+        final ViewLoadTracing.Load subViewLoad = tracing.startControllerLoad(type);
+        final long start = tracing.startPhase();
 
-            if (viewModel == null) {
-                handleInjection(codeBehind, resourceBundle, context, viewInSceneProperty);
-            } else {
-                handleInjection(codeBehind, resourceBundle, viewModel, context, viewInSceneProperty);
-            }
+        try {
+            return controllerCreation.apply(type);
+        } finally {
+            tracing.finishPhase(ViewLoadPhase.CONTROLLER_CREATION, type, start);
+            tracing.finishLoad(subViewLoad, type);
         }
-
-        return fxmlLoader;
     }
 
     /**
      * This controller factory will try to create and inject a viewModel
      * instance to every requested controller that is a view.
      */
-    private static class DefaultControllerFactory implements Callback<Class<?>, Object> {
+    private static class DefaultControllerFactory implements CompiledFxmlContext.ForkableControllerFactory {
         private final ResourceBundle resourceBundle;
-        private final ContextImpl context;
-        private ObservableBooleanValue viewInSceneProperty;
-
-        public DefaultControllerFactory(ResourceBundle resourceBundle, ContextImpl context, ObservableBooleanValue viewInSceneProperty) {
+        /**
+         * The context with the scopes of all views that were created by this factory so far. It is replaced and not
+         * modified, so forks can share it.
+         */
+        private ContextImpl context;
+        private final ViewLifecycle lifecycle;
+
+        public DefaultControllerFactory(ResourceBundle resourceBundle, ContextImpl context, ViewLifecycle lifecycle) {
             this.resourceBundle = resourceBundle;
             this.context = context;
-            this.viewInSceneProperty = viewInSceneProperty;
+            this.lifecycle = lifecycle;
         }
 
         @Override
         public Object call(Class<?> type) {
+            return traceControllerCreation(type, this::createController);
+        }
+
+        private Object createController(Class<?> type) {
             Object controller = DependencyInjector.getInstance().getInstanceOf(type);
 
             //throw an exception if the fx:controller was of type ViewModel
@@ -354,44 +486,66 @@ public class FxmlViewLoader {
             if (controller instanceof View) {
                 View codeBehind = (View) controller;
 
-                handleInjection(codeBehind, resourceBundle, context, viewInSceneProperty);
+                context = handleInjection(codeBehind, resourceBundle, context, lifecycle);
             }
 
             return controller;
         }
+
+        @Override
+        public Callback<Class<?>, Object> fork() {
+            return new DefaultControllerFactory(resourceBundle, context, lifecycle);
+        }
     }
 
-    private static void handleInjection(View codeBehind, ResourceBundle resourceBundle, ContextImpl context, ObservableBooleanValue viewInSceneProperty) {
+    /**
+     * @return the context with the scopes that are provided by the viewModel of the codeBehind.
+     */
+    private static ContextImpl handleInjection(View codeBehind, ResourceBundle resourceBundle, ContextImpl context, ViewLifecycle lifecycle) {
         ViewLoaderReflectionUtils.checkScopesInView(codeBehind);
 
         ResourceBundleInjector.injectResourceBundle(codeBehind, resourceBundle);
 
+        final ContextImpl[] viewContext = { context };
+
         Consumer<ViewModel> newVmConsumer = viewModel -> {
             ResourceBundleInjector.injectResourceBundle(viewModel, resourceBundle);
-            ViewLoaderReflectionUtils.createAndInjectScopes(viewModel, context);
+            viewContext[0] = ViewLoaderReflectionUtils.createAndInjectScopes(viewModel, context, lifecycle);
             ViewLoaderReflectionUtils.initializeViewModel(viewModel);
 
-            ViewLoaderReflectionUtils.addSceneLifecycleHooks(viewModel, viewInSceneProperty);
+            ViewLoaderReflectionUtils.addSceneLifecycleHooks(viewModel, lifecycle.viewInSceneProperty());
+            lifecycle.register(codeBehind, viewModel);
         };
 
         ViewLoaderReflectionUtils.createAndInjectViewModel(codeBehind, newVmConsumer);
-        ViewLoaderReflectionUtils.injectContext(codeBehind, context);
+        ViewLoaderReflectionUtils.injectContext(codeBehind, viewContext[0]);
+        lifecycle.register(codeBehind, null);
+
+        return viewContext[0];
     }
 
-    private static void handleInjection(View codeBehind, ResourceBundle resourceBundle, ViewModel viewModel,
-            ContextImpl context, ObservableBooleanValue viewInSceneProperty) {
+    /**
+     * @return the context with the scopes that are provided by the viewModel.
+     */
+    private static ContextImpl handleInjection(View codeBehind, ResourceBundle resourceBundle, ViewModel viewModel,
+            ContextImpl context, ViewLifecycle lifecycle) {
         ViewLoaderReflectionUtils.checkScopesInView(codeBehind);
 
         ResourceBundleInjector.injectResourceBundle(codeBehind, resourceBundle);
+        lifecycle.register(codeBehind, viewModel);
 
         if (viewModel != null) {
             ResourceBundleInjector.injectResourceBundle(viewModel, resourceBundle);
-            ViewLoaderReflectionUtils.createAndInjectScopes(viewModel, context);
+            final ContextImpl viewContext = ViewLoaderReflectionUtils.createAndInjectScopes(viewModel, context, lifecycle);
             ViewLoaderReflectionUtils.injectViewModel(codeBehind, viewModel);
-            ViewLoaderReflectionUtils.injectContext(codeBehind, context);
+            ViewLoaderReflectionUtils.injectContext(codeBehind, viewContext);
 
-            ViewLoaderReflectionUtils.addSceneLifecycleHooks(viewModel, viewInSceneProperty);
+            ViewLoaderReflectionUtils.addSceneLifecycleHooks(viewModel, lifecycle.viewInSceneProperty());
+
+            return viewContext;
         }
+
+        return context;
     }
 
     /**
@@ -422,7 +576,7 @@ public class FxmlViewLoader {
      * fxml file. In this case we can use the existing ViewModel. All subsequent
      * requests will be handled with the default behaviour.
      */
-    private static class ControllerFactoryForCustomViewModel implements Callback<Class<?>, Object> {
+    private static class ControllerFactoryForCustomViewModel implements CompiledFxmlContext.ForkableControllerFactory {
 
         private boolean customViewModelInjected = false;
 
@@ -430,19 +584,23 @@ public class FxmlViewLoader {
 
         private final ResourceBundle resourceBundle;
 
-        private final ContextImpl context;
-        private ObservableBooleanValue viewInSceneProperty;
+        private ContextImpl context;
+        private final ViewLifecycle lifecycle;
 
         public ControllerFactoryForCustomViewModel(ViewModel customViewModel, ResourceBundle resourceBundle,
-                ContextImpl context, ObservableBooleanValue viewInSceneProperty) {
+                ContextImpl context, ViewLifecycle lifecycle) {
             this.customViewModel = customViewModel;
             this.resourceBundle = resourceBundle;
             this.context = context;
-            this.viewInSceneProperty = viewInSceneProperty;
+            this.lifecycle = lifecycle;
         }
 
         @Override
         public Object call(Class<?> type) {
+            return traceControllerCreation(type, this::createController);
+        }
+
+        private Object createController(Class<?> type) {
             Object controller = DependencyInjector.getInstance().getInstanceOf(type);
 
             if (controller instanceof View) {
@@ -452,18 +610,19 @@ public class FxmlViewLoader {
                     ResourceBundleInjector.injectResourceBundle(customViewModel, resourceBundle);
                     ResourceBundleInjector.injectResourceBundle(codeBehind, resourceBundle);
 
-                    ViewLoaderReflectionUtils.createAndInjectScopes(customViewModel, context);
+                    context = ViewLoaderReflectionUtils.createAndInjectScopes(customViewModel, context, lifecycle);
 
                     ViewLoaderReflectionUtils.injectViewModel(codeBehind, customViewModel);
                     ViewLoaderReflectionUtils.injectContext(codeBehind, context);
 
-                    ViewLoaderReflectionUtils.addSceneLifecycleHooks(customViewModel, viewInSceneProperty);
+                    ViewLoaderReflectionUtils.addSceneLifecycleHooks(customViewModel, lifecycle.viewInSceneProperty());
+                    lifecycle.register(codeBehind, customViewModel);
 
                     customViewModelInjected = true;
                     return codeBehind;
                 }
 
-                handleInjection(codeBehind, resourceBundle, context, viewInSceneProperty);
+                context = handleInjection(codeBehind, resourceBundle, context, lifecycle);
             }
 
             //throw an exception if the fx:controller was of type ViewModel
@@ -476,5 +635,14 @@ public class FxmlViewLoader {
 
             return controller;
         }
+
+        /**
+         * Includes are only forked after the controller of the root fxml
+         * file was created so they get the default behaviour.
+         */
+        @Override
+        public Callback<Class<?>, Object> fork() {
+            return new DefaultControllerFactory(resourceBundle, context, lifecycle);
+        }
     }
 }
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+/**
+ * An injector for a specific View or ViewModel class that is generated at compile time by the annotation processor of
+ * the <code>mvvmfx-apt</code> module.
+ * <p>
+ * Generated injectors access the annotated fields and initialize methods of their target class directly without
+ * reflection. The injector of a class <code>Outer.Inner</code> is named <code>Outer$Inner_MvvmfxInjector</code> and
+ * lives in the same package. The view loader looks it up by this name the first time it loads the class. For all
+ * classes (and members) that are not covered by a generated injector the view loader falls back to reflection.
+ * <p>
+ * This interface is not intended to be implemented by hand.
+ */
+public interface GeneratedInjector {
+
+	/**
+	 * @return the View or ViewModel class that this injector was generated for.
+	 */
+	Class<?> getTargetType();
+
+	/**
+	 * @param fieldName
+	 *            the name of a field that is declared in the target type.
+	 * @return <code>true</code> if this injector can read and write the field with the given name.
+	 */
+	boolean canAccessField(String fieldName);
+
+	/**
+	 * @param target
+	 *            an instance of the target type.
+	 * @param fieldName
+	 *            the name of the field. {@link #canAccessField(String)} has to return <code>true</code> for this name.
+	 * @return the current value of the field.
+	 */
+	Object getField(Object target, String fieldName);
+
+	/**
+	 * @param target
+	 *            an instance of the target type.
+	 * @param fieldName
+	 *            the name of the field. {@link #canAccessField(String)} has to return <code>true</code> for this name.
+	 * @param value
+	 *            the new value of the field.
+	 */
+	void setField(Object target, String fieldName, Object value);
+
+	/**
+	 * @param methodName
+	 *            the name of a no-arg method that is declared in the target type.
+	 * @return <code>true</code> if this injector can invoke the method with the given name.
+	 */
+	boolean canInvokeMethod(String methodName);
+
+	/**
+	 * @param target
+	 *            an instance of the target type.
+	 * @param methodName
+	 *            the name of the no-arg method. {@link #canInvokeMethod(String)} has to return <code>true</code> for
+	 *            this name.
+	 * @throws Exception
+	 *             any exception that is thrown by the invoked method.
+	 */
+	void invokeMethod(Object target, String methodName) throws Exception;
+}
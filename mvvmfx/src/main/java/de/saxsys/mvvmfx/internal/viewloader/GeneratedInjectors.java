@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class is used to find the {@link GeneratedInjector} for a given class.
+ * <p>
+ * The injector of a class is looked up by its name: The injector of <code>com.example.Outer$Inner</code> is
+ * <code>com.example.Outer$Inner_MvvmfxInjector</code>. This way only the injectors of the classes that are actually
+ * used are loaded and no other View or ViewModel class is touched. The lookup for a specific class is done by
+ * {@link InjectionMetadata} which caches the result per class.
+ */
+final class GeneratedInjectors {
+
+	private static final Logger LOG = LoggerFactory.getLogger(GeneratedInjectors.class);
+
+	static final String INJECTOR_SUFFIX = "_MvvmfxInjector";
+
+	private GeneratedInjectors() {
+	}
+
+	/**
+	 * @param type
+	 *            the View or ViewModel class.
+	 * @return the generated injector for the given class or <code>null</code> if there is none.
+	 */
+	static GeneratedInjector find(Class<?> type) {
+		final ClassLoader classLoader = type.getClassLoader();
+
+		if (classLoader == null || type.isArray() || type.isPrimitive()) {
+			// JDK classes have no generated injectors
+			return null;
+		}
+
+		final Class<?> injectorClass;
+		try {
+			injectorClass = Class.forName(getInjectorName(type), false, classLoader);
+		} catch (ClassNotFoundException | LinkageError e) {
+			// there is no injector for this class. Reflection is used instead.
+			return null;
+		}
+
+		if (!GeneratedInjector.class.isAssignableFrom(injectorClass)) {
+			return null;
+		}
+
+		try {
+			final GeneratedInjector injector = (GeneratedInjector) ReflectionUtils.newInstance(injectorClass);
+
+			// f.e. an outdated injector of a class that was renamed. We skip it and use reflection instead.
+			if (injector.getTargetType() == type) {
+				return injector;
+			}
+		} catch (RuntimeException | LinkageError e) {
+			LOG.warn("The generated injector [" + injectorClass.getName() + "] can't be loaded. Reflection is used instead.",
+					e);
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return the fully qualified name of the injector that the annotation processor of mvvmfx-apt generates for the
+	 *         given class.
+	 */
+	static String getInjectorName(Class<?> type) {
+		// the binary name is unique, so the injectors of different classes can't collide.
+		return type.getName() + INJECTOR_SUFFIX;
+	}
+}
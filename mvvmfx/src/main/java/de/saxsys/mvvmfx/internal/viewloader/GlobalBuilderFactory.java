@@ -75,4 +75,11 @@ public class GlobalBuilderFactory implements BuilderFactory {
 	public void addBuilderFactory(BuilderFactory factory) {
 		this.factories.add(factory);
 	}
+
+	/**
+	 * @return <code>true</code> if at least one custom builder factory was added.
+	 */
+	public boolean hasCustomBuilderFactories() {
+		return !factories.isEmpty();
+	}
 }
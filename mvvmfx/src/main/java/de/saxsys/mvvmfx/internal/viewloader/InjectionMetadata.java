@@ -0,0 +1,377 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.Context;
+import de.saxsys.mvvmfx.Initialize;
+import de.saxsys.mvvmfx.InjectContext;
+import de.saxsys.mvvmfx.InjectResourceBundle;
+import de.saxsys.mvvmfx.InjectScope;
+import de.saxsys.mvvmfx.InjectViewModel;
+import de.saxsys.mvvmfx.Scope;
+import de.saxsys.mvvmfx.ScopeProvider;
+import de.saxsys.mvvmfx.ViewModel;
+import net.jodah.typetools.TypeResolver;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class holds all reflection information that is needed to load and inject a specific View or ViewModel class.
+ * <p>
+ * Instances are cached per class via a {@link ClassValue}. The class hierarchy of a type is only walked once and the
+ * results (annotated fields, the generic ViewModel type, provided scopes, initialize methods, {@link FieldAccessor}s,
+ * the {@link GeneratedInjector} if any) are reused by every subsequent loading process.
+ * <p>
+ * Validation results are cached too: A value is only stored after it has passed all checks. If a check fails, the
+ * exception is thrown and the check is repeated the next time the value is requested. This way each loading
+ * process of an invalid class gets its own exception.
+ */
+final class InjectionMetadata {
+
+    private static final ClassValue<InjectionMetadata> CACHE = new ClassValue<InjectionMetadata>() {
+        @Override
+        protected InjectionMetadata computeValue(Class<?> type) {
+            return new InjectionMetadata(type);
+        }
+    };
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final Class<? extends Scope>[] NO_SCOPES = new Class[0];
+
+    static final String PUBLIC_INITIALIZE_METHOD = "initialize";
+    static final String PUBLIC_RESOURCES_FIELD = "resources";
+
+    private final Class<?> type;
+
+    private final List<Field> viewModelFields;
+    private final List<Field> contextFields;
+    private final List<Field> scopeFields;
+    private final List<Field> resourceBundleFields;
+
+    private final boolean notAssignableResourceBundleFieldPresent;
+    private final boolean nonOptionalResourceBundleFieldPresent;
+
+    private final GeneratedInjector generatedInjector;
+    private final ConcurrentMap<Field, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
+
+    // the following values are lazily resolved and validated
+    private volatile Class<?> viewModelType;
+    private volatile Optional<Field> viewModelField;
+    private volatile Optional<Field> contextField;
+    private volatile List<Field> validatedScopeFields;
+    private volatile Class<? extends Scope>[] providedScopes;
+    private volatile List<Method> initializeMethods;
+    private volatile Optional<Method> publicInitializeMethod;
+    private volatile Optional<Field> publicResourcesField;
+
+    private InjectionMetadata(Class<?> type) {
+        this.type = type;
+        this.generatedInjector = GeneratedInjectors.find(type);
+
+        final List<Field> viewModelFields = new ArrayList<>();
+        final List<Field> contextFields = new ArrayList<>();
+        final List<Field> scopeFields = new ArrayList<>();
+        final List<Field> resourceBundleFields = new ArrayList<>();
+
+        for (Field field : ReflectionUtils.getFieldsFromClassHierarchy(type)) {
+            if (field.isAnnotationPresent(InjectViewModel.class)) {
+                viewModelFields.add(field);
+            }
+            if (field.isAnnotationPresent(InjectContext.class)) {
+                contextFields.add(field);
+            }
+            if (field.isAnnotationPresent(InjectScope.class)) {
+                scopeFields.add(field);
+            }
+            if (field.isAnnotationPresent(InjectResourceBundle.class)) {
+                resourceBundleFields.add(field);
+            }
+        }
+
+        this.viewModelFields = Collections.unmodifiableList(viewModelFields);
+        this.contextFields = Collections.unmodifiableList(contextFields);
+        this.scopeFields = Collections.unmodifiableList(scopeFields);
+        this.resourceBundleFields = Collections.unmodifiableList(resourceBundleFields);
+
+        this.notAssignableResourceBundleFieldPresent = resourceBundleFields.stream()
+                .anyMatch(field -> !field.getType().isAssignableFrom(ResourceBundle.class));
+
+        this.nonOptionalResourceBundleFieldPresent = resourceBundleFields.stream()
+                .flatMap(field -> Arrays.stream(field.getAnnotationsByType(InjectResourceBundle.class)))
+                .anyMatch(annotation -> !annotation.optional());
+    }
+
+    /**
+     * @param type
+     *            the class of a View or ViewModel.
+     * @return the cached metadata for the given class.
+     */
+    static InjectionMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * @return all fields of the class hierarchy that are annotated with {@link InjectViewModel}.
+     */
+    List<Field> getViewModelFields() {
+        return viewModelFields;
+    }
+
+    /**
+     * @return all fields of the class hierarchy that are annotated with {@link InjectScope}. The fields are not
+     *         validated. See {@link #getValidatedScopeFields()}.
+     */
+    List<Field> getScopeFields() {
+        return scopeFields;
+    }
+
+    /**
+     * @return all fields of the class hierarchy that are annotated with {@link InjectResourceBundle}.
+     */
+    List<Field> getResourceBundleFields() {
+        return resourceBundleFields;
+    }
+
+    /**
+     * @return <code>true</code> if there is at least one field annotated with {@link InjectResourceBundle} whose type
+     *         can't hold a {@link ResourceBundle}.
+     */
+    boolean isNotAssignableResourceBundleFieldPresent() {
+        return notAssignableResourceBundleFieldPresent;
+    }
+
+    /**
+     * @return <code>true</code> if there is at least one field annotated with {@link InjectResourceBundle} that is not
+     *         marked as optional.
+     */
+    boolean isNonOptionalResourceBundleFieldPresent() {
+        return nonOptionalResourceBundleFieldPresent;
+    }
+
+    /**
+     * @return the generic ViewModel type of the View class as resolved by {@link TypeResolver}.
+     */
+    Class<?> getViewModelType() {
+        Class<?> result = viewModelType;
+        if (result == null) {
+            result = TypeResolver.resolveRawArgument(View.class, type);
+            viewModelType = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the field that is annotated with {@link InjectViewModel}. It is verified that there is at most one such
+     * field and that the type of the field implements {@link ViewModel}.
+     *
+     * @return an Optional that contains the Field when the field exists.
+     */
+    Optional<Field> getViewModelField() {
+        Optional<Field> result = viewModelField;
+        if (result == null) {
+            if (viewModelFields.isEmpty()) {
+                result = Optional.empty();
+            } else {
+                if (viewModelFields.size() > 1) {
+                    throw new RuntimeException("The View <" + type + "> may only define one viewModel but there were <"
+                            + viewModelFields.size() + "> viewModel fields with the @InjectViewModel annotation!");
+                }
+
+                Field field = viewModelFields.get(0);
+
+                if (!ViewModel.class.isAssignableFrom(field.getType())) {
+                    throw new RuntimeException("The View <" + type
+                            + "> has a field annotated with @InjectViewModel but the type of the field doesn't implement the 'ViewModel' interface!");
+                }
+
+                result = Optional.of(field);
+            }
+            viewModelField = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the field that is annotated with {@link InjectContext}. It is verified that there is at most one such
+     * field and that the type of the field matches {@link Context}.
+     *
+     * @return an Optional that contains the Field when the field exists.
+     */
+    Optional<Field> getContextField() {
+        Optional<Field> result = contextField;
+        if (result == null) {
+            if (contextFields.isEmpty()) {
+                result = Optional.empty();
+            } else {
+                if (contextFields.size() > 1) {
+                    throw new RuntimeException("The View <" + type + "> may only define one Context but there were <"
+                            + contextFields.size() + "> Context fields with the @InjectContext annotation!");
+                }
+
+                Field field = contextFields.get(0);
+
+                if (!field.getType().isAssignableFrom(Context.class)) {
+                    throw new RuntimeException("The View <" + type
+                            + "> has a field annotated with @InjectContext but the type of the field doesn't match the type Context. "
+                            + "The actual type of the field is <" + field.getType() + ">.");
+                }
+
+                result = Optional.of(field);
+            }
+            contextField = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return all fields annotated with {@link InjectScope}. It is verified that the type of each field implements
+     *         {@link Scope}.
+     */
+    List<Field> getValidatedScopeFields() {
+        List<Field> result = validatedScopeFields;
+        if (result == null) {
+            scopeFields.forEach(field -> {
+                if (!Scope.class.isAssignableFrom(field.getType())) {
+                    throw new RuntimeException("The ViewModel <" + type
+                            + "> has a field annotated with @InjectScope but the type of the field doesn't implement the 'Scope' interface!");
+                }
+            });
+            result = scopeFields;
+            validatedScopeFields = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the scope types that are declared with {@link ScopeProvider} at the class. If the class isn't annotated
+     *         an empty array is returned. The returned array may not be modified.
+     *
+     * @throws IllegalArgumentException
+     *             if the class is annotated with {@link ScopeProvider} but no scope is provided.
+     */
+    Class<? extends Scope>[] getProvidedScopes() {
+        Class<? extends Scope>[] result = providedScopes;
+        if (result == null) {
+            final ScopeProvider scopeProvider = type.getDeclaredAnnotation(ScopeProvider.class);
+
+            if (scopeProvider == null) {
+                result = NO_SCOPES;
+            } else {
+                result = scopeProvider.value();
+
+                if (result.length == 0) {
+                    result = scopeProvider.scopes();
+                }
+
+                if (result.length == 0) {
+                    final String message = String.format("The scope provider '%s' has to provide at least one scope.",
+                            type.getCanonicalName());
+                    throw new IllegalArgumentException(message);
+                }
+            }
+            providedScopes = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a list of {@link Method}s that represent initializer methods of a ViewModel.
+     * A method is an "initializer method" if it either: <br/>
+     * <ol>
+     *     <li>has a signature of "public void initialize()"</li>
+     *     <li>is annotated with {@link Initialize}</li>
+     * </ol>
+     */
+    List<Method> getInitializeMethods() {
+        List<Method> result = initializeMethods;
+        if (result == null) {
+            final List<Method> methods = new ArrayList<>();
+
+            Arrays.stream(type.getMethods())
+                    .filter(method -> "initialize".equals(method.getName()))
+                    .filter(method -> void.class.equals(method.getReturnType()))
+                    .filter(method -> method.getParameterCount() == 0)
+                    .forEach(methods::add);
+
+            Arrays.stream(type.getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(Initialize.class))
+                    .forEach(methods::add);
+
+            result = Collections.unmodifiableList(methods);
+            initializeMethods = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the public no-arg method named "initialize" (if any). This is used for the implicit initialization of
+     *         java views that follows the conventions of the {@link javafx.fxml.FXMLLoader}.
+     */
+    Optional<Method> getPublicInitializeMethod() {
+        Optional<Method> result = publicInitializeMethod;
+        if (result == null) {
+            try {
+                result = Optional.of(type.getMethod(PUBLIC_INITIALIZE_METHOD));
+            } catch (NoSuchMethodException e) {
+                result = Optional.empty();
+            }
+            publicInitializeMethod = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the public field named "resources" (if any). This is used for the implicit injection of the
+     *         ResourceBundle into java views that follows the conventions of the {@link javafx.fxml.FXMLLoader}.
+     */
+    Optional<Field> getPublicResourcesField() {
+        Optional<Field> result = publicResourcesField;
+        if (result == null) {
+            try {
+                result = Optional.of(type.getField(PUBLIC_RESOURCES_FIELD));
+            } catch (NoSuchFieldException e) {
+                result = Optional.empty();
+            }
+            publicResourcesField = result;
+        }
+        return result;
+    }
+
+    /**
+     * @param field
+     *            a field that is declared by the class of this metadata.
+     * @return the accessor for the given field. The accessor is created on the first call.
+     */
+    FieldAccessor getFieldAccessor(Field field) {
+        return fieldAccessors.computeIfAbsent(field, f -> FieldAccessor.create(f, generatedInjector));
+    }
+
+    /**
+     * @return the injector that was generated at compile time for this class or <code>null</code> if there is none.
+     */
+    GeneratedInjector getGeneratedInjector() {
+        return generatedInjector;
+    }
+}
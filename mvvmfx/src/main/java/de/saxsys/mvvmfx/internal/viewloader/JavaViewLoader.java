@@ -22,6 +22,7 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.ResourceBundle;
 
 import org.slf4j.Logger;
@@ -29,9 +30,11 @@ import org.slf4j.LoggerFactory;
 
 import de.saxsys.mvvmfx.Context;
 import de.saxsys.mvvmfx.Scope;
+import de.saxsys.mvvmfx.ViewLoadPhase;
 import de.saxsys.mvvmfx.ViewModel;
 import de.saxsys.mvvmfx.ViewTuple;
 import de.saxsys.mvvmfx.internal.ContextImpl;
+import de.saxsys.mvvmfx.internal.FlightRecorderEvent;
 import javafx.fxml.Initializable;
 import javafx.scene.Parent;
 
@@ -44,8 +47,7 @@ import javafx.scene.Parent;
 public class JavaViewLoader {
     private static final Logger LOG = LoggerFactory.getLogger(JavaViewLoader.class);
 
-    private static final String NAMING_CONVENTION_RESOURCES_IDENTIFIER = "resources";
-    private static final String NAMING_CONVENTION_INITIALIZE_IDENTIFIER = "initialize";
+    private static final String NAMING_CONVENTION_INITIALIZE_IDENTIFIER = InjectionMetadata.PUBLIC_INITIALIZE_METHOD;
 
     /**
      * Loads the java written view of the given type and injects the ViewModel
@@ -82,64 +84,93 @@ public class JavaViewLoader {
             Class<? extends ViewType> viewType, ResourceBundle resourceBundle, final ViewModelType existingViewModel,
             ViewType codeBehind, Context parentContext, Collection<Scope> providedScopes) {
 
-        // FIXME Woanders hin?!
-        ContextImpl context = ViewLoaderScopeUtils.prepareContext(parentContext, providedScopes);
-        ////////////////////////////
+        final ViewLoadTracing tracing = ViewLoadTracing.getInstance();
+        final ViewLoadTracing.Load load = tracing.startLoad(viewType.getName());
+        final Object flightRecorderEvent = FlightRecorderEvent.VIEW_LOAD.begin();
+        Class<?> loadedViewModelType = null;
 
-        DependencyInjector injectionFacade = DependencyInjector.getInstance();
+        try {
+            long start = tracing.startPhase();
 
-        final ViewType view = codeBehind == null ? injectionFacade.getInstanceOf(viewType) : codeBehind;
+            // FIXME Woanders hin?!
+            ContextImpl context = ViewLoaderScopeUtils.prepareContext(parentContext, providedScopes);
+            ////////////////////////////
 
-        if (!(view instanceof Parent)) {
-            throw new IllegalArgumentException("Can not load java view! The view class has to extend from "
-                    + Parent.class.getName() + " or one of it's subclasses");
-        }
+            tracing.finishPhase(ViewLoadPhase.CONTEXT_PREPARATION, null, start);
 
-        ViewModelType viewModel = null;
+            DependencyInjector injectionFacade = DependencyInjector.getInstance();
 
-        // when no viewmodel was provided by the user...
-        if (existingViewModel == null) {
-            // ... we create a new one (if possible)
-            viewModel = ViewLoaderReflectionUtils.createViewModel(view);
-        } else {
-            viewModel = existingViewModel;
-        }
+            final ViewType view = codeBehind == null ? injectionFacade.getInstanceOf(viewType) : codeBehind;
 
-        ResourceBundleInjector.injectResourceBundle(view, resourceBundle);
+            if (!(view instanceof Parent)) {
+                throw new IllegalArgumentException("Can not load java view! The view class has to extend from "
+                        + Parent.class.getName() + " or one of it's subclasses");
+            }
+
+            ViewModelType viewModel = null;
 
-        // if no ViewModel is available...
-        if (viewModel == null) {
-            // we need to check if the user is trying to inject a viewModel.
+            // when no viewmodel was provided by the user...
+            if (existingViewModel == null) {
+                // ... we create a new one (if possible)
+                viewModel = ViewLoaderReflectionUtils.createViewModel(view);
+            } else {
+                viewModel = existingViewModel;
+            }
 
-            final List<Field> viewModelFields = ViewLoaderReflectionUtils.getViewModelFields(viewType);
+            ResourceBundleInjector.injectResourceBundle(view, resourceBundle);
+
+            // if no ViewModel is available...
+            if (viewModel == null) {
+                // we need to check if the user is trying to inject a viewModel.
+
+                final List<Field> viewModelFields = ViewLoaderReflectionUtils.getViewModelFields(viewType);
+
+                if (!viewModelFields.isEmpty()) {
+                    throw new RuntimeException("The given view of type <" + view.getClass()
+                            + "> has no generic viewModel type declared but tries to inject a viewModel.");
+                }
+
+            } else {
+                ResourceBundleInjector.injectResourceBundle(viewModel, resourceBundle);
+
+                // if the user has provided an existing ViewModel, we will not
+                // (re-)initialize this existing instance
+                context = ViewLoaderReflectionUtils.createAndInjectScopes(viewModel, context, null);
+                if (existingViewModel == null) {
+                    ViewLoaderReflectionUtils.initializeViewModel(viewModel);
+                }
 
-            if (!viewModelFields.isEmpty()) {
-                throw new RuntimeException("The given view of type <" + view.getClass()
-                        + "> has no generic viewModel type declared but tries to inject a viewModel.");
+                ViewLoaderReflectionUtils.injectViewModel(view, viewModel);
             }
 
-        } else {
-            ResourceBundleInjector.injectResourceBundle(viewModel, resourceBundle);
+            start = tracing.startPhase();
 
-            // if the user has provided an existing ViewModel, we will not
-            // (re-)initialize this existing instance
-            ViewLoaderReflectionUtils.createAndInjectScopes(viewModel, context);
-            if (existingViewModel == null) {
-                ViewLoaderReflectionUtils.initializeViewModel(viewModel);
+            if (view instanceof Initializable) {
+                Initializable initializable = (Initializable) view;
+                initializable.initialize(null, resourceBundle);
+            } else {
+                injectResourceBundle(view, resourceBundle);
+                callInitialize(view);
             }
 
-            ViewLoaderReflectionUtils.injectViewModel(view, viewModel);
-        }
+            tracing.finishPhase(ViewLoadPhase.INITIALIZATION, view.getClass(), start);
 
-        if (view instanceof Initializable) {
-            Initializable initializable = (Initializable) view;
-            initializable.initialize(null, resourceBundle);
-        } else {
-            injectResourceBundle(view, resourceBundle);
-            callInitialize(view);
-        }
+            if (viewModel != null) {
+                loadedViewModelType = viewModel.getClass();
+            }
+
+            // java views have no SceneLifecycle hooks, the lifecycle is only used for ViewTuple.dispose().
+            final ViewLifecycle lifecycle = new ViewLifecycle();
+            lifecycle.register(view, viewModel);
+            lifecycle.setRoot((Parent) view);
 
-        return new ViewTuple<>(view, (Parent) view, viewModel);
+            return new ViewTuple<>(view, (Parent) view, viewModel, lifecycle);
+        } finally {
+            tracing.finishLoad(load, viewType);
+            if (flightRecorderEvent != null) {
+                FlightRecorderEvent.VIEW_LOAD.commit(flightRecorderEvent, viewType, loadedViewModelType, null);
+            }
+        }
     }
 
     /**
@@ -158,8 +189,10 @@ public class JavaViewLoader {
      *            the generic type of the view.
      */
     <ViewModelType extends ViewModel> void callInitialize(View<? extends ViewModelType> view) {
-        try {
-            final Method initializeMethod = view.getClass().getMethod(NAMING_CONVENTION_INITIALIZE_IDENTIFIER);
+        final Optional<Method> initializeMethodOptional = InjectionMetadata.of(view.getClass()).getPublicInitializeMethod();
+
+        if (initializeMethodOptional.isPresent()) {
+            final Method initializeMethod = initializeMethodOptional.get();
 
             AccessController.doPrivileged((PrivilegedAction) () -> {
                 try {
@@ -181,8 +214,8 @@ public class JavaViewLoader {
                 return null;
             });
 
-        } catch (NoSuchMethodException e) {
-            // This exception means that there is no initialize method declared.
+        } else {
+            // A missing method means that there is no initialize method declared.
             // While it's possible that the user has no such method by design,
             // normally and in most cases you need an initialize method in your
             // view (either with Initialize interface
@@ -211,18 +244,18 @@ public class JavaViewLoader {
      */
     <ViewModelType extends ViewModel> void injectResourceBundle(View<? extends ViewModelType> view,
             ResourceBundle resourceBundle) {
+        // If there is no field for the ResourceBundle this is no exceptional case
+        // but is normal when you don't need a resourceBundle in a specific view.
+        final Optional<Field> resourcesFieldOptional = InjectionMetadata.of(view.getClass()).getPublicResourcesField();
+
         try {
-            Field resourcesField = view.getClass().getField(NAMING_CONVENTION_RESOURCES_IDENTIFIER);
+            if (resourcesFieldOptional.isPresent()) {
+                Field resourcesField = resourcesFieldOptional.get();
 
-            if (resourcesField.getType().isAssignableFrom(ResourceBundle.class)) {
-                resourcesField.set(view, resourceBundle);
+                if (resourcesField.getType().isAssignableFrom(ResourceBundle.class)) {
+                    resourcesField.set(view, resourceBundle);
+                }
             }
-        } catch (NoSuchFieldException e) {
-            // This exception means that there is no field for the
-            // ResourceBundle.
-            // This is no exceptional case but is normal when you don't need a
-            // resourceBundle in a specific view.
-            // Therefore it's save to silently catch the exception.
         } catch (IllegalAccessException e) {
             LOG.warn("Can't inject the ResourceBundle into the view {} because the field isn't accessible", view);
         }
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Holds the executor that is used to load the <code>fx:include</code>s of a FXML file in parallel. The included files
+ * are known before the FXML file is loaded if it is represented by a {@link CompiledFxml} (a compiled class or a
+ * template of the {@link FxmlTemplateCache}). In this case the includes are loaded by the executor as soon as the
+ * controller of the including file was created. Includes that follow an include which may provide scopes are loaded
+ * one after the other so that the scopes are resolved like with the <code>FXMLLoader</code>, see
+ * {@link CompiledFxmlContext}.
+ * <p>
+ * Parallel loading is disabled by default and can be enabled with
+ * {@link de.saxsys.mvvmfx.MvvmFX#setIncludeLoadingExecutor(Executor)}.
+ */
+public final class ParallelIncludeLoading {
+
+	private static final ParallelIncludeLoading SINGLETON = new ParallelIncludeLoading();
+
+	private volatile Executor executor;
+
+	private ParallelIncludeLoading() {
+	}
+
+	public static ParallelIncludeLoading getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * @param executor
+	 *            the executor that loads included FXML files. <code>null</code> disables parallel loading.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * @return the executor or an empty optional if parallel loading is disabled.
+	 */
+	Optional<Executor> getExecutor() {
+		return Optional.ofNullable(executor);
+	}
+}
@@ -20,13 +20,13 @@ public class PreventGarbageCollectionStore {
 
 	private List<Object> storedObjects = new ArrayList<>();
 
-	public void put(Object o) {
+	public synchronized void put(Object o) {
 		if(!storedObjects.contains(o)) {
 			this.storedObjects.add(o);
 		}
 	}
 
-	public void remove(Object o) {
+	public synchronized void remove(Object o) {
 		this.storedObjects.removeIf(x -> x == o || x.equals(o));
 	}
 }
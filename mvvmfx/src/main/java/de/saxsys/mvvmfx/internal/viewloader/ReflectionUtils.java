@@ -20,6 +20,7 @@ import de.saxsys.mvvmfx.internal.SideEffectWithException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -131,11 +132,58 @@ public class ReflectionUtils {
 	 *            the new value that the field should be set to.
 	 */
 	public static void setField(final Field field, Object target, Object value) {
-		accessMember(field, () -> field.set(target, value),
+		final FieldAccessor accessor = FieldAccessor.of(field);
+		handleErrors(() -> accessor.set(target, value),
 				"Cannot set the field [" + field.getName() + "] of instance [" + target + "] to value [" + value + "]");
 	}
 	
 	
+	/**
+	 * Helper method to execute a callback that doesn't need to change the accessibility of a member, for example
+	 * because it uses a {@link FieldAccessor}. This method only encapsulates the error handling logic of
+	 * {@link ReflectionUtils#accessMember(AccessibleObject, Callable, String)}.
+	 *
+	 * @param callable
+	 *            the callback that will be executed.
+	 * @param errorMessage
+	 *            the error message that is used in the exception when something went wrong.
+	 *
+	 * @return the return value of the given callback.
+	 *
+	 * @throws IllegalStateException
+	 *             when something went wrong.
+	 */
+	static <T> T handleErrors(final Callable<T> callable, String errorMessage) {
+		try {
+			return callable.call();
+		} catch (Exception exception) {
+			throw new IllegalStateException(errorMessage, exception);
+		}
+	}
+	
+	
+	/**
+	 * Helper method to execute a callback that doesn't need to change the accessibility of a member, for example
+	 * because it uses a {@link FieldAccessor}. This method only encapsulates the error handling logic of
+	 * {@link ReflectionUtils#accessMember(AccessibleObject, SideEffectWithException, String)}.
+	 *
+	 * @param sideEffect
+	 *            the callback that will be executed.
+	 * @param errorMessage
+	 *            the error message that is used in the exception when something went wrong.
+	 *
+	 * @throws IllegalStateException
+	 *             when something went wrong.
+	 */
+	static void handleErrors(final SideEffectWithException sideEffect, String errorMessage) {
+		try {
+			sideEffect.call();
+		} catch (Exception exception) {
+			throw new IllegalStateException(errorMessage, exception);
+		}
+	}
+	
+	
 	/**
 	 * Helper method to execute a callback on a given member. This method encapsulates the error handling logic and the
 	 * handling of accessibility of the member. The difference to
@@ -171,4 +219,35 @@ public class ReflectionUtils {
 			return null;
 		});
 	}
-}
\ No newline at end of file
+	
+	
+	/**
+	 * Creates an instance with the no-arg constructor of the given type. Unlike {@link Class#newInstance()}, checked
+	 * exceptions of the constructor aren't thrown unchanged.
+	 *
+	 * @param type
+	 *            the class that is instantiated.
+	 * @return the new instance.
+	 *
+	 * @throws IllegalStateException
+	 *             when the class can't be instantiated or the constructor throws a checked exception. Unchecked
+	 *             exceptions of the constructor are thrown unchanged.
+	 */
+	static <T> T newInstance(Class<T> type) {
+		try {
+			return type.getDeclaredConstructor().newInstance();
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException("The constructor of type " + type.getName() + " threw an exception.",
+					e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Can't create instance of type " + type.getName() +
+					". Make sure that the class has a public no-arg constructor.", e);
+		}
+	}
+}
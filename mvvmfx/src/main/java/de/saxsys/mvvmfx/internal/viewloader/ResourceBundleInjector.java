@@ -16,11 +16,11 @@
 package de.saxsys.mvvmfx.internal.viewloader;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
 import java.util.List;
 import java.util.ResourceBundle;
 
 import de.saxsys.mvvmfx.InjectResourceBundle;
+import de.saxsys.mvvmfx.ViewLoadPhase;
 
 import static de.saxsys.mvvmfx.internal.viewloader.ResourceBundleManager.EMPTY_RESOURCE_BUNDLE;
 
@@ -40,13 +40,10 @@ class ResourceBundleInjector {
 	 *            the ResourceBundle instance that is used.
 	 */
 	static void injectResourceBundle(Object target, ResourceBundle resourceBundle) {
-		final List<Field> fieldsWithAnnotation = ReflectionUtils
-				.getFieldsWithAnnotation(target, InjectResourceBundle.class);
+		final InjectionMetadata metadata = InjectionMetadata.of(target.getClass());
+		final List<Field> fieldsWithAnnotation = metadata.getResourceBundleFields();
 		
-		final boolean notAssignableFieldPresent = fieldsWithAnnotation.stream()
-				.anyMatch(field -> !field.getType().isAssignableFrom(ResourceBundle.class));
-		
-		if (notAssignableFieldPresent) {
+		if (metadata.isNotAssignableResourceBundleFieldPresent()) {
 			throw new IllegalStateException(
 					"The class ["
 							+ target
@@ -56,21 +53,16 @@ class ResourceBundleInjector {
 		// check whether the user has provided any resourceBundle or not
 		if (resourceBundle == null || resourceBundle.equals(EMPTY_RESOURCE_BUNDLE)) {
 			
-			if (!fieldsWithAnnotation.isEmpty()) {
-				
-				final boolean nonOptionalFieldsPresent = fieldsWithAnnotation.stream()
-						.flatMap(field -> Arrays.stream(field.getAnnotationsByType(InjectResourceBundle.class)))
-						.anyMatch(annotation -> !annotation.optional());
-				
-				// if all annotated fields are marked as "optional", no exception has to be thrown.
-				if (nonOptionalFieldsPresent) {
-					throw new IllegalStateException(
-							"The class ["
-									+ target
-									+ "] expects a ResourceBundle to be injected but no ResourceBundle was defined while loading.");
-				}
+			// if all annotated fields are marked as "optional", no exception has to be thrown.
+			if (metadata.isNonOptionalResourceBundleFieldPresent()) {
+				throw new IllegalStateException(
+						"The class ["
+								+ target
+								+ "] expects a ResourceBundle to be injected but no ResourceBundle was defined while loading.");
 			}
-		} else {
+		} else if (!fieldsWithAnnotation.isEmpty()) {
+			final long start = ViewLoadTracing.getInstance().startPhase();
+
 			fieldsWithAnnotation
 					.forEach(field -> {
 						if (field.getType().isAssignableFrom(ResourceBundle.class)) {
@@ -82,6 +74,8 @@ class ResourceBundleInjector {
 											+ "] has a field with the @InjectResourceBundle annotation but the type of the field doesn't match ResourceBundle");
 						}
 					});
+
+			ViewLoadTracing.getInstance().finishPhase(ViewLoadPhase.RESOURCE_BUNDLE_INJECTION, target.getClass(), start);
 		}
 	}
 	
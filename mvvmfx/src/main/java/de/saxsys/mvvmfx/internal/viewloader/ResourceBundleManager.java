@@ -16,29 +16,66 @@
 package de.saxsys.mvvmfx.internal.viewloader;
 
 import eu.lestard.doc.Internal;
-import sun.util.ResourceBundleEnumeration;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListResourceBundle;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
+import java.util.MissingResourceException;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
+ * Merges the resourceBundles that are provided while loading a view with the global resourceBundle.
+ * <p>
+ * Views are often loaded with the same resourceBundles. Therefore the merged resourceBundles are cached by the
+ * identity of the merged bundles and the default locale. A merged resourceBundle is flattened into a single immutable
+ * map, so the lookup of a key doesn't depend on the number of merged bundles. The cache is cleared when a new global
+ * resourceBundle is set.
+ * <p>
+ * In the observable mode (see {@link #setObservableGlobalResourceBundle(String, ClassLoader)}) the global
+ * resourceBundle follows the {@link #localeProperty()}. It isn't copied into the merged bundles but is looked up on
+ * each access, and for each key there is a single {@link StringBinding} that is updated when the locale changes.
+ * String properties of FXML templates with a resource key of this bundle are bound to these bindings, so a change of
+ * the locale updates all visible texts without reloading the views.
+ *
  * @author manuel.mauky
  */
 @Internal
 public class ResourceBundleManager {
 	
 	private static final ResourceBundleManager SINGLETON = new ResourceBundleManager();
-	private ResourceBundle globalResourceBundle;
+
+	/**
+	 * The maximum number of cached merged resourceBundles. The cache keeps the merged bundles strongly reachable, so it
+	 * is bounded for applications that create new resourceBundles all the time.
+	 */
+	private static final int MAXIMUM_CACHE_SIZE = 64;
+
+	private volatile ResourceBundle globalResourceBundle;
+
+	private final ObjectProperty<Locale> locale = new SimpleObjectProperty<>(this, "locale", Locale.getDefault());
+
+	private final Map<CacheKey, ResourceBundle> mergedBundles = new LinkedHashMap<CacheKey, ResourceBundle>(16, 0.75f,
+			true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CacheKey, ResourceBundle> eldest) {
+			return size() > MAXIMUM_CACHE_SIZE;
+		}
+	};
 	
 	ResourceBundleManager() {
 	}
@@ -57,9 +94,73 @@ public class ResourceBundleManager {
 	}
 	
 	public void setGlobalResourceBundle(ResourceBundle resourceBundle) {
-		this.globalResourceBundle = resourceBundle;
+		synchronized (mergedBundles) {
+			this.globalResourceBundle = resourceBundle;
+			mergedBundles.clear();
+		}
 	}
 	
+	/**
+	 * Sets a global resourceBundle that is loaded with the given base name for the current value of the
+	 * {@link #localeProperty()} and that is reloaded when the locale changes.
+	 *
+	 * @param baseName
+	 *            the base name of the resourceBundle, see {@link ResourceBundle#getBundle(String, Locale, ClassLoader)}.
+	 * @param classLoader
+	 *            the classLoader that is used to load the resourceBundle.
+	 * @throws MissingResourceException
+	 *             if there is no resourceBundle for the base name.
+	 */
+	public void setObservableGlobalResourceBundle(String baseName, ClassLoader classLoader) {
+		final ObservableResourceBundle bundle = new ObservableResourceBundle(baseName, classLoader, locale);
+
+		// fail early for a wrong base name.
+		bundle.currentBundle();
+
+		setGlobalResourceBundle(bundle);
+	}
+
+	/**
+	 * The locale of the observable global resourceBundle. Must only be changed on the JavaFX application thread.
+	 */
+	public ObjectProperty<Locale> localeProperty() {
+		return locale;
+	}
+
+	/**
+	 * @param key
+	 *            the key of the resource.
+	 * @return the binding of the key in the observable global resourceBundle. There is a single binding per key.
+	 * @throws IllegalStateException
+	 *             if there is no observable global resourceBundle.
+	 * @throws MissingResourceException
+	 *             if there is no resource for the key.
+	 */
+	public StringBinding getStringBinding(String key) {
+		final ResourceBundle global = globalResourceBundle;
+
+		if (!(global instanceof ObservableResourceBundle)) {
+			throw new IllegalStateException("There is no observable global resourceBundle.");
+		}
+
+		return ((ObservableResourceBundle) global).getStringBinding(key);
+	}
+
+	/**
+	 * @param resources
+	 *            a resourceBundle that was created by this class.
+	 * @param key
+	 *            the key of the resource.
+	 * @return the binding of the key if the value of the key in the given resourceBundle comes from the observable
+	 *         global resourceBundle or an empty optional if the value doesn't change with the locale.
+	 */
+	public Optional<StringBinding> findStringBinding(ResourceBundle resources, String key) {
+		if (resources instanceof FlattenedResourceBundle) {
+			return ((FlattenedResourceBundle) resources).findStringBinding(key);
+		}
+		return Optional.empty();
+	}
+
 	public ResourceBundle getGlobalResourceBundle() {
 		return globalResourceBundle;
 	}
@@ -76,26 +177,7 @@ public class ResourceBundleManager {
 	 * @return the merged resourceBundle or null, if there is no global resource bundle and not given resource bundle.
 	 */
 	public ResourceBundle mergeWithGlobal(ResourceBundle resourceBundle) {
-		if (globalResourceBundle == null) {
-			if (resourceBundle == null) {
-				return EMPTY_RESOURCE_BUNDLE;
-			} else {
-				return new ResourceBundleWrapper(resourceBundle);
-			}
-		} else {
-			if (resourceBundle == null) {
-				return new ResourceBundleWrapper(globalResourceBundle);
-			} else {
-				return merge(resourceBundle, globalResourceBundle);
-			}
-		}
-	}
-
-
-	private static ResourceBundle reduce(List<ResourceBundle> bundles) {
-		return bundles.stream()
-				.filter(Objects::nonNull)
-				.reduce(EMPTY_RESOURCE_BUNDLE, (a, b) -> merge(b, a));
+		return mergeListWithGlobal(resourceBundle == null ? null : Collections.singletonList(resourceBundle));
 	}
 
 	/**
@@ -114,116 +196,278 @@ public class ResourceBundleManager {
 	 * @return the merged resourceBundle.
 	 */
 	public ResourceBundle mergeListWithGlobal(List<ResourceBundle> bundles) {
-		if (globalResourceBundle == null) {
-			if (bundles == null) {
-				return EMPTY_RESOURCE_BUNDLE;
-			} else {
-				return reduce(bundles);
+		final ResourceBundle global = globalResourceBundle;
+
+		final List<ResourceBundle> resourceBundles = new ArrayList<>();
+
+		if (global != null) {
+			resourceBundles.add(global);
+		}
+
+		if (bundles != null) {
+			for (ResourceBundle bundle : bundles) {
+				if (bundle != null) {
+					resourceBundles.add(bundle);
+				}
 			}
-		} else {
-			if (bundles == null) {
-				return new ResourceBundleWrapper(globalResourceBundle);
-			} else {
-				final List<ResourceBundle> resourceBundles = new ArrayList<>();
-				resourceBundles.add(globalResourceBundle);
-				resourceBundles.addAll(bundles);
-				return reduce(resourceBundles);
+		}
+
+		if (resourceBundles.isEmpty()) {
+			return EMPTY_RESOURCE_BUNDLE;
+		}
+
+		final CacheKey key = new CacheKey(resourceBundles, Locale.getDefault());
+
+		synchronized (mergedBundles) {
+			final ResourceBundle cached = mergedBundles.get(key);
+
+			if (cached != null) {
+				return cached;
 			}
 		}
+
+		final ResourceBundle merged = new FlattenedResourceBundle(resourceBundles);
+
+		synchronized (mergedBundles) {
+			// a bundle that was merged with an outdated global bundle must not be cached.
+			if (global == globalResourceBundle) {
+				mergedBundles.put(key, merged);
+			}
+		}
+
+		return merged;
 	}
-	
-	private static ResourceBundle merge(ResourceBundle highPriority, ResourceBundle lowPriority) {
-		return new MergedResourceBundle(highPriority, lowPriority);
-	}
-	
-	private static class MergedResourceBundle extends ResourceBundle {
-		private ResourceBundle highPriority;
-		private ResourceBundle lowPriority;
-		
-		public MergedResourceBundle(ResourceBundle highPriority, ResourceBundle lowPriority) {
-			Objects.nonNull(highPriority);
-			Objects.nonNull(lowPriority);
-			this.highPriority = highPriority;
-			this.lowPriority = lowPriority;
-		}
-		
+
+	/**
+	 * The key of a merged resourceBundle. The bundles are compared by identity because they are immutable in most
+	 * cases (f.e. bundles that are loaded with {@link ResourceBundle#getBundle(String)} are cached by the JDK) and the
+	 * comparison of the contents would be as expensive as the merging.
+	 */
+	private static final class CacheKey {
+		private final ResourceBundle[] bundles;
+		private final Locale locale;
+		private final int hashCode;
+
+		CacheKey(List<ResourceBundle> bundles, Locale locale) {
+			this.bundles = bundles.toArray(new ResourceBundle[bundles.size()]);
+			this.locale = locale;
+
+			int hash = locale.hashCode();
+			for (ResourceBundle bundle : this.bundles) {
+				hash = 31 * hash + System.identityHashCode(bundle);
+			}
+			this.hashCode = hash;
+		}
+
 		@Override
-		protected Object handleGetObject(String key) {
-			if (highPriority.containsKey(key)) {
-				return highPriority.getObject(key);
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
 			}
-			
-			if (lowPriority.containsKey(key)) {
-				return lowPriority.getObject(key);
+
+			final CacheKey other = (CacheKey) obj;
+
+			if (hashCode != other.hashCode || bundles.length != other.bundles.length || !locale.equals(other.locale)) {
+				return false;
 			}
-			
-			return null;
+
+			for (int i = 0; i < bundles.length; i++) {
+				if (bundles[i] != other.bundles[i]) {
+					return false;
+				}
+			}
+
+			return true;
 		}
-		
+
 		@Override
-		public Enumeration<String> getKeys() {
-			return new MergedEnumeration(highPriority.keySet(), lowPriority.keySet());
+		public int hashCode() {
+			return hashCode;
 		}
 	}
-	
-	private static class MergedEnumeration implements Enumeration<String> {
-		
-		final Iterator<String> iterator;
-		
-		public MergedEnumeration(Set<String> highPriority, Set<String> lowPriority) {
-			Set<String> allElements = new HashSet<>();
-			allElements.addAll(highPriority);
-			allElements.addAll(lowPriority);
-			
-			iterator = allElements.iterator();
-		}
-		
+
+	/**
+	 * A resourceBundle that always contains the values of the bundle with the base name for the current locale. The
+	 * bundles are cached by the {@link ResourceBundle} class, so a change of the locale only loads each bundle once.
+	 */
+	private static final class ObservableResourceBundle extends ResourceBundle {
+		private final String baseName;
+		private final ClassLoader classLoader;
+		private final ObjectProperty<Locale> locale;
+
+		/**
+		 * The index of the bindings that were created for the keys so far.
+		 */
+		private final ConcurrentMap<String, StringBinding> bindings = new ConcurrentHashMap<>();
+
+		private volatile LocalizedBundle current;
+
+		ObservableResourceBundle(String baseName, ClassLoader classLoader, ObjectProperty<Locale> locale) {
+			this.baseName = baseName;
+			this.classLoader = classLoader;
+			this.locale = locale;
+		}
+
+		/**
+		 * The bundle is resolved lazily on access instead of by a listener of the locale, so the bindings never see
+		 * the bundle of the previous locale, regardless of the order in which the listeners are notified.
+		 */
+		ResourceBundle currentBundle() {
+			final Locale currentLocale = locale.get() == null ? Locale.getDefault() : locale.get();
+			LocalizedBundle bundle = current;
+
+			if (bundle == null || !bundle.locale.equals(currentLocale)) {
+				bundle = new LocalizedBundle(currentLocale,
+						ResourceBundle.getBundle(baseName, currentLocale, classLoader));
+				current = bundle;
+			}
+
+			return bundle.bundle;
+		}
+
+		StringBinding getStringBinding(String key) {
+			final StringBinding binding = bindings.get(key);
+
+			if (binding != null) {
+				return binding;
+			}
+
+			if (!containsKey(key)) {
+				throw new MissingResourceException("Can't find resource for bundle " + baseName + ", key " + key,
+						baseName, key);
+			}
+
+			return bindings.computeIfAbsent(key,
+					k -> Bindings.createStringBinding(() -> currentBundle().getString(k), locale));
+		}
+
 		@Override
-		public boolean hasMoreElements() {
-			return iterator.hasNext();
+		protected Object handleGetObject(String key) {
+			final ResourceBundle bundle = currentBundle();
+			return bundle.containsKey(key) ? bundle.getObject(key) : null;
 		}
-		
+
+		@Override
+		public Enumeration<String> getKeys() {
+			return currentBundle().getKeys();
+		}
+
 		@Override
-		public String nextElement() {
-			return iterator.next();
+		public Set<String> keySet() {
+			return currentBundle().keySet();
+		}
+
+		@Override
+		public boolean containsKey(String key) {
+			return currentBundle().containsKey(key);
+		}
+
+		@Override
+		public Locale getLocale() {
+			return currentBundle().getLocale();
+		}
+	}
+
+	private static final class LocalizedBundle {
+		final Locale locale;
+		final ResourceBundle bundle;
+
+		LocalizedBundle(Locale locale, ResourceBundle bundle) {
+			this.locale = locale;
+			this.bundle = bundle;
 		}
 	}
 
 	/**
-	 * This wrapper is needed due to a bug in FXMLLoader (https://javafx-jira.kenai.com/browse/RT-33764).
-	 * 
-	 * With this class we make sure that there is a classLoader defined for this class.
+	 * An immutable resourceBundle that contains the values of multiple bundles. The bundles are copied in the order of
+	 * their priority, so that values of bundles with a higher priority overwrite the values of the other bundles.
+	 * <p>
+	 * An observable global resourceBundle isn't copied because its values change with the locale. It is used for all
+	 * keys that aren't defined by the other bundles.
+	 * <p>
+	 * This class also works around a bug in FXMLLoader (https://javafx-jira.kenai.com/browse/RT-33764) because there is
+	 * a classLoader defined for this class.
 	 */
-	private static class ResourceBundleWrapper extends ResourceBundle {
-		private final ResourceBundle bundle;
+	private static final class FlattenedResourceBundle extends ResourceBundle {
+		private final Map<String, Object> values;
+		private final Locale locale;
+		private final ObservableResourceBundle observable;
 
-		ResourceBundleWrapper(ResourceBundle bundle) {
-			this.bundle = bundle;
+		/**
+		 * @param bundles
+		 *            the bundles ordered by ascending priority.
+		 */
+		FlattenedResourceBundle(List<ResourceBundle> bundles) {
+			final Map<String, Object> mergedValues = new HashMap<>();
+			ObservableResourceBundle observableBundle = null;
+
+			for (ResourceBundle bundle : bundles) {
+				if (bundle instanceof ObservableResourceBundle) {
+					observableBundle = (ObservableResourceBundle) bundle;
+					continue;
+				}
+
+				for (String key : bundle.keySet()) {
+					mergedValues.put(key, bundle.getObject(key));
+				}
+			}
+
+			final ResourceBundle highestPriority = bundles.get(bundles.size() - 1);
+
+			this.values = Collections.unmodifiableMap(mergedValues);
+			this.observable = observableBundle;
+			this.locale = highestPriority == observableBundle ? null : highestPriority.getLocale();
+		}
+
+		Optional<StringBinding> findStringBinding(String key) {
+			if (observable == null || values.containsKey(key) || !observable.containsKey(key)) {
+				return Optional.empty();
+			}
+			return Optional.of(observable.getStringBinding(key));
 		}
 
 		@Override
 		protected Object handleGetObject(String key) {
-			return bundle.getObject(key);
+			final Object value = values.get(key);
+
+			if (value == null && observable != null) {
+				return observable.handleGetObject(key);
+			}
+			return value;
 		}
 
 		@Override
 		public Enumeration<String> getKeys() {
-			return bundle.getKeys();
+			return Collections.enumeration(keySet());
 		}
 
 		@Override
-		public boolean containsKey(String key) {
-			return bundle.containsKey(key);
+		protected Set<String> handleKeySet() {
+			return keySet();
 		}
 
 		@Override
-		public Locale getLocale() {
-			return bundle.getLocale();
+		public Set<String> keySet() {
+			if (observable == null) {
+				return values.keySet();
+			}
+
+			final Set<String> keys = new HashSet<>(observable.keySet());
+			keys.addAll(values.keySet());
+			return keys;
 		}
 
 		@Override
-		public Set<String> keySet() {
-			return bundle.keySet();
+		public boolean containsKey(String key) {
+			return values.containsKey(key) || (observable != null && observable.containsKey(key));
+		}
+
+		@Override
+		public Locale getLocale() {
+			return locale == null ? observable.getLocale() : locale;
 		}
 	}
 }
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.Scope;
+import de.saxsys.mvvmfx.internal.WeakIdentityKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the loaded views that use a scope and weren't disposed yet (see {@link ViewLifecycle#dispose()}). A view
+ * uses all scopes that its viewModel provides or gets injected. When the count of a scope drops to zero, the scope is
+ * disposed (see {@link Scope#onDispose()}) and its notification channel is removed, so that neither the scope nor its
+ * observers are kept by the notification center.
+ * <p>
+ * Only the disposal of a view releases its scopes. A view that is removed from the scene and added again later keeps
+ * its scopes, together with all subscriptions that its viewModel made on them.
+ * <p>
+ * The scopes are only referenced weakly and are compared by identity. The count of a scope whose views were garbage
+ * collected without being disposed is forgotten together with the scope.
+ */
+public final class ScopeReferences {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ScopeReferences.class);
+
+	private static final ScopeReferences SINGLETON = new ScopeReferences();
+
+	private final Map<Object, Integer> referenceCounts = new HashMap<>();
+
+	private final ReferenceQueue<Scope> collectedScopes = new ReferenceQueue<>();
+
+	private ScopeReferences() {
+	}
+
+	public static ScopeReferences getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * @return the number of views that use the scope and weren't disposed yet.
+	 */
+	public synchronized int getReferenceCount(Scope scope) {
+		return referenceCounts.getOrDefault(WeakIdentityKey.lookup(scope), 0);
+	}
+
+	synchronized void acquire(Scope scope) {
+		purgeCollectedScopes();
+
+		final Object key = WeakIdentityKey.lookup(scope);
+		final Integer count = referenceCounts.get(key);
+
+		if (count == null) {
+			referenceCounts.put(new WeakIdentityKey<>(scope, collectedScopes), 1);
+		} else {
+			referenceCounts.put(key, count + 1);
+		}
+	}
+
+	/**
+	 * Releases a reference to the scope and disposes the scope if it was the last one.
+	 */
+	void release(Scope scope) {
+		synchronized (this) {
+			purgeCollectedScopes();
+
+			final Object key = WeakIdentityKey.lookup(scope);
+			final Integer count = referenceCounts.get(key);
+
+			if (count == null) {
+				return;
+			}
+
+			if (count > 1) {
+				referenceCounts.put(key, count - 1);
+				return;
+			}
+
+			referenceCounts.remove(key);
+		}
+
+		try {
+			scope.onDispose();
+		} catch (RuntimeException e) {
+			LOG.warn("The scope [{}] couldn't be disposed.", scope, e);
+		}
+
+		MvvmFX.getNotificationCenter().removeChannel(scope);
+	}
+
+	private void purgeCollectedScopes() {
+		Reference<? extends Scope> reference;
+		while ((reference = collectedScopes.poll()) != null) {
+			referenceCounts.remove(reference);
+		}
+	}
+}
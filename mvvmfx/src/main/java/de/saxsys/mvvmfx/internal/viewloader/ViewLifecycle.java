@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.Disposable;
+import de.saxsys.mvvmfx.Scope;
+import de.saxsys.mvvmfx.ViewModel;
+import de.saxsys.mvvmfx.internal.ViewModelChannels;
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.scene.Parent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The resources of a single view load: the state whether the loaded view is part of a scene and all code behinds and
+ * viewModels that were created by the load, including the ones of sub views (<code>fx:include</code>).
+ * <p>
+ * The {@link de.saxsys.mvvmfx.SceneLifecycle} hooks listen to the scene state. {@link #dispose()} reports the removal
+ * from the scene to them one last time, decouples the scene state from the view, releases the references to the used
+ * scopes (see {@link ScopeReferences}), removes the notification channels of the viewModels and calls the
+ * {@link Disposable} hooks. A view that was only loaded to be thrown away is released with {@link #discard()} instead.
+ */
+public final class ViewLifecycle {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ViewLifecycle.class);
+
+	private final BooleanProperty viewInScene = new SimpleBooleanProperty();
+
+	private final Set<Object> codeBehinds = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Set<ViewModel> viewModels = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final List<Scope> usedScopes = new ArrayList<>();
+
+	private Parent root;
+
+	private boolean disposed = false;
+
+	/**
+	 * @return <code>true</code> while the loaded view is part of a scene.
+	 */
+	ObservableBooleanValue viewInSceneProperty() {
+		return viewInScene;
+	}
+
+	/**
+	 * Registers a code behind and its viewModel (may be <code>null</code>) that were created by the load. Both are
+	 * tracked by the {@link ViewModelRegistry}.
+	 */
+	synchronized void register(Object codeBehind, ViewModel viewModel) {
+		if (codeBehind != null && codeBehinds.add(codeBehind)) {
+			ViewModelRegistry.getInstance().track(codeBehind, viewInScene);
+		}
+		if (viewModel != null && viewModels.add(viewModel)) {
+			ViewModelRegistry.getInstance().track(viewModel, viewInScene);
+		}
+	}
+
+	/**
+	 * Replaces a viewModel of the load with another instance, f.e. when a pooled view is bound to an existing
+	 * viewModel. The replaced viewModel is disposed immediately: its notification channel is removed and its
+	 * {@link Disposable} hook is called. The new viewModel is disposed together with the view.
+	 *
+	 * @param replacedViewModel
+	 *            the viewModel that was created by the load.
+	 * @param viewModel
+	 *            the viewModel that is used by the view from now on.
+	 */
+	public void replaceViewModel(ViewModel replacedViewModel, ViewModel viewModel) {
+		if (replacedViewModel == viewModel) {
+			return;
+		}
+
+		synchronized (this) {
+			if (disposed) {
+				throw new IllegalStateException("The view was already disposed.");
+			}
+
+			viewModels.remove(replacedViewModel);
+			register(null, viewModel);
+		}
+
+		ViewModelChannels.getInstance().removeChannel(replacedViewModel);
+		callDisposeHook(replacedViewModel);
+	}
+
+	/**
+	 * Counts a reference to each of the scopes (see {@link ScopeReferences}) until this lifecycle is disposed.
+	 */
+	synchronized void useScopes(Collection<? extends Scope> scopes) {
+		for (Scope scope : scopes) {
+			ScopeReferences.getInstance().acquire(scope);
+			usedScopes.add(scope);
+		}
+	}
+
+	/**
+	 * Connects the scene state with the loaded root node.
+	 */
+	void setRoot(Parent root) {
+		this.root = root;
+		viewInScene.bind(root.sceneProperty().isNotNull());
+	}
+
+	/**
+	 * Disposes the view as soon as it is removed from the scene. The check is done in a later pulse so that a view
+	 * that is only moved to another place in the scene isn't disposed.
+	 */
+	public void disposeOnSceneRemoval() {
+		if (root == null) {
+			throw new IllegalStateException("The view wasn't loaded yet.");
+		}
+
+		// the root keeps the lifecycle as long as the view exists.
+		root.getProperties().put(ViewLifecycle.class, this);
+
+		viewInScene.addListener((observable, oldValue, newValue) -> {
+			if (!newValue) {
+				Platform.runLater(() -> {
+					if (!viewInScene.get()) {
+						dispose();
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Releases the resources of the loaded view. Must be called on the JavaFX application thread. Calling this method
+	 * multiple times has no effect.
+	 */
+	public void dispose() {
+		final List<Object> disposedCodeBehinds;
+		final List<ViewModel> disposedViewModels;
+		final List<Scope> releasedScopes;
+
+		synchronized (this) {
+			if (disposed) {
+				return;
+			}
+			disposed = true;
+
+			disposedCodeBehinds = new ArrayList<>(codeBehinds);
+			disposedViewModels = new ArrayList<>(viewModels);
+			releasedScopes = new ArrayList<>(usedScopes);
+			codeBehinds.clear();
+			viewModels.clear();
+			usedScopes.clear();
+		}
+
+		// the hooks get the removal from the scene and don't get any changes afterwards.
+		viewInScene.unbind();
+		viewInScene.set(false);
+		PreventGarbageCollectionStore.getInstance().remove(viewInScene);
+
+		if (root != null) {
+			root.getProperties().remove(ViewLifecycle.class);
+		}
+
+		// the views are disposed first because they typically observe their viewModels.
+		disposedCodeBehinds.forEach(ViewLifecycle::callDisposeHook);
+
+		for (ViewModel viewModel : disposedViewModels) {
+			ViewModelChannels.getInstance().removeChannel(viewModel);
+			callDisposeHook(viewModel);
+		}
+
+		releasedScopes.forEach(ScopeReferences.getInstance()::release);
+	}
+
+	/**
+	 * Releases only the resources that the load itself created, for a view that was loaded to be thrown away and never
+	 * entered a scene (see {@link de.saxsys.mvvmfx.ViewPreloader}). Unlike {@link #dispose()}, the code behinds and
+	 * viewModels are left alone: they may be singletons of the dependency injection framework that are used by the
+	 * views that are loaded later. Therefore neither their {@link Disposable} hooks are called nor their notification
+	 * channels are removed. The used scopes are released, the scene state is decoupled from the view and the
+	 * instances are no longer tracked by the {@link ViewModelRegistry} for this load. Can be called on any thread.
+	 */
+	public void discard() {
+		final List<Object> discardedInstances = new ArrayList<>();
+		final List<Scope> releasedScopes;
+
+		synchronized (this) {
+			if (disposed) {
+				return;
+			}
+			disposed = true;
+
+			discardedInstances.addAll(codeBehinds);
+			discardedInstances.addAll(viewModels);
+			releasedScopes = new ArrayList<>(usedScopes);
+			codeBehinds.clear();
+			viewModels.clear();
+			usedScopes.clear();
+		}
+
+		// the scene state never changed, so the scene lifecycle hooks are only decoupled.
+		viewInScene.unbind();
+		PreventGarbageCollectionStore.getInstance().remove(viewInScene);
+
+		if (root != null) {
+			root.getProperties().remove(ViewLifecycle.class);
+		}
+
+		discardedInstances.forEach(ViewModelRegistry.getInstance()::untrack);
+
+		releasedScopes.forEach(ScopeReferences.getInstance()::release);
+	}
+
+	public synchronized boolean isDisposed() {
+		return disposed;
+	}
+
+	private static void callDisposeHook(Object object) {
+		if (object instanceof Disposable) {
+			try {
+				((Disposable) object).dispose();
+			} catch (RuntimeException e) {
+				LOG.warn("[{}] couldn't be disposed.", object, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.ViewLoadEvent;
+import de.saxsys.mvvmfx.ViewLoadListener;
+import de.saxsys.mvvmfx.ViewLoadPhase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the phases of view loads and reports them to the registered {@link ViewLoadListener}s.
+ * <p>
+ * The loads of a thread are kept in a stack so that the phases are reported for the innermost load and sub views get
+ * the including load as parent. When no listener is registered, nothing is measured and every method returns
+ * immediately.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * final long start = ViewLoadTracing.getInstance().startPhase();
+ * try {
+ * 	...
+ * } finally {
+ * 	ViewLoadTracing.getInstance().finishPhase(ViewLoadPhase.SCOPE_INJECTION, viewModel.getClass(), start);
+ * }
+ * </pre>
+ */
+public final class ViewLoadTracing {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ViewLoadTracing.class);
+
+	private static final ViewLoadTracing SINGLETON = new ViewLoadTracing();
+
+	/**
+	 * Returned by {@link #startPhase()} when no listener is registered.
+	 */
+	private static final long NOT_TRACED = Long.MIN_VALUE;
+
+	private final List<ViewLoadListener> listeners = new CopyOnWriteArrayList<>();
+
+	private volatile boolean enabled = false;
+
+	private final AtomicLong loadIds = new AtomicLong();
+
+	private final ThreadLocal<Deque<Load>> currentLoads = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private ViewLoadTracing() {
+	}
+
+	public static ViewLoadTracing getInstance() {
+		return SINGLETON;
+	}
+
+	public void addListener(ViewLoadListener listener) {
+		listeners.add(listener);
+		enabled = true;
+	}
+
+	public void removeListener(ViewLoadListener listener) {
+		listeners.remove(listener);
+		enabled = !listeners.isEmpty();
+	}
+
+	/**
+	 * @return the innermost load of the current thread or <code>null</code>.
+	 */
+	Load currentLoad() {
+		return enabled ? currentLoads.get().peek() : null;
+	}
+
+	/**
+	 * Starts a new load with the innermost load of the current thread as parent.
+	 *
+	 * @return the new load or <code>null</code> if no listener is registered.
+	 */
+	Load startLoad(String viewName) {
+		return startLoad(viewName, currentLoad());
+	}
+
+	/**
+	 * Starts a new load with the given parent. This is used for sub views that are loaded by another thread.
+	 *
+	 * @return the new load or <code>null</code> if no listener is registered.
+	 */
+	Load startLoad(String viewName, Load parent) {
+		if (!enabled) {
+			return null;
+		}
+
+		final Load load = new Load(loadIds.incrementAndGet(), parent == null ? 0 : parent.id, viewName);
+		currentLoads.get().push(load);
+
+		return load;
+	}
+
+	/**
+	 * Starts the load of a sub view whose controller is created by a controller factory. The first controller of a
+	 * load is the controller of the load itself, so no new load is started in this case.
+	 *
+	 * @return the new load or <code>null</code>.
+	 */
+	Load startControllerLoad(Class<?> controllerType) {
+		final Load current = currentLoad();
+
+		if (current != null && !current.controllerCreated) {
+			current.controllerCreated = true;
+			return null;
+		}
+
+		final Load load = startLoad(controllerType.getName(), current);
+
+		if (load != null) {
+			load.controllerCreated = true;
+		}
+
+		return load;
+	}
+
+	/**
+	 * Finishes the given load and reports the {@link ViewLoadPhase#TOTAL} phase.
+	 *
+	 * @param load
+	 *            the load that was returned by one of the start methods. May be <code>null</code>.
+	 * @param type
+	 *            the type of the loaded view if known. May be <code>null</code>.
+	 */
+	void finishLoad(Load load, Class<?> type) {
+		if (load == null) {
+			return;
+		}
+
+		currentLoads.get().remove(load);
+
+		notifyListeners(new ViewLoadEvent(load.id, load.parentId, load.viewName, ViewLoadPhase.TOTAL, type,
+				System.nanoTime() - load.start));
+	}
+
+	/**
+	 * @return the start time of a phase that has to be passed to {@link #finishPhase(ViewLoadPhase, Class, long)}.
+	 */
+	long startPhase() {
+		return enabled ? System.nanoTime() : NOT_TRACED;
+	}
+
+	/**
+	 * Reports a phase of the innermost load of the current thread.
+	 *
+	 * @param phase
+	 *            the finished phase.
+	 * @param type
+	 *            the class that the phase was about. May be <code>null</code>.
+	 * @param start
+	 *            the value of {@link #startPhase()}.
+	 */
+	void finishPhase(ViewLoadPhase phase, Class<?> type, long start) {
+		if (start == NOT_TRACED) {
+			return;
+		}
+
+		final long duration = System.nanoTime() - start;
+		final Load load = currentLoads.get().peek();
+
+		if (load != null) {
+			notifyListeners(new ViewLoadEvent(load.id, load.parentId, load.viewName, phase, type, duration));
+		}
+	}
+
+	private void notifyListeners(ViewLoadEvent event) {
+		for (ViewLoadListener listener : listeners) {
+			try {
+				listener.onViewLoadEvent(event);
+			} catch (RuntimeException e) {
+				LOG.warn("The ViewLoadListener [{}] has thrown an exception.", listener, e);
+			}
+		}
+	}
+
+	/**
+	 * A single view load.
+	 */
+	static final class Load {
+		private final long id;
+		private final long parentId;
+		private final String viewName;
+		private final long start = System.nanoTime();
+
+		/**
+		 * Whether the controller of the loaded FXML file was already created.
+		 */
+		boolean controllerCreated = false;
+
+		Load(long id, long parentId, String viewName) {
+			this.id = id;
+			this.parentId = parentId;
+			this.viewName = viewName;
+		}
+	}
+}
@@ -15,16 +15,15 @@
  ******************************************************************************/
 package de.saxsys.mvvmfx.internal.viewloader;
 
-import de.saxsys.mvvmfx.Context;
 import de.saxsys.mvvmfx.Initialize;
-import de.saxsys.mvvmfx.InjectContext;
 import de.saxsys.mvvmfx.InjectScope;
 import de.saxsys.mvvmfx.InjectViewModel;
 import de.saxsys.mvvmfx.Scope;
-import de.saxsys.mvvmfx.ScopeProvider;
 import de.saxsys.mvvmfx.SceneLifecycle;
+import de.saxsys.mvvmfx.ViewLoadPhase;
 import de.saxsys.mvvmfx.ViewModel;
 import de.saxsys.mvvmfx.internal.ContextImpl;
+import de.saxsys.mvvmfx.internal.FlightRecorderEvent;
 import javafx.beans.value.ObservableBooleanValue;
 import net.jodah.typetools.TypeResolver;
 
@@ -34,10 +33,12 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * This class encapsulates reflection related utility operations specific for
@@ -59,23 +60,13 @@ public class ViewLoaderReflectionUtils {
      * @return an Optional that contains the Field when the field exists.
      */
     public static Optional<Field> getViewModelField(Class<? extends View> viewType, Class<?> viewModelType) {
-        List<Field> allViewModelFields = getViewModelFields(viewType);
+        final Optional<Field> fieldOptional = InjectionMetadata.of(viewType).getViewModelField();
 
-        if (allViewModelFields.isEmpty()) {
-            return Optional.empty();
+        if (!fieldOptional.isPresent()) {
+            return fieldOptional;
         }
 
-        if (allViewModelFields.size() > 1) {
-            throw new RuntimeException("The View <" + viewType + "> may only define one viewModel but there were <"
-                    + allViewModelFields.size() + "> viewModel fields with the @InjectViewModel annotation!");
-        }
-
-        Field field = allViewModelFields.get(0);
-
-        if (!ViewModel.class.isAssignableFrom(field.getType())) {
-            throw new RuntimeException("The View <" + viewType
-                    + "> has a field annotated with @InjectViewModel but the type of the field doesn't implement the 'ViewModel' interface!");
-        }
+        Field field = fieldOptional.get();
 
         if (!field.getType().isAssignableFrom(viewModelType)) {
             throw new RuntimeException("The View <" + viewType
@@ -87,44 +78,30 @@ public class ViewLoaderReflectionUtils {
         return Optional.of(field);
     }
 
-    public static List<Field> getScopeFields(Class<?> viewModelType) {
-        final List<Field> allScopeFields = getFieldsWithAnnotation(viewModelType, InjectScope.class);
-
-        allScopeFields.stream().forEach(field -> {
-            if (!Scope.class.isAssignableFrom(field.getType())) {
-                throw new RuntimeException("The ViewModel <" + viewModelType
-                        + "> has a field annotated with @InjectScope but the type of the field doesn't implement the 'Scope' interface!");
-            }
-        });
-
-        return allScopeFields;
-    }
-
-    private static Optional<Field> getContextField(Class<? extends View> viewType) {
-        List<Field> allViewModelFields = getContextFields(viewType);
-
-        if (allViewModelFields.isEmpty()) {
-            return Optional.empty();
-        }
+    /**
+     * Resolves the reflection information of the given view type and of
+     * its viewModel type so that it is already cached when the view is
+     * loaded for the first time.
+     *
+     * @param viewType
+     *            the type of the view.
+     */
+    public static void prepareMetadata(Class<? extends View> viewType) {
+        final Class<?> viewModelType = InjectionMetadata.of(viewType).getViewModelType();
 
-        if (allViewModelFields.size() > 1) {
-            throw new RuntimeException("The View <" + viewType + "> may only define one Context but there were <"
-                    + allViewModelFields.size() + "> Context fields with the @InjectContext annotation!");
+        if (ViewModel.class.isAssignableFrom(viewModelType)) {
+            InjectionMetadata.of(viewModelType);
         }
 
-        Field field = allViewModelFields.get(0);
-
-        if (!field.getType().isAssignableFrom(Context.class)) {
-            throw new RuntimeException("The View <" + viewType
-                    + "> has a field annotated with @InjectContext but the type of the field doesn't match the type Context. "
-                    + "The actual type of the field is <" + field.getType() + ">.");
-        }
+        FxmlControllerMetadata.of(viewType);
+    }
 
-        return Optional.of(field);
+    public static List<Field> getScopeFields(Class<?> viewModelType) {
+        return InjectionMetadata.of(viewModelType).getValidatedScopeFields();
     }
 
-    private static List<Field> getContextFields(Class<? extends View> viewType) {
-        return getFieldsWithAnnotation(viewType, InjectContext.class);
+    private static Optional<Field> getContextField(Class<? extends View> viewType) {
+        return InjectionMetadata.of(viewType).getContextField();
     }
 
     /**
@@ -136,15 +113,7 @@ public class ViewLoaderReflectionUtils {
      * @return a list of fields.
      */
     public static List<Field> getViewModelFields(Class<? extends View> viewType) {
-        return getFieldsWithAnnotation(viewType, InjectViewModel.class);
-    }
-
-    private static <T, A extends Annotation> List<Field> getFieldsWithAnnotation(Class<T> classType,
-            Class<A> annotationType) {
-        return ReflectionUtils.getFieldsFromClassHierarchy(classType)
-                .stream()
-                .filter(field -> field.isAnnotationPresent(annotationType))
-                .collect(Collectors.toList());
+        return InjectionMetadata.of(viewType).getViewModelFields();
     }
 
     /**
@@ -162,11 +131,11 @@ public class ViewLoaderReflectionUtils {
     @SuppressWarnings("unchecked")
     public static <ViewType extends View<? extends ViewModelType>, ViewModelType extends ViewModel> ViewModelType getExistingViewModel(
             ViewType view) {
-        final Class<?> viewModelType = TypeResolver.resolveRawArgument(View.class, view.getClass());
+        final Class<?> viewModelType = InjectionMetadata.of(view.getClass()).getViewModelType();
         Optional<Field> fieldOptional = getViewModelField(view.getClass(), viewModelType);
         if (fieldOptional.isPresent()) {
-            Field field = fieldOptional.get();
-            return ReflectionUtils.accessMember(field, () -> (ViewModelType) field.get(view),
+            final FieldAccessor accessor = FieldAccessor.of(fieldOptional.get());
+            return ReflectionUtils.handleErrors(() -> (ViewModelType) accessor.get(view),
                     "Can't get the viewModel of type <" + viewModelType + ">");
         } else {
             return null;
@@ -188,13 +157,32 @@ public class ViewLoaderReflectionUtils {
         }
         final Optional<Field> fieldOptional = getViewModelField(view.getClass(), viewModel.getClass());
         if (fieldOptional.isPresent()) {
-            Field field = fieldOptional.get();
-            ReflectionUtils.accessMember(field, () -> {
-                Object existingViewModel = field.get(view);
+            final long start = ViewLoadTracing.getInstance().startPhase();
+            final FieldAccessor accessor = FieldAccessor.of(fieldOptional.get());
+            ReflectionUtils.handleErrors(() -> {
+                Object existingViewModel = accessor.get(view);
                 if (existingViewModel == null) {
-                    field.set(view, viewModel);
+                    accessor.set(view, viewModel);
                 }
             }, "Can't inject ViewModel of type <" + viewModel.getClass() + "> into the view <" + view + ">");
+            ViewLoadTracing.getInstance().finishPhase(ViewLoadPhase.VIEW_MODEL_INJECTION, viewModel.getClass(), start);
+        }
+    }
+
+    /**
+     * Injects the given viewModel instance into the given view. In contrast
+     * to {@link #injectViewModel(View, ViewModel)} an existing viewModel is
+     * replaced.
+     *
+     * @param view
+     * @param viewModel
+     */
+    public static void replaceViewModel(final View view, ViewModel viewModel) {
+        final Optional<Field> fieldOptional = getViewModelField(view.getClass(), viewModel.getClass());
+        if (fieldOptional.isPresent()) {
+            final FieldAccessor accessor = FieldAccessor.of(fieldOptional.get());
+            ReflectionUtils.handleErrors(() -> accessor.set(view, viewModel),
+                    "Can't inject ViewModel of type <" + viewModel.getClass() + "> into the view <" + view + ">");
         }
     }
 
@@ -237,7 +225,7 @@ public class ViewLoaderReflectionUtils {
     @SuppressWarnings("unchecked")
     public static <V extends View<? extends VM>, VM extends ViewModel> void createAndInjectViewModel(final V view,
             Consumer<ViewModel> newVmConsumer) {
-        final Class<?> viewModelType = TypeResolver.resolveRawArgument(View.class, view.getClass());
+        final Class<?> viewModelType = InjectionMetadata.of(view.getClass()).getViewModelType();
 
         if (viewModelType == ViewModel.class) {
             // if no viewModel can be created, we have to check if the user has
@@ -256,62 +244,71 @@ public class ViewLoaderReflectionUtils {
 
         final Optional<Field> fieldOptional = getViewModelField(view.getClass(), viewModelType);
         if (fieldOptional.isPresent()) {
-            Field field = fieldOptional.get();
+            final FieldAccessor accessor = FieldAccessor.of(fieldOptional.get());
 
-            ReflectionUtils.accessMember(field, () -> {
-                Object existingViewModel = field.get(view);
+            ReflectionUtils.handleErrors(() -> {
+                Object existingViewModel = accessor.get(view);
 
                 if (existingViewModel == null) {
-                    final Object newViewModel = DependencyInjector.getInstance().getInstanceOf(viewModelType);
+                    final long start = ViewLoadTracing.getInstance().startPhase();
 
-                    field.set(view, newViewModel);
+                    try {
+                        final Object newViewModel = DependencyInjector.getInstance().getInstanceOf(viewModelType);
 
-                    newVmConsumer.accept((ViewModel) newViewModel);
+                        accessor.set(view, newViewModel);
+
+                        newVmConsumer.accept((ViewModel) newViewModel);
+                    } finally {
+                        ViewLoadTracing.getInstance().finishPhase(ViewLoadPhase.VIEW_MODEL_INJECTION, viewModelType, start);
+                    }
                 }
             }, "Can't inject ViewModel of type <" + viewModelType + "> into the view <" + view + ">");
 
         }
     }
 
-    static void createAndInjectScopes(Object viewModel, ContextImpl context) {
+    /**
+     * Creates the scopes that are provided by the viewModel and injects the scopes into the viewModel.
+     *
+     * @param lifecycle
+     *            the lifecycle of the view of the viewModel that holds the references to the scopes (see
+     *            {@link ScopeReferences}) or <code>null</code> if the scopes aren't counted.
+     * @return the context with the provided scopes of the viewModel. The given context isn't modified.
+     */
+    static ContextImpl createAndInjectScopes(Object viewModel, ContextImpl parentContext, ViewLifecycle lifecycle) {
+        final long start = ViewLoadTracing.getInstance().startPhase();
 
-        // FIXME CLEANUP!!!
-        Class<? extends Object> viewModelClass = viewModel.getClass();
+        final InjectionMetadata metadata = InjectionMetadata.of(viewModel.getClass());
 
-        for (Annotation annotation : viewModelClass.getDeclaredAnnotations()) {
-            if (annotation.annotationType().isAssignableFrom(ScopeProvider.class)) {
-                ScopeProvider provider = (ScopeProvider) annotation;
-                Class<? extends Scope>[] scopes = getScopesFromProvider(provider, viewModelClass);
-                for (int i = 0; i < scopes.length; i++) {
-                    Class<? extends Scope> scopeType = scopes[i];
-                    // Overrides existing scopes!!!!
-                    context.addScopeToContext(DependencyInjector.getInstance().getInstanceOf(scopeType));
-                }
-            }
+        final List<Scope> providedScopes = new ArrayList<>();
+        for (Class<? extends Scope> scopeType : metadata.getProvidedScopes()) {
+            final Scope scope = DependencyInjector.getInstance().getInstanceOf(scopeType);
+            ViewModelRegistry.getInstance().track(scope, lifecycle == null ? null : lifecycle.viewInSceneProperty());
+            providedScopes.add(scope);
         }
 
+        // Overrides existing scopes!!!!
+        final ContextImpl context = parentContext.withScopes(providedScopes);
+
+        final Set<Scope> usedScopes = Collections.newSetFromMap(new IdentityHashMap<>());
+        usedScopes.addAll(providedScopes);
+
         // Inject
-        List<Field> scopeFields = getScopeFields(viewModel.getClass());
+        List<Field> scopeFields = metadata.getValidatedScopeFields();
 
         scopeFields.forEach(scopeField -> {
-            ReflectionUtils.accessMember(scopeField, () -> injectScopeIntoField(scopeField, viewModel, context),
-                    "Can't inject Scope into ViewModel <" + viewModel.getClass() + ">");
+            usedScopes.add((Scope) ReflectionUtils.handleErrors(
+                    () -> injectScopeIntoField(scopeField, viewModel, context),
+                    "Can't inject Scope into ViewModel <" + viewModel.getClass() + ">"));
         });
-    }
 
-    private static Class<? extends Scope>[] getScopesFromProvider(final ScopeProvider scopeProvider, final Class<?> aViewModelClass) {
-        Class<? extends Scope>[] scopes = scopeProvider.value();
-        
-        if (scopes.length == 0) {
-            scopes = scopeProvider.scopes();
-        }
-        
-        if (scopes.length == 0) {
-            final String message = String.format("The scope provider '%s' has to provide at least one scope.", aViewModelClass.getCanonicalName());
-            throw new IllegalArgumentException(message);
+        if (lifecycle != null) {
+            lifecycle.useScopes(usedScopes);
         }
 
-        return scopes;
+        ViewLoadTracing.getInstance().finishPhase(ViewLoadPhase.SCOPE_INJECTION, viewModel.getClass(), start);
+
+        return context;
     }
 
     public static void injectContext(View codeBehind, ContextImpl context) {
@@ -319,15 +316,15 @@ public class ViewLoaderReflectionUtils {
         Optional<Field> contextField = getContextField(codeBehind.getClass());
 
         if (contextField.isPresent()) {
-            Field field = contextField.get();
-            ReflectionUtils.accessMember(field, () -> {
-                field.set(codeBehind, context);
+            final FieldAccessor accessor = FieldAccessor.of(contextField.get());
+            ReflectionUtils.handleErrors(() -> {
+                accessor.set(codeBehind, context);
             }, "Can't inject Context into the view <" + codeBehind + ">");
         }
     }
 
     static Object injectScopeIntoField(Field scopeField, Object viewModel, ContextImpl context)
-            throws IllegalAccessException {
+            throws Exception {
         Class<? extends Scope> scopeType = (Class<? extends Scope>) scopeField.getType();
 
         // FIXME
@@ -352,7 +349,7 @@ public class ViewLoaderReflectionUtils {
             throw new IllegalStateException("something went wrong...");
         }
 
-        scopeField.set(viewModel, newScope);
+        FieldAccessor.of(scopeField).set(viewModel, newScope);
 
         return newScope;
     }
@@ -376,7 +373,7 @@ public class ViewLoaderReflectionUtils {
     @SuppressWarnings("unchecked")
     public static <ViewType extends View<? extends ViewModelType>, ViewModelType extends ViewModel> ViewModelType createViewModel(
             ViewType view) {
-        final Class<?> viewModelType = TypeResolver.resolveRawArgument(View.class, view.getClass());
+        final Class<?> viewModelType = InjectionMetadata.of(view.getClass()).getViewModelType();
         if (viewModelType == ViewModel.class) {
             return null;
         }
@@ -402,7 +399,14 @@ public class ViewLoaderReflectionUtils {
             return;
         }
 
-        final Collection<Method> initializeMethods = getInitializeMethods(viewModel.getClass());
+        final Collection<Method> initializeMethods = InjectionMetadata.of(viewModel.getClass()).getInitializeMethods();
+
+        if (initializeMethods.isEmpty()) {
+            return;
+        }
+
+        final long start = ViewLoadTracing.getInstance().startPhase();
+        final Object flightRecorderEvent = FlightRecorderEvent.VIEW_MODEL_INITIALIZATION.begin();
 
         initializeMethods.forEach(initMethod -> {
 			// if there is a @PostConstruct annotation, throw an exception to prevent double injection
@@ -419,33 +423,22 @@ public class ViewLoaderReflectionUtils {
 						"https://github.com/sialcasa/mvvmFX/wiki/Dependency-Injection#lifecycle-postconstruct", viewModel));
 			}
 
-			ReflectionUtils.accessMember(initMethod, () -> initMethod.invoke(viewModel), "mvvmFX wasn't able to call the initialize method of ViewModel [" + viewModel + "].");
-		});
-    }
-
-	/**
-	 * Returns a collection of {@link Method}s that represent initializer methods.
-	 * A method is an "initializer method" if it either: <br/>
-	 * <ol>
-	 *     <li>has a signature of "public void initialize()"</li>
-	 *     <li>is annotated with {@link Initialize}</li>
-	 * </ol>
-	 */
-	private static Collection<Method> getInitializeMethods(Class<?> classType) {
-        final List<Method> initializeMethods = new ArrayList<>();
+			final String errorMessage = "mvvmFX wasn't able to call the initialize method of ViewModel [" + viewModel + "].";
+			final GeneratedInjector generatedInjector = InjectionMetadata.of(initMethod.getDeclaringClass()).getGeneratedInjector();
 
-        Arrays.stream(classType.getMethods())
-                .filter(method -> "initialize".equals(method.getName()))
-                .filter(method -> void.class.equals(method.getReturnType()))
-                .filter(method -> method.getParameterCount() == 0)
-                .forEach(initializeMethods::add);
-
-		Arrays.stream(classType.getDeclaredMethods())
-				.filter(method -> method.isAnnotationPresent(Initialize.class))
-				.forEach(initializeMethods::add);
+			if (generatedInjector != null && initMethod.getParameterCount() == 0
+					&& generatedInjector.canInvokeMethod(initMethod.getName())) {
+				ReflectionUtils.handleErrors(() -> generatedInjector.invokeMethod(viewModel, initMethod.getName()), errorMessage);
+			} else {
+				ReflectionUtils.accessMember(initMethod, () -> initMethod.invoke(viewModel), errorMessage);
+			}
+		});
 
-		return initializeMethods;
-	}
+        if (flightRecorderEvent != null) {
+            FlightRecorderEvent.VIEW_MODEL_INITIALIZATION.commit(flightRecorderEvent, viewModel.getClass());
+        }
+        ViewLoadTracing.getInstance().finishPhase(ViewLoadPhase.INITIALIZATION, viewModel.getClass(), start);
+    }
 
 
     /**
@@ -478,7 +471,7 @@ public class ViewLoaderReflectionUtils {
      * error.
      */
     static void checkScopesInView(View codeBehind) {
-        List<Field> scopeFields = ReflectionUtils.getFieldsWithAnnotation(codeBehind, InjectScope.class);
+        List<Field> scopeFields = InjectionMetadata.of(codeBehind.getClass()).getScopeFields();
 
         if(!scopeFields.isEmpty()) {
             throw new IllegalStateException("The view class [" + codeBehind.getClass().getSimpleName() + "] tries to inject a Scope with " +
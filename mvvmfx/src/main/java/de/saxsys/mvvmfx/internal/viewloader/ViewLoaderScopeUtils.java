@@ -8,6 +8,10 @@ import de.saxsys.mvvmfx.internal.ContextImpl;
 
 class ViewLoaderScopeUtils {
 
+    /**
+     * @return the context of a view load: the parent context with the provided scopes. The parent context isn't
+     *         modified.
+     */
     static ContextImpl prepareContext(Context parentContext, Collection<Scope> providedScopes) {
         ContextImpl context = null;
 
@@ -17,14 +21,7 @@ class ViewLoaderScopeUtils {
             context = (ContextImpl) parentContext;
         }
 
-        if (providedScopes != null) {
-
-            for (Scope scope : providedScopes) {
-                context.addScopeToContext(scope);
-            }
-        }
-
-        return context;
+        return context.withScopes(providedScopes);
     }
 
 }
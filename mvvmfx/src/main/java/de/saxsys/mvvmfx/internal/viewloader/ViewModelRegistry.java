@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.InstanceCensus;
+import de.saxsys.mvvmfx.internal.WeakIdentityKey;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ObservableValue;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of all views, viewModels and scopes that are created by the view loaders, so that instances that are
+ * still alive although they aren't used anymore can be found without a heap dump. The instances are only referenced
+ * weakly, the registry doesn't prevent their garbage collection.
+ * <p>
+ * The instances are compared by identity. An instance that is used by several loads (f.e. a singleton of the
+ * dependency injection framework or a scope that is injected into several viewModels) is only tracked once and counts
+ * as attached to a scene as soon as the view of one of these loads is part of a scene.
+ * <p>
+ * The tracking is disabled by default and can be enabled with
+ * {@link de.saxsys.mvvmfx.MvvmFX#enableInstanceTracking(int)}.
+ */
+public final class ViewModelRegistry {
+
+	private static final ViewModelRegistry SINGLETON = new ViewModelRegistry();
+
+	private final ConcurrentMap<Object, TrackingState> trackedInstances = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	private final AtomicLong trackedCount = new AtomicLong();
+
+	private volatile boolean enabled = false;
+
+	private volatile int allocationStackSampleInterval = 0;
+
+	private ViewModelRegistry() {
+	}
+
+	public static ViewModelRegistry getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * @param allocationStackSampleInterval
+	 *            the allocation stack is captured for every n-th tracked instance. <code>0</code> disables the capturing
+	 *            of allocation stacks, <code>1</code> captures the stack of every instance.
+	 */
+	public void enable(int allocationStackSampleInterval) {
+		if (allocationStackSampleInterval < 0) {
+			throw new IllegalArgumentException("The sample interval of allocation stacks must not be negative.");
+		}
+
+		this.allocationStackSampleInterval = allocationStackSampleInterval;
+		this.enabled = true;
+	}
+
+	/**
+	 * Stops the tracking and forgets all tracked instances.
+	 */
+	public void disable() {
+		enabled = false;
+		trackedInstances.clear();
+		purge();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Tracks an instance that was created by a view loader. Does nothing while the tracking is disabled.
+	 *
+	 * @param instance
+	 *            the view, viewModel or scope.
+	 * @param viewInSceneProperty
+	 *            <code>true</code> while the view that belongs to the instance is part of a scene or <code>null</code>
+	 *            if the scene state isn't known.
+	 */
+	void track(Object instance, ObservableBooleanValue viewInSceneProperty) {
+		if (!enabled) {
+			return;
+		}
+
+		purge();
+
+		// if the instance is already tracked, the existing key is kept and the new key is never enqueued.
+		final TrackingState state = trackedInstances.compute(new WeakIdentityKey<>(instance, queue),
+				(key, current) -> {
+					final TrackingState result = current == null ? new TrackingState(createAllocationStack()) : current;
+					result.loadCount++;
+					return result;
+				});
+
+		if (viewInSceneProperty == null) {
+			return;
+		}
+
+		state.sceneStateTracked = true;
+
+		if (viewInSceneProperty.get()) {
+			state.attachedToScene = true;
+		} else if (!state.attachedToScene) {
+			// the listener only references the tracking state and not the instance itself.
+			viewInSceneProperty.addListener(new ChangeListener<Boolean>() {
+				@Override
+				public void changed(ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean newValue) {
+					if (newValue) {
+						state.attachedToScene = true;
+						observable.removeListener(this);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Reverts one {@link #track(Object, ObservableBooleanValue)} of the instance, f.e. for a load whose result is
+	 * thrown away. The instance is forgotten if no other load tracked it.
+	 */
+	void untrack(Object instance) {
+		trackedInstances.computeIfPresent(WeakIdentityKey.lookup(instance),
+				(key, state) -> --state.loadCount == 0 ? null : state);
+	}
+
+	private StackTraceElement[] createAllocationStack() {
+		final long number = trackedCount.incrementAndGet();
+		final int sampleInterval = allocationStackSampleInterval;
+
+		return sampleInterval > 0 && number % sampleInterval == 0 ? new Throwable().getStackTrace() : null;
+	}
+
+	/**
+	 * @return the instances that are currently alive.
+	 */
+	public InstanceCensus getCensus() {
+		purge();
+
+		final List<InstanceCensus.LiveInstance> instances = new ArrayList<>();
+
+		for (Map.Entry<Object, TrackingState> entry : trackedInstances.entrySet()) {
+			final Object instance = ((Reference<?>) entry.getKey()).get();
+			final TrackingState state = entry.getValue();
+
+			if (instance != null) {
+				instances.add(new InstanceCensus.LiveInstance(instance.getClass(), state.creationTime,
+						state.sceneStateTracked, state.attachedToScene, state.allocationStack));
+			}
+		}
+
+		return new InstanceCensus(Instant.now(), instances);
+	}
+
+	/**
+	 * Removes the references of instances that were garbage collected.
+	 */
+	private void purge() {
+		Reference<?> reference;
+		while ((reference = queue.poll()) != null) {
+			trackedInstances.remove(reference);
+		}
+	}
+
+	/**
+	 * The state of a tracked instance. The creation time and the allocation stack are the ones of the first load that
+	 * used the instance.
+	 */
+	private static final class TrackingState {
+		final Instant creationTime = Instant.now();
+		final StackTraceElement[] allocationStack;
+
+		volatile boolean sceneStateTracked = false;
+		volatile boolean attachedToScene = false;
+
+		/**
+		 * The number of tracked loads, only modified by the atomic operations of the map.
+		 */
+		int loadCount = 0;
+
+		TrackingState(StackTraceElement[] allocationStack) {
+			this.allocationStack = allocationStack;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader.fxml;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A FXML file that was parsed and resolved by the {@link FxmlParser}.
+ * <p>
+ * The document is the shared model of the FXML compiler of the <code>mvvmfx-fxml-compiler-maven-plugin</code>, which
+ * generates source code from it, and of the template cache of mvvmFX, which creates object graphs from it at runtime.
+ * Both therefore support exactly the same subset of FXML and apply the same rules.
+ */
+public final class FxmlDocument {
+
+	private final String location;
+	private final FxmlValue root;
+	private final List<String> includes;
+
+	FxmlDocument(String location, FxmlValue root, List<String> includes) {
+		this.location = location;
+		this.root = root;
+		this.includes = Collections.unmodifiableList(includes);
+	}
+
+	/**
+	 * @return the location of the FXML file that was used for error messages.
+	 */
+	public String getLocation() {
+		return location;
+	}
+
+	/**
+	 * @return the value of the root element.
+	 */
+	public FxmlValue getRoot() {
+		return root;
+	}
+
+	/**
+	 * @return the class of the <code>fx:controller</code> of the root element or <code>null</code> if there is no
+	 *         controller.
+	 */
+	public Class<?> getControllerType() {
+		return root instanceof FxmlValue.Instance ? ((FxmlValue.Instance) root).getControllerType() : null;
+	}
+
+	/**
+	 * @return the <code>source</code> attributes of all <code>fx:include</code> elements in document order.
+	 */
+	public List<String> getIncludes() {
+		return includes;
+	}
+}
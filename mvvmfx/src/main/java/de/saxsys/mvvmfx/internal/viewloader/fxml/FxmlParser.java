@@ -0,0 +1,1130 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader.fxml;
+
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlStatement.AddToList;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlStatement.BindResourceString;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlStatement.Register;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlStatement.SetProperty;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlStatement.SetStaticProperty;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.Constant;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.EnumConstant;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.EventHandlerReference;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.FactoryCall;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.Include;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.Instance;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.Literal;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.NewInstance;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.ResourceString;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.Root;
+import de.saxsys.mvvmfx.internal.viewloader.fxml.FxmlValue.ValueOf;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Parses a FXML file into a {@link FxmlDocument}. All classes that are referenced in the FXML file are resolved with
+ * the given {@link ClassLoader} and all reflective lookups (constructors, setters, attribute conversions) are done
+ * once here.
+ * <p>
+ * The parser is shared by the FXML compiler of the <code>mvvmfx-fxml-compiler-maven-plugin</code> and the template
+ * cache of mvvmFX. It doesn't link against JavaFX: the JavaFX annotations and types are only referenced by name
+ * because the plugin inspects the classes of the project from another classLoader.
+ * <p>
+ * Only a subset of FXML is supported:
+ * <ul>
+ * <li>class and package imports</li>
+ * <li>instance elements with a public no-arg constructor or a constructor with <code>@NamedArg</code> parameters</li>
+ * <li><code>fx:id</code>, <code>fx:controller</code>, <code>fx:root</code>, <code>fx:include</code>,
+ * <code>fx:value</code>, <code>fx:constant</code> and <code>fx:factory</code></li>
+ * <li>property attributes and property elements, read-only list properties, default properties and static
+ * properties</li>
+ * <li>resource keys (<code>%key</code>) and controller event handlers (<code>#method</code>)</li>
+ * </ul>
+ * Every other feature (f.e. scripts, <code>fx:define</code>, <code>fx:reference</code>, expression bindings or
+ * location references with <code>@</code>) leads to an {@link UnsupportedFxmlException}. Such files are loaded with the
+ * <code>FXMLLoader</code>.
+ */
+public final class FxmlParser {
+
+	private static final String FX_PREFIX = "fx";
+
+	private static final String DEFAULT_PROPERTY_ANNOTATION = "javafx.beans.DefaultProperty";
+	private static final String NAMED_ARG_ANNOTATION = "javafx.beans.NamedArg";
+	private static final String EVENT_HANDLER_CLASS = "javafx.event.EventHandler";
+	private static final String STRING_PROPERTY_CLASS = "javafx.beans.property.StringProperty";
+
+	private static final String ARRAY_COMPONENT_DELIMITER = ",";
+
+	private final String location;
+	private final ClassLoader classLoader;
+
+	private final List<String> classImports = new ArrayList<>();
+	private final List<String> packageImports = new ArrayList<>();
+	private final Map<String, Class<?>> resolvedClasses = new HashMap<>();
+	private final List<String> includes = new ArrayList<>();
+
+	private FxmlParser(String location, ClassLoader classLoader) {
+		this.location = location;
+		this.classLoader = classLoader;
+
+		packageImports.add("java.lang");
+	}
+
+	/**
+	 * @param fxml
+	 *            the content of the FXML file.
+	 * @param location
+	 *            the location of the FXML file. It is only used for error messages.
+	 * @param classLoader
+	 *            the classLoader that is used to resolve the classes of the FXML file.
+	 * @return the parsed document.
+	 * @throws UnsupportedFxmlException
+	 *             if the FXML file can't be read or uses features that are not supported.
+	 */
+	public static FxmlDocument parse(InputStream fxml, String location, ClassLoader classLoader)
+			throws UnsupportedFxmlException {
+		final List<XmlInstruction> instructions = new ArrayList<>();
+		final XmlElement rootElement = parseXml(fxml, instructions);
+
+		final FxmlParser parser = new FxmlParser(location, classLoader);
+
+		for (XmlInstruction instruction : instructions) {
+			parser.processInstruction(instruction);
+		}
+
+		final FxmlValue root = parser.processInstanceElement(rootElement, true);
+
+		return new FxmlDocument(location, root, parser.includes);
+	}
+
+	private void processInstruction(XmlInstruction instruction) throws UnsupportedFxmlException {
+		final String data = instruction.data.trim();
+
+		if ("import".equals(instruction.target)) {
+			if (data.endsWith(".*")) {
+				packageImports.add(data.substring(0, data.length() - 2));
+			} else {
+				classImports.add(data);
+			}
+		} else if ("language".equals(instruction.target)) {
+			throw new UnsupportedFxmlException("Scripts are not supported.");
+		}
+	}
+
+	private FxmlValue processInstanceElement(XmlElement element, boolean documentRoot) throws UnsupportedFxmlException {
+		if (FX_PREFIX.equals(element.prefix)) {
+			switch (element.localName) {
+				case "root":
+					if (!documentRoot) {
+						throw new UnsupportedFxmlException("fx:root is only allowed as root element.");
+					}
+					return processRootElement(element);
+				case "include":
+					return processInclude(element);
+				default:
+					throw new UnsupportedFxmlException("<" + element.getTagName() + "> is not supported.");
+			}
+		}
+
+		final Class<?> type = resolveClass(element.getTagName());
+
+		final List<XmlAttribute> propertyAttributes = new ArrayList<>();
+		String fxId = null;
+		Class<?> controllerType = null;
+		String fxValue = null;
+		String fxConstant = null;
+		String fxFactory = null;
+
+		for (XmlAttribute attribute : element.attributes) {
+			if (FX_PREFIX.equals(attribute.prefix)) {
+				switch (attribute.localName) {
+					case "id":
+						fxId = attribute.value;
+						break;
+					case "controller":
+						if (!documentRoot) {
+							throw new UnsupportedFxmlException("fx:controller is only allowed for the root element.");
+						}
+						controllerType = resolveController(attribute.value);
+						break;
+					case "value":
+						fxValue = attribute.value;
+						break;
+					case "constant":
+						fxConstant = attribute.value;
+						break;
+					case "factory":
+						fxFactory = attribute.value;
+						break;
+					default:
+						throw new UnsupportedFxmlException("The attribute " + attribute.getName() + " is not supported.");
+				}
+			} else {
+				propertyAttributes.add(attribute);
+			}
+		}
+
+		final FxmlValue creation;
+
+		if (fxValue != null && type == String.class) {
+			creation = new Literal(type, fxValue);
+		} else if (fxValue != null) {
+			final Method valueOf = findStaticMethod(type, "valueOf", String.class)
+					.orElseThrow(() -> new UnsupportedFxmlException(type.getName() + " has no valueOf(String) method."));
+			creation = new ValueOf(type, valueOf, fxValue);
+		} else if (fxConstant != null) {
+			creation = new Constant(type, findConstant(type, fxConstant));
+		} else if (fxFactory != null) {
+			final Method factory = findStaticMethod(type, fxFactory)
+					.orElseThrow(() -> new UnsupportedFxmlException(type.getName() + " has no factory method."));
+			creation = new FactoryCall(type, factory);
+		} else if (hasPublicNoArgConstructor(type)) {
+			creation = new NewInstance(getNoArgConstructor(type), new ArrayList<>());
+		} else {
+			if (!element.getChildElements().isEmpty()) {
+				throw new UnsupportedFxmlException(type.getName() + " has no no-arg constructor.");
+			}
+			creation = createWithNamedArgs(type, propertyAttributes);
+			propertyAttributes.clear();
+		}
+
+		final List<FxmlStatement> statements = processInstanceContent(element, creation.getType(), fxId,
+				propertyAttributes);
+
+		// like the FXMLLoader we create the controller before the root element.
+		return new Instance(controllerType, creation, statements);
+	}
+
+	private FxmlValue processRootElement(XmlElement element) throws UnsupportedFxmlException {
+		final String typeName = element.getAttribute("type");
+
+		if (typeName.isEmpty()) {
+			throw new UnsupportedFxmlException("fx:root without type.");
+		}
+
+		final Class<?> type = resolveClass(typeName);
+
+		final List<XmlAttribute> propertyAttributes = new ArrayList<>();
+		String fxId = null;
+		Class<?> controllerType = null;
+
+		for (XmlAttribute attribute : element.attributes) {
+			if (FX_PREFIX.equals(attribute.prefix)) {
+				if ("id".equals(attribute.localName)) {
+					fxId = attribute.value;
+				} else if ("controller".equals(attribute.localName)) {
+					controllerType = resolveController(attribute.value);
+				} else {
+					throw new UnsupportedFxmlException("The attribute " + attribute.getName() + " is not supported.");
+				}
+			} else if (!"type".equals(attribute.getName())) {
+				propertyAttributes.add(attribute);
+			}
+		}
+
+		final List<FxmlStatement> statements = processInstanceContent(element, type, fxId, propertyAttributes);
+
+		return new Instance(controllerType, new Root(type), statements);
+	}
+
+	private Class<?> resolveController(String controllerName) throws UnsupportedFxmlException {
+		return loadClass(controllerName)
+				.orElseThrow(() -> new UnsupportedFxmlException("The controller " + controllerName + " can't be found."));
+	}
+
+	private FxmlValue processInclude(XmlElement element) throws UnsupportedFxmlException {
+		String source = null;
+		String fxId = null;
+
+		for (XmlAttribute attribute : element.attributes) {
+			if (FX_PREFIX.equals(attribute.prefix) && "id".equals(attribute.localName)) {
+				fxId = attribute.value;
+			} else if (attribute.prefix == null && "source".equals(attribute.getName())) {
+				source = attribute.value;
+			} else {
+				throw new UnsupportedFxmlException("The attribute " + attribute.getName() + " of fx:include is not supported.");
+			}
+		}
+
+		if (source == null) {
+			throw new UnsupportedFxmlException("fx:include without source.");
+		}
+
+		includes.add(source);
+
+		return new Include(source, fxId);
+	}
+
+	private List<FxmlStatement> processInstanceContent(XmlElement element, Class<?> type, String fxId,
+			List<XmlAttribute> propertyAttributes) throws UnsupportedFxmlException {
+		final List<FxmlStatement> statements = new ArrayList<>();
+
+		if (fxId != null) {
+			final Optional<Method> idSetter = findSetter(type, "id")
+					.filter(setter -> setter.getParameterTypes()[0] == String.class);
+
+			if (idSetter.isPresent()) {
+				statements.add(new SetProperty(idSetter.get(), new Literal(String.class, fxId)));
+			}
+			statements.add(new Register(fxId));
+		}
+
+		for (XmlAttribute attribute : propertyAttributes) {
+			statements.add(processPropertyAttribute(type, attribute));
+		}
+
+		final List<FxmlValue> defaultPropertyValues = new ArrayList<>();
+
+		for (Object child : element.children) {
+			if (child instanceof String) {
+				if (!((String) child).trim().isEmpty()) {
+					throw new UnsupportedFxmlException("Text content of <" + element.getTagName() + "> is not supported.");
+				}
+			} else {
+				final XmlElement childElement = (XmlElement) child;
+
+				if (isInstanceElement(childElement)) {
+					defaultPropertyValues.add(processInstanceElement(childElement, false));
+				} else {
+					if (!defaultPropertyValues.isEmpty()) {
+						statements.add(setDefaultProperty(type, new ArrayList<>(defaultPropertyValues)));
+						defaultPropertyValues.clear();
+					}
+					processPropertyElement(type, childElement).ifPresent(statements::add);
+				}
+			}
+		}
+
+		if (!defaultPropertyValues.isEmpty()) {
+			statements.add(setDefaultProperty(type, defaultPropertyValues));
+		}
+
+		return statements;
+	}
+
+	private FxmlStatement setDefaultProperty(Class<?> ownerType, List<FxmlValue> values)
+			throws UnsupportedFxmlException {
+		final Optional<String> defaultProperty = getDefaultProperty(ownerType);
+
+		if (defaultProperty.isPresent()) {
+			return setProperty(ownerType, defaultProperty.get(), values);
+		}
+
+		if (List.class.isAssignableFrom(ownerType)) {
+			return new AddToList(null, Object.class, values);
+		}
+
+		throw new UnsupportedFxmlException(ownerType.getName() + " has no default property.");
+	}
+
+	/**
+	 * @return the statement that sets the property or an empty optional if the property element is empty. Like the
+	 *         <code>FXMLLoader</code> we ignore empty property elements, f.e.
+	 *         <code>&lt;children&gt;&lt;/children&gt;</code>.
+	 */
+	private Optional<FxmlStatement> processPropertyElement(Class<?> ownerType, XmlElement element)
+			throws UnsupportedFxmlException {
+		if (!element.attributes.isEmpty()) {
+			throw new UnsupportedFxmlException("Attributes of the property element <" + element.getTagName()
+					+ "> are not supported.");
+		}
+
+		final List<FxmlValue> values = new ArrayList<>();
+		final StringBuilder text = new StringBuilder();
+
+		for (Object child : element.children) {
+			if (child instanceof String) {
+				text.append((String) child);
+			} else {
+				final XmlElement childElement = (XmlElement) child;
+				if (!isInstanceElement(childElement)) {
+					throw new UnsupportedFxmlException("Nested property elements in <" + element.getTagName()
+							+ "> are not supported.");
+				}
+				values.add(processInstanceElement(childElement, false));
+			}
+		}
+
+		final String name = element.getTagName();
+		final String content = text.toString().trim().replaceAll("\\s*\\n\\s*", " ");
+
+		if (!values.isEmpty() && !content.isEmpty()) {
+			throw new UnsupportedFxmlException("Mixed content in <" + name + "> is not supported.");
+		}
+
+		if (values.isEmpty() && content.isEmpty()) {
+			return Optional.empty();
+		}
+
+		if (name.contains(".")) {
+			final int separator = name.lastIndexOf('.');
+			final Class<?> staticPropertyType = resolveClass(name.substring(0, separator));
+			final Method setter = findStaticSetter(staticPropertyType, name.substring(separator + 1), ownerType);
+
+			final FxmlValue argument;
+			if (values.size() == 1) {
+				argument = convert(values.get(0), setter.getParameterTypes()[1]);
+			} else if (values.isEmpty()) {
+				argument = coerce(content, setter.getParameterTypes()[1]);
+			} else {
+				throw new UnsupportedFxmlException("Multiple values for the static property " + name + ".");
+			}
+
+			return Optional.of(new SetStaticProperty(staticPropertyType, setter, argument));
+		} else if (values.isEmpty()) {
+			return Optional.of(setProperty(ownerType, name, content));
+		} else {
+			return Optional.of(setProperty(ownerType, name, values));
+		}
+	}
+
+	private FxmlStatement processPropertyAttribute(Class<?> ownerType, XmlAttribute attribute)
+			throws UnsupportedFxmlException {
+		if (attribute.prefix != null) {
+			throw new UnsupportedFxmlException("The attribute " + attribute.getName() + " is not supported.");
+		}
+
+		final String name = attribute.getName();
+
+		if (name.contains(".")) {
+			final int separator = name.lastIndexOf('.');
+			final Class<?> staticPropertyType = resolveClass(name.substring(0, separator));
+			final Method setter = findStaticSetter(staticPropertyType, name.substring(separator + 1), ownerType);
+
+			return new SetStaticProperty(staticPropertyType, setter,
+					coerce(attribute.value, setter.getParameterTypes()[1]));
+		}
+
+		return setProperty(ownerType, name, attribute.value);
+	}
+
+	/**
+	 * Sets a property to a value given as string (from an attribute or text content).
+	 */
+	private FxmlStatement setProperty(Class<?> ownerType, String property, String value)
+			throws UnsupportedFxmlException {
+		final Optional<Method> setter = findSetter(ownerType, property);
+
+		if (setter.isPresent()) {
+			final Method method = setter.get();
+			final FxmlValue argument = coerce(value, method.getParameterTypes()[0]);
+			final Optional<Method> stringProperty = value.startsWith("%")
+					? findStringProperty(ownerType, property)
+					: Optional.empty();
+
+			if (stringProperty.isPresent()) {
+				return new BindResourceString(stringProperty.get(), value.substring(1));
+			}
+
+			return new SetProperty(method, argument);
+		}
+
+		final Optional<Method> getter = findGetter(ownerType, property);
+
+		if (getter.isPresent() && List.class.isAssignableFrom(getter.get().getReturnType())) {
+			final Class<?> elementType = getListElementType(getter.get());
+			final List<FxmlValue> values = new ArrayList<>();
+
+			for (String component : value.split(ARRAY_COMPONENT_DELIMITER)) {
+				values.add(coerce(component.trim(), elementType));
+			}
+
+			return new AddToList(getter.get(), elementType, values);
+		}
+
+		throw new UnsupportedFxmlException("The property " + property + " of " + ownerType.getName() + " can't be set.");
+	}
+
+	/**
+	 * Sets a property to the values of instance elements.
+	 */
+	private FxmlStatement setProperty(Class<?> ownerType, String property, List<FxmlValue> values)
+			throws UnsupportedFxmlException {
+		final Optional<Method> setter = findSetter(ownerType, property);
+
+		if (setter.isPresent()) {
+			if (values.size() != 1) {
+				throw new UnsupportedFxmlException("Multiple values for the property " + property + " of "
+						+ ownerType.getName() + ".");
+			}
+
+			final Method method = setter.get();
+			return new SetProperty(method, convert(values.get(0), method.getParameterTypes()[0]));
+		}
+
+		final Optional<Method> getter = findGetter(ownerType, property);
+
+		if (getter.isPresent() && List.class.isAssignableFrom(getter.get().getReturnType())) {
+			final Class<?> elementType = getListElementType(getter.get());
+			final List<FxmlValue> elements = new ArrayList<>();
+
+			for (FxmlValue value : values) {
+				elements.add(convert(value, elementType));
+			}
+
+			return new AddToList(getter.get(), elementType, elements);
+		}
+
+		throw new UnsupportedFxmlException("The property " + property + " of " + ownerType.getName() + " can't be set.");
+	}
+
+	/**
+	 * Creates an instance with a constructor that has <code>@NamedArg</code> parameters, like the
+	 * <code>JavaFXBuilderFactory</code> does.
+	 */
+	private FxmlValue createWithNamedArgs(Class<?> type, List<XmlAttribute> attributes)
+			throws UnsupportedFxmlException {
+		final Map<String, String> values = new LinkedHashMap<>();
+
+		for (XmlAttribute attribute : attributes) {
+			if (attribute.prefix != null || attribute.getName().contains(".")) {
+				throw new UnsupportedFxmlException("The attribute " + attribute.getName() + " of " + type.getName()
+						+ " is not supported.");
+			}
+			values.put(attribute.getName(), attribute.value);
+		}
+
+		final Constructor<?> constructor = Arrays.stream(type.getConstructors())
+				.filter(candidate -> getNamedArgs(candidate).isPresent())
+				.filter(candidate -> getNamedArgs(candidate).get().keySet().containsAll(values.keySet()))
+				.min(Comparator.comparingInt(Constructor::getParameterCount))
+				.orElseThrow(() -> new UnsupportedFxmlException("No matching constructor of " + type.getName()
+						+ " for the attributes " + values.keySet() + "."));
+
+		final Map<String, String> namedArgs = getNamedArgs(constructor).get();
+		final Class<?>[] parameterTypes = constructor.getParameterTypes();
+		final List<FxmlValue> arguments = new ArrayList<>();
+
+		int index = 0;
+		for (Map.Entry<String, String> namedArg : namedArgs.entrySet()) {
+			final Class<?> parameterType = parameterTypes[index++];
+
+			if (values.containsKey(namedArg.getKey())) {
+				arguments.add(coerce(values.get(namedArg.getKey()), parameterType));
+			} else if (namedArg.getValue().isEmpty()) {
+				arguments.add(new Literal(parameterType, defaultValue(parameterType)));
+			} else {
+				arguments.add(coerce(namedArg.getValue(), parameterType));
+			}
+		}
+
+		return new NewInstance(constructor, arguments);
+	}
+
+	/**
+	 * @return the names of the parameters mapped to their default values or an empty optional if not all parameters
+	 *         are annotated with <code>@NamedArg</code>.
+	 */
+	private static Optional<Map<String, String>> getNamedArgs(Constructor<?> constructor) {
+		final Map<String, String> namedArgs = new LinkedHashMap<>();
+
+		for (Annotation[] annotations : constructor.getParameterAnnotations()) {
+			final Optional<Annotation> namedArg = Arrays.stream(annotations)
+					.filter(annotation -> annotation.annotationType().getName().equals(NAMED_ARG_ANNOTATION))
+					.findFirst();
+
+			if (!namedArg.isPresent()) {
+				return Optional.empty();
+			}
+
+			namedArgs.put((String) getAnnotationValue(namedArg.get(), "value"),
+					(String) getAnnotationValue(namedArg.get(), "defaultValue"));
+		}
+
+		return namedArgs.isEmpty() ? Optional.empty() : Optional.of(namedArgs);
+	}
+
+	/**
+	 * Converts a string from the FXML file into a value of the given type. This follows the rules of the
+	 * <code>FXMLLoader</code> (resource keys, event handlers) and of its <code>BeanAdapter.coerce</code>.
+	 */
+	private FxmlValue coerce(String value, Class<?> type) throws UnsupportedFxmlException {
+		if (value.startsWith("\\")) {
+			return coerceLiteral(value.substring(1), type);
+		}
+
+		if (value.startsWith("%")) {
+			if (!type.isAssignableFrom(String.class)) {
+				throw new UnsupportedFxmlException("A resource key can't be used for type " + type.getName() + ".");
+			}
+			return new ResourceString(value.substring(1));
+		}
+
+		if (value.startsWith("#")) {
+			if (!EVENT_HANDLER_CLASS.equals(type.getName())) {
+				throw new UnsupportedFxmlException("Scripts are not supported: " + value);
+			}
+			return new EventHandlerReference(type, value.substring(1));
+		}
+
+		if (value.startsWith("@")) {
+			throw new UnsupportedFxmlException("Location references are not supported: " + value);
+		}
+
+		if (value.startsWith("$")) {
+			throw new UnsupportedFxmlException("Variables and expressions are not supported: " + value);
+		}
+
+		return coerceLiteral(value, type);
+	}
+
+	private FxmlValue coerceLiteral(String value, Class<?> type) throws UnsupportedFxmlException {
+		try {
+			if (type == String.class || type == Object.class || type == CharSequence.class) {
+				return new Literal(type, value);
+			}
+			if (type == boolean.class || type == Boolean.class) {
+				return new Literal(type, Boolean.parseBoolean(value));
+			}
+			if (type == int.class || type == Integer.class) {
+				return new Literal(type, Integer.parseInt(value));
+			}
+			if (type == long.class || type == Long.class) {
+				return new Literal(type, Long.parseLong(value));
+			}
+			if (type == short.class || type == Short.class) {
+				return new Literal(type, Short.parseShort(value));
+			}
+			if (type == byte.class || type == Byte.class) {
+				return new Literal(type, Byte.parseByte(value));
+			}
+			if (type == double.class || type == Double.class) {
+				return new Literal(type, Double.parseDouble(value));
+			}
+			if (type == float.class || type == Float.class) {
+				return new Literal(type, Float.parseFloat(value));
+			}
+			if ((type == char.class || type == Character.class) && value.length() == 1) {
+				return new Literal(type, value.charAt(0));
+			}
+		} catch (NumberFormatException e) {
+			throw new UnsupportedFxmlException("The value \"" + value + "\" can't be converted to " + type.getName() + ".");
+		}
+
+		if (type.isEnum()) {
+			return new EnumConstant(type, findEnumConstant(type, value));
+		}
+
+		final Optional<Method> valueOf = findStaticMethod(type, "valueOf", String.class)
+				.filter(method -> type.isAssignableFrom(method.getReturnType()));
+
+		if (valueOf.isPresent()) {
+			return new ValueOf(type, valueOf.get(), value);
+		}
+
+		throw new UnsupportedFxmlException("The value \"" + value + "\" can't be converted to " + type.getName() + ".");
+	}
+
+	/**
+	 * Checks that the given value can be assigned to the given type. Values of type {@link Object} (f.e.
+	 * <code>fx:include</code>) are only checked when the object graph is created.
+	 */
+	private static FxmlValue convert(FxmlValue value, Class<?> type) throws UnsupportedFxmlException {
+		if (box(type).isAssignableFrom(box(value.getType())) || value.getType() == Object.class) {
+			return value;
+		}
+
+		throw new UnsupportedFxmlException(value.getType().getName() + " can't be assigned to " + type.getName() + ".");
+	}
+
+	private static boolean isInstanceElement(XmlElement element) {
+		if (FX_PREFIX.equals(element.prefix)) {
+			return true;
+		}
+
+		final String name = element.getTagName();
+		final String simpleName = name.substring(name.lastIndexOf('.') + 1);
+
+		return !simpleName.isEmpty() && Character.isUpperCase(simpleName.charAt(0)) && !isStaticPropertyName(name);
+	}
+
+	/**
+	 * Static property elements like <code>GridPane.margin</code> contain a dot and end with a lower case name.
+	 */
+	private static boolean isStaticPropertyName(String name) {
+		final int separator = name.lastIndexOf('.');
+		return separator > 0 && Character.isLowerCase(name.charAt(separator + 1));
+	}
+
+	private Class<?> resolveClass(String name) throws UnsupportedFxmlException {
+		final Class<?> cached = resolvedClasses.get(name);
+		if (cached != null) {
+			return cached;
+		}
+
+		Optional<Class<?>> type = Optional.empty();
+
+		if (Character.isLowerCase(name.charAt(0)) && name.contains(".")) {
+			// fully qualified name
+			type = loadClass(name);
+		} else {
+			for (String classImport : classImports) {
+				if (classImport.equals(name) || classImport.endsWith("." + name)) {
+					type = loadClass(classImport);
+					break;
+				}
+				// nested classes of imported classes, f.e. "Outer.Inner"
+				final String outerName = name.contains(".") ? name.substring(0, name.indexOf('.')) : null;
+				if (outerName != null && classImport.endsWith("." + outerName)) {
+					type = loadClass(classImport + name.substring(outerName.length()));
+					break;
+				}
+			}
+
+			for (int i = 0; !type.isPresent() && i < packageImports.size(); i++) {
+				type = loadClass(packageImports.get(i) + "." + name);
+			}
+		}
+
+		final Class<?> resolved = type.orElseThrow(() -> new UnsupportedFxmlException("The class " + name
+				+ " can't be found in " + location + "."));
+
+		if (!isPublic(resolved) || resolved.getCanonicalName() == null) {
+			throw new UnsupportedFxmlException("The class " + resolved.getName() + " is not public.");
+		}
+
+		resolvedClasses.put(name, resolved);
+		return resolved;
+	}
+
+	/**
+	 * Loads a class by its name. Nested classes may be separated by "." or "$".
+	 */
+	private Optional<Class<?>> loadClass(String name) {
+		String candidate = name;
+
+		while (true) {
+			try {
+				return Optional.of(Class.forName(candidate, false, classLoader));
+			} catch (ClassNotFoundException | LinkageError e) {
+				final int separator = candidate.lastIndexOf('.');
+				if (separator < 0) {
+					return Optional.empty();
+				}
+				candidate = candidate.substring(0, separator) + "$" + candidate.substring(separator + 1);
+			}
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if the class and all its enclosing classes are public.
+	 */
+	public static boolean isPublic(Class<?> type) {
+		for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+			if (!Modifier.isPublic(current.getModifiers())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasPublicNoArgConstructor(Class<?> type) {
+		if (Modifier.isAbstract(type.getModifiers()) || type.isInterface()) {
+			return false;
+		}
+		return Arrays.stream(type.getConstructors()).anyMatch(constructor -> constructor.getParameterCount() == 0);
+	}
+
+	private static Constructor<?> getNoArgConstructor(Class<?> type) throws UnsupportedFxmlException {
+		try {
+			return type.getConstructor();
+		} catch (NoSuchMethodException e) {
+			throw new UnsupportedFxmlException(type.getName() + " has no no-arg constructor.");
+		}
+	}
+
+	private static Optional<String> getDefaultProperty(Class<?> type) {
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			for (Annotation annotation : current.getDeclaredAnnotations()) {
+				if (annotation.annotationType().getName().equals(DEFAULT_PROPERTY_ANNOTATION)) {
+					return Optional.of((String) getAnnotationValue(annotation, "value"));
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	private static Object getAnnotationValue(Annotation annotation, String name) {
+		try {
+			return annotation.annotationType().getMethod(name).invoke(annotation);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Optional<Method> findGetter(Class<?> type, String property) {
+		final String suffix = capitalize(property);
+
+		return Arrays.stream(type.getMethods())
+				.filter(method -> !Modifier.isStatic(method.getModifiers()))
+				.filter(method -> method.getParameterCount() == 0)
+				.filter(method -> method.getName().equals("get" + suffix)
+						|| (method.getName().equals("is" + suffix) && method.getReturnType() == boolean.class))
+				.filter(FxmlParser::isAccessible)
+				.min(Comparator.comparing(Method::isBridge));
+	}
+
+	/**
+	 * Finds the method that returns the <code>StringProperty</code> of a property, f.e. <code>textProperty()</code>.
+	 */
+	private static Optional<Method> findStringProperty(Class<?> type, String property) {
+		return Arrays.stream(type.getMethods())
+				.filter(method -> !Modifier.isStatic(method.getModifiers()))
+				.filter(method -> method.getParameterCount() == 0)
+				.filter(method -> method.getName().equals(property + "Property"))
+				.filter(method -> isSubclassOf(method.getReturnType(), STRING_PROPERTY_CLASS))
+				.filter(FxmlParser::isAccessible)
+				.min(Comparator.comparing(Method::isBridge));
+	}
+
+	private static boolean isSubclassOf(Class<?> type, String className) {
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			if (current.getName().equals(className)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the setter of a property. If there are multiple setters with the same name, the one with the type of the
+	 * getter is used like the <code>BeanAdapter</code> of JavaFX does.
+	 */
+	private static Optional<Method> findSetter(Class<?> type, String property) {
+		final String name = "set" + capitalize(property);
+		final Optional<Class<?>> getterType = findGetter(type, property).map(Method::getReturnType);
+
+		final List<Method> setters = new ArrayList<>();
+		for (Method method : type.getMethods()) {
+			if (!Modifier.isStatic(method.getModifiers()) && !method.isBridge() && method.getName().equals(name)
+					&& method.getParameterCount() == 1 && isAccessible(method)) {
+				setters.add(method);
+			}
+		}
+
+		if (setters.size() > 1 && getterType.isPresent()) {
+			for (Method setter : setters) {
+				if (setter.getParameterTypes()[0] == getterType.get()) {
+					return Optional.of(setter);
+				}
+			}
+		}
+
+		return setters.size() == 1 ? Optional.of(setters.get(0)) : Optional.empty();
+	}
+
+	private static Method findStaticSetter(Class<?> type, String property, Class<?> ownerType)
+			throws UnsupportedFxmlException {
+		final String name = "set" + capitalize(property);
+
+		return Arrays.stream(type.getMethods())
+				.filter(method -> Modifier.isStatic(method.getModifiers()))
+				.filter(method -> method.getName().equals(name) && method.getParameterCount() == 2)
+				.filter(method -> method.getParameterTypes()[0].isAssignableFrom(ownerType))
+				.findFirst()
+				.orElseThrow(() -> new UnsupportedFxmlException("The static property " + type.getName() + "."
+						+ property + " can't be set on " + ownerType.getName() + "."));
+	}
+
+	/**
+	 * Public methods that are declared in a non-public class can't be invoked from outside of their package. In this
+	 * case the FXML file is loaded with the <code>FXMLLoader</code>, which is detected when the setter or getter can't
+	 * be found.
+	 */
+	private static boolean isAccessible(Method method) {
+		return isPublic(method.getDeclaringClass());
+	}
+
+	private static Optional<Method> findStaticMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+		try {
+			final Method method = type.getMethod(name, parameterTypes);
+			return Modifier.isStatic(method.getModifiers()) ? Optional.of(method) : Optional.empty();
+		} catch (NoSuchMethodException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static Field findConstant(Class<?> type, String name) throws UnsupportedFxmlException {
+		try {
+			final Field field = type.getField(name);
+			if (Modifier.isStatic(field.getModifiers())) {
+				return field;
+			}
+		} catch (NoSuchFieldException e) {
+			// handled below
+		}
+		throw new UnsupportedFxmlException(type.getName() + " has no constant " + name + ".");
+	}
+
+	/**
+	 * Like JavaFX we accept the exact name of the constant or a camel case version (f.e. "centerLeft" for
+	 * "CENTER_LEFT").
+	 */
+	private static String findEnumConstant(Class<?> type, String value) throws UnsupportedFxmlException {
+		final List<String> candidates = Arrays.asList(value, toAllCaps(value));
+
+		for (Object constant : type.getEnumConstants()) {
+			final String name = ((Enum<?>) constant).name();
+			if (candidates.contains(name)) {
+				return name;
+			}
+		}
+
+		throw new UnsupportedFxmlException(type.getName() + " has no constant " + value + ".");
+	}
+
+	private static String toAllCaps(String value) {
+		final StringBuilder result = new StringBuilder();
+
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (Character.isUpperCase(c) && i > 0 && value.charAt(i - 1) != '_') {
+				result.append('_');
+			}
+			result.append(Character.toUpperCase(c));
+		}
+
+		return result.toString();
+	}
+
+	private static Class<?> getListElementType(Method getter) {
+		final Type returnType = getter.getGenericReturnType();
+
+		if (returnType instanceof ParameterizedType) {
+			final Type[] arguments = ((ParameterizedType) returnType).getActualTypeArguments();
+			if (arguments.length == 1 && arguments[0] instanceof Class) {
+				return (Class<?>) arguments[0];
+			}
+		}
+
+		return Object.class;
+	}
+
+	/**
+	 * @return the wrapper class of a primitive type or the given type itself.
+	 */
+	public static Class<?> box(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return type;
+		}
+		if (type == boolean.class) {
+			return Boolean.class;
+		}
+		if (type == int.class) {
+			return Integer.class;
+		}
+		if (type == long.class) {
+			return Long.class;
+		}
+		if (type == double.class) {
+			return Double.class;
+		}
+		if (type == float.class) {
+			return Float.class;
+		}
+		if (type == short.class) {
+			return Short.class;
+		}
+		if (type == byte.class) {
+			return Byte.class;
+		}
+		if (type == char.class) {
+			return Character.class;
+		}
+		return Void.class;
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if (!type.isPrimitive()) {
+			return null;
+		}
+		if (type == boolean.class) {
+			return false;
+		}
+		if (type == char.class) {
+			return '\0';
+		}
+		if (type == double.class) {
+			return 0.0;
+		}
+		if (type == float.class) {
+			return 0.0f;
+		}
+		if (type == long.class) {
+			return 0L;
+		}
+		if (type == short.class) {
+			return (short) 0;
+		}
+		if (type == byte.class) {
+			return (byte) 0;
+		}
+		return 0;
+	}
+
+	private static String capitalize(String name) {
+		return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+	}
+
+	/**
+	 * Parses the FXML file with StAX. In contrast to DOM this keeps the order of the attributes which is important
+	 * because the properties have to be set in the same order as the <code>FXMLLoader</code> does.
+	 */
+	private static XmlElement parseXml(InputStream fxml, List<XmlInstruction> instructions)
+			throws UnsupportedFxmlException {
+		final Deque<XmlElement> stack = new ArrayDeque<>();
+		XmlElement root = null;
+
+		try {
+			final XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+
+			final XMLStreamReader reader = factory.createXMLStreamReader(fxml);
+
+			while (reader.hasNext()) {
+				switch (reader.next()) {
+					case XMLStreamConstants.PROCESSING_INSTRUCTION:
+						if (!stack.isEmpty()) {
+							throw new UnsupportedFxmlException("Processing instructions inside of elements are not supported.");
+						}
+						instructions.add(new XmlInstruction(reader.getPITarget(), reader.getPIData()));
+						break;
+					case XMLStreamConstants.START_ELEMENT:
+						final XmlElement element = new XmlElement(reader.getPrefix(), reader.getLocalName());
+
+						for (int i = 0; i < reader.getAttributeCount(); i++) {
+							element.attributes.add(new XmlAttribute(reader.getAttributePrefix(i),
+									reader.getAttributeLocalName(i), reader.getAttributeValue(i)));
+						}
+
+						if (stack.isEmpty()) {
+							root = element;
+						} else {
+							stack.peek().children.add(element);
+						}
+						stack.push(element);
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						stack.pop();
+						break;
+					case XMLStreamConstants.CHARACTERS:
+					case XMLStreamConstants.CDATA:
+					case XMLStreamConstants.SPACE:
+						if (!stack.isEmpty()) {
+							stack.peek().children.add(reader.getText());
+						}
+						break;
+					default:
+						break;
+				}
+			}
+		} catch (XMLStreamException e) {
+			throw new UnsupportedFxmlException("The FXML file can't be parsed: " + e.getMessage());
+		}
+
+		if (root == null) {
+			throw new UnsupportedFxmlException("The FXML file is empty.");
+		}
+
+		return root;
+	}
+
+	private static class XmlInstruction {
+		final String target;
+		final String data;
+
+		XmlInstruction(String target, String data) {
+			this.target = target;
+			this.data = data == null ? "" : data;
+		}
+	}
+
+	private static class XmlAttribute {
+		final String prefix;
+		final String localName;
+		final String value;
+
+		XmlAttribute(String prefix, String localName, String value) {
+			this.prefix = prefix == null || prefix.isEmpty() ? null : prefix;
+			this.localName = localName;
+			this.value = value;
+		}
+
+		String getName() {
+			return prefix == null ? localName : prefix + ":" + localName;
+		}
+	}
+
+	private static class XmlElement {
+		final String prefix;
+		final String localName;
+		final List<XmlAttribute> attributes = new ArrayList<>();
+		/**
+		 * Child elements and text content.
+		 */
+		final List<Object> children = new ArrayList<>();
+
+		XmlElement(String prefix, String localName) {
+			this.prefix = prefix == null || prefix.isEmpty() ? null : prefix;
+			this.localName = localName;
+		}
+
+		String getTagName() {
+			return prefix == null ? localName : prefix + ":" + localName;
+		}
+
+		String getAttribute(String name) {
+			for (XmlAttribute attribute : attributes) {
+				if (attribute.getName().equals(name)) {
+					return attribute.value;
+				}
+			}
+			return "";
+		}
+
+		List<XmlElement> getChildElements() {
+			final List<XmlElement> elements = new ArrayList<>();
+			for (Object child : children) {
+				if (child instanceof XmlElement) {
+					elements.add((XmlElement) child);
+				}
+			}
+			return elements;
+		}
+	}
+}
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader.fxml;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Modifies the value of an instance element, f.e. sets a property. All classes and members are resolved when the FXML
+ * file is parsed.
+ */
+public abstract class FxmlStatement {
+
+	/**
+	 * Handles the different kinds of statements.
+	 *
+	 * @param <R>
+	 *            the result type.
+	 */
+	public interface Visitor<R> {
+
+		R visitSetProperty(SetProperty statement) throws UnsupportedFxmlException;
+
+		R visitSetStaticProperty(SetStaticProperty statement) throws UnsupportedFxmlException;
+
+		R visitAddToList(AddToList statement) throws UnsupportedFxmlException;
+
+		R visitBindResourceString(BindResourceString statement) throws UnsupportedFxmlException;
+
+		R visitRegister(Register statement) throws UnsupportedFxmlException;
+	}
+
+	FxmlStatement() {
+	}
+
+	public abstract <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException;
+
+	/**
+	 * Invokes the setter of a property, f.e. <code>setText</code>.
+	 */
+	public static final class SetProperty extends FxmlStatement {
+		private final Method setter;
+		private final FxmlValue value;
+
+		SetProperty(Method setter, FxmlValue value) {
+			this.setter = setter;
+			this.value = value;
+		}
+
+		public Method getSetter() {
+			return setter;
+		}
+
+		/**
+		 * @return the value. If its type is {@link Object} it has to be cast to the parameter type of the setter.
+		 */
+		public FxmlValue getValue() {
+			return value;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitSetProperty(this);
+		}
+	}
+
+	/**
+	 * Invokes the static setter of a static property, f.e. <code>GridPane.setColumnIndex(node, value)</code>.
+	 */
+	public static final class SetStaticProperty extends FxmlStatement {
+		private final Class<?> ownerType;
+		private final Method setter;
+		private final FxmlValue value;
+
+		SetStaticProperty(Class<?> ownerType, Method setter, FxmlValue value) {
+			this.ownerType = ownerType;
+			this.setter = setter;
+			this.value = value;
+		}
+
+		/**
+		 * @return the class that is named in the FXML file, which may differ from the declaring class of the setter.
+		 */
+		public Class<?> getOwnerType() {
+			return ownerType;
+		}
+
+		public Method getSetter() {
+			return setter;
+		}
+
+		/**
+		 * @return the value. If its type is {@link Object} it has to be cast to the second parameter type of the
+		 *         setter.
+		 */
+		public FxmlValue getValue() {
+			return value;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitSetStaticProperty(this);
+		}
+	}
+
+	/**
+	 * Adds values to a read-only list property (f.e. <code>getChildren()</code>) or to the value itself if it is a
+	 * list without a default property.
+	 */
+	public static final class AddToList extends FxmlStatement {
+		private final Method getter;
+		private final Class<?> elementType;
+		private final List<FxmlValue> values;
+
+		AddToList(Method getter, Class<?> elementType, List<FxmlValue> values) {
+			this.getter = getter;
+			this.elementType = elementType;
+			this.values = Collections.unmodifiableList(values);
+		}
+
+		/**
+		 * @return the getter of the list or <code>null</code> if the values are added to the value itself.
+		 */
+		public Method getGetter() {
+			return getter;
+		}
+
+		/**
+		 * @return the element type of the list. Values of type {@link Object} have to be cast to it.
+		 */
+		public Class<?> getElementType() {
+			return elementType;
+		}
+
+		public List<FxmlValue> getValues() {
+			return values;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitAddToList(this);
+		}
+	}
+
+	/**
+	 * Sets a string property to a resource, f.e. <code>text="%title"</code>. The property is bound if the resource
+	 * depends on the locale.
+	 */
+	public static final class BindResourceString extends FxmlStatement {
+		private final Method propertyGetter;
+		private final String key;
+
+		BindResourceString(Method propertyGetter, String key) {
+			this.propertyGetter = propertyGetter;
+			this.key = key;
+		}
+
+		/**
+		 * @return the method that returns the <code>StringProperty</code>, f.e. <code>textProperty()</code>.
+		 */
+		public Method getPropertyGetter() {
+			return propertyGetter;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitBindResourceString(this);
+		}
+	}
+
+	/**
+	 * Registers the value under its <code>fx:id</code> so that it can be injected into the controller.
+	 */
+	public static final class Register extends FxmlStatement {
+		private final String fxId;
+
+		Register(String fxId) {
+			this.fxId = fxId;
+		}
+
+		public String getFxId() {
+			return fxId;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitRegister(this);
+		}
+	}
+}
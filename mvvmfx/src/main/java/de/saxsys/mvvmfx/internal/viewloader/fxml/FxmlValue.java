@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader.fxml;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A value of the object graph that is described by a FXML file, f.e. an instance element or a converted attribute
+ * value. All classes and members are resolved when the FXML file is parsed.
+ */
+public abstract class FxmlValue {
+
+	/**
+	 * Handles the different kinds of values.
+	 *
+	 * @param <R>
+	 *            the result type.
+	 */
+	public interface Visitor<R> {
+
+		R visitLiteral(Literal value) throws UnsupportedFxmlException;
+
+		R visitEnumConstant(EnumConstant value) throws UnsupportedFxmlException;
+
+		R visitValueOf(ValueOf value) throws UnsupportedFxmlException;
+
+		R visitConstant(Constant value) throws UnsupportedFxmlException;
+
+		R visitFactoryCall(FactoryCall value) throws UnsupportedFxmlException;
+
+		R visitNewInstance(NewInstance value) throws UnsupportedFxmlException;
+
+		R visitRoot(Root value) throws UnsupportedFxmlException;
+
+		R visitInclude(Include value) throws UnsupportedFxmlException;
+
+		R visitResourceString(ResourceString value) throws UnsupportedFxmlException;
+
+		R visitEventHandler(EventHandlerReference value) throws UnsupportedFxmlException;
+
+		R visitInstance(Instance value) throws UnsupportedFxmlException;
+	}
+
+	private final Class<?> type;
+
+	FxmlValue(Class<?> type) {
+		this.type = type;
+	}
+
+	/**
+	 * @return the type of the value that is known when the FXML file is parsed. Values of type {@link Object} (f.e.
+	 *         <code>fx:include</code>) are only checked when the object graph is created.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	public abstract <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException;
+
+	/**
+	 * A string, a boxed primitive or <code>null</code>.
+	 */
+	public static final class Literal extends FxmlValue {
+		private final Object value;
+
+		Literal(Class<?> type, Object value) {
+			super(type);
+			this.value = value;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitLiteral(this);
+		}
+	}
+
+	/**
+	 * A constant of an enum, f.e. <code>alignment="CENTER"</code>.
+	 */
+	public static final class EnumConstant extends FxmlValue {
+		private final String name;
+
+		EnumConstant(Class<?> type, String name) {
+			super(type);
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitEnumConstant(this);
+		}
+	}
+
+	/**
+	 * The result of a static <code>valueOf(String)</code> method, f.e. for <code>fx:value</code> or
+	 * <code>textFill="red"</code>. The method is invoked for every object graph because the result may be mutable.
+	 */
+	public static final class ValueOf extends FxmlValue {
+		private final Method method;
+		private final String argument;
+
+		ValueOf(Class<?> type, Method method, String argument) {
+			super(type);
+			this.method = method;
+			this.argument = argument;
+		}
+
+		public Method getMethod() {
+			return method;
+		}
+
+		public String getArgument() {
+			return argument;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitValueOf(this);
+		}
+	}
+
+	/**
+	 * A static field that is referenced with <code>fx:constant</code>.
+	 */
+	public static final class Constant extends FxmlValue {
+		private final Class<?> ownerType;
+		private final Field field;
+
+		Constant(Class<?> ownerType, Field field) {
+			super(field.getType());
+			this.ownerType = ownerType;
+			this.field = field;
+		}
+
+		/**
+		 * @return the class of the element, which may differ from the declaring class of the field.
+		 */
+		public Class<?> getOwnerType() {
+			return ownerType;
+		}
+
+		public Field getField() {
+			return field;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitConstant(this);
+		}
+	}
+
+	/**
+	 * The result of a static no-arg method that is referenced with <code>fx:factory</code>.
+	 */
+	public static final class FactoryCall extends FxmlValue {
+		private final Class<?> ownerType;
+		private final Method method;
+
+		FactoryCall(Class<?> ownerType, Method method) {
+			super(method.getReturnType());
+			this.ownerType = ownerType;
+			this.method = method;
+		}
+
+		/**
+		 * @return the class of the element, which may differ from the declaring class of the method.
+		 */
+		public Class<?> getOwnerType() {
+			return ownerType;
+		}
+
+		public Method getMethod() {
+			return method;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitFactoryCall(this);
+		}
+	}
+
+	/**
+	 * A new instance that is created with the no-arg constructor or a constructor with <code>@NamedArg</code>
+	 * parameters.
+	 */
+	public static final class NewInstance extends FxmlValue {
+		private final Constructor<?> constructor;
+		private final List<FxmlValue> arguments;
+
+		NewInstance(Constructor<?> constructor, List<FxmlValue> arguments) {
+			super(constructor.getDeclaringClass());
+			this.constructor = constructor;
+			this.arguments = Collections.unmodifiableList(arguments);
+		}
+
+		public Constructor<?> getConstructor() {
+			return constructor;
+		}
+
+		/**
+		 * @return one value for each parameter of the constructor.
+		 */
+		public List<FxmlValue> getArguments() {
+			return arguments;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitNewInstance(this);
+		}
+	}
+
+	/**
+	 * The root instance that is provided for <code>fx:root</code>.
+	 */
+	public static final class Root extends FxmlValue {
+
+		Root(Class<?> type) {
+			super(type);
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitRoot(this);
+		}
+	}
+
+	/**
+	 * The root of an included FXML file.
+	 */
+	public static final class Include extends FxmlValue {
+		private final String source;
+		private final String fxId;
+
+		Include(String source, String fxId) {
+			super(Object.class);
+			this.source = source;
+			this.fxId = fxId;
+		}
+
+		/**
+		 * @return the value of the source attribute. Either absolute or relative to the including FXML file.
+		 */
+		public String getSource() {
+			return source;
+		}
+
+		/**
+		 * @return the <code>fx:id</code> of the include or <code>null</code>.
+		 */
+		public String getFxId() {
+			return fxId;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitInclude(this);
+		}
+	}
+
+	/**
+	 * A string of the resourceBundle, f.e. <code>promptText="%key"</code>.
+	 */
+	public static final class ResourceString extends FxmlValue {
+		private final String key;
+
+		ResourceString(String key) {
+			super(String.class);
+			this.key = key;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitResourceString(this);
+		}
+	}
+
+	/**
+	 * An event handler that invokes a method of the controller, f.e. <code>onAction="#save"</code>.
+	 */
+	public static final class EventHandlerReference extends FxmlValue {
+		private final String methodName;
+
+		EventHandlerReference(Class<?> eventHandlerType, String methodName) {
+			super(eventHandlerType);
+			this.methodName = methodName;
+		}
+
+		public String getMethodName() {
+			return methodName;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitEventHandler(this);
+		}
+	}
+
+	/**
+	 * An instance element: the controller that is declared with <code>fx:controller</code> (if any) is created first,
+	 * then the value itself. Afterwards the statements are executed on the value in document order.
+	 */
+	public static final class Instance extends FxmlValue {
+		private final Class<?> controllerType;
+		private final FxmlValue creation;
+		private final List<FxmlStatement> statements;
+
+		Instance(Class<?> controllerType, FxmlValue creation, List<FxmlStatement> statements) {
+			super(creation.getType());
+			this.controllerType = controllerType;
+			this.creation = creation;
+			this.statements = Collections.unmodifiableList(statements);
+		}
+
+		/**
+		 * @return the type of <code>fx:controller</code> or <code>null</code>.
+		 */
+		public Class<?> getControllerType() {
+			return controllerType;
+		}
+
+		public FxmlValue getCreation() {
+			return creation;
+		}
+
+		public List<FxmlStatement> getStatements() {
+			return statements;
+		}
+
+		@Override
+		public <R> R accept(Visitor<R> visitor) throws UnsupportedFxmlException {
+			return visitor.visitInstance(this);
+		}
+	}
+}
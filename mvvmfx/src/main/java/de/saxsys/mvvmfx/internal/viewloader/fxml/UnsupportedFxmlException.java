@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader.fxml;
+
+/**
+ * Thrown by the {@link FxmlParser} when a FXML file uses a feature that is not part of the supported subset. Such
+ * files are loaded with the <code>FXMLLoader</code>.
+ */
+public class UnsupportedFxmlException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public UnsupportedFxmlException(String message) {
+		super(message);
+	}
+}
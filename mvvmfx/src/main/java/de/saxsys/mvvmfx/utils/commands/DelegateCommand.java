@@ -20,6 +20,7 @@ import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.saxsys.mvvmfx.internal.FlightRecorderEvent;
 import eu.lestard.doc.Beta;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
@@ -47,6 +48,11 @@ public class DelegateCommand extends Service<Void> implements Command {
 	protected ReadOnlyBooleanWrapper notRunning;
 	private Property<Throwable> writableExceptionProperty;
 	
+	/**
+	 * The JFR event of the running background execution or <code>null</code>.
+	 */
+	private Object backgroundFlightRecorderEvent;
+	
 	Logger LOG = LoggerFactory.getLogger(DelegateCommand.class);
 	
 	/**
@@ -127,15 +133,53 @@ public class DelegateCommand extends Service<Void> implements Command {
 		} else {
 			if (inBackground) {
 				super.restart();
+				
+				// the event is committed when the service has finished.
+				backgroundFlightRecorderEvent = FlightRecorderEvent.COMMAND_EXECUTION.begin();
 			} else {
+				final Object flightRecorderEvent = FlightRecorderEvent.COMMAND_EXECUTION.begin();
+				
 				// When the command is not executed in background, we have to imitate a service execution, so the
 				// service statemachine provides the
 				// correct service state to the command.
 				callActionAndSynthesizeServiceRun();
+				
+				if (flightRecorderEvent != null) {
+					FlightRecorderEvent.COMMAND_EXECUTION.commit(flightRecorderEvent, getClass(),
+							actionSupplier.getClass(), false);
+				}
 			}
 		}
 	}
 	
+	@Override
+	protected void succeeded() {
+		super.succeeded();
+		commitBackgroundFlightRecorderEvent();
+	}
+	
+	@Override
+	protected void failed() {
+		super.failed();
+		commitBackgroundFlightRecorderEvent();
+	}
+	
+	@Override
+	protected void cancelled() {
+		super.cancelled();
+		commitBackgroundFlightRecorderEvent();
+	}
+	
+	private void commitBackgroundFlightRecorderEvent() {
+		final Object flightRecorderEvent = backgroundFlightRecorderEvent;
+		
+		if (flightRecorderEvent != null) {
+			backgroundFlightRecorderEvent = null;
+			FlightRecorderEvent.COMMAND_EXECUTION.commit(flightRecorderEvent, getClass(), actionSupplier.getClass(),
+					true);
+		}
+	}
+	
 	/**
 	 * For internal purposes we need to change the state property of the service.
 	 */
@@ -15,6 +15,7 @@
  ******************************************************************************/
 package de.saxsys.mvvmfx.utils.mapping;
 
+import de.saxsys.mvvmfx.internal.FlightRecorderEvent;
 import de.saxsys.mvvmfx.utils.mapping.accessorfunctions.BooleanGetter;
 import de.saxsys.mvvmfx.utils.mapping.accessorfunctions.BooleanImmutableSetter;
 import de.saxsys.mvvmfx.utils.mapping.accessorfunctions.BooleanPropertyAccessor;
@@ -440,6 +441,7 @@ public class ModelWrapper<M> {
 	 */
 	public void commit() {
 		if (model.get() != null) {
+			final Object flightRecorderEvent = FlightRecorderEvent.MODEL_WRAPPER_COMMIT.begin();
 
 			inCommitPhase = true;
 
@@ -464,6 +466,11 @@ public class ModelWrapper<M> {
 			dirtyFlag.set(false);
 
 			calculateDifferenceFlag();
+
+			if (flightRecorderEvent != null) {
+				FlightRecorderEvent.MODEL_WRAPPER_COMMIT.commit(flightRecorderEvent, model.get().getClass(),
+						fields.size() + immutableFields.size());
+			}
 		}
 	}
 
@@ -478,12 +485,19 @@ public class ModelWrapper<M> {
 	public void reload() {
 		M wrappedModelInstance = model.get();
 		if (wrappedModelInstance != null) {
+			final Object flightRecorderEvent = FlightRecorderEvent.MODEL_WRAPPER_RELOAD.begin();
+
 			fields.forEach(field -> field.reload(wrappedModelInstance));
 
 			immutableFields.forEach(field -> field.reload(wrappedModelInstance));
 
 			dirtyFlag.set(false);
 			calculateDifferenceFlag();
+
+			if (flightRecorderEvent != null) {
+				FlightRecorderEvent.MODEL_WRAPPER_RELOAD.commit(flightRecorderEvent, wrappedModelInstance.getClass(),
+						fields.size() + immutableFields.size());
+			}
 		}
 	}
 
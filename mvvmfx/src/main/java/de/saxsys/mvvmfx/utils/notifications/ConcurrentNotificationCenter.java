@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.utils.notifications;
+
+import de.saxsys.mvvmfx.internal.FlightRecorderEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A {@link NotificationCenter} that can be used by multiple threads at the same time, f.e. when messages are published
+ * by background threads while views subscribe and unsubscribe. It can be used instead of the
+ * {@link DefaultNotificationCenter} with {@link NotificationCenterFactory#setNotificationCenter(NotificationCenter)}.
+ * <p>
+ * The observers of each message are kept in an immutable array. Subscribing and unsubscribing replaces the array
+ * atomically for this single message, publishing only reads the current array and doesn't lock at all. This gives
+ * the following guarantees:
+ * <ul>
+ * <li>Actions of a thread prior to subscribing an observer <i>happen-before</i> the observer receives a message that
+ * was published after the subscription was completed, also when the message is published by another thread.</li>
+ * <li>Actions of a thread prior to publishing a message <i>happen-before</i> the observers receive the message. For
+ * channels this is guaranteed by {@link javafx.application.Platform#runLater(Runnable)} or the queue of the
+ * {@link FxThreadDelivery}.</li>
+ * <li>A message is delivered to the observers that were subscribed when the publishing started. Observers that are
+ * subscribed during the delivery (also by an observer itself) don't receive this message, observers that are
+ * unsubscribed during the delivery may still receive it.</li>
+ * </ul>
+ * Like with the {@link DefaultNotificationCenter}, global messages are delivered in the publishing thread and messages
+ * of channels are delivered on the JavaFX application thread.
+ */
+public class ConcurrentNotificationCenter implements NotificationCenter {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ConcurrentNotificationCenter.class);
+
+	private static final NotificationObserver[] NO_OBSERVERS = new NotificationObserver[0];
+
+	private final Topics globalTopics = new Topics(null);
+
+	private final ConcurrentMap<Object, Topics> channels = new ConcurrentHashMap<>();
+
+	private final TopicObservers topicObservers = new TopicObservers();
+
+	@Override
+	public void subscribe(String messageName, NotificationObserver observer) {
+		if (observer == null) {
+			throw new IllegalArgumentException("The observer must not be null.");
+		}
+		WeakNotificationObserver.purgeCollectedObservers();
+		globalTopics.add(messageName, observer);
+	}
+
+	@Override
+	public void unsubscribe(String messageName, NotificationObserver observer) {
+		globalTopics.remove(messageName, observer);
+	}
+
+	@Override
+	public void unsubscribe(NotificationObserver observer) {
+		globalTopics.removeAll(observer);
+	}
+
+	@Override
+	public void publish(String messageName, Object... payload) {
+		publish(null, messageName, payload, globalTopics.get(messageName));
+	}
+
+	@Override
+	public void subscribe(Object channel, String messageName, NotificationObserver observer) {
+		// purged before the channel is locked because purging may remove observers of this channel too.
+		WeakNotificationObserver.purgeCollectedObservers();
+
+		channels.compute(channel, (key, current) -> {
+			final Topics topics = current == null ? new Topics(channel) : current;
+			topics.add(messageName, observer);
+			return topics;
+		});
+	}
+
+	@Override
+	public void unsubscribe(Object channel, String messageName, NotificationObserver observer) {
+		removeFromChannel(channel, topics -> topics.remove(messageName, observer));
+	}
+
+	@Override
+	public void unsubscribe(Object channel, NotificationObserver observer) {
+		removeFromChannel(channel, topics -> topics.removeAll(observer));
+	}
+
+	/**
+	 * Removes observers of the channel while the channel is locked, so that the channel can be removed when no
+	 * observer is left without losing a subscription that is made at the same time.
+	 */
+	private void removeFromChannel(Object channel, Consumer<Topics> removal) {
+		channels.computeIfPresent(channel, (key, topics) -> {
+			removal.accept(topics);
+			return topics.isEmpty() ? null : topics;
+		});
+	}
+
+	/**
+	 * This notification will be send to the UI-Thread (if the UI-toolkit was bootstrapped). If no UI-Toolkit is
+	 * available the notification will be directly published. This is typically the case in unit tests.
+	 */
+	@Override
+	public void publish(Object channel, String messageName, Object[] payload) {
+		final Topics topics = channels.get(channel);
+
+		if (topics != null) {
+			// the observers are determined at the time of the publishing.
+			final NotificationObserver[] observers = topics.get(messageName);
+
+			if (observers.length > 0) {
+				FxThreadDelivery.deliver(() -> publish(channel, messageName, payload, observers));
+			}
+		}
+	}
+
+	@Override
+	public void removeChannel(Object channel) {
+		channels.remove(channel);
+	}
+
+	@Override
+	public ObserverCount countObservers(String messageName) {
+		return globalTopics.count(messageName);
+	}
+
+	@Override
+	public ObserverCount countObservers(Object channel, String messageName) {
+		final Topics topics = channels.get(channel);
+		return topics == null ? new ObserverCount(0, 0) : topics.count(messageName);
+	}
+
+	@Override
+	public <T> void subscribe(Topic<T> topic, Consumer<? super T> observer) {
+		topicObservers.subscribe(topic, observer);
+	}
+
+	@Override
+	public <T> void unsubscribe(Topic<T> topic, Consumer<? super T> observer) {
+		topicObservers.unsubscribe(topic, observer);
+	}
+
+	@Override
+	public <T> void publish(Topic<T> topic, T payload) {
+		topicObservers.publish(topic, payload);
+	}
+
+	@Override
+	public void clear() {
+		globalTopics.clear();
+		channels.clear();
+		topicObservers.clear();
+	}
+
+	private static void publish(Object channel, String messageName, Object[] payload,
+			NotificationObserver[] observers) {
+		if (observers.length == 0) {
+			return;
+		}
+
+		final Object flightRecorderEvent = FlightRecorderEvent.NOTIFICATION_PUBLISH.begin();
+
+		for (NotificationObserver observer : observers) {
+			observer.receivedNotification(messageName, payload);
+		}
+
+		if (flightRecorderEvent != null) {
+			FlightRecorderEvent.NOTIFICATION_PUBLISH.commit(flightRecorderEvent, messageName,
+					channel == null ? null : channel.getClass(), observers.length);
+		}
+	}
+
+	private static boolean matches(NotificationObserver actualObserver, NotificationObserver observer) {
+		if (actualObserver.equals(observer)) {
+			return true;
+		}
+
+		if (actualObserver instanceof WeakNotificationObserver) {
+			final NotificationObserver wrappedObserver = ((WeakNotificationObserver) actualObserver)
+					.getWrappedObserver();
+
+			// if reference was GCed we can remove the weakObserver
+			return wrappedObserver == null || wrappedObserver.equals(observer);
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the observers without the removed observers or <code>null</code> if no observer is left, which
+	 *         removes the message name from the map.
+	 */
+	private static NotificationObserver[] without(NotificationObserver[] current,
+			Predicate<NotificationObserver> removed) {
+		final NotificationObserver[] result = new NotificationObserver[current.length];
+		int size = 0;
+
+		for (NotificationObserver actualObserver : current) {
+			if (!removed.test(actualObserver)) {
+				result[size++] = actualObserver;
+			}
+		}
+
+		if (size == 0) {
+			return null;
+		}
+
+		return size == current.length ? current : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * The observers of a channel (or of the global messages) per message name. The arrays are never modified after
+	 * they are put into the map. The atomic operations of the {@link ConcurrentHashMap} only lock the single message
+	 * name while the array is replaced, so that empty arrays can be removed without losing concurrent subscriptions.
+	 * The observers of a channel are only modified while the channel is locked in {@link #channels}.
+	 */
+	private final class Topics implements WeakNotificationObserver.Owner {
+
+		/**
+		 * The channel of these observers or <code>null</code> for the global messages.
+		 */
+		private final Object channel;
+
+		private final ConcurrentMap<String, NotificationObserver[]> observers = new ConcurrentHashMap<>();
+
+		Topics(Object channel) {
+			this.channel = channel;
+		}
+
+		NotificationObserver[] get(String messageName) {
+			WeakNotificationObserver.purgeCollectedObservers();
+
+			final NotificationObserver[] result = observers.get(messageName);
+			return result == null ? NO_OBSERVERS : result;
+		}
+
+		void add(String messageName, NotificationObserver observer) {
+			if (observer instanceof WeakNotificationObserver) {
+				((WeakNotificationObserver) observer).addOwner(this, messageName);
+			}
+
+			observers.compute(messageName, (key, current) -> {
+				if (current == null) {
+					return new NotificationObserver[] { observer };
+				}
+
+				if (Arrays.asList(current).contains(observer)) {
+					LOG.warn("Subscribe the observer [" + observer + "] for the message [" + messageName +
+							"], but the same observer was already added for this message in the past.");
+				}
+
+				final NotificationObserver[] result = Arrays.copyOf(current, current.length + 1);
+				result[current.length] = observer;
+				return result;
+			});
+		}
+
+		void remove(String messageName, NotificationObserver observer) {
+			observers.computeIfPresent(messageName, (key, current) -> without(current, actualObserver -> {
+				if (!matches(actualObserver, observer)) {
+					return false;
+				}
+
+				if (actualObserver instanceof WeakNotificationObserver) {
+					((WeakNotificationObserver) actualObserver).removeOwner(this, messageName);
+				}
+				return true;
+			}));
+		}
+
+		ObserverCount count(String messageName) {
+			final NotificationObserver[] current = observers.get(messageName);
+			return ObserverCount.of(Arrays.asList(current == null ? NO_OBSERVERS : current));
+		}
+
+		@Override
+		public void removeCollected(String messageName, WeakNotificationObserver observer) {
+			if (channel == null) {
+				removeCollectedObserver(messageName, observer);
+			} else {
+				// these topics may already be removed from the channels, then the current topics are left as they are.
+				removeFromChannel(channel, topics -> removeCollectedObserver(messageName, observer));
+			}
+		}
+
+		private void removeCollectedObserver(String messageName, WeakNotificationObserver observer) {
+			observers.computeIfPresent(messageName,
+					(key, current) -> without(current, actualObserver -> actualObserver == observer));
+		}
+
+		void removeAll(NotificationObserver observer) {
+			for (String messageName : observers.keySet()) {
+				remove(messageName, observer);
+			}
+		}
+
+		boolean isEmpty() {
+			return observers.isEmpty();
+		}
+
+		void clear() {
+			observers.clear();
+		}
+	}
+}
@@ -15,14 +15,13 @@
  ******************************************************************************/
 package de.saxsys.mvvmfx.utils.notifications;
 
-import javafx.application.Platform;
+import de.saxsys.mvvmfx.internal.FlightRecorderEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Default implementation of {@link NotificationCenter}.
@@ -37,6 +36,8 @@ public class DefaultNotificationCenter implements NotificationCenter {
 	private final ObserverMap globalObservers = new ObserverMap();
 	private final ChannelObserverMap channelObserverMap = new ChannelObserverMap();
 
+	private final TopicObservers topicObservers = new TopicObservers();
+
 	@Override
 	public void subscribe(String messageName, NotificationObserver observer) {
 		if(observer==null) {
@@ -57,12 +58,13 @@ public class DefaultNotificationCenter implements NotificationCenter {
 
 	@Override
 	public void publish(String messageName, Object... payload) {
-		publish(messageName, payload, globalObservers);
+		publish(null, messageName, payload, globalObservers);
 	}
 
 	/**
 	 *  This notification will be send to the UI-Thread (if the UI-toolkit was bootstrapped).
 	 *  If no UI-Toolkit is available the notification will be directly published. This is typically the case in unit tests.
+	 *  Notifications of background threads can be coalesced, see {@link FxThreadDelivery#enableCoalescing}.
 	 *
 	 * @param channel    the channel
 	 * @param messageName    the message to sent
@@ -72,39 +74,8 @@ public class DefaultNotificationCenter implements NotificationCenter {
 	public void publish(Object channel, String messageName, Object[] payload) {
 		if (channelObserverMap.containsKey(channel)) {
 			final ObserverMap observerMap = channelObserverMap.get(channel);
-			
-			if (shouldPublishInThisThread()) {
-				publish(messageName, payload, observerMap);
-			} else {
-				try {
-					Platform.runLater(() -> publish(messageName, payload, observerMap));
-				} catch (IllegalStateException e) {
-
-					// If the toolkit isn't initialized yet we will publish the notification directly.
-					// In most cases this means that we are in a unit test and not JavaFX application is running.
-					if (e.getMessage().equals("Toolkit not initialized")) {
-						publish(messageName, payload, observerMap);
-					} else {
-						throw e;
-					}
-				}
-			}
-		}
-	}
 
-
-	private boolean shouldPublishInThisThread() {
-		try {
-			return Platform.isFxApplicationThread();
-		} catch (final RuntimeException e) {
-			if (e.getMessage().equals("No toolkit found")) {
-				// If the toolkit is not even available, we publish the notification directly.
-				// In most cases this means that we are in an environment where no JavaFX 
-				// application is running (probably also in a JUnit test).
-				return true;
-			} else {
-				throw e;
-			}
+			FxThreadDelivery.deliver(() -> publish(channel, messageName, payload, observerMap));
 		}
 	}
 
@@ -135,78 +106,140 @@ public class DefaultNotificationCenter implements NotificationCenter {
 		}
 	}
 
+	@Override
+	public void removeChannel(Object channel) {
+		channelObserverMap.remove(channel);
+	}
+
+	@Override
+	public ObserverCount countObservers(String messageName) {
+		return countObservers(globalObservers, messageName);
+	}
+
+	@Override
+	public ObserverCount countObservers(Object channel, String messageName) {
+		final ObserverMap observerMap = channelObserverMap.get(channel);
+		return observerMap == null ? new ObserverCount(0, 0) : countObservers(observerMap, messageName);
+	}
+
+	private static ObserverCount countObservers(ObserverMap observerMap, String messageName) {
+		final ObserverList observers = observerMap.get(messageName);
+		return observers == null ? new ObserverCount(0, 0) : ObserverCount.of(observers);
+	}
+
+	@Override
+	public <T> void subscribe(Topic<T> topic, Consumer<? super T> observer) {
+		topicObservers.subscribe(topic, observer);
+	}
+
+	@Override
+	public <T> void unsubscribe(Topic<T> topic, Consumer<? super T> observer) {
+		topicObservers.unsubscribe(topic, observer);
+	}
+
+	@Override
+	public <T> void publish(Topic<T> topic, T payload) {
+		topicObservers.publish(topic, payload);
+	}
+
 	@Override
 	public void clear() {
 		this.globalObservers.clear();
 		this.channelObserverMap.clear();
+		this.topicObservers.clear();
 	}
 
 	/*
 	 * Helper
 	 */
 
-	private static void publish(String messageName, Object[] payload, ObserverMap observerMap) {
-		Collection<NotificationObserver> notificationReceivers = observerMap.get(messageName);
+	private static void publish(Object channel, String messageName, Object[] payload, ObserverMap observerMap) {
+		ObserverList notificationReceivers = observerMap.get(messageName);
 		if (notificationReceivers != null) {
+			WeakNotificationObserver.purgeCollectedObservers();
+
+			final Object flightRecorderEvent = FlightRecorderEvent.NOTIFICATION_PUBLISH.begin();
 
 			// make a copy to prevent ConcurrentModificationException if inside of an observer a new observer is subscribed.
 
 			for (NotificationObserver observer : notificationReceivers) {
 				observer.receivedNotification(messageName, payload);
 			}
+
+			if (flightRecorderEvent != null) {
+				FlightRecorderEvent.NOTIFICATION_PUBLISH.commit(flightRecorderEvent, messageName,
+						channel == null ? null : channel.getClass(), notificationReceivers.size());
+			}
 		}
 	}
 
 	private static void addObserver(String messageName, NotificationObserver observer, ObserverMap observerMap) {
 		if (!observerMap.containsKey(messageName)) {
 			// use CopyOnWriteArrayList to prevent ConcurrentModificationException if inside of an observer a new observer is subscribed.
-			observerMap.put(messageName, new CopyOnWriteArrayList<>());
+			observerMap.put(messageName, new ObserverList());
 		}
 
-		final List<NotificationObserver> observers = observerMap.get(messageName);
+		final ObserverList observers = observerMap.get(messageName);
+		WeakNotificationObserver.purgeCollectedObservers();
 
 		if (observers.contains(observer)) {
 			LOG.warn("Subscribe the observer [" + observer + "] for the message [" + messageName +
 					"], but the same observer was already added for this message in the past.");
 		}
+
+		if (observer instanceof WeakNotificationObserver) {
+			((WeakNotificationObserver) observer).addOwner(observers, messageName);
+		}
 		observers.add(observer);
 	}
 
 
 	private static void removeObserverFromObserverMap(NotificationObserver observer, ObserverMap observerMap) {
 		for (String key : observerMap.keySet()) {
-			final List<NotificationObserver> observers = observerMap.get(key);
+			final ObserverList observers = observerMap.get(key);
 
-			removeObserverFromObserverList(observer, observers);
+			removeObserverFromObserverList(observer, key, observers);
 		}
 	}
 
-	private static void removeObserverFromObserverList(NotificationObserver observer, List<NotificationObserver> observerList) {
-		observerList.removeIf(actualObserver -> actualObserver.equals(observer));
-
+	private static void removeObserverFromObserverList(NotificationObserver observer, String messageName,
+			ObserverList observerList) {
 		observerList.removeIf(actualObserver -> {
-			if(actualObserver instanceof WeakNotificationObserver) {
-				WeakNotificationObserver weakObserver = (WeakNotificationObserver) actualObserver;
-
-				NotificationObserver wrappedObserver = weakObserver.getWrappedObserver();
-
-				if(wrappedObserver == null) { // if reference was GCed we can remove the weakObserver
-					return true;
-				} else {
-					return wrappedObserver.equals(observer);
-				}
+			if (!matches(actualObserver, observer)) {
+				return false;
 			}
 
-			return false;
+			// the observer doesn't need to be purged from this list anymore.
+			if (actualObserver instanceof WeakNotificationObserver) {
+				((WeakNotificationObserver) actualObserver).removeOwner(observerList, messageName);
+			}
+			return true;
 		});
 	}
 
+	private static boolean matches(NotificationObserver actualObserver, NotificationObserver observer) {
+		if (actualObserver.equals(observer)) {
+			return true;
+		}
+
+		if(actualObserver instanceof WeakNotificationObserver) {
+			WeakNotificationObserver weakObserver = (WeakNotificationObserver) actualObserver;
+
+			NotificationObserver wrappedObserver = weakObserver.getWrappedObserver();
+
+			// if reference was GCed we can remove the weakObserver
+			return wrappedObserver == null || wrappedObserver.equals(observer);
+		}
+
+		return false;
+	}
+
 	private static void removeObserversForMessageName(String messageName, NotificationObserver observer,
 											   ObserverMap observerMap) {
 
 		if (observerMap.containsKey(messageName)) {
-			final List<NotificationObserver> observers = observerMap.get(messageName);
-			removeObserverFromObserverList(observer, observers);
+			final ObserverList observers = observerMap.get(messageName);
+			removeObserverFromObserverList(observer, messageName, observers);
 
 			if (observers.size() == 0) {
 				observerMap.remove(messageName);
@@ -215,7 +248,22 @@ public class DefaultNotificationCenter implements NotificationCenter {
 	}
 
 	@SuppressWarnings("serial")
-	private class ObserverMap extends HashMap<String, List<NotificationObserver>> {
+	private class ObserverMap extends HashMap<String, ObserverList> {
+	}
+
+	/**
+	 * The observers of a single message. Weak observers whose wrapped observer was garbage collected remove themselves
+	 * from the list when a message is published or an observer is added, see
+	 * {@link WeakNotificationObserver#purgeCollectedObservers()}.
+	 */
+	@SuppressWarnings("serial")
+	private static class ObserverList extends CopyOnWriteArrayList<NotificationObserver>
+			implements WeakNotificationObserver.Owner {
+
+		@Override
+		public void removeCollected(String messageName, WeakNotificationObserver observer) {
+			removeIf(actualObserver -> actualObserver == observer);
+		}
 	}
 
 	@SuppressWarnings("serial")
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.utils.notifications;
+
+import javafx.application.Platform;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers the notifications of channels (f.e. of viewModels) on the JavaFX application thread.
+ * <p>
+ * By default every notification that is published outside of the UI-Thread is sent to the UI-Thread with its own
+ * {@link Platform#runLater(Runnable)}. When many notifications are published by background threads, this floods the
+ * event queue of JavaFX and rendering is delayed. With {@link #enableCoalescing(Duration)} the notifications are
+ * collected in a single queue instead, which is drained by one task on the UI-Thread at a time. The task stops when
+ * its time budget is used up and continues in a later task, so that JavaFX can render in between. The notifications
+ * are delivered in the order in which they were published.
+ */
+public final class FxThreadDelivery {
+
+	private static final FxThreadDelivery SINGLETON = new FxThreadDelivery();
+
+	private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The size of a {@link ConcurrentLinkedQueue} isn't a constant-time operation, therefore it is counted separately.
+	 */
+	private final AtomicInteger queueDepth = new AtomicInteger();
+
+	private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+	private volatile boolean coalescing = false;
+
+	private volatile long timeBudgetNanos = 0;
+
+	private FxThreadDelivery() {
+	}
+
+	public static FxThreadDelivery getInstance() {
+		return SINGLETON;
+	}
+
+	/**
+	 * Collects the notifications that are published outside of the UI-Thread in a queue, see the class description.
+	 *
+	 * @param timeBudget
+	 *            the maximal time that one task on the UI-Thread spends with delivering notifications. At least one
+	 *            notification is delivered per task.
+	 */
+	public void enableCoalescing(Duration timeBudget) {
+		if (timeBudget.isNegative() || timeBudget.isZero()) {
+			throw new IllegalArgumentException("The time budget must be positive.");
+		}
+
+		timeBudgetNanos = timeBudget.toNanos();
+		coalescing = true;
+	}
+
+	/**
+	 * Sends every notification with its own {@link Platform#runLater(Runnable)} again (the default). Notifications
+	 * that are already queued are still delivered.
+	 */
+	public void disableCoalescing() {
+		coalescing = false;
+	}
+
+	public boolean isCoalescing() {
+		return coalescing;
+	}
+
+	/**
+	 * @return the number of queued notifications that weren't delivered yet. Without coalescing this is always
+	 *         <code>0</code>.
+	 */
+	public int getQueueDepth() {
+		return queueDepth.get();
+	}
+
+	/**
+	 * Runs the delivery in this thread if it is the UI-Thread or if no UI-toolkit was bootstrapped (this is typically
+	 * the case in unit tests). Otherwise the delivery is sent to the UI-Thread.
+	 */
+	static void deliver(Runnable delivery) {
+		SINGLETON.deliverOnFxThread(delivery);
+	}
+
+	private void deliverOnFxThread(Runnable delivery) {
+		if (shouldPublishInThisThread()) {
+			delivery.run();
+		} else if (coalescing) {
+			queue.add(delivery);
+			queueDepth.incrementAndGet();
+			scheduleDrain();
+		} else {
+			runLater(delivery);
+		}
+	}
+
+	private void scheduleDrain() {
+		if (drainScheduled.compareAndSet(false, true)) {
+			runLater(this::drain);
+		}
+	}
+
+	private void drain() {
+		final long start = System.nanoTime();
+
+		Runnable delivery;
+		while ((delivery = queue.poll()) != null) {
+			queueDepth.decrementAndGet();
+
+			try {
+				delivery.run();
+			} catch (RuntimeException e) {
+				// like an exception in a task of Platform.runLater, the exception doesn't stop the other deliveries.
+				final Thread thread = Thread.currentThread();
+				thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+			}
+
+			if (System.nanoTime() - start >= timeBudgetNanos) {
+				break;
+			}
+		}
+
+		drainScheduled.set(false);
+
+		// notifications that were added after the last poll or that didn't fit into the time budget.
+		if (!queue.isEmpty()) {
+			scheduleDrain();
+		}
+	}
+
+	private void runLater(Runnable runnable) {
+		try {
+			Platform.runLater(runnable);
+		} catch (IllegalStateException e) {
+
+			// If the toolkit isn't initialized yet we will publish the notification directly.
+			// In most cases this means that we are in a unit test and not JavaFX application is running.
+			if (e.getMessage().equals("Toolkit not initialized")) {
+				runnable.run();
+			} else {
+				throw e;
+			}
+		}
+	}
+
+	private static boolean shouldPublishInThisThread() {
+		try {
+			return Platform.isFxApplicationThread();
+		} catch (final RuntimeException e) {
+			if (e.getMessage().equals("No toolkit found")) {
+				// If the toolkit is not even available, we publish the notification directly.
+				// In most cases this means that we are in an environment where no JavaFX 
+				// application is running (probably also in a JUnit test).
+				return true;
+			} else {
+				throw e;
+			}
+		}
+	}
+}
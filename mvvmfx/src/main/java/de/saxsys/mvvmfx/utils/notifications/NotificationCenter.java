@@ -15,6 +15,8 @@
  ******************************************************************************/
 package de.saxsys.mvvmfx.utils.notifications;
 
+import java.util.function.Consumer;
+
 /**
  * Central component to provide a notification mechanism. You can add observers by using keys to get notifications for
  * it. If you want you can pass an
@@ -129,6 +131,92 @@ public interface NotificationCenter {
 	void unsubscribe(Object channel,
 			NotificationObserver observer);
 
+	/**
+	 * Removes all {@link NotificationObserver} subscriptions of a channel. This is used to clean up channels that
+	 * won't be used anymore, f.e. of disposed {@link de.saxsys.mvvmfx.Scope}s.
+	 * <p>
+	 * The default implementation does nothing so that existing implementations of this interface keep working. They
+	 * only keep the subscriptions of unused channels until they are unsubscribed.
+	 *
+	 * @param channel
+	 *            the channel object
+	 */
+	default void removeChannel(Object channel) {
+	}
+
+
+	/**
+	 * Counts the observers of a global message. Observers of messages that are published regularly should not contain
+	 * many dead observers, see {@link ObserverCount}.
+	 *
+	 * <p>
+	 * The default implementation doesn't count the observers and always returns zero observers.
+	 *
+	 * @param messageName
+	 *            the message.
+	 * @return the number of live and dead observers.
+	 */
+	default ObserverCount countObservers(String messageName) {
+		return new ObserverCount(0, 0);
+	}
+
+	/**
+	 * Counts the observers of a message of a channel.
+	 * <p>
+	 * The default implementation doesn't count the observers and always returns zero observers.
+	 *
+	 * @param channel
+	 *            the channel object.
+	 * @param messageName
+	 *            the message.
+	 * @return the number of live and dead observers.
+	 */
+	default ObserverCount countObservers(Object channel, String messageName) {
+		return new ObserverCount(0, 0);
+	}
+
+	/**
+	 * Adds an observer for a typed topic. Observers of topics are invoked in the publishing thread like observers of
+	 * the global messages.
+	 * <p>
+	 * The default implementations of the methods for topics keep the observers of each notification center in a
+	 * separate registry, so that existing implementations of this interface support topics without changes. These
+	 * observers aren't removed by {@link #clear()}. The notification centers of mvvmFX override the methods and keep
+	 * the observers themselves.
+	 *
+	 * @param topic
+	 *            the topic.
+	 * @param observer
+	 *            which receives the payload of the notifications.
+	 */
+	default <T> void subscribe(Topic<T> topic, Consumer<? super T> observer) {
+		TopicObservers.of(this).subscribe(topic, observer);
+	}
+
+	/**
+	 * Removes an observer of a typed topic.
+	 *
+	 * @param topic
+	 *            the topic.
+	 * @param observer
+	 *            the observer that was subscribed for the topic.
+	 */
+	default <T> void unsubscribe(Topic<T> topic, Consumer<? super T> observer) {
+		TopicObservers.of(this).unsubscribe(topic, observer);
+	}
+
+	/**
+	 * Publishes a notification of a typed topic to all observers of the topic. Unlike
+	 * {@link #publish(String, Object...)} this doesn't allocate an array for the payload.
+	 *
+	 * @param topic
+	 *            the topic.
+	 * @param payload
+	 *            which is passed to the observers.
+	 */
+	default <T> void publish(Topic<T> topic, T payload) {
+		TopicObservers.of(this).publish(topic, payload);
+	}
 
 	/**
 	 * Clears all {@link NotificationObserver} subscriptions in the current {@link NotificationCenter}
@@ -17,11 +17,14 @@ package de.saxsys.mvvmfx.utils.notifications;
 
 /**
  * This class is used to get instances of the {@link NotificationCenter} interface.
+ * <p>
+ * The {@link DefaultNotificationCenter} is used by default. Applications that subscribe and publish from multiple
+ * threads at the same time should use the {@link ConcurrentNotificationCenter} instead.
  */
 public class NotificationCenterFactory {
 
 	private static final NotificationCenter defaultNotificationCenter = new DefaultNotificationCenter();
-	private static NotificationCenter currentNotificationCenter = defaultNotificationCenter;
+	private static volatile NotificationCenter currentNotificationCenter = defaultNotificationCenter;
 
 	public static NotificationCenter getNotificationCenter() {
 		return currentNotificationCenter;
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.utils.notifications;
+
+/**
+ * The number of observers of a message, see {@link NotificationCenter#countObservers(String)}.
+ * <p>
+ * Dead observers are {@link WeakNotificationObserver}s whose wrapped observer was garbage collected. They are removed
+ * from the notification center the next time a message is published or an observer subscribes.
+ */
+public final class ObserverCount {
+
+	private final int liveCount;
+	private final int deadCount;
+
+	public ObserverCount(int liveCount, int deadCount) {
+		this.liveCount = liveCount;
+		this.deadCount = deadCount;
+	}
+
+	static ObserverCount of(Iterable<NotificationObserver> observers) {
+		int live = 0;
+		int dead = 0;
+
+		for (NotificationObserver observer : observers) {
+			if (WeakNotificationObserver.isCollected(observer)) {
+				dead++;
+			} else {
+				live++;
+			}
+		}
+
+		return new ObserverCount(live, dead);
+	}
+
+	/**
+	 * @return the number of observers that receive the message.
+	 */
+	public int getLiveCount() {
+		return liveCount;
+	}
+
+	/**
+	 * @return the number of weak observers whose wrapped observer was garbage collected but which weren't removed yet.
+	 */
+	public int getDeadCount() {
+		return deadCount;
+	}
+
+	@Override
+	public String toString() {
+		return "ObserverCount{" +
+				"liveCount=" + liveCount +
+				", deadCount=" + deadCount +
+				'}';
+	}
+}
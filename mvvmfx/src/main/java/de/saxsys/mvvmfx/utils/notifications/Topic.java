@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.utils.notifications;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A typed message of the {@link NotificationCenter}. Topics are created once and kept in a constant, f.e.:
+ *
+ * <pre>
+ * public static final Topic&lt;Customer&gt; CUSTOMER_SELECTED = Topic.create("customerSelected");
+ *
+ * notificationCenter.subscribe(CUSTOMER_SELECTED, customer -&gt; ...);
+ * notificationCenter.publish(CUSTOMER_SELECTED, selectedCustomer);
+ * </pre>
+ *
+ * Each topic has its own index that is used to find the observers of the topic without hashing, so that publishing
+ * doesn't allocate anything. Two topics are different even if they have the same name, and topics aren't connected to
+ * the messages of the string based API.
+ *
+ * @param <T>
+ *            the type of the payload.
+ */
+public final class Topic<T> {
+
+	private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+	private final String name;
+
+	private final int index;
+
+	private Topic(String name, int index) {
+		this.name = name;
+		this.index = index;
+	}
+
+	/**
+	 * @param name
+	 *            the name of the topic that is used in log messages.
+	 * @param <T>
+	 *            the type of the payload.
+	 * @return a new topic.
+	 */
+	public static <T> Topic<T> create(String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("The name of a topic must not be null.");
+		}
+		return new Topic<>(name, NEXT_INDEX.getAndIncrement());
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	int getIndex() {
+		return index;
+	}
+
+	@Override
+	public String toString() {
+		return "Topic[" + name + "]";
+	}
+}
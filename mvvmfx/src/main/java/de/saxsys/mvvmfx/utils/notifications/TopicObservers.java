@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.utils.notifications;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * The observers of the {@link Topic}s of a notification center. The observers are kept in an array per topic that is
+ * found by the index of the topic.
+ * <p>
+ * Neither the outer array nor the arrays of the topics are modified after they were published with the volatile
+ * field. Subscribing copies the arrays, publishing only reads them and therefore needs neither locks nor allocations.
+ */
+final class TopicObservers {
+
+	private static final Logger LOG = LoggerFactory.getLogger(TopicObservers.class);
+
+	private static final Consumer<?>[] NO_OBSERVERS = new Consumer<?>[0];
+
+	/**
+	 * The observers of notification centers that don't keep the observers of topics themselves, see
+	 * {@link #of(NotificationCenter)}.
+	 */
+	private static final Map<NotificationCenter, TopicObservers> OBSERVERS_OF_CENTERS = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private volatile Consumer<?>[][] observers = new Consumer<?>[0][];
+
+	/**
+	 * @param notificationCenter
+	 *            a notification center that doesn't override the methods for topics.
+	 * @return the observers of the topics of the given notification center.
+	 */
+	static TopicObservers of(NotificationCenter notificationCenter) {
+		return OBSERVERS_OF_CENTERS.computeIfAbsent(notificationCenter, key -> new TopicObservers());
+	}
+
+	synchronized void subscribe(Topic<?> topic, Consumer<?> observer) {
+		if (observer == null) {
+			throw new IllegalArgumentException("The observer must not be null.");
+		}
+
+		final Consumer<?>[] current = getObservers(topic);
+
+		if (Arrays.asList(current).contains(observer)) {
+			LOG.warn("Subscribe the observer [" + observer + "] for the topic [" + topic.getName() +
+					"], but the same observer was already added for this topic in the past.");
+		}
+
+		final Consumer<?>[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = observer;
+
+		replace(topic, updated);
+	}
+
+	synchronized void unsubscribe(Topic<?> topic, Consumer<?> observer) {
+		final Consumer<?>[] current = getObservers(topic);
+		final int position = Arrays.asList(current).indexOf(observer);
+
+		if (position < 0) {
+			return;
+		}
+
+		final Consumer<?>[] updated = new Consumer<?>[current.length - 1];
+		System.arraycopy(current, 0, updated, 0, position);
+		System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+
+		replace(topic, updated);
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> void publish(Topic<T> topic, T payload) {
+		for (Consumer<?> observer : getObservers(topic)) {
+			((Consumer<? super T>) observer).accept(payload);
+		}
+	}
+
+	synchronized void clear() {
+		observers = new Consumer<?>[0][];
+	}
+
+	private Consumer<?>[] getObservers(Topic<?> topic) {
+		final Consumer<?>[][] current = observers;
+		final int index = topic.getIndex();
+
+		if (index < current.length && current[index] != null) {
+			return current[index];
+		}
+		return NO_OBSERVERS;
+	}
+
+	private void replace(Topic<?> topic, Consumer<?>[] topicObservers) {
+		final Consumer<?>[][] current = observers;
+		final int index = topic.getIndex();
+
+		final Consumer<?>[][] updated = Arrays.copyOf(current, Math.max(current.length, index + 1));
+		updated[index] = topicObservers.length == 0 ? null : topicObservers;
+
+		observers = updated;
+	}
+}
@@ -16,7 +16,10 @@
 package de.saxsys.mvvmfx.utils.notifications;
 
 import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 
@@ -79,10 +82,16 @@ import java.util.Objects;
  */
 public final class WeakNotificationObserver implements NotificationObserver {
 
-	private final Reference<NotificationObserver> reference;
+	/**
+	 * The references of all weak observers are enqueued here when the wrapped observer is garbage collected, see
+	 * {@link #purgeCollectedObservers()}.
+	 */
+	private static final ReferenceQueue<NotificationObserver> COLLECTED_OBSERVERS = new ReferenceQueue<>();
+
+	private final ObserverReference reference;
 
 	public WeakNotificationObserver(NotificationObserver notificationObserver) {
-		reference = new WeakReference<>(Objects.requireNonNull(notificationObserver));
+		reference = new ObserverReference(this, Objects.requireNonNull(notificationObserver));
 	}
 
 	@Override
@@ -101,4 +110,114 @@ public final class WeakNotificationObserver implements NotificationObserver {
 		return reference.get();
 	}
 
+	/**
+	 * @return <code>true</code> if the given observer is a weak observer whose wrapped observer was already garbage
+	 *         collected.
+	 */
+	static boolean isCollected(NotificationObserver observer) {
+		return observer instanceof WeakNotificationObserver
+				&& ((WeakNotificationObserver) observer).getWrappedObserver() == null;
+	}
+
+	/**
+	 * Registers an owner that contains this observer for the given message. When the wrapped observer is garbage
+	 * collected, {@link #purgeCollectedObservers()} removes this observer from exactly this owner. The owner is only
+	 * weakly referenced so that owners that aren't used anymore (f.e. of removed channels) aren't kept alive.
+	 */
+	void addOwner(Owner owner, String messageName) {
+		reference.addOwner(owner, messageName);
+	}
+
+	/**
+	 * Unregisters an owner after this observer was unsubscribed from the given message of the owner.
+	 */
+	void removeOwner(Owner owner, String messageName) {
+		reference.removeOwner(owner, messageName);
+	}
+
+	/**
+	 * Removes the weak observers whose wrapped observer was garbage collected since the last call from the owners
+	 * they were added to. As long as no observer was collected, this is only the poll of an empty queue.
+	 */
+	static void purgeCollectedObservers() {
+		Reference<? extends NotificationObserver> collected;
+
+		while ((collected = COLLECTED_OBSERVERS.poll()) != null) {
+			((ObserverReference) collected).removeFromOwners();
+		}
+	}
+
+	/**
+	 * The observers of the messages of a notification center (or of one of its channels) that can contain weak
+	 * observers.
+	 */
+	interface Owner {
+
+		/**
+		 * Removes the given observer from the observers of the message. The wrapped observer of the given observer
+		 * was garbage collected.
+		 */
+		void removeCollected(String messageName, WeakNotificationObserver observer);
+	}
+
+	private static final class ObserverReference extends WeakReference<NotificationObserver> {
+
+		private final WeakNotificationObserver observer;
+
+		private final List<Reference<Owner>> owners = new ArrayList<>(1);
+		private final List<String> messageNames = new ArrayList<>(1);
+
+		ObserverReference(WeakNotificationObserver observer, NotificationObserver wrappedObserver) {
+			super(wrappedObserver, COLLECTED_OBSERVERS);
+			this.observer = observer;
+		}
+
+		/**
+		 * Each owner and message name is only registered once. Owners that were garbage collected are dropped.
+		 */
+		synchronized void addOwner(Owner owner, String messageName) {
+			for (int i = owners.size() - 1; i >= 0; i--) {
+				final Owner existingOwner = owners.get(i).get();
+
+				if (existingOwner == null) {
+					owners.remove(i);
+					messageNames.remove(i);
+				} else if (existingOwner == owner && Objects.equals(messageNames.get(i), messageName)) {
+					return;
+				}
+			}
+
+			owners.add(new WeakReference<>(owner));
+			messageNames.add(messageName);
+		}
+
+		synchronized void removeOwner(Owner owner, String messageName) {
+			for (int i = 0; i < owners.size(); i++) {
+				if (owners.get(i).get() == owner && Objects.equals(messageNames.get(i), messageName)) {
+					owners.remove(i);
+					messageNames.remove(i);
+					return;
+				}
+			}
+		}
+
+		void removeFromOwners() {
+			final List<Reference<Owner>> currentOwners;
+			final List<String> currentMessageNames;
+
+			// the owners are called without holding the lock as they may lock themselves
+			synchronized (this) {
+				currentOwners = new ArrayList<>(owners);
+				currentMessageNames = new ArrayList<>(messageNames);
+			}
+
+			for (int i = 0; i < currentOwners.size(); i++) {
+				final Owner owner = currentOwners.get(i).get();
+
+				if (owner != null) {
+					owner.removeCollected(currentMessageNames.get(i), observer);
+				}
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose.DisposeTestRootView;
+import de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose.DisposeTestRootViewModel;
+import de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose.DisposeTestSubView;
+import de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose.DisposeTestSubViewModel;
+import de.saxsys.mvvmfx.testingutils.FxTestingUtils;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import de.saxsys.mvvmfx.testingutils.LiveInstanceVerifier;
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class InstanceTrackingTest {
+
+	private final LiveInstanceVerifier verifier = LiveInstanceVerifier
+			.create(() -> MvvmFX.getInstanceCensus().getLiveCounts());
+
+	@AfterEach
+	public void tearDown() {
+		MvvmFX.disableInstanceTracking();
+	}
+
+	@Test
+	public void noInstancesAreTrackedByDefault() {
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> viewTuple = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).load();
+
+		assertThat(MvvmFX.getInstanceCensus().getInstances()).isEmpty();
+		assertThat(viewTuple.getViewModel()).isNotNull();
+	}
+
+	@Test
+	public void liveInstancesAreCountedPerClass() {
+		MvvmFX.enableInstanceTracking(1);
+
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> first = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).load();
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> second = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).load();
+
+		final InstanceCensus census = MvvmFX.getInstanceCensus();
+
+		assertThat(census.getLiveCount(DisposeTestRootView.class)).isEqualTo(2);
+		assertThat(census.getLiveCount(DisposeTestRootViewModel.class)).isEqualTo(2);
+		assertThat(census.getLiveCount(DisposeTestSubView.class)).isEqualTo(2);
+		assertThat(census.getLiveCount(DisposeTestSubViewModel.class)).isEqualTo(2);
+
+		assertThat(census.getInstances()).hasSize(8);
+		assertThat(census.getInstances().stream().allMatch(instance -> instance.getAllocationStack().isPresent()))
+				.isTrue();
+
+		assertThat(first.getViewModel()).isNotSameAs(second.getViewModel());
+	}
+
+	@Test
+	public void instancesOfViewsThatWereNeverShownAreReported() {
+		MvvmFX.enableInstanceTracking(0);
+
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> shown = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).load();
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> notShown = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).load();
+
+		FxTestingUtils.runInFXThread(() -> new Scene(new VBox(shown.getView())));
+
+		final InstanceCensus census = MvvmFX.getInstanceCensus();
+
+		assertThat(census.getNeverAttachedInstances(Duration.ZERO)).hasSize(4);
+		assertThat(census.getNeverAttachedInstances(Duration.ofMinutes(5))).isEmpty();
+		assertThat(census.getInstances().stream().anyMatch(instance -> instance.getAllocationStack().isPresent()))
+				.isFalse();
+
+		assertThat(notShown.getView().getScene()).isNull();
+	}
+
+	@Test
+	public void instancesThatAreUsedByMultipleLoadsAreOnlyCountedOnce() {
+		MvvmFX.enableInstanceTracking(0);
+
+		// f.e. a singleton of the dependency injection framework.
+		final DisposeTestRootViewModel viewModel = new DisposeTestRootViewModel();
+
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> notShown = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).viewModel(viewModel).load();
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> shown = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).viewModel(viewModel).load();
+
+		FxTestingUtils.runInFXThread(() -> new Scene(new VBox(shown.getView())));
+
+		final InstanceCensus census = MvvmFX.getInstanceCensus();
+
+		assertThat(census.getLiveCount(DisposeTestRootViewModel.class)).isEqualTo(1);
+		assertThat(census.getLiveCount(DisposeTestRootView.class)).isEqualTo(2);
+
+		// the viewModel is attached to a scene by the second load.
+		assertThat(census.getNeverAttachedInstances(Duration.ZERO).stream()
+				.anyMatch(instance -> instance.getType() == DisposeTestRootViewModel.class)).isFalse();
+
+		assertThat(notShown.getViewModel()).isSameAs(shown.getViewModel());
+	}
+
+	@Test
+	public void garbageCollectedInstancesAreNotCounted() {
+		MvvmFX.enableInstanceTracking(0);
+
+		ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> viewTuple = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).load();
+
+		verifier.verifyLiveInstances(DisposeTestRootViewModel.class, 1);
+
+		// the SceneLifecycle viewModel is kept until its view is removed from the scene or disposed.
+		FxTestingUtils.runInFXThread(viewTuple::dispose);
+		viewTuple = null;
+
+		verifier.verifyNoLiveInstances(DisposeTestRootView.class, DisposeTestRootViewModel.class,
+				DisposeTestSubView.class, DisposeTestSubViewModel.class);
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlViewWithWrongController;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestJavaView;
+import de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose.DisposeTestRootView;
+import de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose.DisposeTestRootViewModel;
+import de.saxsys.mvvmfx.testingutils.FxTestingUtils;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class ViewPreloaderTest {
+
+	@Test
+	public void viewsAreLoadedOnce() {
+		final int instancesBefore = TestFxmlView.instanceCounter;
+
+		final List<ViewPreloadResult> results = ViewPreloader.preload(TestFxmlView.class, TestJavaView.class);
+
+		assertThat(TestFxmlView.instanceCounter).isEqualTo(instancesBefore + 1);
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).getViewType()).isEqualTo(TestFxmlView.class);
+		assertThat(results.get(0).isSuccessful()).isTrue();
+		assertThat(results.get(0).getDuration().isNegative()).isFalse();
+		assertThat(results.get(1).getViewType()).isEqualTo(TestJavaView.class);
+		assertThat(results.get(1).isSuccessful()).isTrue();
+	}
+
+	@Test
+	public void instancesOfTheDependencyInjectionAreNotDisposed() {
+		// f.e. a singleton that is used by the views that are loaded later.
+		final DisposeTestRootViewModel singleton = new DisposeTestRootViewModel();
+		final List<String> received = new ArrayList<>();
+		singleton.subscribe("message", (key, payload) -> received.add(key));
+
+		MvvmFX.setCustomDependencyInjector(type -> {
+			if (type == DisposeTestRootViewModel.class) {
+				return singleton;
+			}
+			try {
+				return type.getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		try {
+			final List<ViewPreloadResult> results = ViewPreloader.preload(DisposeTestRootView.class);
+
+			assertThat(results.get(0).isSuccessful()).isTrue();
+			assertThat(singleton.disposeCalled).isEqualTo(0);
+			assertThat(singleton.onViewRemovedCalled).isEqualTo(0);
+
+			// the notification channel of the singleton still exists.
+			singleton.publish("message");
+			FxTestingUtils.waitForUiThread();
+			assertThat(received).containsExactly("message");
+		} finally {
+			MvvmFX.setCustomDependencyInjector(null);
+		}
+	}
+
+	@Test
+	public void throwawayInstancesAreNotTracked() {
+		MvvmFX.enableInstanceTracking(0);
+
+		try {
+			ViewPreloader.preload(TestFxmlView.class);
+
+			assertThat(MvvmFX.getInstanceCensus().getLiveCount(TestFxmlView.class)).isEqualTo(0);
+		} finally {
+			MvvmFX.disableInstanceTracking();
+		}
+	}
+
+	@Test
+	public void failingViewsAreReported() {
+		final List<ViewPreloadResult> results = ViewPreloader.preload(TestFxmlViewWithWrongController.class,
+				TestFxmlView.class);
+
+		assertThat(results.get(0).isSuccessful()).isFalse();
+		assertThat(results.get(0).getError().isPresent()).isTrue();
+		assertThat(results.get(1).isSuccessful()).isTrue();
+	}
+
+	@Test
+	public void viewsArePreloadedByTheExecutor() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			final List<ViewPreloadResult> results = ViewPreloader
+					.preloadAsync(executor, Arrays.asList(TestFxmlView.class, TestJavaView.class))
+					.get(5, TimeUnit.SECONDS);
+
+			assertThat(results).hasSize(2);
+			assertThat(results.get(0).getViewType()).isEqualTo(TestFxmlView.class);
+			assertThat(results.get(1).getViewType()).isEqualTo(TestJavaView.class);
+			assertThat(results.get(0).isSuccessful()).isTrue();
+			assertThat(results.get(1).isSuccessful()).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import de.saxsys.mvvmfx.internal.viewloader.example.TestJavaView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModel;
+import de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose.DisposeTestRootView;
+import de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose.DisposeTestRootViewModel;
+import de.saxsys.mvvmfx.testingutils.FxTestingUtils;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import de.saxsys.mvvmfx.utils.notifications.DefaultNotificationCenter;
+import de.saxsys.mvvmfx.utils.notifications.NotificationCenterFactory;
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class ViewTupleDisposeTest {
+
+	private VBox container;
+
+	@BeforeEach
+	public void setup() {
+		NotificationCenterFactory.setNotificationCenter(new DefaultNotificationCenter());
+
+		container = new VBox();
+		FxTestingUtils.runInFXThread(() -> new Scene(container));
+	}
+
+	@Test
+	public void disposeReleasesAllViewsAndViewModelsOfTheLoad() {
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> viewTuple = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).load();
+
+		final DisposeTestRootView codeBehind = viewTuple.getCodeBehind();
+		final DisposeTestRootViewModel viewModel = viewTuple.getViewModel();
+
+		final List<String> messages = new ArrayList<>();
+		viewModel.subscribe("message", (key, payload) -> messages.add(key));
+
+		FxTestingUtils.runInFXThread(() -> {
+			container.getChildren().add(viewTuple.getView());
+			viewTuple.dispose();
+		});
+
+		// the view was still part of the scene
+		assertThat(viewModel.onViewRemovedCalled).isEqualTo(1);
+
+		assertThat(codeBehind.disposeCalled).isEqualTo(1);
+		assertThat(viewModel.disposeCalled).isEqualTo(1);
+		assertThat(codeBehind.subController.viewModel.disposeCalled).isEqualTo(1);
+
+		FxTestingUtils.runInFXThread(() -> {
+			viewModel.publish("message");
+
+			// the lifecycle hooks don't get any changes anymore
+			container.getChildren().clear();
+			viewTuple.dispose();
+		});
+
+		assertThat(messages).isEmpty();
+		assertThat(viewModel.onViewRemovedCalled).isEqualTo(1);
+		assertThat(codeBehind.disposeCalled).isEqualTo(1);
+	}
+
+	@Test
+	public void viewIsDisposedWhenRemovedFromTheScene() {
+		final ViewTuple<DisposeTestRootView, DisposeTestRootViewModel> viewTuple = FluentViewLoader
+				.fxmlView(DisposeTestRootView.class).load().disposeOnSceneRemoval();
+
+		final VBox otherContainer = new VBox();
+
+		FxTestingUtils.runInFXThread(() -> container.getChildren().addAll(viewTuple.getView(), otherContainer));
+
+		// moving the view doesn't dispose it
+		FxTestingUtils.runInFXThread(() -> otherContainer.getChildren().add(viewTuple.getView()));
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(viewTuple.getViewModel().disposeCalled).isEqualTo(0);
+
+		FxTestingUtils.runInFXThread(() -> otherContainer.getChildren().clear());
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(viewTuple.getViewModel().disposeCalled).isEqualTo(1);
+		assertThat(viewTuple.getCodeBehind().disposeCalled).isEqualTo(1);
+	}
+
+	@Test
+	public void javaViewsCanBeDisposed() {
+		final ViewTuple<TestJavaView, TestViewModel> viewTuple = FluentViewLoader.javaView(TestJavaView.class).load();
+
+		final List<String> messages = new ArrayList<>();
+		viewTuple.getViewModel().subscribe("message", (key, payload) -> messages.add(key));
+
+		FxTestingUtils.runInFXThread(viewTuple::dispose);
+
+		viewTuple.getViewModel().publish("message");
+
+		assertThat(messages).isEmpty();
+	}
+}
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx;
+
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestJavaView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModel;
+import de.saxsys.mvvmfx.testingutils.FxTestingUtils;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import de.saxsys.mvvmfx.utils.notifications.DefaultNotificationCenter;
+import de.saxsys.mvvmfx.utils.notifications.NotificationCenterFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class ViewTuplePoolTest {
+
+	/**
+	 * Collects the loading tasks so that the test decides when they are executed.
+	 */
+	private final List<Runnable> tasks = new ArrayList<>();
+	private final Executor executor = tasks::add;
+
+	@BeforeEach
+	public void setup() {
+		NotificationCenterFactory.setNotificationCenter(new DefaultNotificationCenter());
+		TestFxmlView.instanceCounter = 0;
+	}
+
+	@Test
+	public void tuplesAreLoadedInTheBackground() {
+		final ViewTuplePool<TestFxmlView, TestViewModel> pool = ViewTuplePool.fxmlView(TestFxmlView.class, 2, executor);
+
+		assertThat(tasks).hasSize(2);
+		assertThat(TestFxmlView.instanceCounter).isEqualTo(0);
+
+		runTasks();
+
+		assertThat(TestFxmlView.instanceCounter).isEqualTo(2);
+		assertThat(pool.getAvailableCount()).isEqualTo(2);
+
+		final ViewTuple<TestFxmlView, TestViewModel> viewTuple = pool.take();
+
+		assertThat(viewTuple.getCodeBehind().getViewModel()).isSameAs(viewTuple.getViewModel());
+		assertThat(TestFxmlView.instanceCounter).isEqualTo(2);
+		assertThat(pool.getAvailableCount()).isEqualTo(1);
+
+		// a replacement is loaded
+		assertThat(tasks).hasSize(1);
+		runTasks();
+		assertThat(pool.getAvailableCount()).isEqualTo(2);
+
+		assertThat(pool.take()).isNotSameAs(viewTuple);
+	}
+
+	@Test
+	public void tupleIsLoadedByTheCallerIfThePoolIsEmpty() {
+		final ViewTuplePool<TestFxmlView, TestViewModel> pool = ViewTuplePool.fxmlView(TestFxmlView.class, 1, executor);
+
+		final ViewTuple<TestFxmlView, TestViewModel> viewTuple = pool.take();
+
+		assertThat(viewTuple.getView()).isNotNull();
+		assertThat(TestFxmlView.instanceCounter).isEqualTo(1);
+
+		// the already started loading isn't repeated
+		assertThat(tasks).hasSize(1);
+	}
+
+	@Test
+	public void tupleIsBoundToAnotherViewModel() {
+		final ViewTuplePool<TestJavaView, TestViewModel> pool = ViewTuplePool.javaView(TestJavaView.class, 1, executor);
+		runTasks();
+
+		final List<TestViewModel> resetViewModels = new ArrayList<>();
+		pool.setResetHook((codeBehind, viewModel) -> resetViewModels.add(codeBehind.viewModel));
+
+		final TestViewModel viewModel = new TestViewModel();
+		final ViewTuple<TestJavaView, TestViewModel> viewTuple = pool.take(viewModel);
+
+		assertThat(viewTuple.getViewModel()).isSameAs(viewModel);
+		assertThat(viewTuple.getCodeBehind().viewModel).isSameAs(viewModel);
+		assertThat(resetViewModels).containsExactly(viewModel);
+	}
+
+	@Test
+	public void disposeReleasesTheViewModelThatTheTupleIsBoundTo() {
+		final List<TestViewModel> pooledViewModels = new ArrayList<>();
+		final ViewTuplePool<TestJavaView, TestViewModel> pool = new ViewTuplePool<>(() -> {
+			final ViewTuple<TestJavaView, TestViewModel> viewTuple = FluentViewLoader.javaView(TestJavaView.class)
+					.load();
+			pooledViewModels.add(viewTuple.getViewModel());
+			return viewTuple;
+		}, 1, executor);
+		runTasks();
+		pool.setResetHook((codeBehind, viewModel) -> {
+		});
+
+		final List<String> messages = new ArrayList<>();
+		final TestViewModel pooledViewModel = pooledViewModels.get(0);
+		pooledViewModel.subscribe("pooled", (key, payload) -> messages.add(key));
+
+		final TestViewModel viewModel = new TestViewModel();
+		viewModel.subscribe("bound", (key, payload) -> messages.add(key));
+
+		final ViewTuple<TestJavaView, TestViewModel> viewTuple = pool.take(viewModel);
+
+		// the discarded viewModel is disposed when the tuple is taken
+		FxTestingUtils.runInFXThread(() -> {
+			pooledViewModel.publish("pooled");
+			viewModel.publish("bound");
+		});
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(messages).containsExactly("bound");
+
+		FxTestingUtils.runInFXThread(() -> {
+			viewTuple.dispose();
+			viewModel.publish("bound");
+		});
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(messages).containsExactly("bound");
+	}
+
+	@Test
+	public void clearDisposesThePooledTuples() {
+		final List<ViewTuple<TestJavaView, TestViewModel>> loadedTuples = new ArrayList<>();
+		final ViewTuplePool<TestJavaView, TestViewModel> pool = new ViewTuplePool<>(() -> {
+			final ViewTuple<TestJavaView, TestViewModel> viewTuple = FluentViewLoader.javaView(TestJavaView.class)
+					.load();
+			loadedTuples.add(viewTuple);
+			return viewTuple;
+		}, 2, executor);
+		runTasks();
+
+		FxTestingUtils.runInFXThread(pool::clear);
+
+		assertThat(loadedTuples).hasSize(2);
+		assertThat(loadedTuples.stream().allMatch(viewTuple -> viewTuple.getLifecycle().isDisposed())).isTrue();
+
+		// the pool is refilled with new tuples
+		runTasks();
+		assertThat(pool.getAvailableCount()).isEqualTo(2);
+		assertThat(loadedTuples.subList(2, 4).stream().anyMatch(viewTuple -> viewTuple.getLifecycle().isDisposed()))
+				.isFalse();
+	}
+
+	@Test
+	public void takeWithViewModelNeedsResetHook() {
+		final ViewTuplePool<TestJavaView, TestViewModel> pool = ViewTuplePool.javaView(TestJavaView.class, 1, executor);
+
+		try {
+			pool.take(new TestViewModel());
+			fail("Expected an IllegalStateException");
+		} catch (IllegalStateException expected) {
+		}
+	}
+
+	private void runTasks() {
+		final List<Runnable> currentTasks = new ArrayList<>(tasks);
+		tasks.clear();
+		currentTasks.forEach(Runnable::run);
+	}
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal;
+
+import de.saxsys.mvvmfx.Scope;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContextImplTest {
+
+	public static class ScopeA implements Scope {
+	}
+
+	public static class ScopeB implements Scope {
+	}
+
+	@Test
+	public void addingScopesDoesNotModifyTheContext() {
+		final ScopeA a = new ScopeA();
+		final ContextImpl parent = new ContextImpl().withScope(a);
+
+		final ScopeB b = new ScopeB();
+		final ContextImpl child = parent.withScope(b);
+
+		assertThat(child.getScope(ScopeA.class)).isSameAs(a);
+		assertThat(child.getScope(ScopeB.class)).isSameAs(b);
+
+		assertThat(parent.getScope(ScopeB.class)).isNull();
+	}
+
+	@Test
+	public void scopesOfTheChildOverrideScopesOfTheParent() {
+		final ContextImpl parent = new ContextImpl().withScope(new ScopeA());
+
+		final ScopeA overriding = new ScopeA();
+		final ContextImpl child = parent.withScopes(Arrays.asList(overriding, new ScopeB()));
+
+		assertThat(child.getScope(ScopeA.class)).isSameAs(overriding);
+	}
+
+	@Test
+	public void noScopesKeepTheContext() {
+		final ContextImpl context = new ContextImpl();
+
+		assertThat(context.withScopes(Collections.emptyList())).isSameAs(context);
+		assertThat(context.withScopes(null)).isSameAs(context);
+		assertThat(context.getScope(ScopeA.class)).isNull();
+	}
+}
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecorderEventTest {
+
+	@Test
+	public void eventsAreNotRecordedWithoutRecording() {
+		// either the JFR API isn't available or the event type is disabled by default.
+		assertThat(FlightRecorderEvent.VIEW_LOAD.begin()).isNull();
+		assertThat(FlightRecorderEvent.MODEL_WRAPPER_COMMIT.begin()).isNull();
+	}
+
+	@Test
+	public void commitWithoutEventIsIgnored() {
+		FlightRecorderEvent.COMMAND_EXECUTION.commit(null, FlightRecorderEventTest.class, null, true);
+	}
+}
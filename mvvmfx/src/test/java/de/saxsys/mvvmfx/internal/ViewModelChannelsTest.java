@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.ViewModel;
+import de.saxsys.mvvmfx.ViewTuple;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestJavaView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModel;
+import de.saxsys.mvvmfx.testingutils.FxTestingUtils;
+import de.saxsys.mvvmfx.testingutils.GCVerifier;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import de.saxsys.mvvmfx.utils.notifications.DefaultNotificationCenter;
+import de.saxsys.mvvmfx.utils.notifications.NotificationCenter;
+import de.saxsys.mvvmfx.utils.notifications.NotificationCenterFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class ViewModelChannelsTest {
+
+	/**
+	 * All instances are equal, like viewModels of table rows that implement equals by their values.
+	 */
+	public static class EqualViewModel implements ViewModel {
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof EqualViewModel;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+
+	private NotificationCenter notificationCenter;
+
+	@BeforeEach
+	public void setup() {
+		notificationCenter = new DefaultNotificationCenter();
+		NotificationCenterFactory.setNotificationCenter(notificationCenter);
+	}
+
+	@Test
+	public void equalViewModelsHaveDifferentChannels() {
+		final ViewModel viewModel1 = new EqualViewModel();
+		final ViewModel viewModel2 = new EqualViewModel();
+
+		final List<String> received1 = new ArrayList<>();
+		final List<String> received2 = new ArrayList<>();
+
+		viewModel1.subscribe("message", (key, payload) -> received1.add(key));
+		viewModel2.subscribe("message", (key, payload) -> received2.add(key));
+
+		viewModel1.publish("message");
+
+		// the messages of channels are delivered on the UI-Thread.
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(received1).hasSize(1);
+		assertThat(received2).isEmpty();
+
+		assertThat(ViewModelChannels.getInstance().findChannel(viewModel1))
+				.isNotSameAs(ViewModelChannels.getInstance().findChannel(viewModel2));
+	}
+
+	@Test
+	public void publishingWithoutSubscribersDoesNotCreateAChannel() {
+		final ViewModel viewModel = new EqualViewModel();
+
+		viewModel.publish("message");
+
+		assertThat(ViewModelChannels.getInstance().findChannel(viewModel)).isNull();
+	}
+
+	@Test
+	public void theChannelIsRemovedWhenTheViewModelIsCollected() {
+		ViewModel viewModel = new EqualViewModel();
+
+		final List<String> received = new ArrayList<>();
+		viewModel.subscribe("message", (key, payload) -> received.add(key));
+
+		final Object channel = ViewModelChannels.getInstance().findChannel(viewModel);
+		assertThat(notificationCenter.countObservers(channel, "message").getLiveCount()).isEqualTo(1);
+
+		final GCVerifier verifier = GCVerifier.create(viewModel);
+		viewModel = null;
+		verifier.verify();
+
+		// the reference is enqueued by the garbage collector asynchronously. The collected channels are removed when
+		// another channel is removed, f.e. when a view is disposed.
+		for (int i = 0; i < 100 && notificationCenter.countObservers(channel, "message").getLiveCount() > 0; i++) {
+			GCVerifier.forceGC();
+			ViewModelChannels.getInstance().removeChannel(new EqualViewModel());
+		}
+
+		assertThat(notificationCenter.countObservers(channel, "message").getLiveCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void theChannelIsRemovedWhenTheViewIsDisposedEvenIfTheObserversReferenceTheViewModel() {
+		ViewTuple<TestJavaView, TestViewModel> viewTuple = FluentViewLoader.javaView(TestJavaView.class).load();
+
+		subscribeWithObserverThatReferencesTheViewModel(viewTuple.getViewModel());
+
+		final Object channel = ViewModelChannels.getInstance().findChannel(viewTuple.getViewModel());
+		assertThat(notificationCenter.countObservers(channel, "message").getLiveCount()).isEqualTo(1);
+
+		final GCVerifier verifier = GCVerifier.create(viewTuple.getViewModel());
+
+		FxTestingUtils.runInFXThread(viewTuple::dispose);
+		viewTuple = null;
+
+		assertThat(notificationCenter.countObservers(channel, "message").getLiveCount()).isEqualTo(0);
+		verifier.verify();
+	}
+
+	@Test
+	public void removeChannel() {
+		final ViewModel viewModel = new EqualViewModel();
+
+		final List<String> received = new ArrayList<>();
+		viewModel.subscribe("message", (key, payload) -> received.add(key));
+
+		ViewModelChannels.getInstance().removeChannel(viewModel);
+
+		viewModel.publish("message");
+
+		assertThat(received).isEmpty();
+		assertThat(ViewModelChannels.getInstance().findChannel(viewModel)).isNull();
+	}
+
+	private static void subscribeWithObserverThatReferencesTheViewModel(ViewModel viewModel) {
+		final List<ViewModel> received = new ArrayList<>();
+		viewModel.subscribe("message", (key, payload) -> received.add(viewModel));
+	}
+}
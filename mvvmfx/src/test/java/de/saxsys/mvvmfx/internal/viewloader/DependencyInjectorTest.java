@@ -17,6 +17,8 @@ package de.saxsys.mvvmfx.internal.viewloader;
 
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+
 import javafx.util.Callback;
 
 import org.junit.Assert;
@@ -57,6 +59,24 @@ public class DependencyInjectorTest {
 		}
 	}
 	
+	/**
+	 * This class throws an exception in the constructor.
+	 */
+	static class ExampleWithFailingConstructor {
+		ExampleWithFailingConstructor() {
+			throw new IllegalStateException("failing constructor");
+		}
+	}
+	
+	/**
+	 * This class throws a checked exception in the constructor.
+	 */
+	static class ExampleWithCheckedExceptionInConstructor {
+		ExampleWithCheckedExceptionInConstructor() throws IOException {
+			throw new IOException("failing constructor");
+		}
+	}
+	
 	@BeforeEach
 	public void setup() {
 		injector = new DependencyInjector();
@@ -142,4 +162,48 @@ public class DependencyInjectorTest {
 		}
 	}
 	
+	/**
+	 * Exceptions of the constructor aren't wrapped.
+	 */
+	@Test
+	public void testGetInstanceOfExceptionOfConstructor() {
+		try {
+			injector.getInstanceOf(ExampleWithFailingConstructor.class);
+			fail("There should be an IllegalStateException");
+		} catch (IllegalStateException e) {
+			Assert.assertEquals("failing constructor", e.getMessage());
+		}
+	}
+	
+	/**
+	 * Like with {@link Class#newInstance()} checked exceptions of the constructor are thrown unchanged too.
+	 */
+	@Test
+	public void testGetInstanceOfCheckedExceptionOfConstructor() {
+		try {
+			injector.getInstanceOf(ExampleWithCheckedExceptionInConstructor.class);
+			fail("There should be an IOException");
+		} catch (Exception e) {
+			Assert.assertTrue(e instanceof IOException);
+			Assert.assertEquals("failing constructor", e.getMessage());
+		}
+	}
+	
+	/**
+	 * The instances are counted per class, regardless of how they are created.
+	 */
+	@Test
+	public void testInstantiationCounts() {
+		injector.getInstanceOf(Example.class);
+		injector.getInstanceOf(Example.class);
+		
+		Assert.assertEquals(Long.valueOf(2), injector.getInstantiationCounts().get(Example.class));
+		
+		injector.setCustomInjector(type -> new Example());
+		injector.getInstanceOf(Example.class);
+		
+		Assert.assertEquals(Long.valueOf(3), injector.getInstantiationCounts().get(Example.class));
+		Assert.assertNull(injector.getInstantiationCounts().get(ExampleWithParamsConstructor.class));
+	}
+	
 }
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+/**
+ * Written by hand like the annotation processor of mvvmfx-apt would generate it for
+ * {@link FieldAccessorTest.GeneratedExample}.
+ */
+public final class FieldAccessorTest$GeneratedExample_MvvmfxInjector implements GeneratedInjector {
+
+	static int setCalls;
+
+	@Override
+	public Class<?> getTargetType() {
+		return FieldAccessorTest.GeneratedExample.class;
+	}
+
+	@Override
+	public boolean canAccessField(String fieldName) {
+		return "generatedField".equals(fieldName);
+	}
+
+	@Override
+	public Object getField(Object target, String fieldName) {
+		return ((FieldAccessorTest.GeneratedExample) target).generatedField;
+	}
+
+	@Override
+	public void setField(Object target, String fieldName, Object value) {
+		setCalls++;
+		((FieldAccessorTest.GeneratedExample) target).generatedField = (String) value;
+	}
+
+	@Override
+	public boolean canInvokeMethod(String methodName) {
+		return false;
+	}
+
+	@Override
+	public void invokeMethod(Object target, String methodName) {
+		throw new IllegalArgumentException(methodName);
+	}
+}
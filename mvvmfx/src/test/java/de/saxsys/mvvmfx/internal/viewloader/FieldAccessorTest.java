@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FieldAccessorTest {
+
+	public static class Example {
+		private String privateField;
+		private int primitiveField;
+	}
+
+	public static class GeneratedExample {
+		String generatedField;
+		private String privateField;
+	}
+
+	@Test
+	public void generatedInjectorIsUsedIfAvailable() throws Exception {
+		assertThat(InjectionMetadata.of(GeneratedExample.class).getGeneratedInjector())
+				.isInstanceOf(FieldAccessorTest$GeneratedExample_MvvmfxInjector.class);
+		assertThat(InjectionMetadata.of(Example.class).getGeneratedInjector()).isNull();
+
+		final FieldAccessor accessor = FieldAccessor.of(GeneratedExample.class.getDeclaredField("generatedField"));
+		assertThat(accessor).isInstanceOf(FieldAccessor.GeneratedFieldAccessor.class);
+
+		GeneratedExample example = new GeneratedExample();
+		final int setCallsBefore = FieldAccessorTest$GeneratedExample_MvvmfxInjector.setCalls;
+		accessor.set(example, "test");
+
+		assertThat(example.generatedField).isEqualTo("test");
+		assertThat(accessor.get(example)).isEqualTo("test");
+		assertThat(FieldAccessorTest$GeneratedExample_MvvmfxInjector.setCalls).isEqualTo(setCallsBefore + 1);
+
+		// fields that are not covered by the generated injector fall back to method handles
+		assertThat(FieldAccessor.of(GeneratedExample.class.getDeclaredField("privateField")))
+				.isInstanceOf(FieldAccessor.MethodHandleFieldAccessor.class);
+	}
+
+	@Test
+	public void generatedInjectorIsFoundByName() {
+		assertThat(GeneratedInjectors.getInjectorName(GeneratedExample.class))
+				.isEqualTo(FieldAccessorTest$GeneratedExample_MvvmfxInjector.class.getName());
+		assertThat(GeneratedInjectors.getInjectorName(String.class)).isEqualTo("java.lang.String_MvvmfxInjector");
+		assertThat(GeneratedInjectors.find(String.class)).isNull();
+	}
+
+	@Test
+	public void privateFieldIsAccessedWithMethodHandles() throws Exception {
+		final Field field = Example.class.getDeclaredField("privateField");
+		final FieldAccessor accessor = FieldAccessor.of(field);
+
+		assertThat(accessor).isInstanceOf(FieldAccessor.MethodHandleFieldAccessor.class);
+
+		Example example = new Example();
+		accessor.set(example, "test");
+
+		assertThat(example.privateField).isEqualTo("test");
+		assertThat(accessor.get(example)).isEqualTo("test");
+
+		// the accessibility of the shared field instance is not changed
+		assertThat(field.isAccessible()).isFalse();
+	}
+
+	@Test
+	public void primitiveField() throws Exception {
+		final FieldAccessor accessor = FieldAccessor.of(Example.class.getDeclaredField("primitiveField"));
+
+		Example example = new Example();
+		accessor.set(example, 42);
+
+		assertThat(example.primitiveField).isEqualTo(42);
+		assertThat(accessor.get(example)).isEqualTo(42);
+	}
+
+	@Test
+	public void accessorIsCached() throws Exception {
+		final Field field = Example.class.getDeclaredField("privateField");
+
+		assertThat(FieldAccessor.of(field)).isSameAs(FieldAccessor.of(field));
+	}
+
+	@Test
+	public void reflectionFallback() throws Exception {
+		final Field field = Example.class.getDeclaredField("privateField");
+		final FieldAccessor accessor = new FieldAccessor.ReflectionFieldAccessor(field);
+
+		Example example = new Example();
+		accessor.set(example, "test");
+
+		assertThat(example.privateField).isEqualTo("test");
+		assertThat(accessor.get(example)).isEqualTo("test");
+		assertThat(field.isAccessible()).isFalse();
+	}
+}
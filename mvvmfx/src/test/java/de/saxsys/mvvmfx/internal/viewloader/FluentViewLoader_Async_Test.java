@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.ViewTuple;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlViewWithWrongController;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestJavaView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModel;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import javafx.fxml.LoadException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests for <code>loadAsync</code> of the {@link FluentViewLoader}.
+ */
+@ExtendWith(JfxToolkitExtension.class)
+public class FluentViewLoader_Async_Test {
+
+	private ExecutorService executor;
+	private final AtomicReference<Thread> workerThread = new AtomicReference<>();
+
+	@BeforeEach
+	public void setup() {
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "view-loader");
+			workerThread.set(thread);
+			return thread;
+		});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testLoadFxmlViewAsync() throws Exception {
+		final CompletableFuture<ViewTuple<TestFxmlView, TestViewModel>> future = FluentViewLoader
+				.fxmlView(TestFxmlView.class).loadAsync(executor);
+
+		final ViewTuple<TestFxmlView, TestViewModel> viewTuple = future.get(5, TimeUnit.SECONDS);
+
+		assertThat(viewTuple.getView()).isNotNull();
+		assertThat(viewTuple.getView().getScene()).isNull();
+		assertThat(viewTuple.getCodeBehind().viewModelWasNull).isFalse();
+		assertThat(viewTuple.getCodeBehind().getViewModel()).isSameAs(viewTuple.getViewModel());
+		assertThat(viewTuple.getCodeBehind().initializeThread).isSameAs(workerThread.get());
+	}
+
+	@Test
+	public void testLoadJavaViewAsync() throws Exception {
+		final TestViewModel viewModel = new TestViewModel();
+
+		final CompletableFuture<ViewTuple<TestJavaView, TestViewModel>> future = FluentViewLoader
+				.javaView(TestJavaView.class).viewModel(viewModel).loadAsync(executor);
+
+		final ViewTuple<TestJavaView, TestViewModel> viewTuple = future.get(5, TimeUnit.SECONDS);
+
+		assertThat(viewTuple.getViewModel()).isSameAs(viewModel);
+		assertThat(viewTuple.getCodeBehind().viewModel).isSameAs(viewModel);
+		assertThat(viewTuple.getCodeBehind().viewModelWasNull).isFalse();
+		assertThat(viewTuple.getCodeBehind().initializeThread).isSameAs(workerThread.get());
+	}
+
+	@Test
+	public void testFailingViewCompletesExceptionally() throws Exception {
+		final CompletableFuture<?> future = FluentViewLoader.fxmlView(TestFxmlViewWithWrongController.class)
+				.loadAsync(executor);
+
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail("Expected an ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(future.isCompletedExceptionally()).isTrue();
+			assertThat(e.getCause()).hasCauseInstanceOf(LoadException.class);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewTuple;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlViewCompiled;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlViewCompiled_Fxml;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModel;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.util.BuilderFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.internal.util.reflection.Whitebox;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test the loading of FxmlViews with a compiled FXML file.
+ */
+@ExtendWith(JfxToolkitExtension.class)
+public class FluentViewLoader_CompiledFxml_Test {
+
+	private ResourceBundle resourceBundle;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		resourceBundle = new PropertyResourceBundle(new StringReader("label=Hello"));
+		TestFxmlViewCompiled_Fxml.buildCount = 0;
+		clearFactories();
+	}
+
+	@AfterEach
+	@SuppressWarnings("unchecked")
+	public void clearFactories() {
+		((List<BuilderFactory>) Whitebox.getInternalState(GlobalBuilderFactory.getInstance(), "factories")).clear();
+	}
+
+	@Test
+	public void compiledFxmlIsUsed() {
+		final ViewTuple<TestFxmlViewCompiled, TestViewModel> viewTuple = FluentViewLoader
+				.fxmlView(TestFxmlViewCompiled.class).resourceBundle(resourceBundle).load();
+
+		assertThat(TestFxmlViewCompiled_Fxml.buildCount).isEqualTo(1);
+
+		final TestFxmlViewCompiled codeBehind = viewTuple.getCodeBehind();
+		assertThat(codeBehind.viewModel).isSameAs(viewTuple.getViewModel());
+		assertThat(codeBehind.viewModelWasInjectedBeforeInitialize).isTrue();
+
+		final VBox root = (VBox) viewTuple.getView();
+		assertThat(root.getSpacing()).isEqualTo(5.0);
+		assertThat(root.getPadding().getTop()).isEqualTo(10.0);
+		assertThat(root.getStyleClass()).containsExactly("compiled", "test");
+		assertThat(root.getChildren()).hasSize(3);
+
+		assertThat(codeBehind.getLabel().getText()).isEqualTo("Hello");
+		assertThat(codeBehind.getLabel().getId()).isEqualTo("label");
+		assertThat(VBox.getVgrow(codeBehind.getButton())).isEqualTo(Priority.ALWAYS);
+
+		codeBehind.getButton().fire();
+		assertThat(codeBehind.actionCalls).isEqualTo(1);
+
+		assertThat(codeBehind.getTestViewA()).isSameAs(root.getChildren().get(2));
+		assertThat(codeBehind.getTestViewAController()).isNotNull();
+		assertThat(codeBehind.getTestViewAController().testViewBController).isNotNull();
+	}
+
+	@Test
+	public void fxmlLoaderIsUsedWithCustomBuilderFactories() {
+		MvvmFX.addGlobalBuilderFactory(type -> null);
+
+		final ViewTuple<TestFxmlViewCompiled, TestViewModel> viewTuple = FluentViewLoader
+				.fxmlView(TestFxmlViewCompiled.class).resourceBundle(resourceBundle).load();
+
+		assertThat(TestFxmlViewCompiled_Fxml.buildCount).isEqualTo(0);
+
+		final TestFxmlViewCompiled codeBehind = viewTuple.getCodeBehind();
+		assertThat(codeBehind.viewModelWasInjectedBeforeInitialize).isTrue();
+		assertThat(codeBehind.getLabel().getText()).isEqualTo("Hello");
+		assertThat(codeBehind.getTestViewAController()).isNotNull();
+	}
+}
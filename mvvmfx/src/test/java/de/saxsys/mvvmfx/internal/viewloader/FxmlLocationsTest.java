@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FxmlLocationsTest {
+
+	private static final String INDEX = "example.MyView=/example/MyView.fxml";
+
+	private Path directory;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		directory = Files.createTempDirectory("mvvmfx-fxml-index");
+	}
+
+	@Test
+	public void indexedFxmlIsResolvedRelativeToTheIndexInDirectory() throws Exception {
+		write(FxmlLocations.INDEX_FILE, INDEX);
+		write("example/MyView.fxml", "<fxml/>");
+
+		final Map<String, FxmlLocations.IndexEntry> index = FxmlLocations
+				.loadIndex(new URLClassLoader(new URL[] { directory.toUri().toURL() }, null));
+
+		assertThat(index).hasSize(1);
+		assertThat(index.get("example.MyView").resourcePath).isEqualTo("/example/MyView.fxml");
+		assertThat(index.get("example.MyView").location)
+				.isEqualTo(directory.resolve("example/MyView.fxml").toUri().toURL());
+	}
+
+	@Test
+	public void indexedFxmlIsResolvedRelativeToTheIndexInJar() throws Exception {
+		final Path jar = directory.resolve("views.jar");
+
+		try (JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jar))) {
+			addJarEntry(jarOutputStream, FxmlLocations.INDEX_FILE, INDEX);
+			addJarEntry(jarOutputStream, "example/MyView.fxml", "<fxml/>");
+		}
+
+		final Map<String, FxmlLocations.IndexEntry> index = FxmlLocations
+				.loadIndex(new URLClassLoader(new URL[] { jar.toUri().toURL() }, null));
+
+		final URL location = index.get("example.MyView").location;
+		assertThat(location.toExternalForm()).isEqualTo("jar:" + jar.toUri().toURL() + "!/example/MyView.fxml");
+
+		// the URL is valid without searching the classpath.
+		assertThat(location.openStream()).isNotNull();
+	}
+
+	@Test
+	public void notIndexedFxmlIsResolvedOnceAndCached() {
+		final String resourcePath = "/de/saxsys/mvvmfx/internal/viewloader/example/TestFxmlView.fxml";
+
+		final URL location = FxmlLocations.find(TestFxmlView.class, resourcePath);
+
+		assertThat(location).isEqualTo(TestFxmlView.class.getResource(resourcePath));
+		assertThat(FxmlLocations.find(TestFxmlView.class, resourcePath)).isSameAs(location);
+	}
+
+	@Test
+	public void missingFxmlIsNotFound() {
+		assertThat(FxmlLocations.find(TestFxmlView.class, "/does/not/Exist.fxml")).isNull();
+	}
+
+	private void write(String path, String content) throws Exception {
+		final Path file = directory.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.write(file, Arrays.asList(content), StandardCharsets.UTF_8);
+	}
+
+	private void addJarEntry(JarOutputStream jarOutputStream, String path, String content) throws Exception {
+		jarOutputStream.putNextEntry(new ZipEntry(path));
+		jarOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+		jarOutputStream.closeEntry();
+	}
+}
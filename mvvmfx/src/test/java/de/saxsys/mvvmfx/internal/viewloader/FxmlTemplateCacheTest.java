@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.FxmlTemplateCacheStatistics;
+import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewTuple;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewA;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModelA;
+import de.saxsys.mvvmfx.resourcebundle.included.RootView;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class FxmlTemplateCacheTest {
+
+	@BeforeEach
+	public void setup() {
+		FxmlTemplateCache.getInstance().clear();
+		MvvmFX.setFxmlTemplateCacheSize(10);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		MvvmFX.setFxmlTemplateCacheSize(0);
+		FxmlTemplateCache.getInstance().clear();
+	}
+
+	@Test
+	public void fxmlIsParsedOnlyOnce() {
+		final ViewTuple<TestViewA, TestViewModelA> first = FluentViewLoader.fxmlView(TestViewA.class).load();
+
+		// TestViewA.fxml and the included TestViewB.fxml
+		assertStatistics(0, 2, 0, 2);
+
+		final ViewTuple<TestViewA, TestViewModelA> second = FluentViewLoader.fxmlView(TestViewA.class).load();
+
+		assertStatistics(2, 2, 0, 2);
+
+		assertThat(second.getView()).isNotSameAs(first.getView());
+		assertThat(second.getCodeBehind()).isNotSameAs(first.getCodeBehind());
+
+		final TestViewA codeBehind = second.getCodeBehind();
+		assertThat(codeBehind.viewModel).isSameAs(second.getViewModel());
+		assertThat(codeBehind.initializeWasCalled).isTrue();
+		assertThat(codeBehind.testViewB).isNotNull();
+		assertThat(codeBehind.testViewBController.viewModel).isNotNull();
+		assertThat(codeBehind.testViewBController.initializeWasCalled).isTrue();
+	}
+
+	@Test
+	public void leastRecentlyUsedTemplateIsEvicted() {
+		MvvmFX.setFxmlTemplateCacheSize(2);
+
+		FluentViewLoader.fxmlView(TestFxmlView.class).load();
+		FluentViewLoader.fxmlView(TestViewA.class).load();
+
+		// TestViewB.fxml replaced TestFxmlView.fxml
+		assertStatistics(0, 3, 1, 2);
+
+		FluentViewLoader.fxmlView(TestFxmlView.class).load();
+		assertStatistics(0, 4, 2, 2);
+	}
+
+	@Test
+	public void unsupportedFxmlIsCachedToo() {
+		// fx:include with resources isn't supported by templates
+		FluentViewLoader.fxmlView(RootView.class).load();
+		final long misses = MvvmFX.getFxmlTemplateCacheStatistics().getMissCount();
+
+		FluentViewLoader.fxmlView(RootView.class).load();
+
+		assertThat(MvvmFX.getFxmlTemplateCacheStatistics().getMissCount()).isEqualTo(misses);
+		assertThat(MvvmFX.getFxmlTemplateCacheStatistics().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void fxmlThatCantBeReadIsCachedToo() throws Exception {
+		final Path missingFile = Files.createTempDirectory("mvvmfx-template-cache").resolve("Missing.fxml");
+		final URL location = missingFile.toUri().toURL();
+
+		assertThat(FxmlTemplateCache.getInstance().find(location, getClass().getClassLoader()).isPresent()).isFalse();
+		assertThat(FxmlTemplateCache.getInstance().find(location, getClass().getClassLoader()).isPresent()).isFalse();
+
+		assertStatistics(1, 1, 0, 1);
+	}
+
+	@Test
+	public void cacheIsDisabledWithSizeZero() {
+		MvvmFX.setFxmlTemplateCacheSize(0);
+
+		FluentViewLoader.fxmlView(TestViewA.class).load();
+
+		assertStatistics(0, 0, 0, 0);
+	}
+
+	private void assertStatistics(long hits, long misses, long evictions, int size) {
+		final FxmlTemplateCacheStatistics statistics = MvvmFX.getFxmlTemplateCacheStatistics();
+
+		assertThat(statistics.getHitCount()).as("hits").isEqualTo(hits);
+		assertThat(statistics.getMissCount()).as("misses").isEqualTo(misses);
+		assertThat(statistics.getEvictionCount()).as("evictions").isEqualTo(evictions);
+		assertThat(statistics.getSize()).as("size").isEqualTo(size);
+	}
+}
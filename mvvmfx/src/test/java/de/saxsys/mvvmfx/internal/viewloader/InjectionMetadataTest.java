@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.InjectResourceBundle;
+import de.saxsys.mvvmfx.InjectScope;
+import de.saxsys.mvvmfx.InjectViewModel;
+import de.saxsys.mvvmfx.ScopeProvider;
+import de.saxsys.mvvmfx.ViewModel;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestScope1;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestScope2;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InjectionMetadataTest {
+
+	@Test
+	public void sameInstanceForSameClass() {
+		assertThat(InjectionMetadata.of(TestViewModel.class)).isSameAs(InjectionMetadata.of(TestViewModel.class));
+	}
+
+	@Test
+	public void fieldsFromClassHierarchyAreFound() {
+		class ParentView implements View<TestViewModel> {
+			@InjectViewModel
+			private TestViewModel viewModel;
+		}
+
+		class ChildView extends ParentView {
+			@InjectResourceBundle(optional = true)
+			private ResourceBundle resourceBundle;
+		}
+
+		final InjectionMetadata metadata = InjectionMetadata.of(ChildView.class);
+
+		assertThat(metadata.getViewModelFields()).hasSize(1);
+		assertThat(metadata.getViewModelField().get().getName()).isEqualTo("viewModel");
+		assertThat(metadata.getResourceBundleFields()).hasSize(1);
+		assertThat(metadata.isNonOptionalResourceBundleFieldPresent()).isFalse();
+		assertThat(metadata.getViewModelType()).isEqualTo(TestViewModel.class);
+	}
+
+	@Test
+	public void providedScopesAndScopeFields() {
+		@ScopeProvider(scopes = {TestScope1.class, TestScope2.class})
+		class ExampleViewModel implements ViewModel {
+			@InjectScope
+			TestScope1 scope;
+		}
+
+		final InjectionMetadata metadata = InjectionMetadata.of(ExampleViewModel.class);
+
+		assertThat(metadata.getProvidedScopes()).containsExactly(TestScope1.class, TestScope2.class);
+		assertThat(metadata.getValidatedScopeFields()).hasSize(1);
+		assertThat(InjectionMetadata.of(TestViewModel.class).getProvidedScopes()).isEmpty();
+	}
+
+	@Test
+	public void failedValidationIsRepeated() {
+		class InvalidView implements View<TestViewModel> {
+			@InjectViewModel
+			private TestViewModel viewModel1;
+
+			@InjectViewModel
+			private TestViewModel viewModel2;
+		}
+
+		final InjectionMetadata metadata = InjectionMetadata.of(InvalidView.class);
+
+		Assertions.assertThrows(RuntimeException.class, metadata::getViewModelField);
+		Assertions.assertThrows(RuntimeException.class, metadata::getViewModelField);
+	}
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewTuple;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewA;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModelA;
+import de.saxsys.mvvmfx.scopes.example1.views.ScopedFxmlViewA;
+import de.saxsys.mvvmfx.scopes.example1.views.ScopedFxmlViewB;
+import de.saxsys.mvvmfx.scopes.example1.views.ScopesFxmlParentView;
+import de.saxsys.mvvmfx.scopes.example2.views.ScopedViewA;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class ParallelIncludeLoadingTest {
+
+	private ExecutorService pool;
+	private final AtomicInteger forkedIncludes = new AtomicInteger();
+
+	@BeforeEach
+	public void setup() {
+		FxmlTemplateCache.getInstance().clear();
+		MvvmFX.setFxmlTemplateCacheSize(20);
+
+		// a single thread is used to verify that nested includes don't block each other.
+		pool = Executors.newSingleThreadExecutor();
+		MvvmFX.setIncludeLoadingExecutor(task -> {
+			forkedIncludes.incrementAndGet();
+			pool.execute(task);
+		});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		MvvmFX.setIncludeLoadingExecutor(null);
+		MvvmFX.setFxmlTemplateCacheSize(0);
+		FxmlTemplateCache.getInstance().clear();
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void includesAreLoadedByTheExecutor() {
+		final ViewTuple<TestViewA, TestViewModelA> viewTuple = FluentViewLoader.fxmlView(TestViewA.class).load();
+
+		assertThat(forkedIncludes.get()).isEqualTo(1);
+
+		final TestViewA codeBehind = viewTuple.getCodeBehind();
+		assertThat(codeBehind.initializeWasCalled).isTrue();
+		assertThat(codeBehind.testViewB).isNotNull();
+		assertThat(codeBehind.testViewBController.viewModel).isNotNull();
+		assertThat(codeBehind.testViewBController.initializeWasCalled).isTrue();
+	}
+
+	@Test
+	public void includesThatDontProvideScopesAreLoadedByTheExecutor() {
+		final ScopesFxmlParentView parentView = FluentViewLoader.fxmlView(ScopesFxmlParentView.class).load()
+				.getCodeBehind();
+
+		assertThat(forkedIncludes.get()).isGreaterThan(2);
+
+		final ScopedFxmlViewA subviewA = parentView.subviewAController;
+		final ScopedFxmlViewB subviewB = parentView.subviewBController;
+
+		assertThat(subviewA.viewModel.injectedScope1).isNotNull();
+		assertThat(subviewB.viewModel.injectedScope1).isNotNull();
+		assertThat(subviewA.viewModel.injectedScope1).isNotSameAs(subviewB.viewModel.injectedScope1);
+
+		assertThat(subviewA.subviewCController.viewModel.injectedScope1).isSameAs(subviewA.viewModel.injectedScope1);
+		assertThat(subviewA.subviewCController.subViewDController.viewModel.injectedScope1)
+				.isSameAs(subviewA.viewModel.injectedScope1);
+		assertThat(subviewB.subviewCController.viewModel.injectedScope1).isSameAs(subviewB.viewModel.injectedScope1);
+		assertThat(subviewB.subviewCController.subViewDController.viewModel.injectedScope1)
+				.isSameAs(subviewB.viewModel.injectedScope1);
+
+		assertThat(subviewA.subviewEController.subviewFController.viewModel.testScope3)
+				.isSameAs(subviewA.subviewEController.viewModel.testScope3);
+	}
+
+	@Test
+	public void scopesOfSiblingsAreVisibleLikeWithTheFxmlLoader() {
+		final ScopedViewA viewWithFxmlLoader = loadWithoutExecutor();
+		assertThat(viewWithFxmlLoader.subviewCController.viewModel.scope)
+				.isSameAs(viewWithFxmlLoader.subviewBController.viewModel.scope);
+
+		final ScopedViewA view = FluentViewLoader.fxmlView(ScopedViewA.class).load().getCodeBehind();
+
+		// subview B provides a scope that is used by its sibling C.
+		assertThat(forkedIncludes.get()).isEqualTo(0);
+		assertThat(view.subviewCController.viewModel.scope).isNotNull();
+		assertThat(view.subviewCController.viewModel.scope).isSameAs(view.subviewBController.viewModel.scope);
+	}
+
+	private ScopedViewA loadWithoutExecutor() {
+		MvvmFX.setIncludeLoadingExecutor(null);
+		MvvmFX.setFxmlTemplateCacheSize(0);
+
+		try {
+			return FluentViewLoader.fxmlView(ScopedViewA.class).load().getCodeBehind();
+		} finally {
+			MvvmFX.setFxmlTemplateCacheSize(20);
+			MvvmFX.setIncludeLoadingExecutor(task -> {
+				forkedIncludes.incrementAndGet();
+				pool.execute(task);
+			});
+		}
+	}
+}
@@ -18,7 +18,10 @@ package de.saxsys.mvvmfx.internal.viewloader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.ListResourceBundle;
+import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
@@ -121,6 +124,72 @@ public class ResourceBundleManagerTest {
 	}
 	
 
+	@Test
+	public void lastBundleOfListHasHighestPriority() {
+		manager.setGlobalResourceBundle(global);
+
+		final ResourceBundle third = new ListResourceBundle() {
+			@Override
+			protected Object[][] getContents() {
+				return new Object[][] {
+						{ KEY_OTHER_SPECIFIC, "third" }
+				};
+			}
+		};
+
+		final ResourceBundle merged = manager.mergeListWithGlobal(Arrays.asList(other, null, third));
+
+		assertThat(merged.getString(KEY_COMMON)).isEqualTo(VALUE_1_OTHER);
+		assertThat(merged.getString(KEY_GLOBAL_SPECIFIC)).isEqualTo(VALUE_2_GLOBAL);
+		assertThat(merged.getString(KEY_OTHER_SPECIFIC)).isEqualTo("third");
+		assertThat(merged.keySet()).containsOnly(KEY_COMMON, KEY_GLOBAL_SPECIFIC, KEY_OTHER_SPECIFIC);
+	}
+
+	@Test
+	public void mergedBundlesAreCachedByIdentity() {
+		manager.setGlobalResourceBundle(global);
+
+		final ResourceBundle merged = manager.mergeListWithGlobal(Arrays.asList(other));
+
+		// a new list with the same bundles
+		assertThat(manager.mergeListWithGlobal(new ArrayList<>(Arrays.asList(other)))).isSameAs(merged);
+		assertThat(manager.mergeWithGlobal(other)).isSameAs(merged);
+
+		assertThat(manager.mergeListWithGlobal(Arrays.asList(global, other))).isNotSameAs(merged);
+	}
+
+	@Test
+	public void cacheIsClearedWhenGlobalBundleIsSet() {
+		manager.setGlobalResourceBundle(global);
+		final ResourceBundle merged = manager.mergeWithGlobal(other);
+
+		manager.setGlobalResourceBundle(global);
+
+		assertThat(manager.mergeWithGlobal(other)).isNotSameAs(merged);
+
+		manager.setGlobalResourceBundle(null);
+
+		expectMissingResource(manager.mergeWithGlobal(other), KEY_GLOBAL_SPECIFIC);
+	}
+
+	@Test
+	public void defaultLocaleIsPartOfTheCacheKey() {
+		final Locale defaultLocale = Locale.getDefault();
+
+		try {
+			Locale.setDefault(Locale.GERMAN);
+			final ResourceBundle german = manager.mergeWithGlobal(other);
+
+			Locale.setDefault(Locale.ENGLISH);
+			assertThat(manager.mergeWithGlobal(other)).isNotSameAs(german);
+
+			Locale.setDefault(Locale.GERMAN);
+			assertThat(manager.mergeWithGlobal(other)).isSameAs(german);
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+
 	private void expectMissingResource(ResourceBundle bundle, String key) {
 		try {
 			bundle.getString(key);
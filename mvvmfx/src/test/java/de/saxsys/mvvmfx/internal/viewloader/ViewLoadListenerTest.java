@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.ViewLoadEvent;
+import de.saxsys.mvvmfx.ViewLoadListener;
+import de.saxsys.mvvmfx.ViewLoadPhase;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestJavaView;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewA;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewB;
+import de.saxsys.mvvmfx.internal.viewloader.example.TestViewModelA;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class ViewLoadListenerTest {
+
+	private final List<ViewLoadEvent> events = new CopyOnWriteArrayList<>();
+
+	private final ViewLoadListener listener = events::add;
+
+	@BeforeEach
+	public void setup() {
+		MvvmFX.addViewLoadListener(listener);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		MvvmFX.removeViewLoadListener(listener);
+		MvvmFX.setFxmlTemplateCacheSize(0);
+		FxmlTemplateCache.getInstance().clear();
+	}
+
+	@Test
+	public void fxmlViewLoadIsReported() {
+		FluentViewLoader.fxmlView(TestViewA.class).load();
+
+		final ViewLoadEvent total = events.get(events.size() - 1);
+		assertThat(total.getPhase()).isEqualTo(ViewLoadPhase.TOTAL);
+		assertThat(total.getType()).isEqualTo(TestViewA.class);
+		assertThat(total.getViewName()).isEqualTo("/de/saxsys/mvvmfx/internal/viewloader/example/TestViewA.fxml");
+		assertThat(total.getParentLoadId()).isEqualTo(0);
+		assertThat(total.getDurationNanos()).isGreaterThan(0);
+
+		assertThat(phasesOf(total.getLoadId())).contains(
+				ViewLoadPhase.CONTEXT_PREPARATION,
+				ViewLoadPhase.FXML_RESOLUTION,
+				ViewLoadPhase.CONTROLLER_CREATION,
+				ViewLoadPhase.DEPENDENCY_INJECTION,
+				ViewLoadPhase.VIEW_MODEL_INJECTION,
+				ViewLoadPhase.SCOPE_INJECTION,
+				ViewLoadPhase.PARSE,
+				ViewLoadPhase.TOTAL);
+
+		assertThat(events.stream()
+				.filter(event -> event.getType() == TestViewModelA.class)
+				.map(ViewLoadEvent::getPhase)
+				.collect(Collectors.toList()))
+						.contains(ViewLoadPhase.DEPENDENCY_INJECTION, ViewLoadPhase.VIEW_MODEL_INJECTION);
+
+		// the included TestViewB.fxml
+		final ViewLoadEvent subViewTotal = findTotal(TestViewB.class);
+		assertThat(subViewTotal.getParentLoadId()).isEqualTo(total.getLoadId());
+		assertThat(subViewTotal.getLoadId()).isNotEqualTo(total.getLoadId());
+		assertThat(phasesOf(subViewTotal.getLoadId())).contains(ViewLoadPhase.CONTROLLER_CREATION);
+	}
+
+	@Test
+	public void includesOfTemplatesAreReportedAsSubViews() {
+		MvvmFX.setFxmlTemplateCacheSize(10);
+
+		FluentViewLoader.fxmlView(TestViewA.class).load();
+
+		final ViewLoadEvent total = findTotal(TestViewA.class);
+		final ViewLoadEvent subViewTotal = findTotal(TestViewB.class);
+
+		assertThat(subViewTotal.getParentLoadId()).isEqualTo(total.getLoadId());
+		assertThat(subViewTotal.getViewName()).isEqualTo("/de/saxsys/mvvmfx/internal/viewloader/example/TestViewB.fxml");
+		assertThat(phasesOf(subViewTotal.getLoadId())).contains(
+				ViewLoadPhase.PARSE,
+				ViewLoadPhase.CONTROLLER_CREATION,
+				ViewLoadPhase.INITIALIZATION);
+
+		// the sub view is contained in the total time of the including view.
+		assertThat(total.getDurationNanos()).isGreaterThanOrEqualTo(subViewTotal.getDurationNanos());
+	}
+
+	@Test
+	public void javaViewLoadIsReported() {
+		FluentViewLoader.javaView(TestJavaView.class).load();
+
+		final ViewLoadEvent total = findTotal(TestJavaView.class);
+		assertThat(total.getViewName()).isEqualTo(TestJavaView.class.getName());
+
+		assertThat(phasesOf(total.getLoadId())).contains(
+				ViewLoadPhase.CONTEXT_PREPARATION,
+				ViewLoadPhase.DEPENDENCY_INJECTION,
+				ViewLoadPhase.SCOPE_INJECTION,
+				ViewLoadPhase.VIEW_MODEL_INJECTION,
+				ViewLoadPhase.INITIALIZATION);
+	}
+
+	@Test
+	public void removedListenerIsNotNotified() {
+		MvvmFX.removeViewLoadListener(listener);
+
+		FluentViewLoader.fxmlView(TestViewA.class).load();
+
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	public void exceptionOfListenerDoesNotAffectTheLoading() {
+		final ViewLoadListener failingListener = event -> {
+			throw new IllegalStateException("test");
+		};
+		MvvmFX.addViewLoadListener(failingListener);
+
+		try {
+			FluentViewLoader.fxmlView(TestViewA.class).load();
+		} finally {
+			MvvmFX.removeViewLoadListener(failingListener);
+		}
+
+		assertThat(findTotal(TestViewA.class)).isNotNull();
+	}
+
+	private List<ViewLoadPhase> phasesOf(long loadId) {
+		return events.stream()
+				.filter(event -> event.getLoadId() == loadId)
+				.map(ViewLoadEvent::getPhase)
+				.collect(Collectors.toList());
+	}
+
+	private ViewLoadEvent findTotal(Class<?> type) {
+		return events.stream()
+				.filter(event -> event.getPhase() == ViewLoadPhase.TOTAL && event.getType() == type)
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("No load of " + type + " was reported."));
+	}
+}
@@ -39,6 +39,8 @@ public class TestFxmlView implements FxmlView<TestViewModel>, Initializable {
 	
 	public boolean viewModelWasNull = true;
 	
+	public Thread initializeThread;
+	
 	public TestFxmlView() {
 		instanceCounter++;
 	}
@@ -49,6 +51,7 @@ public class TestFxmlView implements FxmlView<TestViewModel>, Initializable {
 		this.resourceBundle = resourceBundle;
 		
 		viewModelWasNull = viewModel == null;
+		initializeThread = Thread.currentThread();
 	}
 	
 	public TestViewModel getViewModel() {
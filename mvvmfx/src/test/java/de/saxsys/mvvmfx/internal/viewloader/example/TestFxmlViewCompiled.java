@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader.example;
+
+import de.saxsys.mvvmfx.FxmlView;
+import de.saxsys.mvvmfx.InjectViewModel;
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+
+/**
+ * A view whose FXML file was compiled, see {@link TestFxmlViewCompiled_Fxml}.
+ */
+public class TestFxmlViewCompiled implements FxmlView<TestViewModel> {
+
+	@InjectViewModel
+	public TestViewModel viewModel;
+
+	@FXML
+	private Label label;
+
+	@FXML
+	private Button button;
+
+	@FXML
+	private VBox testViewA;
+
+	@FXML
+	private TestViewA testViewAController;
+
+	public boolean viewModelWasInjectedBeforeInitialize = false;
+	public int actionCalls = 0;
+
+	@FXML
+	private void initialize() {
+		viewModelWasInjectedBeforeInitialize = viewModel != null;
+	}
+
+	@FXML
+	private void onAction() {
+		actionCalls++;
+	}
+
+	public Label getLabel() {
+		return label;
+	}
+
+	public Button getButton() {
+		return button;
+	}
+
+	public VBox getTestViewA() {
+		return testViewA;
+	}
+
+	public TestViewA getTestViewAController() {
+		return testViewAController;
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.internal.viewloader.example;
+
+/**
+ * Compiled from <code>/de/saxsys/mvvmfx/internal/viewloader/example/TestFxmlViewCompiled.fxml</code>.
+ * <p>
+ * Generated by the mvvmFX FXML compiler. The build counter was added for the tests.
+ */
+public final class TestFxmlViewCompiled_Fxml implements de.saxsys.mvvmfx.internal.viewloader.CompiledFxml {
+
+	public static int buildCount = 0;
+
+	@Override
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public Object build(de.saxsys.mvvmfx.internal.viewloader.CompiledFxmlContext context) throws Exception {
+		buildCount++;
+		context.createController(de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlViewCompiled.class);
+		final javafx.scene.layout.VBox v0 = new javafx.scene.layout.VBox();
+		v0.setSpacing(5.0);
+		v0.getStyleClass().add("compiled");
+		v0.getStyleClass().add("test");
+		final javafx.geometry.Insets v1 = new javafx.geometry.Insets(10.0, 0.0, 0.0, 0.0);
+		v0.setPadding(v1);
+		final javafx.scene.control.Label v2 = new javafx.scene.control.Label();
+		v2.setId("label");
+		context.register("label", v2);
+		v2.setText(context.getResourceString("label"));
+		final javafx.scene.control.Button v3 = new javafx.scene.control.Button();
+		v3.setId("button");
+		context.register("button", v3);
+		v3.setOnAction(context.createEventHandler("onAction"));
+		v3.setText("TestButton");
+		javafx.scene.layout.VBox.setVgrow(v3, javafx.scene.layout.Priority.ALWAYS);
+		final java.lang.Object v4 = context.include("TestViewA.fxml", "testViewA");
+		v0.getChildren().add(v2);
+		v0.getChildren().add(v3);
+		v0.getChildren().add((javafx.scene.Node) v4);
+		return v0;
+	}
+
+	@Override
+	public java.util.List<String> getIncludes() {
+		return java.util.Arrays.asList("TestViewA.fxml");
+	}
+
+	@Override
+	public Class<?> getControllerType() {
+		return de.saxsys.mvvmfx.internal.viewloader.example.TestFxmlViewCompiled.class;
+	}
+}
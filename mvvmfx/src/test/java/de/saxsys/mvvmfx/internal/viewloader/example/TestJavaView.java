@@ -34,9 +34,12 @@ public class TestJavaView extends VBox implements JavaView<TestViewModel>, Initi
 	
 	public boolean viewModelWasNull = true;
 	
+	public Thread initializeThread;
+	
 	@Override
 	public void initialize(URL url, ResourceBundle resourceBundle) {
 		this.resourceBundle = resourceBundle;
 		viewModelWasNull = viewModel == null;
+		initializeThread = Thread.currentThread();
 	}
 }
@@ -0,0 +1,22 @@
+package de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose;
+
+import de.saxsys.mvvmfx.Disposable;
+import de.saxsys.mvvmfx.FxmlView;
+import de.saxsys.mvvmfx.InjectViewModel;
+import javafx.fxml.FXML;
+
+public class DisposeTestRootView implements FxmlView<DisposeTestRootViewModel>, Disposable {
+
+	@FXML
+	public DisposeTestSubView subController;
+
+	@InjectViewModel
+	private DisposeTestRootViewModel viewModel;
+
+	public int disposeCalled = 0;
+
+	@Override
+	public void dispose() {
+		disposeCalled++;
+	}
+}
@@ -0,0 +1,25 @@
+package de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose;
+
+import de.saxsys.mvvmfx.Disposable;
+import de.saxsys.mvvmfx.SceneLifecycle;
+import de.saxsys.mvvmfx.ViewModel;
+
+public class DisposeTestRootViewModel implements ViewModel, SceneLifecycle, Disposable {
+
+	public int onViewRemovedCalled = 0;
+	public int disposeCalled = 0;
+
+	@Override
+	public void onViewAdded() {
+	}
+
+	@Override
+	public void onViewRemoved() {
+		onViewRemovedCalled++;
+	}
+
+	@Override
+	public void dispose() {
+		disposeCalled++;
+	}
+}
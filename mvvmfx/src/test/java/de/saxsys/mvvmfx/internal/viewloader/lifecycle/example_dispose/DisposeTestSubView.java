@@ -0,0 +1,11 @@
+package de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose;
+
+import de.saxsys.mvvmfx.FxmlView;
+import de.saxsys.mvvmfx.InjectViewModel;
+
+public class DisposeTestSubView implements FxmlView<DisposeTestSubViewModel> {
+
+	@InjectViewModel
+	public DisposeTestSubViewModel viewModel;
+
+}
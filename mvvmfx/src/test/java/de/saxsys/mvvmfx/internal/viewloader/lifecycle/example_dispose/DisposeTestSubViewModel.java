@@ -0,0 +1,14 @@
+package de.saxsys.mvvmfx.internal.viewloader.lifecycle.example_dispose;
+
+import de.saxsys.mvvmfx.Disposable;
+import de.saxsys.mvvmfx.ViewModel;
+
+public class DisposeTestSubViewModel implements ViewModel, Disposable {
+
+	public int disposeCalled = 0;
+
+	@Override
+	public void dispose() {
+		disposeCalled++;
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.saxsys.mvvmfx.resourcebundle.global;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.MvvmFX;
+import de.saxsys.mvvmfx.internal.viewloader.FxmlTemplateCache;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import javafx.beans.binding.StringBinding;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test the observable global resource bundle that follows the locale.
+ */
+@ExtendWith(JfxToolkitExtension.class)
+public class ObservableGlobalResourceBundleTest {
+
+	private static final String BASE_NAME = ObservableGlobalResourceBundleTest.class.getPackage().getName()
+			+ ".observable";
+
+	private ResourceBundle other;
+
+	@BeforeEach
+	public void setup() {
+		other = ResourceBundle.getBundle(this.getClass().getPackage().getName() + ".other");
+
+		MvvmFX.localeProperty().set(Locale.ENGLISH);
+		MvvmFX.setObservableGlobalResourceBundle(BASE_NAME);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		MvvmFX.setGlobalResourceBundle(null);
+		MvvmFX.localeProperty().set(Locale.getDefault());
+		MvvmFX.setFxmlTemplateCacheSize(0);
+		FxmlTemplateCache.getInstance().clear();
+	}
+
+	@Test
+	public void textsOfTemplatesFollowTheLocale() {
+		MvvmFX.setFxmlTemplateCacheSize(10);
+
+		final TestView codeBehind = FluentViewLoader.fxmlView(TestView.class).resourceBundle(other).load()
+				.getCodeBehind();
+
+		assertThat(codeBehind.global_label.getText()).isEqualTo("global (en)");
+		assertThat(codeBehind.label.getText()).isEqualTo("other");
+
+		MvvmFX.localeProperty().set(Locale.GERMAN);
+
+		assertThat(codeBehind.global_label.getText()).isEqualTo("global (de)");
+		// values of the bundles of the view aren't bound.
+		assertThat(codeBehind.label.getText()).isEqualTo("other");
+		assertThat(codeBehind.label.textProperty().isBound()).isFalse();
+	}
+
+	@Test
+	public void fxmlLoaderUsesTheLocaleAtLoadingTime() {
+		final TestView english = FluentViewLoader.fxmlView(TestView.class).resourceBundle(other).load()
+				.getCodeBehind();
+
+		MvvmFX.localeProperty().set(Locale.GERMAN);
+
+		final TestView german = FluentViewLoader.fxmlView(TestView.class).resourceBundle(other).load()
+				.getCodeBehind();
+
+		assertThat(english.global_label.getText()).isEqualTo("global (en)");
+		assertThat(german.global_label.getText()).isEqualTo("global (de)");
+		assertThat(german.resources.getLocale()).isEqualTo(other.getLocale());
+	}
+
+	@Test
+	public void stringBindingsAreSharedPerKey() {
+		final StringBinding binding = MvvmFX.getStringBinding("global_label");
+
+		assertThat(MvvmFX.getStringBinding("global_label")).isSameAs(binding);
+		assertThat(binding.get()).isEqualTo("global (en)");
+
+		MvvmFX.localeProperty().set(Locale.GERMAN);
+
+		assertThat(binding.get()).isEqualTo("global (de)");
+
+		assertThrows(MissingResourceException.class, () -> MvvmFX.getStringBinding("unknown"));
+	}
+
+	@Test
+	public void stringBindingsNeedAnObservableBundle() {
+		MvvmFX.setGlobalResourceBundle(other);
+
+		assertThrows(IllegalStateException.class, () -> MvvmFX.getStringBinding("label"));
+	}
+}
@@ -0,0 +1,13 @@
+package de.saxsys.mvvmfx.scopes.lifecycle;
+
+import de.saxsys.mvvmfx.Scope;
+
+public class LifecycleScope implements Scope {
+
+	public int disposeCount = 0;
+
+	@Override
+	public void onDispose() {
+		disposeCount++;
+	}
+}
@@ -0,0 +1,138 @@
+package de.saxsys.mvvmfx.scopes.lifecycle;
+
+import de.saxsys.mvvmfx.FluentViewLoader;
+import de.saxsys.mvvmfx.ViewTuple;
+import de.saxsys.mvvmfx.internal.viewloader.ScopeReferences;
+import de.saxsys.mvvmfx.testingutils.FxTestingUtils;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import de.saxsys.mvvmfx.utils.notifications.DefaultNotificationCenter;
+import de.saxsys.mvvmfx.utils.notifications.NotificationCenterFactory;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class ScopeLifecycleTest {
+
+	private LifecycleScope scope;
+	private VBox container;
+
+	@BeforeEach
+	public void setup() {
+		NotificationCenterFactory.setNotificationCenter(new DefaultNotificationCenter());
+
+		scope = new LifecycleScope();
+		container = new VBox();
+		FxTestingUtils.runInFXThread(() -> new Scene(container));
+	}
+
+	@Test
+	public void scopeIsDisposedWhenTheLastViewIsDisposed() {
+		final List<String> messages = new ArrayList<>();
+		scope.subscribe("message", (key, payload) -> messages.add(key));
+
+		final ViewTuple<ScopeUserView, ScopeUserViewModel> first = loadView();
+		final ViewTuple<ScopeUserView, ScopeUserViewModel> second = loadView();
+
+		assertThat(ScopeReferences.getInstance().getReferenceCount(scope)).isEqualTo(2);
+
+		FxTestingUtils.runInFXThread(first::dispose);
+
+		assertThat(scope.disposeCount).isEqualTo(0);
+		assertThat(ScopeReferences.getInstance().getReferenceCount(scope)).isEqualTo(1);
+
+		FxTestingUtils.runInFXThread(second::dispose);
+
+		assertThat(scope.disposeCount).isEqualTo(1);
+		assertThat(ScopeReferences.getInstance().getReferenceCount(scope)).isEqualTo(0);
+
+		// the channel of the scope was removed.
+		FxTestingUtils.runInFXThread(() -> scope.publish("message"));
+		assertThat(messages).isEmpty();
+	}
+
+	@Test
+	public void scopeIsDisposedWhenTheLastViewIsRemovedWithDisposeOnSceneRemoval() {
+		final Parent first = loadView().disposeOnSceneRemoval().getView();
+		final Parent second = loadView().disposeOnSceneRemoval().getView();
+
+		FxTestingUtils.runInFXThread(() -> container.getChildren().addAll(first, second));
+
+		FxTestingUtils.runInFXThread(() -> container.getChildren().remove(first));
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(scope.disposeCount).isEqualTo(0);
+		assertThat(ScopeReferences.getInstance().getReferenceCount(scope)).isEqualTo(1);
+
+		FxTestingUtils.runInFXThread(() -> container.getChildren().remove(second));
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(scope.disposeCount).isEqualTo(1);
+		assertThat(ScopeReferences.getInstance().getReferenceCount(scope)).isEqualTo(0);
+	}
+
+	@Test
+	public void movedViewDoesNotDisposeTheScope() {
+		final Parent view = loadView().disposeOnSceneRemoval().getView();
+		final VBox otherContainer = new VBox();
+
+		FxTestingUtils.runInFXThread(() -> container.getChildren().addAll(view, otherContainer));
+
+		FxTestingUtils.runInFXThread(() -> {
+			container.getChildren().remove(view);
+			otherContainer.getChildren().add(view);
+		});
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(scope.disposeCount).isEqualTo(0);
+		assertThat(ScopeReferences.getInstance().getReferenceCount(scope)).isEqualTo(1);
+	}
+
+	@Test
+	public void viewThatIsAddedAgainKeepsTheSubscriptionsOnTheScope() {
+		final ViewTuple<ScopeUserView, ScopeUserViewModel> viewTuple = loadView();
+		final Parent view = viewTuple.getView();
+
+		FxTestingUtils.runInFXThread(() -> container.getChildren().add(view));
+
+		FxTestingUtils.runInFXThread(() -> container.getChildren().remove(view));
+		FxTestingUtils.waitForUiThread();
+
+		FxTestingUtils.runInFXThread(() -> container.getChildren().add(view));
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(scope.disposeCount).isEqualTo(0);
+		assertThat(ScopeReferences.getInstance().getReferenceCount(scope)).isEqualTo(1);
+
+		FxTestingUtils.runInFXThread(() -> scope.publish("message"));
+		FxTestingUtils.waitForUiThread();
+
+		assertThat(viewTuple.getViewModel().receivedMessages).containsExactly("message");
+	}
+
+	@Test
+	public void viewThatIsNeverShownCanBeGarbageCollected() throws InterruptedException {
+		WeakReference<Parent> viewReference = new WeakReference<>(loadView().getView());
+
+		for (int i = 0; i < 10 && viewReference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(50);
+		}
+
+		assertThat(viewReference.get()).isNull();
+		assertThat(scope.disposeCount).isEqualTo(0);
+	}
+
+	private ViewTuple<ScopeUserView, ScopeUserViewModel> loadView() {
+		return FluentViewLoader.fxmlView(ScopeUserView.class).providedScopes(scope).load();
+	}
+}
@@ -0,0 +1,11 @@
+package de.saxsys.mvvmfx.scopes.lifecycle;
+
+import de.saxsys.mvvmfx.FxmlView;
+import de.saxsys.mvvmfx.InjectViewModel;
+
+public class ScopeUserView implements FxmlView<ScopeUserViewModel> {
+
+	@InjectViewModel
+	private ScopeUserViewModel viewModel;
+
+}
@@ -0,0 +1,20 @@
+package de.saxsys.mvvmfx.scopes.lifecycle;
+
+import de.saxsys.mvvmfx.InjectScope;
+import de.saxsys.mvvmfx.ViewModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScopeUserViewModel implements ViewModel {
+
+	@InjectScope
+	public LifecycleScope scope;
+
+	public final List<String> receivedMessages = new ArrayList<>();
+
+	public void initialize() {
+		scope.subscribe("message", (key, payload) -> receivedMessages.add(key));
+	}
+
+}
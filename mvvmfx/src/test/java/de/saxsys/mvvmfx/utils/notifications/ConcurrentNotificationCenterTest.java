@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package de.saxsys.mvvmfx.utils.notifications;
+
+import de.saxsys.mvvmfx.testingutils.FxTestingUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs all tests of the {@link DefaultNotificationCenterTest} for the {@link ConcurrentNotificationCenter} and
+ * additionally uses the notification center from many threads at the same time.
+ */
+public class ConcurrentNotificationCenterTest extends DefaultNotificationCenterTest {
+	
+	private static final int THREAD_COUNT = 8;
+	private static final int ITERATIONS = 2_000;
+	
+	@Override
+	protected NotificationCenter createNotificationCenter() {
+		return new ConcurrentNotificationCenter();
+	}
+	
+	@Test
+	public void concurrentSubscribeUnsubscribeAndPublish() throws Exception {
+		final NotificationCenter notificationCenter = createNotificationCenter();
+		
+		// an observer that stays subscribed the whole time receives every message.
+		final AtomicInteger permanentlyReceived = new AtomicInteger();
+		notificationCenter.subscribe("shared", (key, payload) -> permanentlyReceived.incrementAndGet());
+		
+		final List<AtomicInteger> receivedPerThread = new ArrayList<>();
+		
+		runConcurrently(threadIndex -> {
+			final AtomicInteger received = new AtomicInteger();
+			synchronized (receivedPerThread) {
+				receivedPerThread.add(received);
+			}
+			
+			final String messageName = "thread" + threadIndex;
+			
+			for (int i = 0; i < ITERATIONS; i++) {
+				final NotificationObserver observer = (key, payload) -> received.incrementAndGet();
+				
+				notificationCenter.subscribe(messageName, observer);
+				notificationCenter.subscribe("shared", observer);
+				
+				notificationCenter.publish(messageName);
+				notificationCenter.publish("shared");
+				
+				notificationCenter.unsubscribe(messageName, observer);
+				notificationCenter.unsubscribe(observer);
+				
+				// nobody is subscribed for this message anymore.
+				notificationCenter.publish(messageName);
+			}
+		});
+		
+		assertThat(permanentlyReceived.get()).isEqualTo(THREAD_COUNT * ITERATIONS);
+		
+		for (AtomicInteger received : receivedPerThread) {
+			// the own message and at least the own "shared" message. The "shared" messages of other threads may be
+			// received additionally.
+			assertThat(received.get()).isGreaterThanOrEqualTo(2 * ITERATIONS);
+		}
+		
+		// all temporary observers were removed again.
+		final int receivedBefore = receivedPerThread.stream().mapToInt(AtomicInteger::get).sum();
+		notificationCenter.publish("shared");
+		
+		assertThat(receivedPerThread.stream().mapToInt(AtomicInteger::get).sum()).isEqualTo(receivedBefore);
+		assertThat(permanentlyReceived.get()).isEqualTo(THREAD_COUNT * ITERATIONS + 1);
+	}
+	
+	@Test
+	public void concurrentPublishOnChannels() throws Exception {
+		final NotificationCenter notificationCenter = createNotificationCenter();
+		
+		final Object channel = new Object();
+		final AtomicInteger received = new AtomicInteger();
+		notificationCenter.subscribe(channel, "message", (key, payload) -> received.incrementAndGet());
+		
+		runConcurrently(threadIndex -> {
+			final Object ownChannel = new Object();
+			
+			for (int i = 0; i < ITERATIONS; i++) {
+				notificationCenter.subscribe(ownChannel, "message", (key, payload) -> {
+				});
+				notificationCenter.publish(channel, "message", new Object[0]);
+				notificationCenter.removeChannel(ownChannel);
+			}
+		});
+		
+		// the messages of channels are delivered on the UI-Thread.
+		FxTestingUtils.waitForUiThread();
+		
+		assertThat(received.get()).isEqualTo(THREAD_COUNT * ITERATIONS);
+		
+		// the removed channels don't remain in the notification center.
+		assertThat(getChannels(notificationCenter)).hasSize(1);
+	}
+	
+	@Test
+	public void channelsAreRemovedWhenTheLastObserverUnsubscribes() throws Exception {
+		final NotificationCenter notificationCenter = createNotificationCenter();
+		
+		// all threads share these channels, so that subscriptions are made while other threads remove the channel.
+		final Object[] sharedChannels = { new Object(), new Object() };
+		
+		runConcurrently(threadIndex -> {
+			final Object ownChannel = new Object();
+			
+			for (int i = 0; i < ITERATIONS; i++) {
+				final Object sharedChannel = sharedChannels[i % sharedChannels.length];
+				final NotificationObserver observer = (key, payload) -> {
+				};
+				
+				notificationCenter.subscribe(sharedChannel, "message" + threadIndex, observer);
+				notificationCenter.subscribe(ownChannel, "message", observer);
+				
+				// the channel must still be there with the own observer.
+				assertThat(notificationCenter.countObservers(sharedChannel, "message" + threadIndex).getLiveCount())
+						.isEqualTo(1);
+				
+				notificationCenter.unsubscribe(sharedChannel, "message" + threadIndex, observer);
+				notificationCenter.unsubscribe(ownChannel, observer);
+			}
+		});
+		
+		assertThat(getChannels(notificationCenter)).isEmpty();
+	}
+	
+	private static Map<?, ?> getChannels(NotificationCenter notificationCenter) {
+		return (Map<?, ?>) Whitebox.getInternalState(notificationCenter, "channels");
+	}
+	
+	private interface ThreadAction {
+		void run(int threadIndex) throws Exception;
+	}
+	
+	private static void runConcurrently(ThreadAction action) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+		final CountDownLatch start = new CountDownLatch(1);
+		
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < THREAD_COUNT; i++) {
+				final int threadIndex = i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					action.run(threadIndex);
+					return null;
+				}));
+			}
+			
+			start.countDown();
+			
+			for (Future<?> future : futures) {
+				// rethrows the exceptions of the threads, f.e. a corrupted map.
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -17,6 +17,7 @@
 package de.saxsys.mvvmfx.utils.notifications;
 
 import de.saxsys.mvvmfx.ViewModel;
+import de.saxsys.mvvmfx.testingutils.GCVerifier;
 import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
 import javafx.application.Platform;
 import org.junit.jupiter.api.Assertions;
@@ -25,10 +26,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,7 +58,14 @@ public class DefaultNotificationCenterTest {
 		observer1 = Mockito.mock(NotificationObserver.class);
 		observer2 = Mockito.mock(NotificationObserver.class);
 		observer3 = Mockito.mock(NotificationObserver.class);
-		defaultCenter = new DefaultNotificationCenter();
+		defaultCenter = createNotificationCenter();
+	}
+	
+	/**
+	 * Other implementations of the {@link NotificationCenter} reuse the tests of this class.
+	 */
+	protected NotificationCenter createNotificationCenter() {
+		return new DefaultNotificationCenter();
 	}
 	
 	@Test
@@ -185,4 +200,151 @@ public class DefaultNotificationCenterTest {
 			defaultCenter.subscribe(TEST_NOTIFICATION, null);
 		});
 	}
+
+	@Test
+	public void publishTypedTopic() {
+		final Topic<String> topic = Topic.create(TEST_NOTIFICATION);
+		final List<String> received = new ArrayList<>();
+		
+		defaultCenter.subscribe(topic, received::add);
+		defaultCenter.publish(topic, "hello");
+		defaultCenter.publish(topic, "world");
+		
+		assertThat(received).containsExactly("hello", "world");
+	}
+	
+	@Test
+	public void unsubscribeTypedTopic() {
+		final Topic<Integer> topic = Topic.create(TEST_NOTIFICATION);
+		final List<Integer> received1 = new ArrayList<>();
+		final List<Integer> received2 = new ArrayList<>();
+		final Consumer<Integer> observer1 = received1::add;
+		final Consumer<Integer> observer2 = received2::add;
+		
+		defaultCenter.subscribe(topic, observer1);
+		defaultCenter.subscribe(topic, observer2);
+		defaultCenter.unsubscribe(topic, observer1);
+		defaultCenter.publish(topic, 42);
+		
+		assertThat(received1).isEmpty();
+		assertThat(received2).containsExactly(42);
+	}
+	
+	@Test
+	public void typedTopicsAreIndependentOfTheirNames() {
+		final Topic<String> topic = Topic.create(TEST_NOTIFICATION);
+		final Topic<String> otherTopic = Topic.create(TEST_NOTIFICATION);
+		final List<String> received = new ArrayList<>();
+		
+		defaultCenter.subscribe(topic, received::add);
+		defaultCenter.subscribe(TEST_NOTIFICATION, observer1);
+		
+		defaultCenter.publish(otherTopic, "other");
+		defaultCenter.publish(TEST_NOTIFICATION);
+		
+		assertThat(received).isEmpty();
+		Mockito.verify(observer1).receivedNotification(TEST_NOTIFICATION);
+	}
+	
+	@Test
+	public void clearRemovesObserversOfTypedTopics() {
+		final Topic<String> topic = Topic.create(TEST_NOTIFICATION);
+		final List<String> received = new ArrayList<>();
+		
+		defaultCenter.subscribe(topic, received::add);
+		defaultCenter.clear();
+		defaultCenter.publish(topic, "hello");
+		
+		assertThat(received).isEmpty();
+	}
+
+	@Test
+	public void collectedWeakObserversAreRemovedOnPublish() {
+		final AtomicInteger counter = new AtomicInteger();
+		final WeakNotificationObserver weakObserver = new WeakNotificationObserver(
+				(key, payload) -> counter.incrementAndGet());
+		
+		defaultCenter.subscribe(TEST_NOTIFICATION, observer1);
+		defaultCenter.subscribe(TEST_NOTIFICATION, weakObserver);
+		
+		assertThat(defaultCenter.countObservers(TEST_NOTIFICATION).getLiveCount()).isEqualTo(2);
+		
+		waitForCollectedWeakObserver(() -> defaultCenter.countObservers(TEST_NOTIFICATION));
+		
+		final ObserverCount countBeforePublish = defaultCenter.countObservers(TEST_NOTIFICATION);
+		assertThat(countBeforePublish.getLiveCount()).isEqualTo(1);
+		assertThat(countBeforePublish.getDeadCount()).isEqualTo(1);
+		
+		defaultCenter.publish(TEST_NOTIFICATION);
+		
+		final ObserverCount countAfterPublish = defaultCenter.countObservers(TEST_NOTIFICATION);
+		assertThat(countAfterPublish.getLiveCount()).isEqualTo(1);
+		assertThat(countAfterPublish.getDeadCount()).isEqualTo(0);
+		Mockito.verify(observer1).receivedNotification(TEST_NOTIFICATION);
+	}
+	
+	@Test
+	public void collectedWeakObserversOfChannelsAreRemovedOnSubscribe() {
+		final Object channel = new Object();
+		final AtomicInteger counter = new AtomicInteger();
+		final WeakNotificationObserver weakObserver = new WeakNotificationObserver(
+				(key, payload) -> counter.incrementAndGet());
+		
+		defaultCenter.subscribe(channel, TEST_NOTIFICATION, weakObserver);
+		
+		waitForCollectedWeakObserver(() -> defaultCenter.countObservers(channel, TEST_NOTIFICATION));
+		
+		assertThat(defaultCenter.countObservers(channel, TEST_NOTIFICATION).getDeadCount()).isEqualTo(1);
+		
+		defaultCenter.subscribe(channel, TEST_NOTIFICATION, observer1);
+		
+		final ObserverCount count = defaultCenter.countObservers(channel, TEST_NOTIFICATION);
+		assertThat(count.getLiveCount()).isEqualTo(1);
+		assertThat(count.getDeadCount()).isEqualTo(0);
+	}
+	
+	@Test
+	public void collectedWeakObserversAreRemovedFromEachMessageTheyWereSubscribedFor() {
+		final Object channel = new Object();
+		final AtomicInteger counter = new AtomicInteger();
+		final WeakNotificationObserver weakObserver = new WeakNotificationObserver(
+				(key, payload) -> counter.incrementAndGet());
+		
+		defaultCenter.subscribe(TEST_NOTIFICATION, weakObserver);
+		defaultCenter.subscribe(channel, TEST_NOTIFICATION, weakObserver);
+		defaultCenter.subscribe(TEST_NOTIFICATION_2, observer1);
+		
+		waitForCollectedWeakObserver(() -> defaultCenter.countObservers(TEST_NOTIFICATION));
+		
+		// publishing another message removes the collected observer from the lists it was added to
+		defaultCenter.publish(TEST_NOTIFICATION_2);
+		
+		assertThat(defaultCenter.countObservers(TEST_NOTIFICATION).getDeadCount()).isEqualTo(0);
+		assertThat(defaultCenter.countObservers(channel, TEST_NOTIFICATION).getDeadCount()).isEqualTo(0);
+		assertThat(defaultCenter.countObservers(TEST_NOTIFICATION_2).getLiveCount()).isEqualTo(1);
+	}
+	
+	/**
+	 * Waits until the garbage collector has collected the wrapped observer of the only weak observer that is counted
+	 * by the given count and until its weak reference was enqueued, so that the next subscribe or publish purges it.
+	 */
+	private static void waitForCollectedWeakObserver(Supplier<ObserverCount> count) {
+		for (int i = 0; i < 100 && count.get().getDeadCount() == 0; i++) {
+			GCVerifier.forceGC();
+		}
+		
+		assertThat(count.get().getDeadCount()).isEqualTo(1);
+		
+		// the references are enqueued by the reference handler thread in the order of their collection. When a probe
+		// that is collected afterwards was enqueued, the reference of the observer was enqueued too.
+		final ReferenceQueue<Object> probeQueue = new ReferenceQueue<>();
+		final WeakReference<Object> probe = new WeakReference<>(new Object(), probeQueue);
+		GCVerifier.forceGC();
+		
+		try {
+			assertThat(probeQueue.remove(5000)).isSameAs(probe);
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
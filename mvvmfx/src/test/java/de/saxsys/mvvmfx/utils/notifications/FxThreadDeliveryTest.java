@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright 2026 the mvvmFX contributors
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package de.saxsys.mvvmfx.utils.notifications;
+
+import de.saxsys.mvvmfx.testingutils.FxTestingUtils;
+import de.saxsys.mvvmfx.testingutils.JfxToolkitExtension;
+import javafx.application.Platform;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(JfxToolkitExtension.class)
+public class FxThreadDeliveryTest {
+	
+	private static final int MESSAGE_COUNT = 1_000;
+	
+	private final Object channel = new Object();
+	
+	private NotificationCenter notificationCenter;
+	
+	private List<Integer> received;
+	
+	private CountDownLatch uiThreadBlocked;
+	
+	@BeforeEach
+	public void setup() {
+		notificationCenter = new DefaultNotificationCenter();
+		
+		received = Collections.synchronizedList(new ArrayList<>());
+		notificationCenter.subscribe(channel, "message", (key, payload) -> {
+			assertThat(Platform.isFxApplicationThread()).isTrue();
+			received.add((Integer) payload[0]);
+		});
+	}
+	
+	@AfterEach
+	public void tearDown() {
+		FxThreadDelivery.getInstance().disableCoalescing();
+		waitForEmptyQueue();
+	}
+	
+	@Test
+	public void notificationsAreQueuedAndDeliveredInOrder() throws Exception {
+		FxThreadDelivery.getInstance().enableCoalescing(Duration.ofSeconds(10));
+		
+		blockUiThread();
+		publishFromBackgroundThread();
+		
+		assertThat(FxThreadDelivery.getInstance().getQueueDepth()).isEqualTo(MESSAGE_COUNT);
+		assertThat(received).isEmpty();
+		
+		uiThreadBlocked.countDown();
+		FxTestingUtils.waitForUiThread();
+		
+		// all notifications were delivered by a single task.
+		assertThat(FxThreadDelivery.getInstance().getQueueDepth()).isEqualTo(0);
+		assertThat(received).hasSize(MESSAGE_COUNT);
+		for (int i = 0; i < MESSAGE_COUNT; i++) {
+			assertThat(received.get(i)).isEqualTo(i);
+		}
+	}
+	
+	@Test
+	public void theDeliveryContinuesInALaterTaskWhenTheTimeBudgetIsUsedUp() throws Exception {
+		FxThreadDelivery.getInstance().enableCoalescing(Duration.ofNanos(1));
+		
+		blockUiThread();
+		publishFromBackgroundThread();
+		
+		uiThreadBlocked.countDown();
+		FxTestingUtils.waitForUiThread();
+		
+		// the first task only delivered a part of the notifications.
+		assertThat(received.size()).isLessThan(MESSAGE_COUNT);
+		
+		waitForEmptyQueue();
+		
+		assertThat(received).hasSize(MESSAGE_COUNT);
+		assertThat(received.get(MESSAGE_COUNT - 1)).isEqualTo(MESSAGE_COUNT - 1);
+	}
+	
+	@Test
+	public void theQueueIsNotUsedWithoutCoalescing() throws Exception {
+		blockUiThread();
+		publishFromBackgroundThread();
+		
+		assertThat(FxThreadDelivery.getInstance().getQueueDepth()).isEqualTo(0);
+		
+		uiThreadBlocked.countDown();
+		FxTestingUtils.waitForUiThread();
+		
+		assertThat(received).hasSize(MESSAGE_COUNT);
+	}
+	
+	@Test
+	public void theTimeBudgetMustBePositive() {
+		assertThrows(IllegalArgumentException.class,
+				() -> FxThreadDelivery.getInstance().enableCoalescing(Duration.ZERO));
+	}
+	
+	private void blockUiThread() {
+		uiThreadBlocked = new CountDownLatch(1);
+		Platform.runLater(() -> {
+			try {
+				uiThreadBlocked.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+	}
+	
+	private void publishFromBackgroundThread() throws Exception {
+		CompletableFuture.runAsync(() -> {
+			for (int i = 0; i < MESSAGE_COUNT; i++) {
+				notificationCenter.publish(channel, "message", new Object[] { i });
+			}
+		}).get(10, TimeUnit.SECONDS);
+	}
+	
+	private static void waitForEmptyQueue() {
+		for (int i = 0; i < MESSAGE_COUNT && FxThreadDelivery.getInstance().getQueueDepth() > 0; i++) {
+			FxTestingUtils.waitForUiThread();
+		}
+	}
+}